@@ -79,6 +79,7 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ServicePool;
 import org.apache.camel.spi.ShutdownStrategy;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.TransformerRegistry;
@@ -1781,6 +1782,75 @@ public interface CamelContext extends SuspendableService, RuntimeConfiguration {
      */
     void setTypeConverterStatisticsEnabled(Boolean typeConverterStatisticsEnabled);
 
+    /**
+     * Whether routes are warmed up in parallel when starting.
+     * <p/>
+     * By default the routes are warmed up one by one.
+     *
+     * @return <tt>true</tt> if parallel route startup is enabled, <tt>false</tt> if disabled (default).
+     */
+    default Boolean isParallelRouteStartup() {
+        return Boolean.FALSE;
+    }
+
+    /**
+     * Sets whether routes should be warmed up in parallel when starting.
+     * <p/>
+     * When enabled then routes which do not have an explicit <tt>startupOrder</tt> configured are warmed up
+     * (starting their endpoints, processors and child services) concurrently on a bounded thread pool.
+     * Routes with an explicit <tt>startupOrder</tt> are warmed up one by one, in their order, before the other routes.
+     * The route consumers are always started one by one in the startup order after all the routes has been warmed up,
+     * so routes which depend on each other (such as using direct or seda endpoints) are fully prepared before any
+     * message is consumed.
+     * <p/>
+     * This can be used to speedup starting Camel with many routes.
+     *
+     * @param parallelRouteStartup <tt>true</tt> to enable, <tt>false</tt> to disable
+     */
+    default void setParallelRouteStartup(Boolean parallelRouteStartup) {
+    }
+
+    /**
+     * Gets the maximum number of threads used for warming up routes in parallel.
+     *
+     * @return the pool size, or <tt>0</tt> to use the number of available processors (default).
+     */
+    default int getParallelRouteStartupPoolSize() {
+        return 0;
+    }
+
+    /**
+     * Sets the maximum number of threads used for warming up routes in parallel.
+     * <p/>
+     * Is only in use if {@link #setParallelRouteStartup(Boolean)} is enabled.
+     *
+     * @param parallelRouteStartupPoolSize the pool size, or <tt>0</tt> to use the number of available processors.
+     */
+    default void setParallelRouteStartupPoolSize(int parallelRouteStartupPoolSize) {
+    }
+
+    /**
+     * Whether producers used by the routes to send to static endpoints are created lazily.
+     *
+     * @return <tt>true</tt> if lazy, <tt>false</tt> if the producers are created when the routes are started (default).
+     */
+    default Boolean isLazyStartProducers() {
+        return Boolean.FALSE;
+    }
+
+    /**
+     * Sets whether producers used by the routes to send to static endpoints should be created lazily
+     * on first message, instead of when the routes are started.
+     * <p/>
+     * Creating and starting producers can take a while (such as connecting to remote systems) and therefore
+     * lazy starting the producers can speedup starting Camel. However any problem creating the producer is
+     * then first reported when the first message is being routed, instead of failing fast on startup.
+     *
+     * @param lazyStartProducers <tt>true</tt> to create producers lazily, <tt>false</tt> to create on startup
+     */
+    default void setLazyStartProducers(Boolean lazyStartProducers) {
+    }
+
     /**
      * Whether or not <a href="http://www.slf4j.org/api/org/slf4j/MDC.html">MDC</a> logging is being enabled.
      *
@@ -2063,6 +2133,24 @@ public interface CamelContext extends SuspendableService, RuntimeConfiguration {
      */
     void setHeadersMapFactory(HeadersMapFactory factory);
 
+    /**
+     * Gets the {@link StartupStepRecorder} used to record where the time goes when starting Camel.
+     *
+     * @return the recorder, or <tt>null</tt> if recording startup steps is not supported
+     */
+    default StartupStepRecorder getStartupStepRecorder() {
+        return null;
+    }
+
+    /**
+     * Sets a custom {@link StartupStepRecorder} to be used.
+     * <p/>
+     * The default recorder is disabled and can be enabled via {@link StartupStepRecorder#setEnabled(boolean)}
+     * before starting Camel.
+     */
+    default void setStartupStepRecorder(StartupStepRecorder startupStepRecorder) {
+    }
+
     /**
      * Returns an optional {@link HealthCheckRegistry}, by default no registry is
      * present and it must be explicit activated. Components can register/unregister
@@ -193,6 +193,9 @@ public interface Exchange {
 
     String PARENT_UNIT_OF_WORK = "CamelParentUnitOfWork";
     String STREAM_CACHE_UNIT_OF_WORK = "CamelStreamCacheUnitOfWork";
+    String PRODUCER_CACHE_ADAPTIVE     = "CamelProducerCacheAdaptive";
+    String PRODUCER_CACHE_POOL_SIZE    = "CamelProducerCachePoolSize";
+    String PRODUCER_CACHE_TIME_TO_IDLE = "CamelProducerCacheTimeToIdle";
     
     String RECIPIENT_LIST_ENDPOINT = "CamelRecipientListEndpoint";
     String RECEIVED_TIMESTAMP      = "CamelReceivedTimestamp";
@@ -168,6 +168,18 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[]{SimpleType.STRING, SimpleType.STRING, SimpleType.STRING, SimpleType.STRING, SimpleType.STRING, SimpleType.STRING});
     }
 
+    public static TabularType listRouteStartupTimingsTabularType() throws OpenDataException {
+        CompositeType ct = listRouteStartupTimingsCompositeType();
+        return new TabularType("listRouteStartupTimings", "Lists the time taken to start each route", ct, new String[]{"routeId"});
+    }
+
+    public static CompositeType listRouteStartupTimingsCompositeType() throws OpenDataException {
+        return new CompositeType("routes", "Routes",
+                new String[]{"routeId", "startupOrder", "warmUpTime", "consumerStartupTime", "totalTime"},
+                new String[]{"Route Id", "Startup Order", "Warm Up Time", "Consumer Startup Time", "Total Time"},
+                new OpenType[]{SimpleType.STRING, SimpleType.INTEGER, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG});
+    }
+
     public static TabularType listInflightExchangesTabularType() throws OpenDataException {
         CompositeType ct = listInflightExchangesCompositeType();
         return new TabularType("listInflightExchanges", "Lists inflight exchanges", ct, new String[]{"exchangeId"});
@@ -160,6 +160,12 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedAttribute(description = "Whether Message DataType is enabled")
     boolean isUseDataType();
 
+    @ManagedAttribute(description = "Whether routes are warmed up in parallel when starting")
+    boolean isParallelRouteStartup();
+
+    @ManagedAttribute(description = "Whether producers to static endpoints are created lazily on first use")
+    boolean isLazyStartProducers();
+
     @ManagedOperation(description = "Start Camel")
     void start() throws Exception;
 
@@ -298,6 +304,24 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedOperation(description = "List all Camel EIPs from camel-core")
     TabularData listEips() throws Exception;
 
+    /**
+     * Lists the time taken to start each of the started routes, in the order the routes was started.
+     *
+     * @return a list with the data
+     * @throws Exception is thrown if error occurred
+     */
+    @ManagedOperation(description = "List the time taken to warm up and start each route")
+    TabularData listRouteStartupTimings() throws Exception;
+
+    @ManagedAttribute(description = "Whether recording of startup steps is enabled")
+    boolean isStartupStepRecorderEnabled();
+
+    @ManagedOperation(description = "Dumps the recorded startup steps as JSON")
+    String dumpStartupStepsAsJson();
+
+    @ManagedOperation(description = "Dumps the recorded startup steps in the collapsed stack format for flame graph tools")
+    String dumpStartupStepsAsFlameGraph();
+
     /**
      * Returns the JSON schema representation with information about the component and the endpoint parameters it supports
      *
@@ -39,6 +39,27 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Cache evicted")
     Long getEvicted();
 
+    @ManagedAttribute(description = "Whether adaptive mode is enabled, where non-singleton producers are pooled per endpoint and evicted from the pool when idle")
+    Boolean isAdaptive();
+
+    @ManagedAttribute(description = "Time in millis a pooled non-singleton producer can be idle before its evicted (adaptive mode only)")
+    Long getTimeToIdle();
+
+    @ManagedAttribute(description = "Number of idle non-singleton producers pooled (adaptive mode only)")
+    Integer getPoolSize();
+
+    @ManagedAttribute(description = "Maximum number of idle non-singleton producers pooled per endpoint (adaptive mode only)")
+    Integer getPoolCapacity();
+
+    @ManagedAttribute(description = "Pool hits (adaptive mode only)")
+    Long getPoolHits();
+
+    @ManagedAttribute(description = "Pool misses (adaptive mode only)")
+    Long getPoolMisses();
+
+    @ManagedAttribute(description = "Pool evicted (adaptive mode only)")
+    Long getPoolEvicted();
+
     @ManagedOperation(description = "Reset cache statistics")
     void resetStatistics();
 
@@ -52,6 +52,7 @@ import org.apache.camel.language.LanguageAnnotation;
 import org.apache.camel.spi.Registry;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.IntrospectionSupport;
+import org.apache.camel.util.LRUCacheFactory;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.StringQuoteHelper;
@@ -66,6 +67,8 @@ public class BeanInfo {
     private static final Logger LOG = LoggerFactory.getLogger(BeanInfo.class);
     private static final String CGLIB_CLASS_SEPARATOR = "$$";
     private static final List<Method> EXCLUDED_METHODS = new ArrayList<Method>();
+    // maximum number of chosen methods to cache per bean type
+    private static final int CHOSEN_METHODS_CACHE_SIZE = 1000;
     private final CamelContext camelContext;
     private final BeanComponent component;
     private final Class<?> type;
@@ -79,6 +82,8 @@ public class BeanInfo {
     private List<MethodInfo> operationsWithHandlerAnnotation = new ArrayList<MethodInfo>();
     private Map<Method, MethodInfo> methodMap = new HashMap<Method, MethodInfo>();
     private boolean publicConstructors;
+    // cache of the methods chosen by introspecting the message body, shared with the cached bean info
+    private Map<ChosenMethodKey, MethodInfo> chosenMethods;
 
     static {
         // exclude all java.lang.Object methods as we dont want to invoke them
@@ -126,6 +131,7 @@ public class BeanInfo {
             operationsWithHandlerAnnotation = beanInfo.operationsWithHandlerAnnotation;
             methodMap = beanInfo.methodMap;
             publicConstructors = beanInfo.publicConstructors;
+            chosenMethods = beanInfo.chosenMethods;
             return;
         }
 
@@ -157,6 +163,7 @@ public class BeanInfo {
         operationsWithCustomAnnotation = Collections.unmodifiableList(operationsWithCustomAnnotation);
         operationsWithHandlerAnnotation = Collections.unmodifiableList(operationsWithHandlerAnnotation);
         methodMap = Collections.unmodifiableMap(methodMap);
+        chosenMethods = createChosenMethodsCache();
 
         // add new bean info to cache
         component.addBeanInfoToCache(key, this);
@@ -262,7 +269,7 @@ public class BeanInfo {
 
                     // but first let's try to choose a method and see if that complies with the name
                     // must use the method name which may have qualifiers
-                    methodInfo = chooseMethod(pojo, exchange, methodName);
+                    methodInfo = chooseMethodUsingCache(pojo, exchange, methodName);
 
                     // validate that if we want an explicit no-arg method, then that's what we get
                     if (emptyParameters) {
@@ -284,7 +291,7 @@ public class BeanInfo {
 
         if (methodInfo == null && methodMap.size() >= 2) {
             // only try to choose if there is at least 2 methods
-            methodInfo = chooseMethod(pojo, exchange, null);
+            methodInfo = chooseMethodUsingCache(pojo, exchange, null);
         }
         if (methodInfo == null) {
             methodInfo = defaultMethod;
@@ -503,6 +510,65 @@ public class BeanInfo {
         }
     }
 
+    /**
+     * Chooses the method to invoke using {@link #chooseMethod(Object, Exchange, String)}, and caches the chosen method
+     * keyed by the type of the message body, so subsequent exchanges with the same kind of message body can skip
+     * introspecting the operations and checking for ambiguity.
+     * <p/>
+     * The chosen method is only cached when it was the single candidate, as then the choice does not depend on the
+     * message, and not when the method name has hardcoded parameter values, or the message body was converted to
+     * match a method.
+     */
+    private MethodInfo chooseMethodUsingCache(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
+        Object body = exchange.getIn().getBody();
+        boolean cacheable = body != null && (name == null || name.indexOf('(') == -1);
+        if (!cacheable) {
+            return chooseMethod(pojo, exchange, name);
+        }
+
+        boolean exception = exchange.getException() != null || exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null;
+        ChosenMethodKey key = new ChosenMethodKey(name, body.getClass(), exchange.getPattern().isOutCapable(), exception);
+        MethodInfo answer = chosenMethods.get(key);
+        if (answer != null) {
+            LOG.trace("Using cached chosen method: {} for body type: {}", answer, key.bodyType);
+            return answer;
+        }
+
+        answer = chooseMethod(pojo, exchange, name);
+        // only cache if the message body has not been converted while choosing the method
+        if (answer != null && body == exchange.getIn().getBody() && isSingleCandidate(answer, name)) {
+            chosenMethods.put(key, answer);
+        }
+        return answer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ChosenMethodKey, MethodInfo> createChosenMethodsCache() {
+        return LRUCacheFactory.newLRUCache(CHOSEN_METHODS_CACHE_SIZE);
+    }
+
+    /**
+     * Whether the chosen method is the only method which {@link #chooseMethod(Object, Exchange, String)} could
+     * have chosen for the given name, in which case the choice is unambiguous.
+     */
+    private boolean isSingleCandidate(MethodInfo chosen, String name) {
+        for (MethodInfo info : methodMap.values()) {
+            if (info == chosen) {
+                continue;
+            }
+            Method method = info.getMethod();
+            boolean isFromInterface = Modifier.isInterface(method.getDeclaringClass().getModifiers());
+            if (!isFromInterface && Modifier.isAbstract(method.getModifiers())) {
+                // abstract methods are never chosen
+                continue;
+            }
+            if (name != null ? matchMethod(method, name) : !IntrospectionSupport.isGetter(method) && !IntrospectionSupport.isSetter(method)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Choose one of the available methods to invoke if we can match
      * the message body to the body parameter
@@ -1235,4 +1301,45 @@ public class BeanInfo {
         return null;
     }
 
+    /**
+     * Key for the cache of chosen methods, which holds the details which are used for choosing the method.
+     */
+    private static final class ChosenMethodKey {
+        private final String name;
+        private final Class<?> bodyType;
+        private final boolean outCapable;
+        private final boolean exception;
+
+        private ChosenMethodKey(String name, Class<?> bodyType, boolean outCapable, boolean exception) {
+            this.name = name;
+            this.bodyType = bodyType;
+            this.outCapable = outCapable;
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ChosenMethodKey that = (ChosenMethodKey) o;
+            return outCapable == that.outCapable
+                && exception == that.exception
+                && bodyType == that.bodyType
+                && (name != null ? name.equals(that.name) : that.name == null);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name != null ? name.hashCode() : 0;
+            result = 31 * result + bodyType.hashCode();
+            result = 31 * result + (outCapable ? 1 : 0);
+            result = 31 * result + (exception ? 1 : 0);
+            return result;
+        }
+    }
+
 }
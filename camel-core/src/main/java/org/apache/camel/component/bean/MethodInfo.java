@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
@@ -29,6 +32,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 
@@ -68,6 +74,8 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -81,6 +89,10 @@ public class MethodInfo {
     private RecipientList recipientList;
     private RoutingSlip routingSlip;
     private DynamicRouter dynamicRouter;
+    private final Class<?>[] parameterTypes;
+    // pre-bound method handle to invoke the method with a generic (Object, Object[])Object signature
+    private volatile MethodHandle methodHandle;
+    private volatile boolean methodHandleResolved;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -120,6 +132,7 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.parameterTypes = method.getParameterTypes();
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -325,20 +338,10 @@ public class MethodInfo {
                     return routingSlip.doRoutingSlip(exchange, result, callback);
                 }
 
-                //If it's Java 8 async result
-                if (CompletionStage.class.isAssignableFrom(getMethod().getReturnType())) {
-                    CompletionStage<?> completionStage = (CompletionStage<?>) result;
-
-                    completionStage
-                            .whenComplete((resultObject, e) -> {
-                                if (e != null) {
-                                    exchange.setException(e);
-                                } else if (resultObject != null) {
-                                    fillResult(exchange, resultObject);
-                                }
-                                callback.done(false);
-                            });
-                    return false;
+                // if its a java 8 async result then continue routing when its completed, without blocking this thread
+                // (check the actual result as the method may be declared to return a super type such as Object)
+                if (result instanceof CompletionStage) {
+                    return doProceedAsync((CompletionStage<?>) result, callback);
                 }
 
                 // if the method returns something then set the value returned on the Exchange
@@ -352,6 +355,41 @@ public class MethodInfo {
                 return true;
             }
 
+            private boolean doProceedAsync(CompletionStage<?> completionStage, AsyncCallback callback) {
+                CompletableFuture<?> future = null;
+                try {
+                    future = completionStage.toCompletableFuture();
+                } catch (UnsupportedOperationException e) {
+                    // the completion stage does not support this, so we cannot check whether its already done
+                }
+
+                if (future != null && future.isDone()) {
+                    // the result is already there so we can continue synchronously
+                    LOG.trace("Method returned CompletionStage which is already completed: {}", future);
+                    try {
+                        Object resultObject = future.join();
+                        if (resultObject != null) {
+                            fillResult(exchange, resultObject);
+                        }
+                    } catch (CompletionException | CancellationException e) {
+                        exchange.setException(unwrapCompletionException(e));
+                    }
+                    callback.done(true);
+                    return true;
+                }
+
+                LOG.trace("Method returned CompletionStage which will continue routing asynchronously when completed: {}", completionStage);
+                completionStage.whenComplete((resultObject, e) -> {
+                    if (e != null) {
+                        exchange.setException(unwrapCompletionException(e));
+                    } else if (resultObject != null) {
+                        fillResult(exchange, resultObject);
+                    }
+                    callback.done(false);
+                });
+                return false;
+            }
+
             public Object getThis() {
                 return pojo;
             }
@@ -362,6 +400,14 @@ public class MethodInfo {
         };
     }
 
+    private static Throwable unwrapCompletionException(Throwable e) {
+        // dependent stages wraps the actual cause in a CompletionException
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
     private void fillResult(Exchange exchange, Object result) {
         LOG.trace("Setting bean invocation result : {}", result);
 
@@ -477,6 +523,19 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        // use the method handle as its faster than reflection, but only if the arguments are the exact types,
+        // otherwise let reflection take care of widening the arguments or reporting the error
+        if (mth == method) {
+            MethodHandle handle = getMethodHandle();
+            if (handle != null && isExactArguments(pojo, arguments)) {
+                try {
+                    return (Object) handle.invokeExact(pojo, arguments != null ? arguments : NO_ARGUMENTS);
+                } catch (Throwable e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
+
         try {
             return mth.invoke(pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -486,6 +545,52 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle to use for invoking the method, or <tt>null</tt> if the method cannot be
+     * invoked using a method handle, where reflection is used instead.
+     */
+    private MethodHandle getMethodHandle() {
+        if (!methodHandleResolved) {
+            MethodHandle answer = null;
+            try {
+                answer = MethodHandles.publicLookup().unreflect(method);
+                if (isStaticMethod()) {
+                    // ignore the pojo for static methods
+                    answer = MethodHandles.dropArguments(answer, 0, Object.class);
+                }
+                answer = answer.asSpreader(Object[].class, parameterTypes.length).asType(INVOKER_TYPE);
+            } catch (Throwable e) {
+                LOG.debug("Cannot create method handle for method: {} due {}. Will use reflection instead.", method, e.getMessage());
+                answer = null;
+            }
+            methodHandle = answer;
+            methodHandleResolved = true;
+        }
+        return methodHandle;
+    }
+
+    private boolean isExactArguments(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            Object argument = arguments[i];
+            if (parameterType.isPrimitive()) {
+                if (argument == null || ObjectHelper.convertPrimitiveTypeToWrapperType(parameterType) != argument.getClass()) {
+                    return false;
+                }
+            } else if (argument != null && !parameterType.isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -36,8 +36,12 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -167,6 +171,8 @@ import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.spi.RuntimeEndpointRegistry;
 import org.apache.camel.spi.ServicePool;
 import org.apache.camel.spi.ShutdownStrategy;
+import org.apache.camel.spi.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.TransformerRegistry;
@@ -243,6 +249,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private List<RoutePolicyFactory> routePolicyFactories = new ArrayList<RoutePolicyFactory>();
     private Set<LogListener> logListeners = new LinkedHashSet<>();
     private HeadersMapFactory headersMapFactory = new DefaultHeadersMapFactory();
+    private StartupStepRecorder startupStepRecorder = new DefaultStartupStepRecorder();
 
     // special flags to control the first startup which can are special
     private volatile boolean firstStartDone;
@@ -264,6 +271,11 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private Boolean useDataType = Boolean.FALSE;
     private Boolean useBreadcrumb = Boolean.TRUE;
     private Boolean allowUseOriginalMessage = Boolean.FALSE;
+    private Boolean parallelRouteStartup = Boolean.FALSE;
+    private int parallelRouteStartupPoolSize;
+    private Boolean lazyStartProducers = Boolean.FALSE;
+    private final Object routeWarmUpLock = new Object();
+    private volatile boolean parallelWarmUp;
     private Long delay;
     private ErrorHandlerFactory errorHandlerBuilder;
     private final Object errorHandlerExecutorServiceLock = new Object();
@@ -535,10 +547,15 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                 // See https://issues.apache.org/jira/browse/CAMEL-11225
                 componentsInCreation.get().add(name);
 
-                component = getComponentResolver().resolveComponent(name, this);
-                if (component != null) {
-                    component.setCamelContext(this);
-                    postInitComponent(name, component);
+                StartupStep step = beginStartupStep(Component.class, name, "Resolve component");
+                try {
+                    component = getComponentResolver().resolveComponent(name, this);
+                    if (component != null) {
+                        component.setCamelContext(this);
+                        postInitComponent(name, component);
+                    }
+                } finally {
+                    startupStepRecorder.endStep(step);
                 }
             } catch (Exception e) {
                 throw new RuntimeCamelException("Cannot auto create component: " + name, e);
@@ -668,6 +685,16 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     }
 
     public Endpoint getEndpoint(String uri) {
+        if (parallelWarmUp) {
+            // routes are being warmed up in parallel, so resolve the endpoints one at a time to not create the same endpoint twice
+            synchronized (routeWarmUpLock) {
+                return doGetEndpoint(uri);
+            }
+        }
+        return doGetEndpoint(uri);
+    }
+
+    private Endpoint doGetEndpoint(String uri) {
         ObjectHelper.notEmpty(uri, "uri");
 
         log.trace("Getting endpoint with uri: {}", uri);
@@ -692,6 +719,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         EndpointKey key = getEndpointKeyPreNormalized(uri);
         answer = endpoints.get(key);
         if (answer == null) {
+            StartupStep step = beginStartupStep(Endpoint.class, URISupport.sanitizeUri(uri), "Create endpoint");
             try {
                 // Use the URI prefix to find the component.
                 String splitURI[] = ObjectHelper.splitOnCharacter(uri, ":", 2);
@@ -756,6 +784,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                 }
             } catch (Exception e) {
                 throw new ResolveEndpointFailedException(uri, e);
+            } finally {
+                startupStepRecorder.endStep(step);
             }
         }
 
@@ -1038,7 +1068,12 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         // load routes using JAXB
         if (jaxbContext == null) {
             // must use classloader from CamelContext to have JAXB working
-            jaxbContext = getModelJAXBContextFactory().newJAXBContext();
+            StartupStep step = beginStartupStep(ModelJAXBContextFactory.class, null, "Create JAXB context");
+            try {
+                jaxbContext = getModelJAXBContextFactory().newJAXBContext();
+            } finally {
+                startupStepRecorder.endStep(step);
+            }
         }
 
         Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
@@ -1451,6 +1486,17 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     }
 
     private void doAddService(Object object, boolean stopOnShutdown, boolean forceStart) throws Exception {
+        if (parallelWarmUp) {
+            // routes are being warmed up in parallel, so add the services one at a time to not add the same service twice
+            synchronized (routeWarmUpLock) {
+                doAddServiceUnguarded(object, stopOnShutdown, forceStart);
+            }
+        } else {
+            doAddServiceUnguarded(object, stopOnShutdown, forceStart);
+        }
+    }
+
+    private void doAddServiceUnguarded(Object object, boolean stopOnShutdown, boolean forceStart) throws Exception {
 
         // inject CamelContext
         if (object instanceof CamelContextAware) {
@@ -2565,12 +2611,15 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
             synchronized (this) {
                 // we can synchronize on this as there is only one instance
                 // of the camel context (its the container)
-                typeConverter = createTypeConverter();
+                StartupStep step = startupStepRecorder.beginStep(TypeConverter.class, null, "Load type converters");
                 try {
+                    typeConverter = createTypeConverter();
                     // must add service eager and force start it
                     addService(typeConverter, true, true);
                 } catch (Exception e) {
                     throw ObjectHelper.wrapRuntimeCamelException(e);
+                } finally {
+                    startupStepRecorder.endStep(step);
                 }
             }
         }
@@ -3247,6 +3296,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         doWithDefinedClassLoader(new Callable<Void>() {
             @Override
             public Void call() throws Exception {
+                StartupStep step = startupStepRecorder.beginStep(CamelContext.class, getName(), "Start CamelContext");
                 try {
                     doStartCamel();
                     return null;
@@ -3255,6 +3305,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                     EventHelper.notifyCamelContextStartupFailed(DefaultCamelContext.this, e);
                     // rethrow cause
                     throw e;
+                } finally {
+                    startupStepRecorder.endStep(step);
                 }
             }
         });
@@ -3437,10 +3489,20 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         }
 
         // start components
-        startServices(components.values());
+        StartupStep step = startupStepRecorder.beginStep(Component.class, null, "Start components");
+        try {
+            startServices(components.values());
+        } finally {
+            startupStepRecorder.endStep(step);
+        }
 
         // start the route definitions before the routes is started
-        startRouteDefinitions(routeDefinitions);
+        step = startupStepRecorder.beginStep(RouteDefinition.class, null, "Create routes");
+        try {
+            startRouteDefinitions(routeDefinitions);
+        } finally {
+            startupStepRecorder.endStep(step);
+        }
 
         // is there any stream caching enabled then log an info about this and its limit of spooling to disk, so people is aware of this
         boolean streamCachingInUse = isStreamCaching();
@@ -3489,7 +3551,12 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         }
 
         // invoke this logic to warmup the routes and if possible also start the routes
-        doStartOrResumeRoutes(routeServices, true, !doNotStartRoutesOnFirstStart, false, true);
+        step = startupStepRecorder.beginStep(Route.class, null, "Start routes");
+        try {
+            doStartOrResumeRoutes(routeServices, true, !doNotStartRoutesOnFirstStart, false, true);
+        } finally {
+            startupStepRecorder.endStep(step);
+        }
 
         // starting will continue in the start method
     }
@@ -3935,6 +4002,9 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     }
 
     private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws Exception {
+        // routes which have an explicit startup order must be warmed up in that order, the others can be warmed up in parallel
+        List<RouteService> parallel = new ArrayList<RouteService>();
+
         // now prepare the routes by starting its services before we start the input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
             // defer starting inputs till later as we want to prepare the routes by starting
@@ -3943,8 +4013,94 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
             // what this does is to ensure Camel is more robust on starting routes as all routes
             // will then be prepared in time before we start inputs which will consume messages to be routed
             RouteService routeService = entry.getValue().getRouteService();
+            if (isParallelRouteStartup() && routeService.getRouteDefinition().getStartupOrder() == null) {
+                parallel.add(routeService);
+                continue;
+            }
             log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            doWarmUpRoute(routeService);
+        }
+
+        if (parallel.size() == 1) {
+            log.debug("Warming up route id: {} having autoStartup={}", parallel.get(0).getId(), autoStartup);
+            doWarmUpRoute(parallel.get(0));
+        } else if (!parallel.isEmpty()) {
+            doWarmUpRoutesInParallel(parallel, autoStartup);
+        }
+    }
+
+    private void doWarmUpRoute(RouteService routeService) throws Exception {
+        StartupStep step = startupStepRecorder.beginStep(Route.class, routeService.getId(), "Warm up route");
+        try {
+            StopWatch watch = new StopWatch();
             routeService.warmUp();
+            routeService.setWarmUpTime(watch.taken());
+        } finally {
+            startupStepRecorder.endStep(step);
+        }
+    }
+
+    private void doWarmUpRoutesInParallel(List<RouteService> routeServices, final boolean autoStartup) throws Exception {
+        int poolSize = getParallelRouteStartupPoolSize() > 0 ? getParallelRouteStartupPoolSize() : Runtime.getRuntime().availableProcessors();
+        poolSize = Math.min(poolSize, routeServices.size());
+        log.debug("Warming up {} routes in parallel using {} threads", routeServices.size(), poolSize);
+
+        // endpoints can be shared among the routes, so start the known endpoints up front to ensure
+        // a route being warmed up does not see an endpoint which another route is still starting
+        for (Endpoint endpoint : getEndpoints()) {
+            ServiceHelper.startService(endpoint);
+        }
+
+        // the worker threads must see the same state as the thread which is starting the routes
+        final boolean startingRoutes = isStartingRoutes();
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+
+        ExecutorService executor = getExecutorServiceManager().newFixedThreadPool(this, "RouteWarmUp", poolSize);
+        parallelWarmUp = true;
+        try {
+            CompletionService<RouteService> completion = new ExecutorCompletionService<RouteService>(executor);
+            for (final RouteService routeService : routeServices) {
+                completion.submit(new Callable<RouteService>() {
+                    @Override
+                    public RouteService call() throws Exception {
+                        ClassLoader oldTccl = Thread.currentThread().getContextClassLoader();
+                        Thread.currentThread().setContextClassLoader(tccl);
+                        if (startingRoutes) {
+                            isStartingRoutes.set(true);
+                        }
+                        try {
+                            log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+                            doWarmUpRoute(routeService);
+                            return routeService;
+                        } finally {
+                            isStartingRoutes.remove();
+                            Thread.currentThread().setContextClassLoader(oldTccl);
+                        }
+                    }
+                });
+            }
+
+            // wait for all the routes to be warmed up, so no route is still being warmed up when failing on the first route which failed
+            Throwable failure = null;
+            for (int i = 0; i < routeServices.size(); i++) {
+                try {
+                    completion.take().get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                // rethrow the original cause such as FailedToCreateRouteException
+                if (failure instanceof Exception) {
+                    throw (Exception) failure;
+                }
+                throw ObjectHelper.wrapRuntimeCamelException(failure);
+            }
+        } finally {
+            parallelWarmUp = false;
+            getExecutorServiceManager().shutdownNow(executor);
         }
     }
 
@@ -4017,12 +4173,17 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
                     for (LifecycleStrategy strategy : lifecycleStrategies) {
                         strategy.onServiceAdd(this, consumer, route);
                     }
+                    StartupStep step = startupStepRecorder.beginStep(Consumer.class, route.getId(), "Start consumer");
                     try {
+                        StopWatch watch = new StopWatch();
                         startService(consumer);
+                        routeService.setConsumerStartupTime(watch.taken());
                         route.getProperties().remove("route.start.exception");
                     } catch (Exception e) {
                         route.getProperties().put("route.start.exception", e);
                         throw e;
+                    } finally {
+                        startupStepRecorder.endStep(step);
                     }
 
                     log.info("Route: {} started and consuming from: {}", route.getId(), endpoint);
@@ -4416,6 +4577,38 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         this.typeConverterStatisticsEnabled = typeConverterStatisticsEnabled;
     }
 
+    public Boolean isParallelRouteStartup() {
+        return parallelRouteStartup != null && parallelRouteStartup;
+    }
+
+    public void setParallelRouteStartup(Boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
+    public int getParallelRouteStartupPoolSize() {
+        return parallelRouteStartupPoolSize;
+    }
+
+    public void setParallelRouteStartupPoolSize(int parallelRouteStartupPoolSize) {
+        this.parallelRouteStartupPoolSize = parallelRouteStartupPoolSize;
+    }
+
+    public Boolean isLazyStartProducers() {
+        return lazyStartProducers != null && lazyStartProducers;
+    }
+
+    public void setLazyStartProducers(Boolean lazyStartProducers) {
+        this.lazyStartProducers = lazyStartProducers;
+    }
+
+    /**
+     * Lock used by {@link RouteService} to guard the shared state which is updated while warming up routes,
+     * as the routes may be warmed up in parallel.
+     */
+    Object getRouteWarmUpLock() {
+        return routeWarmUpLock;
+    }
+
     public Boolean isUseMDCLogging() {
         return useMDCLogging != null && useMDCLogging;
     }
@@ -4702,6 +4895,22 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         this.headersMapFactory = headersMapFactory;
     }
 
+    /**
+     * Begins a step which is only recorded while Camel is starting, as endpoints and components are also
+     * created at runtime such as by dynamic routing.
+     */
+    private StartupStep beginStartupStep(Class<?> type, String name, String description) {
+        return isStarted() ? null : startupStepRecorder.beginStep(type, name, description);
+    }
+
+    public StartupStepRecorder getStartupStepRecorder() {
+        return startupStepRecorder;
+    }
+
+    public void setStartupStepRecorder(StartupStepRecorder startupStepRecorder) {
+        this.startupStepRecorder = startupStepRecorder;
+    }
+
     protected Map<String, RouteService> getRouteServices() {
         return routeServices;
     }
@@ -69,6 +69,14 @@ public class DefaultRouteStartupOrder implements RouteStartupOrder {
         return answer;
     }
 
+    public long getWarmUpTime() {
+        return routeService.getWarmUpTime();
+    }
+
+    public long getConsumerStartupTime() {
+        return routeService.getConsumerStartupTime();
+    }
+
     public RouteService getRouteService() {
         return routeService;
     }
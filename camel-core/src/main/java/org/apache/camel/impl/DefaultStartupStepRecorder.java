@@ -0,0 +1,368 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.spi.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link StartupStepRecorder} which records the steps in memory.
+ * <p/>
+ * The number of bytes allocated during a step is captured using the thread allocation counters of the JVM, if
+ * supported by the JVM.
+ *
+ * @version 
+ */
+public class DefaultStartupStepRecorder implements StartupStepRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultStartupStepRecorder.class);
+
+    private final AtomicInteger stepCounter = new AtomicInteger();
+    private final List<DefaultStartupStep> steps = Collections.synchronizedList(new ArrayList<DefaultStartupStep>());
+    private volatile ThreadLocal<Deque<DefaultStartupStep>> activeSteps = createActiveSteps();
+    private volatile boolean enabled;
+    private int maxSteps = 10000;
+    private volatile long startTime = System.nanoTime();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private volatile Method allocatedBytesMethod = lookupAllocatedBytesMethod(threadBean);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    public void setMaxSteps(int maxSteps) {
+        this.maxSteps = maxSteps;
+    }
+
+    public StartupStep beginStep(Class<?> type, String name, String description) {
+        if (!enabled || steps.size() >= maxSteps) {
+            return null;
+        }
+
+        Deque<DefaultStartupStep> active = activeSteps.get();
+        DefaultStartupStep parent = active.peek();
+        int parentId = parent != null ? parent.getId() : 0;
+        int level = parent != null ? parent.getLevel() + 1 : 0;
+
+        DefaultStartupStep step = new DefaultStartupStep(stepCounter.incrementAndGet(), parentId, level,
+                type != null ? type.getName() : null, name, description, Thread.currentThread().getName(),
+                System.nanoTime() - startTime, allocatedBytes());
+        active.push(step);
+        steps.add(step);
+        return step;
+    }
+
+    public void endStep(StartupStep step) {
+        if (!(step instanceof DefaultStartupStep)) {
+            return;
+        }
+        DefaultStartupStep target = (DefaultStartupStep) step;
+        target.end(System.nanoTime() - startTime, allocatedBytes());
+        activeSteps.get().remove(target);
+    }
+
+    public List<StartupStep> getSteps() {
+        synchronized (steps) {
+            return new ArrayList<StartupStep>(steps);
+        }
+    }
+
+    public void reset() {
+        // a new thread local as the steps which are still active on other threads must be cleared as well
+        activeSteps = createActiveSteps();
+        steps.clear();
+        stepCounter.set(0);
+        startTime = System.nanoTime();
+    }
+
+    public String dumpAsJson() {
+        List<StartupStep> list = getSteps();
+        Map<Integer, List<StartupStep>> children = childrenByParent(list);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"steps\": [");
+        appendJson(sb, children, 0, "    ");
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    public String dumpAsFlameGraph() {
+        List<StartupStep> list = getSteps();
+        Map<Integer, StartupStep> byId = new LinkedHashMap<Integer, StartupStep>();
+        for (StartupStep step : list) {
+            byId.put(step.getId(), step);
+        }
+        Map<Integer, List<StartupStep>> children = childrenByParent(list);
+
+        StringBuilder sb = new StringBuilder();
+        for (StartupStep step : list) {
+            if (step.getDuration() < 0) {
+                // not yet ended
+                continue;
+            }
+            long self = step.getDuration();
+            List<StartupStep> kids = children.get(step.getId());
+            if (kids != null) {
+                for (StartupStep kid : kids) {
+                    if (kid.getDuration() > 0) {
+                        self -= kid.getDuration();
+                    }
+                }
+            }
+
+            // build the stack from the top level step down to this step
+            List<String> frames = new ArrayList<String>();
+            StartupStep current = step;
+            while (current != null) {
+                frames.add(0, frameName(current));
+                current = byId.get(current.getParentId());
+            }
+            for (int i = 0; i < frames.size(); i++) {
+                if (i > 0) {
+                    sb.append(';');
+                }
+                sb.append(frames.get(i));
+            }
+            sb.append(' ').append(Math.max(0, self / 1000)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultStartupStepRecorder";
+    }
+
+    private static Map<Integer, List<StartupStep>> childrenByParent(List<StartupStep> list) {
+        Map<Integer, List<StartupStep>> answer = new LinkedHashMap<Integer, List<StartupStep>>();
+        for (StartupStep step : list) {
+            List<StartupStep> kids = answer.get(step.getParentId());
+            if (kids == null) {
+                kids = new ArrayList<StartupStep>();
+                answer.put(step.getParentId(), kids);
+            }
+            kids.add(step);
+        }
+        return answer;
+    }
+
+    private static void appendJson(StringBuilder sb, Map<Integer, List<StartupStep>> children, int parentId, String indent) {
+        List<StartupStep> kids = children.get(parentId);
+        if (kids == null) {
+            return;
+        }
+        boolean first = true;
+        for (StartupStep step : kids) {
+            sb.append(first ? "\n" : ",\n");
+            first = false;
+            sb.append(indent).append("{ ");
+            sb.append("\"id\": ").append(step.getId());
+            sb.append(", \"parentId\": ").append(step.getParentId());
+            sb.append(", \"level\": ").append(step.getLevel());
+            sb.append(", \"type\": ").append(jsonString(step.getType()));
+            sb.append(", \"name\": ").append(jsonString(step.getName()));
+            sb.append(", \"description\": ").append(jsonString(step.getDescription()));
+            sb.append(", \"thread\": ").append(jsonString(step.getThreadName()));
+            sb.append(", \"beginTime\": ").append(step.getBeginTime());
+            sb.append(", \"duration\": ").append(step.getDuration());
+            sb.append(", \"allocatedBytes\": ").append(step.getAllocatedBytes());
+            if (children.containsKey(step.getId())) {
+                sb.append(", \"steps\": [");
+                appendJson(sb, children, step.getId(), indent + "  ");
+                sb.append("\n").append(indent).append("]");
+            }
+            sb.append(" }");
+        }
+    }
+
+    private static String jsonString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+
+    private static String frameName(StartupStep step) {
+        String answer = step.getDescription();
+        if (step.getName() != null) {
+            answer = answer != null ? answer + " " + step.getName() : step.getName();
+        }
+        // semi colon is the frame separator in the collapsed stack format
+        return answer != null ? answer.replace(';', ',') : "unknown";
+    }
+
+    private static ThreadLocal<Deque<DefaultStartupStep>> createActiveSteps() {
+        return new ThreadLocal<Deque<DefaultStartupStep>>() {
+            @Override
+            protected Deque<DefaultStartupStep> initialValue() {
+                return new ArrayDeque<DefaultStartupStep>();
+            }
+        };
+    }
+
+    private long allocatedBytes() {
+        Method method = allocatedBytesMethod;
+        if (method == null) {
+            return -1;
+        }
+        try {
+            Object answer = method.invoke(threadBean, Thread.currentThread().getId());
+            if (answer instanceof Long && (Long) answer >= 0) {
+                return (Long) answer;
+            }
+        } catch (Throwable e) {
+            LOG.debug("Cannot capture thread allocated bytes due " + e.getMessage() + ". This exception is ignored.", e);
+        }
+        allocatedBytesMethod = null;
+        return -1;
+    }
+
+    /**
+     * Gets the method to capture the bytes allocated by a thread, which is only available on JVMs which provides the
+     * com.sun.management.ThreadMXBean extension, and is therefore looked up using reflection.
+     */
+    private static Method lookupAllocatedBytesMethod(ThreadMXBean bean) {
+        try {
+            Class<?> type = Class.forName("com.sun.management.ThreadMXBean", false, DefaultStartupStepRecorder.class.getClassLoader());
+            if (type.isInstance(bean)) {
+                boolean supported = (Boolean) type.getMethod("isThreadAllocatedMemorySupported").invoke(bean);
+                boolean enabled = (Boolean) type.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean);
+                if (supported && enabled) {
+                    return type.getMethod("getThreadAllocatedBytes", long.class);
+                }
+            }
+        } catch (Throwable e) {
+            LOG.debug("Cannot capture thread allocated bytes due " + e.getMessage() + ". This exception is ignored.", e);
+        }
+        return null;
+    }
+
+    private static final class DefaultStartupStep implements StartupStep {
+
+        private final int id;
+        private final int parentId;
+        private final int level;
+        private final String type;
+        private final String name;
+        private final String description;
+        private final String threadName;
+        private final long beginTime;
+        private final long beginAllocated;
+        private volatile long duration = -1;
+        private volatile long allocatedBytes = -1;
+
+        private DefaultStartupStep(int id, int parentId, int level, String type, String name, String description,
+                                   String threadName, long beginTime, long beginAllocated) {
+            this.id = id;
+            this.parentId = parentId;
+            this.level = level;
+            this.type = type;
+            this.name = name;
+            this.description = description;
+            this.threadName = threadName;
+            this.beginTime = beginTime;
+            this.beginAllocated = beginAllocated;
+        }
+
+        private void end(long endTime, long endAllocated) {
+            duration = endTime - beginTime;
+            if (beginAllocated >= 0 && endAllocated >= 0) {
+                allocatedBytes = endAllocated - beginAllocated;
+            }
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getParentId() {
+            return parentId;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getBeginTime() {
+            return beginTime;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return description + " " + name + " (" + duration + " ns)";
+        }
+    }
+}
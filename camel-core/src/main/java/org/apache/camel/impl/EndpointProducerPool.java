@@ -0,0 +1,296 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Producer;
+import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of idle non-singleton {@link Producer}s which are kept per endpoint, used by {@link ProducerCache}
+ * in adaptive mode.
+ * <p/>
+ * Instead of stopping a non-singleton producer after each use, the producer is released back to the pool
+ * of its endpoint, so it can be reused by the next exchange. Each endpoint has a bounded number of idle
+ * producers (the capacity), and producers which has been idle for longer than the time to idle are
+ * stopped and evicted. The most recently used producers are reused first, which allows the least
+ * recently used producers to become idle and be evicted when the load decreases.
+ * <p/>
+ * Idle producers are evicted as part of acquiring and releasing producers, or by calling {@link #evictIdle()}.
+ */
+public class EndpointProducerPool extends ServiceSupport {
+    private static final Logger LOG = LoggerFactory.getLogger(EndpointProducerPool.class);
+
+    private final ConcurrentMap<String, Deque<IdleProducer>> pools = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictionCheck = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final int capacity;
+    private final long timeToIdle;
+
+    /**
+     * Creates the pool
+     *
+     * @param capacity   maximum number of idle producers per endpoint
+     * @param timeToIdle time in millis a producer can be idle before its evicted, or <tt>0</tt> to never evict
+     */
+    public EndpointProducerPool(int capacity, long timeToIdle) {
+        this.capacity = capacity;
+        this.timeToIdle = timeToIdle;
+    }
+
+    /**
+     * Acquires an idle producer for the given endpoint
+     *
+     * @param endpoint the endpoint
+     * @return the producer, or <tt>null</tt> if no idle producer exists
+     */
+    public Producer acquire(Endpoint endpoint) {
+        long now = System.currentTimeMillis();
+        checkEvictIdle(now);
+
+        Deque<IdleProducer> pool = pools.get(endpoint.getEndpointUri());
+        if (pool != null) {
+            while (true) {
+                IdleProducer idle;
+                synchronized (pool) {
+                    idle = pool.pollFirst();
+                }
+                if (idle == null) {
+                    break;
+                }
+                if (isExpired(idle, now)) {
+                    evict(idle.producer);
+                } else {
+                    hits.increment();
+                    LOG.trace("Acquired idle producer: {} for endpoint: {}", idle.producer, endpoint);
+                    return idle.producer;
+                }
+            }
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Releases the producer back to the pool of the given endpoint
+     *
+     * @param endpoint the endpoint
+     * @param producer the producer
+     * @return <tt>true</tt> if the producer was added to the pool, <tt>false</tt> if the pool was full or is
+     *         not running, and the caller must stop the producer
+     */
+    public boolean release(Endpoint endpoint, Producer producer) {
+        if (!isRunAllowed() || !ServiceHelper.isStarted(producer)) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        String key = endpoint.getEndpointUri();
+        boolean added = false;
+        boolean retry = true;
+        while (retry) {
+            Deque<IdleProducer> pool = pools.computeIfAbsent(key, k -> new ArrayDeque<>());
+            synchronized (pool) {
+                // the pool may have been removed concurrently when it was empty, if so then try again
+                retry = pools.get(key) != pool;
+                if (!retry && pool.size() < capacity) {
+                    pool.addFirst(new IdleProducer(producer, now));
+                    added = true;
+                }
+            }
+        }
+        if (added) {
+            LOG.trace("Released idle producer: {} for endpoint: {}", producer, endpoint);
+        } else {
+            LOG.trace("Pool is full for endpoint: {} cannot release producer: {}", endpoint, producer);
+        }
+
+        checkEvictIdle(now);
+        return added;
+    }
+
+    /**
+     * Stops and evicts all producers which has been idle for longer than the time to idle.
+     */
+    public void evictIdle() {
+        if (timeToIdle <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        lastEvictionCheck.set(now);
+
+        for (Map.Entry<String, Deque<IdleProducer>> entry : pools.entrySet()) {
+            Deque<IdleProducer> pool = entry.getValue();
+            List<Producer> expired = new ArrayList<>();
+            synchronized (pool) {
+                // the least recently used producers are at the end
+                while (!pool.isEmpty() && isExpired(pool.peekLast(), now)) {
+                    expired.add(pool.pollLast().producer);
+                }
+                if (pool.isEmpty()) {
+                    // remove pools for endpoints no longer in use
+                    pools.remove(entry.getKey(), pool);
+                }
+            }
+            for (Producer producer : expired) {
+                evict(producer);
+            }
+        }
+    }
+
+    /**
+     * Number of idle producers in the pool
+     */
+    public int size() {
+        int size = 0;
+        for (Deque<IdleProducer> pool : pools.values()) {
+            synchronized (pool) {
+                size += pool.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Maximum number of idle producers per endpoint
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Time in millis a producer can be idle before its evicted
+     */
+    public long getTimeToIdle() {
+        return timeToIdle;
+    }
+
+    /**
+     * Number of times an idle producer was reused
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Number of times there was no idle producer to reuse
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Number of idle producers which was evicted
+     */
+    public long getEvicted() {
+        return evicted.longValue();
+    }
+
+    /**
+     * Resets the statistics such as hits and misses.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    /**
+     * Stops and removes all idle producers
+     */
+    public void purge() {
+        List<Producer> producers = new ArrayList<>();
+        for (Map.Entry<String, Deque<IdleProducer>> entry : pools.entrySet()) {
+            Deque<IdleProducer> pool = entry.getValue();
+            synchronized (pool) {
+                for (IdleProducer idle : pool) {
+                    producers.add(idle.producer);
+                }
+                pool.clear();
+                pools.remove(entry.getKey(), pool);
+            }
+        }
+
+        for (Producer producer : producers) {
+            try {
+                ServiceHelper.stopAndShutdownService(producer);
+            } catch (Exception e) {
+                LOG.warn("Error stopping/shutting down producer: " + producer + ". This exception will be ignored.", e);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        lastEvictionCheck.set(System.currentTimeMillis());
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        purge();
+    }
+
+    private boolean isExpired(IdleProducer idle, long now) {
+        return timeToIdle > 0 && now - idle.lastUsed > timeToIdle;
+    }
+
+    private void checkEvictIdle(long now) {
+        // only check periodically, and let only one thread do the eviction
+        long last = lastEvictionCheck.get();
+        if (timeToIdle > 0 && now - last > timeToIdle / 2 && lastEvictionCheck.compareAndSet(last, now)) {
+            evictIdle();
+        }
+    }
+
+    private void evict(Producer producer) {
+        evicted.increment();
+        LOG.debug("Evicting idle producer: {}", producer);
+        try {
+            ServiceHelper.stopAndShutdownService(producer);
+        } catch (Exception e) {
+            LOG.warn("Error stopping/shutting down producer: " + producer + ". This exception will be ignored.", e);
+        }
+    }
+
+    private static final class IdleProducer {
+        private final Producer producer;
+        private final long lastUsed;
+
+        IdleProducer(Producer producer, long lastUsed) {
+            this.producer = producer;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+}
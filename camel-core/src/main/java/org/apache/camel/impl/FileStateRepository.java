@@ -19,6 +19,7 @@ package org.apache.camel.impl;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
@@ -95,20 +96,29 @@ public class FileStateRepository extends ServiceSupport implements StateReposito
     @Override
     @ManagedOperation(description = "Adds the value of the given key to the store")
     public void setState(String key, String value) {
-        if (key.contains(KEY_VALUE_DELIMITER)) {
-            throw new IllegalArgumentException("Key " + key + " contains illegal character: " + KEY_VALUE_DELIMITER);
-        }
-        if (key.contains(STORE_DELIMITER)) {
-            throw new IllegalArgumentException("Key " + key + " contains illegal character: <newline>");
-        }
-        if (value.contains(STORE_DELIMITER)) {
-            throw new IllegalArgumentException("Value " + value + " contains illegal character: <newline>");
-        }
+        validateState(key, value);
         synchronized (cache) {
             cache.put(key, value);
             if (fileStore.length() < maxFileStoreSize) {
                 // just append to store
-                appendToStore(key, value);
+                appendToStore(Collections.singletonMap(key, value));
+            } else {
+                // trunk store and flush the cache
+                trunkStore();
+            }
+        }
+    }
+
+    @Override
+    public void setStates(Map<String, String> states) {
+        for (Map.Entry<String, String> entry : states.entrySet()) {
+            validateState(entry.getKey(), entry.getValue());
+        }
+        synchronized (cache) {
+            cache.putAll(states);
+            if (fileStore.length() < maxFileStoreSize) {
+                // append all the states to the store in one go
+                appendToStore(states);
             } else {
                 // trunk store and flush the cache
                 trunkStore();
@@ -116,6 +126,18 @@ public class FileStateRepository extends ServiceSupport implements StateReposito
         }
     }
 
+    private static void validateState(String key, String value) {
+        if (key.contains(KEY_VALUE_DELIMITER)) {
+            throw new IllegalArgumentException("Key " + key + " contains illegal character: " + KEY_VALUE_DELIMITER);
+        }
+        if (key.contains(STORE_DELIMITER)) {
+            throw new IllegalArgumentException("Key " + key + " contains illegal character: <newline>");
+        }
+        if (value.contains(STORE_DELIMITER)) {
+            throw new IllegalArgumentException("Value " + value + " contains illegal character: <newline>");
+        }
+    }
+
     @Override
     @ManagedOperation(description = "Gets the value of the given key from store")
     public String getState(String key) {
@@ -138,13 +160,13 @@ public class FileStateRepository extends ServiceSupport implements StateReposito
     }
 
     /**
-     * Appends the {@code <key,value>} pair to the file store
+     * Appends the {@code <key,value>} pairs to the file store
      *
-     * @param key the state key
+     * @param states the state keys and values
      */
-    private void appendToStore(String key, String value) {
+    private void appendToStore(Map<String, String> states) {
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Appending {}={} to state filestore: {}", new Object[]{key, value, fileStore});
+            LOG.debug("Appending {} to state filestore: {}", states, fileStore);
         }
         FileOutputStream fos = null;
         try {
@@ -164,10 +186,12 @@ public class FileStateRepository extends ServiceSupport implements StateReposito
             }
             // append to store
             fos = new FileOutputStream(fileStore, true);
-            fos.write(key.getBytes());
-            fos.write(KEY_VALUE_DELIMITER.getBytes());
-            fos.write(value.getBytes());
-            fos.write(STORE_DELIMITER.getBytes());
+            for (Map.Entry<String, String> entry : states.entrySet()) {
+                fos.write(entry.getKey().getBytes());
+                fos.write(KEY_VALUE_DELIMITER.getBytes());
+                fos.write(entry.getValue().getBytes());
+                fos.write(STORE_DELIMITER.getBytes());
+            }
         } catch (IOException e) {
             throw ObjectHelper.wrapRuntimeCamelException(e);
         } finally {
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -38,6 +39,11 @@ public class MemoryStateRepository extends ServiceSupport implements StateReposi
         cache.put(key, value);
     }
 
+    @Override
+    public void setStates(Map<String, String> states) {
+        cache.putAll(states);
+    }
+
     @Override
     @ManagedOperation(description = "Gets the value of the given key from store")
     public String getState(String key) {
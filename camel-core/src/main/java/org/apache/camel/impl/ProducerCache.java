@@ -18,6 +18,7 @@ package org.apache.camel.impl;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
@@ -56,7 +57,9 @@ public class ProducerCache extends ServiceSupport {
 
     private final CamelContext camelContext;
     private final ServicePool<Endpoint, Producer> pool;
+    private final EndpointProducerPool producerPool;
     private final Map<String, Producer> producers;
+    private final boolean concurrentProducers;
     private final Object source;
     private final SharedCamelInternalProcessor internalProcessor;
 
@@ -90,6 +93,15 @@ public class ProducerCache extends ServiceSupport {
             this.stopServicePool = true;
         }
         this.producers = cache;
+        // the cache can only be read without locking if it is thread safe
+        this.concurrentProducers = cache instanceof ConcurrentMap || cache instanceof LRUCache;
+        if (CamelContextHelper.isProducerCacheAdaptive(camelContext)) {
+            // pool non-singleton producers per endpoint so they are reused instead of being stopped after each use
+            this.producerPool = new EndpointProducerPool(CamelContextHelper.getProducerCachePoolSize(camelContext),
+                CamelContextHelper.getProducerCacheTimeToIdle(camelContext));
+        } else {
+            this.producerPool = null;
+        }
         if (producers instanceof LRUCache) {
             maxCacheSize = ((LRUCache) producers).getMaxCacheSize();
         }
@@ -179,12 +191,17 @@ public class ProducerCache extends ServiceSupport {
         if (producer instanceof ServicePoolAware) {
             // release back to the pool
             pool.release(endpoint, producer);
-        } else if (!producer.isSingleton()) {
+        } else if (!producer.isSingleton() && !releaseToProducerPool(endpoint, producer)) {
             // stop and shutdown non-singleton producers as we should not leak resources
             ServiceHelper.stopAndShutdownService(producer);
         }
     }
 
+    private boolean releaseToProducerPool(Endpoint endpoint, Producer producer) {
+        // in adaptive mode the non-singleton producer is kept for reuse, if there is room in the pool
+        return producerPool != null && producerPool.release(endpoint, producer);
+    }
+
     /**
      * Starts the {@link Producer} to be used for sending to the given endpoint
      * <p/>
@@ -375,7 +392,7 @@ public class ProducerCache extends ServiceSupport {
             if (producer instanceof ServicePoolAware) {
                 // release back to the pool
                 pool.release(endpoint, producer);
-            } else if (!producer.isSingleton()) {
+            } else if (!producer.isSingleton() && !releaseToProducerPool(endpoint, producer)) {
                 // stop and shutdown non-singleton producers as we should not leak resources
                 try {
                     ServiceHelper.stopAndShutdownService(producer);
@@ -453,7 +470,7 @@ public class ProducerCache extends ServiceSupport {
                     if (producer instanceof ServicePoolAware) {
                         // release back to the pool
                         pool.release(endpoint, producer);
-                    } else if (!producer.isSingleton()) {
+                    } else if (!producer.isSingleton() && !releaseToProducerPool(endpoint, producer)) {
                         // stop and shutdown non-singleton producers as we should not leak resources
                         try {
                             ServiceHelper.stopAndShutdownService(producer);
@@ -559,7 +576,28 @@ public class ProducerCache extends ServiceSupport {
         return AsyncProcessorConverterHelper.convert(producer);
     }
 
-    protected synchronized Producer doGetProducer(Endpoint endpoint, boolean pooled) {
+    protected Producer doGetProducer(Endpoint endpoint, boolean pooled) {
+        if (producerPool != null && concurrentProducers) {
+            // in adaptive mode we lookup existing producers without locking, so sending to many
+            // different endpoints concurrently is not serialized on this cache
+            String key = endpoint.getEndpointUri();
+            Producer answer = producers.get(key);
+            if (pooled && answer == null) {
+                answer = producerPool.acquire(endpoint);
+            }
+            if (answer != null) {
+                // record statistics
+                if (extendedStatistics) {
+                    statistics.onHit(key);
+                }
+                return answer;
+            }
+        }
+
+        return doGetOrCreateProducer(endpoint, pooled);
+    }
+
+    private synchronized Producer doGetOrCreateProducer(Endpoint endpoint, boolean pooled) {
         String key = endpoint.getEndpointUri();
         Producer answer = producers.get(key);
         if (pooled && answer == null) {
@@ -611,7 +649,7 @@ public class ProducerCache extends ServiceSupport {
         }
 
         ServiceHelper.startServices(producers.values());
-        ServiceHelper.startServices(statistics, pool);
+        ServiceHelper.startServices(statistics, pool, producerPool);
     }
 
     protected void doStop() throws Exception {
@@ -620,6 +658,7 @@ public class ProducerCache extends ServiceSupport {
         if (stopServicePool) {
             ServiceHelper.stopAndShutdownService(pool);
         }
+        ServiceHelper.stopAndShutdownService(producerPool);
         try {
             ServiceHelper.stopAndShutdownServices(producers.values());
         } finally {
@@ -642,6 +681,9 @@ public class ProducerCache extends ServiceSupport {
     public int size() {
         int size = producers.size();
         size += pool.size();
+        if (producerPool != null) {
+            size += producerPool.size();
+        }
 
         LOG.trace("size = {}", size);
         return size;
@@ -719,6 +761,9 @@ public class ProducerCache extends ServiceSupport {
             LRUCache<String, Producer> cache = (LRUCache<String, Producer>) producers;
             cache.resetStatistics();
         }
+        if (producerPool != null) {
+            producerPool.resetStatistics();
+        }
         if (statistics != null) {
             statistics.clear();
         }
@@ -730,6 +775,9 @@ public class ProducerCache extends ServiceSupport {
     public synchronized void purge() {
         producers.clear();
         pool.purge();
+        if (producerPool != null) {
+            producerPool.purge();
+        }
         if (statistics != null) {
             statistics.clear();
         }
@@ -743,6 +791,85 @@ public class ProducerCache extends ServiceSupport {
             LRUCache<String, Producer> cache = (LRUCache<String, Producer>) producers;
             cache.cleanUp();
         }
+        if (producerPool != null) {
+            producerPool.evictIdle();
+        }
+    }
+
+    /**
+     * Whether this cache is in adaptive mode, where non-singleton producers are pooled per endpoint,
+     * and evicted from the pool when being idle.
+     *
+     * @see CamelContextHelper#isProducerCacheAdaptive(CamelContext)
+     */
+    public boolean isAdaptive() {
+        return producerPool != null;
+    }
+
+    /**
+     * Gets the number of idle non-singleton producers pooled
+     * <p/>
+     * Will return <tt>-1</tt> if not in adaptive mode.
+     *
+     * @return the number of pooled producers
+     */
+    public int getPoolSize() {
+        return producerPool != null ? producerPool.size() : -1;
+    }
+
+    /**
+     * Gets the maximum number of idle non-singleton producers pooled per endpoint
+     * <p/>
+     * Will return <tt>-1</tt> if not in adaptive mode.
+     *
+     * @return the capacity per endpoint
+     */
+    public int getPoolCapacity() {
+        return producerPool != null ? producerPool.getCapacity() : -1;
+    }
+
+    /**
+     * Gets the time in millis a pooled non-singleton producer can be idle before its evicted
+     * <p/>
+     * Will return <tt>-1</tt> if not in adaptive mode.
+     *
+     * @return the time to idle
+     */
+    public long getTimeToIdle() {
+        return producerPool != null ? producerPool.getTimeToIdle() : -1;
+    }
+
+    /**
+     * Gets the number of times an idle non-singleton producer was reused from the pool
+     * <p/>
+     * Will return <tt>-1</tt> if not in adaptive mode.
+     *
+     * @return the pool hits
+     */
+    public long getPoolHits() {
+        return producerPool != null ? producerPool.getHits() : -1;
+    }
+
+    /**
+     * Gets the number of times there was no idle non-singleton producer in the pool
+     * <p/>
+     * Will return <tt>-1</tt> if not in adaptive mode.
+     *
+     * @return the pool misses
+     */
+    public long getPoolMisses() {
+        return producerPool != null ? producerPool.getMisses() : -1;
+    }
+
+    /**
+     * Gets the number of idle non-singleton producers evicted from the pool
+     * <p/>
+     * Will return <tt>-1</tt> if not in adaptive mode.
+     *
+     * @return the pool evicted
+     */
+    public long getPoolEvicted() {
+        return producerPool != null ? producerPool.getEvicted() : -1;
     }
 
     public EndpointUtilizationStatistics getEndpointUtilizationStatistics() {
@@ -72,6 +72,8 @@ public class RouteService extends ChildServiceSupport {
     private final Map<Route, Consumer> inputs = new HashMap<Route, Consumer>();
     private final AtomicBoolean warmUpDone = new AtomicBoolean(false);
     private final AtomicBoolean endpointDone = new AtomicBoolean(false);
+    private volatile long warmUpTime;
+    private volatile long consumerStartupTime;
 
     public RouteService(DefaultCamelContext camelContext, RouteDefinition routeDefinition, List<RouteContext> routeContexts, List<Route> routes) {
         this.camelContext = camelContext;
@@ -140,6 +142,28 @@ public class RouteService extends ChildServiceSupport {
         this.removingRoutes = removingRoutes;
     }
 
+    /**
+     * Time taken in millis to warm up the route when it was last started.
+     */
+    public long getWarmUpTime() {
+        return warmUpTime;
+    }
+
+    public void setWarmUpTime(long warmUpTime) {
+        this.warmUpTime = warmUpTime;
+    }
+
+    /**
+     * Time taken in millis to start the route consumer when it was last started.
+     */
+    public long getConsumerStartupTime() {
+        return consumerStartupTime;
+    }
+
+    public void setConsumerStartupTime(long consumerStartupTime) {
+        this.consumerStartupTime = consumerStartupTime;
+    }
+
     public void warmUp() throws Exception {
         try {
             doWarmUp();
@@ -196,21 +220,26 @@ public class RouteService extends ChildServiceSupport {
                     startChildService(route, childServices);
 
                     // fire event
-                    EventHelper.notifyRouteAdded(camelContext, route);
+                    synchronized (camelContext.getRouteWarmUpLock()) {
+                        EventHelper.notifyRouteAdded(camelContext, route);
+                    }
                 }
             }
 
-            // ensure lifecycle strategy is invoked which among others enlist the route in JMX
-            for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                strategy.onRoutesAdd(routes);
-            }
+            // routes may be warmed up in parallel so guard the shared state in camel context
+            synchronized (camelContext.getRouteWarmUpLock()) {
+                // ensure lifecycle strategy is invoked which among others enlist the route in JMX
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onRoutesAdd(routes);
+                }
 
-            // add routes to camel context
-            camelContext.addRouteCollection(routes);
+                // add routes to camel context
+                camelContext.addRouteCollection(routes);
 
-            // add the routes to the inflight registry so they are pre-installed
-            for (Route route : routes) {
-                camelContext.getInflightRepository().addRoute(route.getId());
+                // add the routes to the inflight registry so they are pre-installed
+                for (Route route : routes) {
+                    camelContext.getInflightRepository().addRoute(route.getId());
+                }
             }
         }
     }
@@ -364,8 +393,10 @@ public class RouteService extends ChildServiceSupport {
     protected void startChildService(Route route, List<Service> services) throws Exception {
         for (Service service : services) {
             LOG.debug("Starting child service on route: {} -> {}", route.getId(), service);
-            for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                strategy.onServiceAdd(camelContext, service, route);
+            synchronized (camelContext.getRouteWarmUpLock()) {
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(camelContext, service, route);
+                }
             }
             ServiceHelper.startService(service);
             addChildService(service);
@@ -60,6 +60,7 @@ import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.model.rest.RestsDefinition;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spi.RouteStartupOrder;
 import org.apache.camel.util.CamelContextHelper;
 import org.apache.camel.util.JsonSchemaHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -285,6 +286,14 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         return context.isUseDataType();
     }
 
+    public boolean isParallelRouteStartup() {
+        return context.isParallelRouteStartup();
+    }
+
+    public boolean isLazyStartProducers() {
+        return context.isLazyStartProducers();
+    }
+
     public void onTimer() {
         load.update(getInflightExchanges());
     }
@@ -647,6 +656,40 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         }
     }
 
+    public TabularData listRouteStartupTimings() throws Exception {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listRouteStartupTimingsTabularType());
+
+            for (RouteStartupOrder order : context.getRouteStartupOrder()) {
+                String routeId = order.getRoute().getId();
+                int startupOrder = order.getStartupOrder();
+                long warmUpTime = order.getWarmUpTime();
+                long consumerStartupTime = order.getConsumerStartupTime();
+                long totalTime = warmUpTime + consumerStartupTime;
+                CompositeType ct = CamelOpenMBeanTypes.listRouteStartupTimingsCompositeType();
+                CompositeData data = new CompositeDataSupport(ct,
+                        new String[]{"routeId", "startupOrder", "warmUpTime", "consumerStartupTime", "totalTime"},
+                        new Object[]{routeId, startupOrder, warmUpTime, consumerStartupTime, totalTime});
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
+    public boolean isStartupStepRecorderEnabled() {
+        return context.getStartupStepRecorder() != null && context.getStartupStepRecorder().isEnabled();
+    }
+
+    public String dumpStartupStepsAsJson() {
+        return context.getStartupStepRecorder() != null ? context.getStartupStepRecorder().dumpAsJson() : null;
+    }
+
+    public String dumpStartupStepsAsFlameGraph() {
+        return context.getStartupStepRecorder() != null ? context.getStartupStepRecorder().dumpAsFlameGraph() : null;
+    }
+
     public Map<String, Properties> findComponents() throws Exception {
         Map<String, Properties> answer = context.findComponents();
         for (Map.Entry<String, Properties> entry : answer.entrySet()) {
@@ -64,6 +64,34 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
         return producerCache.getEvicted();
     }
 
+    public Boolean isAdaptive() {
+        return producerCache.isAdaptive();
+    }
+
+    public Long getTimeToIdle() {
+        return producerCache.getTimeToIdle();
+    }
+
+    public Integer getPoolSize() {
+        return producerCache.getPoolSize();
+    }
+
+    public Integer getPoolCapacity() {
+        return producerCache.getPoolCapacity();
+    }
+
+    public Long getPoolHits() {
+        return producerCache.getPoolHits();
+    }
+
+    public Long getPoolMisses() {
+        return producerCache.getPoolMisses();
+    }
+
+    public Long getPoolEvicted() {
+        return producerCache.getPoolEvicted();
+    }
+
     public void resetStatistics() {
         producerCache.resetCacheStatistics();
     }
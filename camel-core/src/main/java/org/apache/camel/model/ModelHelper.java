@@ -41,7 +41,10 @@ import org.apache.camel.NamedNode;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.converter.jaxp.XmlConverter;
 import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.spi.ModelJAXBContextFactory;
 import org.apache.camel.spi.NamespaceAware;
+import org.apache.camel.spi.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.util.ObjectHelper;
 
@@ -240,7 +243,16 @@ public final class ModelHelper {
         if (context == null) {
             jaxbContext = createJAXBContext();
         } else {
-            jaxbContext = context.getModelJAXBContextFactory().newJAXBContext();
+            // only record while starting, as the JAXB context is also created when dumping routes at runtime
+            StartupStepRecorder recorder = context.getStatus().isStarted() ? null : context.getStartupStepRecorder();
+            StartupStep step = recorder != null ? recorder.beginStep(ModelJAXBContextFactory.class, null, "Create JAXB context") : null;
+            try {
+                jaxbContext = context.getModelJAXBContextFactory().newJAXBContext();
+            } finally {
+                if (recorder != null) {
+                    recorder.endStep(step);
+                }
+            }
         }
         return jaxbContext;
     }
@@ -17,7 +17,7 @@
 package org.apache.camel.processor;
 
 import java.net.URISyntaxException;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
@@ -57,6 +57,7 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
     protected final ExchangePattern pattern;
     protected ProducerCache producerCache;
     protected AsyncProcessor producer;
+    protected volatile boolean producerResolved;
     protected Endpoint destination;
     protected ExchangePattern destinationExchangePattern;
     protected String id;
@@ -129,6 +130,17 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
 
         counter++;
 
+        // the producer may be lazy created on first use
+        if (!producerResolved) {
+            try {
+                resolveProducer();
+            } catch (Throwable e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+        }
+
         // if we have a producer then use that as its optimized
         if (producer != null) {
 
@@ -218,10 +230,11 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
     protected void doStart() throws Exception {
         if (producerCache == null) {
             // use a single producer cache as we need to only hold reference for one destination
-            // and use a regular HashMap as we do not want a soft reference store that may get re-claimed when low on memory
+            // and use a regular map as we do not want a soft reference store that may get re-claimed when low on memory
             // as we want to ensure the producer is kept around, to ensure its lifecycle is fully managed,
-            // eg stopping the producer when we stop etc.
-            producerCache = new ProducerCache(this, camelContext, new HashMap<String, Producer>(1));
+            // eg stopping the producer when we stop etc. The map is concurrent as the producer cache may look up
+            // the producer without locking
+            producerCache = new ProducerCache(this, camelContext, new ConcurrentHashMap<String, Producer>(1));
             // do not add as service as we do not want to manage the producer cache
         }
         ServiceHelper.startService(producerCache);
@@ -240,6 +253,22 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
         // however must start endpoint first
         ServiceHelper.startService(destination);
 
+        if (camelContext.isLazyStartProducers()) {
+            // defer creating the producer until the first message is being sent
+            LOG.debug("Lazy starting producer on first use for {}", destination);
+        } else {
+            resolveProducer();
+        }
+    }
+
+    /**
+     * Acquires the producer to use for sending to the destination.
+     */
+    protected synchronized void resolveProducer() throws Exception {
+        if (producerResolved) {
+            return;
+        }
+
         // this SendProcessor is used a lot in Camel (eg every .to in the route DSL) and therefore we
         // want to optimize for regular producers, by using the producer directly instead of the ProducerCache.
         // Only for pooled and non-singleton producers we have to use the ProducerCache as it supports these
@@ -250,14 +279,18 @@ public class SendProcessor extends ServiceSupport implements AsyncProcessor, Tra
             // no we cannot optimize it - so release the producer back to the producer cache
             // and use the producer cache for sending
             producerCache.releaseProducer(destination, producer);
+            this.producer = null;
         } else {
             // yes we can optimize and use the producer directly for sending
             this.producer = AsyncProcessorConverterHelper.convert(producer);
         }
+        producerResolved = true;
     }
 
     protected void doStop() throws Exception {
         ServiceHelper.stopServices(producerCache, producer);
+        // the producer must be resolved again when starting
+        producerResolved = false;
     }
 
     protected void doShutdown() throws Exception {
@@ -61,4 +61,22 @@ public interface RouteStartupOrder {
      */
     List<Service> getServices();
 
+    /**
+     * Gets the time taken in millis to warm up the route (starting its endpoints, processors and child services).
+     *
+     * @return the time taken in millis
+     */
+    default long getWarmUpTime() {
+        return 0;
+    }
+
+    /**
+     * Gets the time taken in millis to start the input consumers of the route.
+     *
+     * @return the time taken in millis
+     */
+    default long getConsumerStartupTime() {
+        return 0;
+    }
+
 }
@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+/**
+ * Recording state of steps during startup to capture execution time, and being able to emit events to diagnostic tools
+ * such as flight recorder or flame graphs.
+ *
+ * @see StartupStepRecorder
+ */
+public interface StartupStep {
+
+    /**
+     * Unique id of this step
+     */
+    int getId();
+
+    /**
+     * Id of the parent step, or <tt>0</tt> if this step is a top level step
+     */
+    int getParentId();
+
+    /**
+     * The level of this step in the hierarchy, where <tt>0</tt> is a top level step
+     */
+    int getLevel();
+
+    /**
+     * Source class type such as the service or component which is being started
+     */
+    String getType();
+
+    /**
+     * Name of the source which is being started, such as a route id or component name
+     */
+    String getName();
+
+    /**
+     * Description of the step
+     */
+    String getDescription();
+
+    /**
+     * Name of the thread which executed the step
+     */
+    String getThreadName();
+
+    /**
+     * The time in nanos when the step begun, relative to when the recorder was started
+     */
+    long getBeginTime();
+
+    /**
+     * The time in nanos the step took, or <tt>-1</tt> if the step has not ended yet
+     */
+    long getDuration();
+
+    /**
+     * The number of bytes allocated by the thread while executing the step, or <tt>-1</tt> if not supported by the JVM
+     */
+    long getAllocatedBytes();
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.List;
+
+/**
+ * To record {@link StartupStep} during startup to capture where the time goes when starting
+ * {@link org.apache.camel.CamelContext} such as loading type converters, resolving components, creating endpoints
+ * and warming up routes.
+ * <p/>
+ * The steps are recorded in a hierarchy per thread, where a step started while another step is active on the
+ * same thread, becomes a child of that step.
+ * <p/>
+ * The recorder is disabled by default, and must be enabled before {@link org.apache.camel.CamelContext} is started.
+ *
+ * @see org.apache.camel.impl.DefaultStartupStepRecorder
+ */
+public interface StartupStepRecorder {
+
+    /**
+     * Whether recording is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Whether recording is enabled
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Maximum number of steps to record, to avoid the recorder using an unbounded amount of memory if its kept
+     * enabled after starting.
+     */
+    int getMaxSteps();
+
+    /**
+     * Maximum number of steps to record, to avoid the recorder using an unbounded amount of memory if its kept
+     * enabled after starting.
+     */
+    void setMaxSteps(int maxSteps);
+
+    /**
+     * Begins a new step.
+     * <p/>
+     * Important must call {@link #endStep(StartupStep)} to end the step.
+     *
+     * @param type        the source class type
+     * @param name        name of the source such as a route id or component name
+     * @param description description of the step
+     * @return the step, or <tt>null</tt> if recording is not enabled
+     */
+    StartupStep beginStep(Class<?> type, String name, String description);
+
+    /**
+     * Ends the step
+     *
+     * @param step the step as returned from {@link #beginStep(Class, String, String)}, is allowed to be <tt>null</tt>
+     */
+    void endStep(StartupStep step);
+
+    /**
+     * Gets the recorded steps in the order they were begun.
+     */
+    List<StartupStep> getSteps();
+
+    /**
+     * Clears the recorded steps, including the steps which are still active.
+     */
+    void reset();
+
+    /**
+     * Dumps the recorded steps as JSON, where each step contains its child steps.
+     */
+    String dumpAsJson();
+
+    /**
+     * Dumps the recorded steps in the collapsed stack format, which can be used as input to flame graph tools.
+     * <p/>
+     * Each line is the semi colon separated names of the step and its parent steps, followed by the self time of
+     * the step in micros (the time not spent in its child steps).
+     */
+    String dumpAsFlameGraph();
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Map;
+
 import org.apache.camel.Service;
 
 /**
@@ -36,6 +38,19 @@ public interface StateRepository<K, V> extends Service {
      */
     void setState(K key, V value);
 
+    /**
+     * Sets the state values for the given keys.
+     * <p/>
+     * Implementations can override this to write all the states at once, instead of one by one.
+     *
+     * @param states State keys and values
+     */
+    default void setStates(Map<K, V> states) {
+        for (Map.Entry<K, V> entry : states.entrySet()) {
+            setState(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Gets the state value for the given key. It returns {@code null} if the key is unknown.
      *
@@ -0,0 +1,244 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accumulates the elements added by concurrent callers, such as the exchanges sent to a producer, into batches
+ * which are processed as a whole, such as by writing them to a database in a single request.
+ * <p/>
+ * When no batch is being processed, an element is processed right away in the thread of the caller, so a caller
+ * which sends one exchange at a time is not delayed. While a batch is being processed, the elements added meanwhile
+ * are held until that batch has been processed, until they add up to the batch size, or at most about the batch
+ * timeout, whichever comes first, and are then processed as the next batch. So elements are only batched when there
+ * is contention.
+ * <p/>
+ * A batch may be processed asynchronously, in which case it is complete when the callback passed to
+ * {@link #processBatch(List, AsyncCallback)} is called, and the elements held meanwhile are then processed
+ * in the thread calling the callback.
+ * <p/>
+ * The elements still pending are processed when this service is stopped.
+ *
+ * @param <T> the type of the elements
+ */
+public abstract class BatchAccumulator<T> extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchAccumulator.class);
+    private final CamelContext camelContext;
+    private final Object source;
+    private final String name;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final Object lock = new Object();
+    private List<T> batch = new ArrayList<>();
+    private int batchWeight;
+    private int inFlight;
+    private ScheduledExecutorService executorService;
+
+    /**
+     * @param camelContext the camel context, which provides the thread flushing the batches after the timeout
+     * @param source       the source of the thread, such as the producer
+     * @param name         the name of the thread
+     * @param batchSize    the weight of the elements at which a batch is processed
+     * @param batchTimeout the maximum time in millis elements are held
+     */
+    public BatchAccumulator(CamelContext camelContext, Object source, String name, int batchSize, long batchTimeout) {
+        this.camelContext = camelContext;
+        this.source = source;
+        this.name = name;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Processes the given batch, and calls the callback once it has been processed, which may be after returning
+     * when it is processed asynchronously.
+     * <p/>
+     * This is called from the thread of a caller, of the timer, or which completed the previous batch, and possibly
+     * concurrently. It should not throw exceptions but pass any failure on to the elements of the batch.
+     */
+    protected abstract void processBatch(List<T> batch, AsyncCallback callback);
+
+    /**
+     * The weight of the element counted towards the batch size, which is 1 by default.
+     * For example, an exchange whose body is a list of entities may count as the number of entities.
+     */
+    protected int getWeight(T element) {
+        return 1;
+    }
+
+    /**
+     * Whether the element can be added to the given non empty batch, which is <tt>true</tt> by default.
+     * If not, then the batch is processed first, and the element is added to the next batch.
+     */
+    protected boolean canAdd(List<T> batch, T element) {
+        return true;
+    }
+
+    /**
+     * Adds the element, which is either processed in the current thread, or held to be processed with the next batch.
+     */
+    public void add(T element) {
+        int weight = getWeight(element);
+        List<T> full = null;
+        List<T> ready = null;
+        synchronized (lock) {
+            if (!batch.isEmpty() && !canAdd(batch, element)) {
+                full = takeBatch();
+            }
+            batch.add(element);
+            batchWeight += weight;
+            // process it right away if no one else is waiting, or the batch is full
+            if (inFlight == 0 || batchWeight >= batchSize) {
+                ready = takeBatch();
+            }
+        }
+
+        process(full);
+        process(ready);
+    }
+
+    /**
+     * Processes the pending elements, if any.
+     */
+    public void flush() {
+        List<T> pending;
+        synchronized (lock) {
+            pending = takeBatch();
+        }
+        process(pending);
+    }
+
+    /**
+     * Takes the pending elements, which are then counted as in flight until their batch is complete.
+     * Must be called while holding the lock.
+     */
+    private List<T> takeBatch() {
+        if (batch.isEmpty()) {
+            return null;
+        }
+        List<T> answer = batch;
+        batch = new ArrayList<>();
+        batchWeight = 0;
+        inFlight++;
+        return answer;
+    }
+
+    /**
+     * Marks a batch as complete, and takes the elements which were held meanwhile, if any.
+     */
+    private List<T> completeBatch() {
+        synchronized (lock) {
+            inFlight--;
+            return takeBatch();
+        }
+    }
+
+    private void process(List<T> elements) {
+        List<T> next = elements;
+        while (next != null) {
+            LOG.trace("Processing batch of {} elements", next.size());
+            BatchCallback callback = new BatchCallback();
+            try {
+                processBatch(next, callback);
+            } catch (RuntimeException e) {
+                LOG.warn("Error processing batch of " + next.size() + " elements. This exception is ignored.", e);
+                callback.done(true);
+            }
+            // keep processing in this thread if the batch was processed synchronously
+            next = callback.returned() ? completeBatch() : null;
+        }
+    }
+
+    /**
+     * Completes the batch, and processes the elements held meanwhile in the thread which completed the batch,
+     * unless the batch was processed synchronously, where this is done by the loop in the calling thread to keep
+     * the stack from growing.
+     */
+    private final class BatchCallback implements AsyncCallback {
+        private static final int PROCESSING = 0;
+        private static final int DONE = 1;
+        private static final int RETURNED = 2;
+        private final AtomicInteger state = new AtomicInteger(PROCESSING);
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        @Override
+        public void done(boolean doneSync) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            if (!state.compareAndSet(PROCESSING, DONE)) {
+                process(completeBatch());
+            }
+        }
+
+        /**
+         * Called when processing the batch returned.
+         *
+         * @return <tt>true</tt> if the batch was complete already
+         */
+        boolean returned() {
+            return !state.compareAndSet(PROCESSING, RETURNED);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive, was " + batchSize);
+        }
+        if (batchTimeout <= 0) {
+            throw new IllegalArgumentException("The batch timeout must be positive, was " + batchTimeout);
+        }
+        ObjectHelper.notNull(camelContext, "camelContext");
+
+        if (executorService == null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(source, name);
+        }
+        executorService.scheduleWithFixedDelay(this::flush, batchTimeout, batchTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        // process the pending elements so they are not left waiting
+        flush();
+    }
+}
@@ -264,6 +264,92 @@ public final class CamelContextHelper {
         return 1000;
     }
 
+    /**
+     * Whether the {@link org.apache.camel.impl.ProducerCache} should use adaptive mode, where non-singleton producers
+     * are pooled per endpoint instead of being stopped after each use, and are evicted from the pool when being idle.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_CACHE_ADAPTIVE}.
+     * If no property has been set, then it will fallback to return <tt>false</tt>.
+     *
+     * @param camelContext the camel context
+     * @return whether adaptive mode is enabled
+     */
+    public static boolean isProducerCacheAdaptive(CamelContext camelContext) {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.PRODUCER_CACHE_ADAPTIVE);
+            if (s != null) {
+                return Boolean.parseBoolean(s);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the maximum number of idle non-singleton producers pooled per endpoint when the
+     * {@link org.apache.camel.impl.ProducerCache} is in adaptive mode.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_CACHE_POOL_SIZE}.
+     * If no property has been set, then it will fallback to return a size of 100.
+     *
+     * @param camelContext the camel context
+     * @return the pool size per endpoint
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static int getProducerCachePoolSize(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.PRODUCER_CACHE_POOL_SIZE);
+            if (s != null) {
+                try {
+                    // we cannot use Camel type converters as they may not be ready this early
+                    Integer size = Integer.valueOf(s);
+                    if (size == null || size <= 0) {
+                        throw new IllegalArgumentException("Property " + Exchange.PRODUCER_CACHE_POOL_SIZE + " must be a positive number, was: " + s);
+                    }
+                    return size;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Property " + Exchange.PRODUCER_CACHE_POOL_SIZE + " must be a positive number, was: " + s, e);
+                }
+            }
+        }
+
+        // 100 is the default fallback
+        return 100;
+    }
+
+    /**
+     * Gets the time in millis a pooled non-singleton producer can be idle before its evicted when the
+     * {@link org.apache.camel.impl.ProducerCache} is in adaptive mode. Singleton producers, and producers
+     * in use, are never evicted due being idle.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_CACHE_TIME_TO_IDLE}.
+     * If no property has been set, then it will fallback to return 300000 (5 minutes). A value of <tt>0</tt>
+     * means pooled producers are never evicted due being idle.
+     *
+     * @param camelContext the camel context
+     * @return the time to idle in millis
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static long getProducerCacheTimeToIdle(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.PRODUCER_CACHE_TIME_TO_IDLE);
+            if (s != null) {
+                try {
+                    // we cannot use Camel type converters as they may not be ready this early
+                    long millis = Long.parseLong(s);
+                    if (millis < 0) {
+                        throw new IllegalArgumentException("Property " + Exchange.PRODUCER_CACHE_TIME_TO_IDLE + " must be zero or a positive number, was: " + s);
+                    }
+                    return millis;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Property " + Exchange.PRODUCER_CACHE_TIME_TO_IDLE + " must be zero or a positive number, was: " + s, e);
+                }
+            }
+        }
+
+        // 5 minutes is the default fallback
+        return 300000;
+    }
+
     /**
      * Gets the maximum endpoint cache size.
      * <p/>
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+
+/**
+ * Tests that the method chosen by the message body type is cached and reused for different body types.
+ */
+public class BeanChosenMethodCacheTest extends ContextTestSupport {
+
+    public void testChosenMethodCached() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("String:Hello", "Integer:123", "String:World", "Integer:456", "Long:7");
+
+        template.sendBody("direct:start", "Hello");
+        template.sendBody("direct:start", 123);
+        template.sendBody("direct:start", "World");
+        template.sendBody("direct:start", 456);
+        template.sendBody("direct:start", 7L);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testOverloadedMethodChosenPerMessage() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:overloaded");
+        mock.expectedBodiesReceived("String:Hello", "Integer:123", "String:World");
+
+        template.sendBody("direct:overloaded", "Hello");
+        template.sendBody("direct:overloaded", 123);
+        template.sendBody("direct:overloaded", "World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testPrimitiveParameter() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:primitive");
+        mock.expectedBodiesReceived(6, 8);
+
+        template.sendBody("direct:primitive", 3);
+        template.sendBody("direct:primitive", "4");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testFailureFromBeanIsTargetException() throws Exception {
+        try {
+            template.sendBody("direct:fail", "Kaboom");
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("Forced Kaboom", cause.getMessage());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyBean.class).to("mock:result");
+
+                from("direct:overloaded").bean(MyOverloadedBean.class, "handle").to("mock:overloaded");
+
+                from("direct:primitive").bean(MyOtherBean.class, "twice").to("mock:primitive");
+
+                from("direct:fail").bean(MyOtherBean.class, "fail").to("mock:fail");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public String onString(String body) {
+            return "String:" + body;
+        }
+
+        public String onInteger(Integer body) {
+            return "Integer:" + body;
+        }
+
+        public String onLong(Long body) {
+            return "Long:" + body;
+        }
+    }
+
+    public static class MyOverloadedBean {
+
+        public String handle(String body) {
+            return "String:" + body;
+        }
+
+        public String handle(Integer body) {
+            return "Integer:" + body;
+        }
+    }
+
+    public static class MyOtherBean {
+
+        public int twice(int number) {
+            return number * 2;
+        }
+
+        public void fail(String body) {
+            throw new IllegalArgumentException("Forced " + body);
+        }
+    }
+}
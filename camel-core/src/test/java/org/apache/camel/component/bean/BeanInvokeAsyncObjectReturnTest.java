@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Unit test for a bean which is declared to return {@link Object} but returns a
+ * {@link java.util.concurrent.CompletionStage} at runtime.
+ */
+public class BeanInvokeAsyncObjectReturnTest extends ContextTestSupport {
+
+    private final CountDownLatch invoked = new CountDownLatch(1);
+    private volatile CompletableFuture<Object> pending;
+
+    public void testAlreadyCompleted() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye World");
+
+        template.sendBody("direct:completed", "World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testCompletedLater() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye Camel");
+
+        CompletableFuture<Object> reply = template.asyncRequestBody("direct:later", "Camel");
+        assertTrue(invoked.await(5, TimeUnit.SECONDS));
+        assertFalse("Should not complete before the future", reply.isDone());
+
+        pending.complete("Bye Camel");
+
+        assertEquals("Bye Camel", reply.get(5, TimeUnit.SECONDS));
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testDependentStageFailed() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        try {
+            template.sendBody("direct:failed", "Kaboom");
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            // the completion exception from the dependent stage should be unwrapped
+            assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("Kaboom", e.getCause().getMessage());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public Object completed(String body) {
+        return CompletableFuture.completedFuture("Bye " + body);
+    }
+
+    public Object later(String body) {
+        pending = new CompletableFuture<>();
+        invoked.countDown();
+        return pending;
+    }
+
+    public Object failed(String body) {
+        return CompletableFuture.supplyAsync(() -> body).thenApply(b -> {
+            throw new IllegalArgumentException(b);
+        });
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:completed").bean(BeanInvokeAsyncObjectReturnTest.this, "completed").to("mock:result");
+                from("direct:later").bean(BeanInvokeAsyncObjectReturnTest.this, "later").to("mock:result");
+                from("direct:failed").bean(BeanInvokeAsyncObjectReturnTest.this, "failed").to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * @version 
+ */
+public class DefaultCamelContextLazyStartProducersTest extends ContextTestSupport {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setLazyStartProducers(true);
+        return context;
+    }
+
+    public void testLazyStartProducers() throws Exception {
+        assertTrue(context.isLazyStartProducers());
+        assertEquals("Producer should not be created on startup", 0, created.get());
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertEquals("Producer should be created once on first use", 1, created.get());
+        assertEquals(2, received.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                MyEndpoint my = new MyEndpoint("my:foo", context);
+                context.addEndpoint("my:foo", my);
+
+                from("direct:start").to(my);
+            }
+        };
+    }
+
+    private final class MyEndpoint extends DefaultEndpoint {
+
+        private MyEndpoint(String endpointUri, CamelContext camelContext) {
+            super(endpointUri, camelContext);
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            created.incrementAndGet();
+            return new DefaultProducer(this) {
+                @Override
+                public void process(Exchange exchange) throws Exception {
+                    received.incrementAndGet();
+                }
+            };
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            throw new UnsupportedOperationException("Consumer not supported");
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return true;
+        }
+    }
+}
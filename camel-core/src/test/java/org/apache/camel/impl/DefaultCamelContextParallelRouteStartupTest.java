@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.ServiceSupport;
+
+/**
+ * @version 
+ */
+public class DefaultCamelContextParallelRouteStartupTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    // the first routes being warmed up wait for each other, which only succeeds when they are warmed up in parallel
+    private final CountDownLatch warmingUp = new CountDownLatch(2);
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final Set<String> threads = new CopyOnWriteArraySet<String>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        context.setParallelRouteStartupPoolSize(4);
+        return context;
+    }
+
+    public void testParallelRouteStartup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(ROUTES);
+
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:start" + i, "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<RouteStartupOrder> order = context.getRouteStartupOrder();
+        assertEquals(ROUTES + 2, order.size());
+
+        // routes with explicit startup order should still be started in that order
+        assertEquals("last", order.get(0).getRoute().getId());
+        assertEquals("first", order.get(1).getRoute().getId());
+
+        for (RouteStartupOrder route : order) {
+            assertTrue(route.getWarmUpTime() >= 0);
+            assertTrue(route.getConsumerStartupTime() >= 0);
+        }
+
+        // the routes without startup order were warmed up concurrently by the warm up threads
+        assertEquals(0, warmingUp.getCount());
+        assertTrue("Routes should be warmed up concurrently, was " + maxActive.get(), maxActive.get() >= 2);
+        assertTrue("Should use more than one thread: " + threads, threads.size() >= 2);
+        for (String thread : threads) {
+            assertTrue(thread, thread.contains("RouteWarmUp"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:start" + i).routeId("route" + i).process(new WarmUpProcessor()).to("seda:first");
+                }
+
+                from("seda:first").routeId("first").startupOrder(2).to("direct:last");
+
+                from("direct:last").routeId("last").startupOrder(1).to("mock:result");
+            }
+        };
+    }
+
+    private final class WarmUpProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            threads.add(Thread.currentThread().getName());
+            int current = active.incrementAndGet();
+            maxActive.accumulateAndGet(current, Math::max);
+            try {
+                warmingUp.countDown();
+                warmingUp.await(5, TimeUnit.SECONDS);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            // noop
+        }
+    }
+}
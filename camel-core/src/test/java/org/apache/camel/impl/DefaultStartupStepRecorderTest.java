@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
+
+/**
+ * @version 
+ */
+public class DefaultStartupStepRecorderTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getStartupStepRecorder().setEnabled(true);
+        return context;
+    }
+
+    public void testStartupSteps() throws Exception {
+        StartupStepRecorder recorder = context.getStartupStepRecorder();
+        List<StartupStep> steps = recorder.getSteps();
+        assertFalse(steps.isEmpty());
+
+        StartupStep root = findStep(steps, "Start CamelContext", context.getName());
+        assertNotNull(root);
+        assertEquals(0, root.getLevel());
+        assertTrue(root.getDuration() > 0);
+
+        StartupStep routes = findStep(steps, "Start routes", null);
+        assertNotNull(routes);
+        assertEquals(root.getId(), routes.getParentId());
+
+        StartupStep warmUp = findStep(steps, "Warm up route", "foo");
+        assertNotNull(warmUp);
+        assertEquals(routes.getId(), warmUp.getParentId());
+        assertEquals(routes.getLevel() + 1, warmUp.getLevel());
+        assertTrue(warmUp.getDuration() >= 0);
+
+        assertNotNull(findStep(steps, "Start consumer", "foo"));
+        assertNotNull(findStep(steps, "Create endpoint", "direct://start"));
+
+        String json = recorder.dumpAsJson();
+        assertTrue(json.contains("\"name\": \"foo\""));
+        assertTrue(json.contains("\"description\": \"Warm up route\""));
+
+        String flame = recorder.dumpAsFlameGraph();
+        assertTrue(flame.contains("Start CamelContext " + context.getName() + ";Start routes;Warm up route foo "));
+    }
+
+    public void testDisabled() throws Exception {
+        StartupStepRecorder recorder = new DefaultStartupStepRecorder();
+        assertFalse(recorder.isEnabled());
+        StartupStep step = recorder.beginStep(DefaultStartupStepRecorderTest.class, "foo", "Test");
+        assertNull(step);
+        recorder.endStep(step);
+        assertTrue(recorder.getSteps().isEmpty());
+    }
+
+    public void testMaxSteps() throws Exception {
+        StartupStepRecorder recorder = new DefaultStartupStepRecorder();
+        recorder.setEnabled(true);
+        recorder.setMaxSteps(2);
+        for (int i = 0; i < 5; i++) {
+            StartupStep step = recorder.beginStep(DefaultStartupStepRecorderTest.class, "step" + i, "Test");
+            recorder.endStep(step);
+        }
+        assertEquals(2, recorder.getSteps().size());
+
+        recorder.reset();
+        assertTrue(recorder.getSteps().isEmpty());
+    }
+
+    public void testNoStepsAfterStarted() throws Exception {
+        StartupStepRecorder recorder = context.getStartupStepRecorder();
+        int size = recorder.getSteps().size();
+
+        context.getEndpoint("mock:created-at-runtime");
+
+        assertEquals(size, recorder.getSteps().size());
+        assertNull(findStep(recorder.getSteps(), "Create endpoint", "mock://created-at-runtime"));
+    }
+
+    public void testResetClearsActiveSteps() throws Exception {
+        StartupStepRecorder recorder = new DefaultStartupStepRecorder();
+        recorder.setEnabled(true);
+
+        // a step which is never ended
+        recorder.beginStep(DefaultStartupStepRecorderTest.class, "parent", "Test");
+
+        recorder.reset();
+
+        StartupStep step = recorder.beginStep(DefaultStartupStepRecorderTest.class, "child", "Test");
+        assertEquals(0, step.getParentId());
+        assertEquals(0, step.getLevel());
+        recorder.endStep(step);
+        assertEquals(1, recorder.getSteps().size());
+    }
+
+    private static StartupStep findStep(List<StartupStep> steps, String description, String name) {
+        for (StartupStep step : steps) {
+            if (description.equals(step.getDescription()) && (name == null || name.equals(step.getName()))) {
+                return step;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo").to("mock:result");
+            }
+        };
+    }
+}
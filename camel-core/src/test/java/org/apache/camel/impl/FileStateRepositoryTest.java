@@ -18,6 +18,8 @@ package org.apache.camel.impl;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -109,6 +111,38 @@ public class FileStateRepositoryTest {
         assertEquals("value3", newRepository.getState("key3"));
     }
 
+    @Test
+    public void shouldSaveStatesInFile() throws Exception {
+        // Given an empty FileStateRepository
+        FileStateRepository repository = createRepository();
+
+        // When saving several states at once
+        Map<String, String> states = new LinkedHashMap<>();
+        states.put("key1", "value1");
+        states.put("key2", "value2");
+        repository.setStates(states);
+
+        // Then they should be retrieved afterwards, also from a new FileStateRepository with same file
+        assertEquals("value1", repository.getState("key1"));
+        FileStateRepository newRepository = createRepository();
+        assertEquals("value1", newRepository.getState("key1"));
+        assertEquals("value2", newRepository.getState("key2"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldPreventUsingNewLineInValueWhenSavingStates() throws Exception {
+        // Given a FileStateRepository
+        FileStateRepository repository = createRepository();
+
+        // When trying to use new line in one of the values
+        Map<String, String> states = new LinkedHashMap<>();
+        states.put("key1", "value1");
+        states.put("key2", "\n");
+        repository.setStates(states);
+
+        // Then an exception is thrown
+    }
+
     @Test
     public void shouldPreventRepositoryFileFromGrowingInfinitely() throws Exception {
         // Given a FileStateRepository with a maximum size of 100 bytes
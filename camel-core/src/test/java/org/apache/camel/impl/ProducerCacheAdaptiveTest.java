@@ -0,0 +1,199 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Map;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+
+public class ProducerCacheAdaptiveTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        context.addComponent("dummy", new MyDummyComponent());
+        context.getGlobalOptions().put(Exchange.PRODUCER_CACHE_ADAPTIVE, "true");
+        context.getGlobalOptions().put(Exchange.PRODUCER_CACHE_POOL_SIZE, "1");
+    }
+
+    public void testReuseNonSingleton() throws Exception {
+        ProducerCache cache = new ProducerCache(this, context);
+        cache.start();
+        assertTrue(cache.isAdaptive());
+        assertEquals(1, cache.getPoolCapacity());
+
+        Endpoint endpoint = context.getEndpoint("dummy:foo");
+        Producer producer = cache.acquireProducer(endpoint);
+        cache.releaseProducer(endpoint, producer);
+        assertTrue("Should be kept started in the pool", ((DefaultProducer) producer).getStatus().isStarted());
+        assertEquals(1, cache.getPoolSize());
+
+        Producer producer2 = cache.acquireProducer(endpoint);
+        assertSame("Should reuse pooled producer", producer, producer2);
+        assertEquals(0, cache.getPoolSize());
+        assertEquals(1, cache.getPoolHits());
+        assertEquals(1, cache.getPoolMisses());
+
+        // another endpoint has its own pool
+        Endpoint other = context.getEndpoint("dummy:bar");
+        Producer producer3 = cache.acquireProducer(other);
+        assertNotSame(producer, producer3);
+
+        cache.releaseProducer(endpoint, producer2);
+        cache.releaseProducer(other, producer3);
+        assertEquals(2, cache.getPoolSize());
+
+        cache.stop();
+        assertTrue("Should be stopped", ((DefaultProducer) producer).getStatus().isStopped());
+        assertTrue("Should be stopped", ((DefaultProducer) producer3).getStatus().isStopped());
+    }
+
+    public void testPoolFull() throws Exception {
+        ProducerCache cache = new ProducerCache(this, context);
+        cache.start();
+
+        Endpoint endpoint = context.getEndpoint("dummy:foo");
+        Producer producer = cache.acquireProducer(endpoint);
+        Producer producer2 = cache.acquireProducer(endpoint);
+        assertNotSame(producer, producer2);
+
+        cache.releaseProducer(endpoint, producer);
+        cache.releaseProducer(endpoint, producer2);
+        assertTrue("Should be kept started in the pool", ((DefaultProducer) producer).getStatus().isStarted());
+        assertTrue("Should be stopped as the pool is full", ((DefaultProducer) producer2).getStatus().isStopped());
+        assertEquals(1, cache.getPoolSize());
+
+        cache.stop();
+    }
+
+    public void testEvictIdle() throws Exception {
+        context.getGlobalOptions().put(Exchange.PRODUCER_CACHE_TIME_TO_IDLE, "50");
+
+        ProducerCache cache = new ProducerCache(this, context);
+        cache.start();
+        assertEquals(50, cache.getTimeToIdle());
+
+        Endpoint endpoint = context.getEndpoint("dummy:foo");
+        Producer producer = cache.acquireProducer(endpoint);
+        cache.releaseProducer(endpoint, producer);
+        assertEquals(1, cache.getPoolSize());
+
+        Thread.sleep(200);
+        cache.cleanUp();
+
+        assertEquals(0, cache.getPoolSize());
+        assertEquals(1, cache.getPoolEvicted());
+        assertTrue("Should be stopped when evicted", ((DefaultProducer) producer).getStatus().isStopped());
+
+        cache.stop();
+    }
+
+    public void testSingletonNotEvictedWhenIdle() throws Exception {
+        context.getGlobalOptions().put(Exchange.PRODUCER_CACHE_TIME_TO_IDLE, "50");
+
+        ProducerCache cache = new ProducerCache(this, context);
+        cache.start();
+
+        Endpoint endpoint = context.getEndpoint("mock:foo");
+        Producer producer = cache.acquireProducer(endpoint);
+        assertTrue(producer.isSingleton());
+
+        Thread.sleep(200);
+        cache.cleanUp();
+
+        assertSame("Should keep the singleton producer", producer, cache.acquireProducer(endpoint));
+        assertTrue("Should not be stopped", ((DefaultProducer) producer).getStatus().isStarted());
+        assertEquals(0, cache.getPoolEvicted());
+
+        cache.stop();
+    }
+
+    public void testNotAdaptiveByDefault() throws Exception {
+        context.getGlobalOptions().remove(Exchange.PRODUCER_CACHE_ADAPTIVE);
+
+        ProducerCache cache = new ProducerCache(this, context);
+        cache.start();
+        assertFalse(cache.isAdaptive());
+        assertEquals(-1, cache.getPoolSize());
+
+        Endpoint endpoint = context.getEndpoint("dummy:foo");
+        Producer producer = cache.acquireProducer(endpoint);
+        cache.releaseProducer(endpoint, producer);
+        assertTrue("Should be stopped", ((DefaultProducer) producer).getStatus().isStopped());
+
+        cache.stop();
+    }
+
+    public class MyDummyComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+            return new MyDummyEndpoint(remaining);
+        }
+    }
+
+    public class MyDummyEndpoint extends DefaultEndpoint {
+
+        private final String name;
+
+        public MyDummyEndpoint(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            return new MyDummyProducer(this);
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            return null;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return false;
+        }
+
+        @Override
+        protected String createEndpointUri() {
+            return "dummy://" + name;
+        }
+    }
+
+    private class MyDummyProducer extends DefaultProducer {
+
+        MyDummyProducer(Endpoint endpoint) {
+            super(endpoint);
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * @version 
+ */
+public class ManagedCamelContextRouteStartupTimingsTest extends ManagementTestSupport {
+
+    public void testListRouteStartupTimings() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=camel-1,type=context,name=\"camel-1\"");
+
+        Boolean parallel = (Boolean) mbeanServer.getAttribute(on, "ParallelRouteStartup");
+        assertFalse(parallel);
+        Boolean lazy = (Boolean) mbeanServer.getAttribute(on, "LazyStartProducers");
+        assertFalse(lazy);
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "listRouteStartupTimings", null, null);
+        assertEquals(2, data.size());
+
+        CompositeData row = data.get(new Object[]{"foo"});
+        assertNotNull(row);
+        assertEquals(1, row.get("startupOrder"));
+        long total = (Long) row.get("totalTime");
+        assertEquals(total, (long) (Long) row.get("warmUpTime") + (Long) row.get("consumerStartupTime"));
+
+        row = data.get(new Object[]{"bar"});
+        assertNotNull(row);
+        assertEquals(2, row.get("startupOrder"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:foo").routeId("foo").startupOrder(1).to("mock:foo");
+
+                from("direct:bar").routeId("bar").startupOrder(2).to("direct:foo");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.ContextTestSupport;
+
+public class BatchAccumulatorTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    public void testProcessRightAwayWhenIdle() throws Exception {
+        MyAccumulator accumulator = new MyAccumulator(10, 60000);
+        accumulator.start();
+
+        accumulator.add("a");
+        accumulator.add("b");
+        accumulator.add("c");
+
+        // a caller sending one at a time is not delayed
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b"), Arrays.asList("c")), accumulator.batches);
+        accumulator.stop();
+    }
+
+    public void testBatchWhileProcessing() throws Exception {
+        MyAccumulator accumulator = new MyAccumulator(10, 60000);
+        accumulator.start();
+
+        Thread first = blockFirstBatch(accumulator);
+        accumulator.add("b");
+        accumulator.add("c");
+        accumulator.add("d");
+        assertEquals(1, accumulator.batches.size());
+
+        // the elements added meanwhile are processed as one batch once the first batch is done
+        accumulator.release.countDown();
+        first.join(5000);
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b", "c", "d")), accumulator.batches);
+        accumulator.stop();
+    }
+
+    public void testBatchSize() throws Exception {
+        MyAccumulator accumulator = new MyAccumulator(2, 60000);
+        accumulator.start();
+
+        Thread first = blockFirstBatch(accumulator);
+        accumulator.add("b");
+        accumulator.add("c");
+        accumulator.add("d");
+
+        // the full batch is processed by the caller
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b", "c")), accumulator.batches);
+
+        accumulator.release.countDown();
+        first.join(5000);
+        assertEquals(Arrays.asList("d"), accumulator.batches.get(2));
+        accumulator.stop();
+    }
+
+    public void testBatchTimeout() throws Exception {
+        MyAccumulator accumulator = new MyAccumulator(10, 50);
+        accumulator.start();
+
+        Thread first = blockFirstBatch(accumulator);
+        accumulator.add("b");
+
+        // processed by the timer while the first batch is still being processed
+        for (int i = 0; i < 100 && accumulator.batches.size() < 2; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b")), accumulator.batches);
+
+        accumulator.release.countDown();
+        first.join(5000);
+        accumulator.stop();
+    }
+
+    public void testFlushOnStop() throws Exception {
+        MyAccumulator accumulator = new MyAccumulator(10, 60000);
+        accumulator.start();
+
+        Thread first = blockFirstBatch(accumulator);
+        accumulator.add("b");
+        accumulator.release.countDown();
+        first.join(5000);
+        accumulator.add("c");
+
+        accumulator.stop();
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b"), Arrays.asList("c")), accumulator.batches);
+    }
+
+    public void testAsyncBatch() throws Exception {
+        final List<List<String>> batches = new ArrayList<>();
+        final List<AsyncCallback> callbacks = new ArrayList<>();
+        BatchAccumulator<String> accumulator = new BatchAccumulator<String>(context, this, "MyAsyncAccumulator", 10, 60000) {
+            @Override
+            protected void processBatch(List<String> batch, AsyncCallback callback) {
+                // completed later on
+                batches.add(batch);
+                callbacks.add(callback);
+            }
+        };
+        accumulator.start();
+
+        accumulator.add("a");
+        accumulator.add("b");
+        accumulator.add("c");
+        assertEquals(Arrays.asList(Arrays.asList("a")), batches);
+
+        // the elements held meanwhile are processed when the batch is complete
+        callbacks.get(0).done(false);
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b", "c")), batches);
+
+        callbacks.get(1).done(false);
+        accumulator.add("d");
+        assertEquals(Arrays.asList("d"), batches.get(2));
+        callbacks.get(2).done(false);
+        accumulator.stop();
+    }
+
+    public void testInvalidBatchTimeout() throws Exception {
+        MyAccumulator accumulator = new MyAccumulator(10, 0);
+        try {
+            accumulator.start();
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The batch timeout must be positive, was 0", e.getMessage());
+        }
+    }
+
+    private Thread blockFirstBatch(final MyAccumulator accumulator) throws InterruptedException {
+        accumulator.block = true;
+        Thread thread = new Thread(() -> accumulator.add("a"));
+        thread.start();
+        assertTrue(accumulator.blocked.await(5, TimeUnit.SECONDS));
+        return thread;
+    }
+
+    private final class MyAccumulator extends BatchAccumulator<String> {
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<List<String>>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+
+        private MyAccumulator(int batchSize, long batchTimeout) {
+            super(context, BatchAccumulatorTest.this, "MyAccumulator", batchSize, batchTimeout);
+        }
+
+        @Override
+        protected void processBatch(List<String> batch, AsyncCallback callback) {
+            batches.add(batch);
+            if (block) {
+                block = false;
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            callback.done(true);
+        }
+    }
+}
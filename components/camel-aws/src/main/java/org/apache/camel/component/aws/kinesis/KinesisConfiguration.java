@@ -21,6 +21,7 @@ import com.amazonaws.services.kinesis.model.ShardIteratorType;
 
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriParams;
 import org.apache.camel.spi.UriPath;
@@ -52,6 +53,15 @@ public class KinesisConfiguration implements Cloneable {
                                                                          + "in case of silent there will be no logging and the consumer will start from the beginning,"
                                                                          + "in case of fail a ReachedClosedStateException will be raised")
     private KinesisShardClosedStrategyEnum shardClosed;
+    @UriParam(label = "consumer", description = "Whether to consume all the shards of the stream in parallel instead of a single one."
+                                                + " New shards are discovered periodically and the children of a split or merged shard are consumed once their parents are drained")
+    private boolean consumeAllShards;
+    @UriParam(label = "consumer", description = "The repository used to checkpoint the sequence number of the last record processed in each shard,"
+                                                + " so consuming resumes from there after a restart. Only used when consumeAllShards is enabled")
+    private StateRepository<String, String> sequenceNumberRepository;
+    @UriParam(label = "consumer,advanced", defaultValue = "10000", description = "The interval in millis at which the shards of the stream are listed again to discover new shards."
+                                                                                 + " Only used when consumeAllShards is enabled")
+    private long shardDiscoveryInterval = 10000;
     @UriParam(description = "To define a proxy host when instantiating the DDBStreams client")
     private String proxyHost;
     @UriParam(description = "To define a proxy port when instantiating the DDBStreams client")
@@ -152,6 +162,30 @@ public class KinesisConfiguration implements Cloneable {
     public void setProxyPort(Integer proxyPort) {
         this.proxyPort = proxyPort;
     }   
+
+    public boolean isConsumeAllShards() {
+        return consumeAllShards;
+    }
+
+    public void setConsumeAllShards(boolean consumeAllShards) {
+        this.consumeAllShards = consumeAllShards;
+    }
+
+    public StateRepository<String, String> getSequenceNumberRepository() {
+        return sequenceNumberRepository;
+    }
+
+    public void setSequenceNumberRepository(StateRepository<String, String> sequenceNumberRepository) {
+        this.sequenceNumberRepository = sequenceNumberRepository;
+    }
+
+    public long getShardDiscoveryInterval() {
+        return shardDiscoveryInterval;
+    }
+
+    public void setShardDiscoveryInterval(long shardDiscoveryInterval) {
+        this.shardDiscoveryInterval = shardDiscoveryInterval;
+    }
     
     // *************************************************
     //
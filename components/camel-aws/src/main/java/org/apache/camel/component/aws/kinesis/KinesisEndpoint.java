@@ -30,6 +30,7 @@ import org.apache.camel.Consumer;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.impl.ScheduledBatchPollingConsumer;
 import org.apache.camel.impl.ScheduledPollEndpoint;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
@@ -80,7 +81,16 @@ public class KinesisEndpoint extends ScheduledPollEndpoint {
 
     @Override
     public Consumer createConsumer(Processor processor) throws Exception {
-        final KinesisConsumer consumer = new KinesisConsumer(this, processor);
+        final ScheduledBatchPollingConsumer consumer;
+        if (configuration.isConsumeAllShards()) {
+            if (configuration.getIteratorType().equals(ShardIteratorType.AFTER_SEQUENCE_NUMBER) || configuration.getIteratorType().equals(ShardIteratorType.AT_SEQUENCE_NUMBER)) {
+                // a sequence number only makes sense within a single shard
+                throw new IllegalArgumentException("Iterator Types AFTER_SEQUENCE_NUMBER or AT_SEQUENCE_NUMBER cannot be used when consuming all shards");
+            }
+            consumer = new KinesisMultiShardConsumer(this, processor);
+        } else {
+            consumer = new KinesisConsumer(this, processor);
+        }
         consumer.setSchedulerProperties(getSchedulerProperties());
         configureConsumer(consumer);
         return consumer;
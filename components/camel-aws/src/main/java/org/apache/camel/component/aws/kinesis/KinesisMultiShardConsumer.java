@@ -0,0 +1,359 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.kinesis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.DescribeStreamResult;
+import com.amazonaws.services.kinesis.model.ExpiredIteratorException;
+import com.amazonaws.services.kinesis.model.GetRecordsRequest;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.GetShardIteratorRequest;
+import com.amazonaws.services.kinesis.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.ScheduledBatchPollingConsumer;
+import org.apache.camel.spi.StateRepository;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumer which polls all the shards of a Kinesis stream in parallel.
+ * <p/>
+ * The shards are discovered from the stream description, and a shard created by a split
+ * or a merge is only consumed once its parent shards have been drained, which keeps the
+ * records of a partition key in order. The sequence number of the last record processed
+ * in each shard is checkpointed to the configured {@link StateRepository}.
+ * <p/>
+ * A record whose exchange fails is handled by the exception handler and the checkpoint moves past it,
+ * so a failed record is not read again. Records which were processed but not yet checkpointed when the
+ * consumer stopped are read again after a restart.
+ */
+public class KinesisMultiShardConsumer extends ScheduledBatchPollingConsumer {
+    /**
+     * Checkpoint value of a closed shard that has been fully consumed.
+     */
+    public static final String SHARD_END = "SHARD_END";
+
+    private static final Logger LOG = LoggerFactory.getLogger(KinesisMultiShardConsumer.class);
+    private static final int MAX_BACKOFF_POLLS = 16;
+
+    // only accessed from the polling thread
+    private final Map<String, ShardConsumer> activeShards = new LinkedHashMap<>();
+    private final Set<String> finishedShards = new HashSet<>();
+    // the finished shards which were read from a known position, so their children are read from their start
+    private final Set<String> positionedShards = new HashSet<>();
+    private ExecutorService executorService;
+    private long lastShardDiscovery;
+    private boolean shardDiscoveryNeeded = true;
+
+    public KinesisMultiShardConsumer(KinesisEndpoint endpoint, Processor processor) {
+        super(endpoint, processor);
+    }
+
+    @Override
+    protected int poll() throws Exception {
+        if (shardDiscoveryNeeded || System.currentTimeMillis() - lastShardDiscovery >= getConfiguration().getShardDiscoveryInterval()) {
+            discoverShards();
+        }
+
+        Map<ShardConsumer, Future<Integer>> futures = new LinkedHashMap<>();
+        for (ShardConsumer shard : activeShards.values()) {
+            if (shard.skipPolls > 0) {
+                // the shard is backing off after being throttled or failing
+                shard.skipPolls--;
+                continue;
+            }
+            futures.put(shard, executorService.submit(shard));
+        }
+
+        int processedExchangeCount = 0;
+        for (Map.Entry<ShardConsumer, Future<Integer>> entry : futures.entrySet()) {
+            ShardConsumer shard = entry.getKey();
+            try {
+                processedExchangeCount += entry.getValue().get();
+            } catch (ExecutionException e) {
+                getExceptionHandler().handleException("Error polling shard " + shard.shardId + " of stream " + getConfiguration().getStreamName(), e.getCause());
+            }
+            if (shard.finished) {
+                LOG.debug("Shard {} is closed and has been fully consumed", shard.shardId);
+                activeShards.remove(shard.shardId);
+                finishedShards.add(shard.shardId);
+                if (shard.isPositioned()) {
+                    positionedShards.add(shard.shardId);
+                }
+                // its children can be consumed now
+                shardDiscoveryNeeded = true;
+            }
+        }
+        return processedExchangeCount;
+    }
+
+    @Override
+    public int processBatch(Queue<Object> exchanges) throws Exception {
+        int processedExchanges = 0;
+        while (isBatchAllowed() && !exchanges.isEmpty()) {
+            final Exchange exchange = ObjectHelper.cast(Exchange.class, exchanges.poll());
+
+            // process synchronously so the sequence number is only checkpointed once the record is done,
+            // a failed exchange is handled by the exception handler and its record is checkpointed as well
+            LOG.trace("Processing exchange [{}] started.", exchange);
+            try {
+                getProcessor().process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+            }
+            LOG.trace("Processing exchange [{}] done.", exchange);
+            processedExchanges++;
+        }
+        return processedExchanges;
+    }
+
+    @Override
+    public KinesisEndpoint getEndpoint() {
+        return (KinesisEndpoint)super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(getConfiguration().getSequenceNumberRepository());
+        executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newCachedThreadPool(this, "KinesisShardConsumer");
+        shardDiscoveryNeeded = true;
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        // start from the checkpoints again when restarted
+        activeShards.clear();
+        finishedShards.clear();
+        positionedShards.clear();
+    }
+
+    private void discoverShards() {
+        List<Shard> shards = describeShards();
+        Set<String> listedShards = new HashSet<>();
+        for (Shard shard : shards) {
+            listedShards.add(shard.getShardId());
+        }
+
+        // repeat until no shard is added, as a shard may become ready once a checkpoint shows its parent is done
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (Shard shard : shards) {
+                String shardId = shard.getShardId();
+                if (activeShards.containsKey(shardId) || finishedShards.contains(shardId)
+                    || !isParentFinished(shard.getParentShardId(), listedShards) || !isParentFinished(shard.getAdjacentParentShardId(), listedShards)) {
+                    continue;
+                }
+
+                String checkpoint = getCheckpoint(shardId);
+                if (SHARD_END.equals(checkpoint)) {
+                    finishedShards.add(shardId);
+                    positionedShards.add(shardId);
+                } else {
+                    // the children of a shard read from a known position are read from their start to not miss any record,
+                    // while the children of a shard which was already closed when reading it from the latest record are not
+                    boolean fromStart = positionedShards.contains(shard.getParentShardId()) || positionedShards.contains(shard.getAdjacentParentShardId());
+                    LOG.debug("Starting to consume shard {} from checkpoint {}", shardId, checkpoint);
+                    activeShards.put(shardId, new ShardConsumer(shardId, checkpoint, fromStart ? ShardIteratorType.TRIM_HORIZON : getConfiguration().getIteratorType()));
+                }
+                added = true;
+            }
+        }
+
+        lastShardDiscovery = System.currentTimeMillis();
+        shardDiscoveryNeeded = false;
+    }
+
+    private List<Shard> describeShards() {
+        List<Shard> shards = new ArrayList<>();
+        String exclusiveStartShardId = null;
+        boolean hasMoreShards;
+        do {
+            DescribeStreamRequest req = new DescribeStreamRequest().withStreamName(getConfiguration().getStreamName()).withExclusiveStartShardId(exclusiveStartShardId);
+            DescribeStreamResult res = getClient().describeStream(req);
+            List<Shard> page = res.getStreamDescription().getShards();
+            shards.addAll(page);
+            hasMoreShards = Boolean.TRUE.equals(res.getStreamDescription().getHasMoreShards()) && !page.isEmpty();
+            if (hasMoreShards) {
+                exclusiveStartShardId = page.get(page.size() - 1).getShardId();
+            }
+        } while (hasMoreShards);
+        LOG.trace("Stream {} has {} shards", getConfiguration().getStreamName(), shards.size());
+        return shards;
+    }
+
+    private boolean isParentFinished(String parentShardId, Set<String> listedShards) {
+        // a parent which is no longer listed has expired past the retention period
+        return parentShardId == null || !listedShards.contains(parentShardId) || finishedShards.contains(parentShardId);
+    }
+
+    private String getCheckpoint(String shardId) {
+        StateRepository<String, String> repository = getConfiguration().getSequenceNumberRepository();
+        return repository != null ? repository.getState(checkpointKey(shardId)) : null;
+    }
+
+    private void checkpoint(String shardId, String value) {
+        StateRepository<String, String> repository = getConfiguration().getSequenceNumberRepository();
+        if (repository != null) {
+            repository.setState(checkpointKey(shardId), value);
+        }
+    }
+
+    private String checkpointKey(String shardId) {
+        return getConfiguration().getStreamName() + "/" + shardId;
+    }
+
+    private KinesisConfiguration getConfiguration() {
+        return getEndpoint().getConfiguration();
+    }
+
+    private AmazonKinesis getClient() {
+        return getEndpoint().getClient();
+    }
+
+    /**
+     * Reads the next records of a single shard, invoked from the thread pool on every poll.
+     */
+    private final class ShardConsumer implements Callable<Integer> {
+        private final String shardId;
+        private final ShardIteratorType initialIteratorType;
+        private String lastSequenceNumber;
+        private String shardIterator;
+        private int backOffPolls;
+        private int skipPolls;
+        private boolean finished;
+        private boolean positioned;
+
+        ShardConsumer(String shardId, String lastSequenceNumber, ShardIteratorType initialIteratorType) {
+            this.shardId = shardId;
+            this.lastSequenceNumber = lastSequenceNumber;
+            this.initialIteratorType = initialIteratorType;
+            this.positioned = initialIteratorType != ShardIteratorType.LATEST;
+        }
+
+        /**
+         * Whether the shard has been read from a known position, which is its start, a checkpoint, or while it was
+         * still open, rather than only from its end.
+         */
+        boolean isPositioned() {
+            return positioned || lastSequenceNumber != null;
+        }
+
+        @Override
+        public Integer call() throws Exception {
+            GetRecordsResult result;
+            try {
+                if (shardIterator == null) {
+                    shardIterator = getShardIterator();
+                }
+                GetRecordsRequest req = new GetRecordsRequest().withShardIterator(shardIterator).withLimit(getConfiguration().getMaxResultsPerRequest());
+                result = getClient().getRecords(req);
+            } catch (ExpiredIteratorException e) {
+                LOG.debug("Shard iterator of shard {} expired, obtaining a new one", shardId);
+                shardIterator = null;
+                return 0;
+            } catch (ProvisionedThroughputExceededException e) {
+                LOG.debug("Reading shard {} is throttled, backing off", shardId);
+                backOff();
+                return 0;
+            } catch (Exception e) {
+                backOff();
+                throw e;
+            }
+            backOffPolls = 0;
+            if (result.getNextShardIterator() != null) {
+                // the shard was still open, so its children continue after the records read from it
+                positioned = true;
+            }
+
+            List<Record> records = result.getRecords();
+            Queue<Object> exchanges = new ArrayDeque<>();
+            for (Record record : records) {
+                Exchange exchange = getEndpoint().createExchange(record);
+                exchange.getIn().setHeader(KinesisConstants.SHARD_ID, shardId);
+                exchanges.add(exchange);
+            }
+            int processedExchangeCount = processBatch(exchanges);
+
+            if (processedExchangeCount > 0) {
+                lastSequenceNumber = records.get(processedExchangeCount - 1).getSequenceNumber();
+            }
+            if (processedExchangeCount < records.size()) {
+                // stopping, continue after the last processed record next time
+                shardIterator = null;
+            } else {
+                shardIterator = result.getNextShardIterator();
+                // a closed shard has no next iterator once all its records have been read
+                finished = shardIterator == null;
+            }
+
+            if (finished) {
+                checkpoint(shardId, SHARD_END);
+            } else if (processedExchangeCount > 0) {
+                checkpoint(shardId, lastSequenceNumber);
+            }
+            return processedExchangeCount;
+        }
+
+        private String getShardIterator() {
+            GetShardIteratorRequest req = new GetShardIteratorRequest().withStreamName(getConfiguration().getStreamName()).withShardId(shardId);
+            if (lastSequenceNumber != null) {
+                req.withShardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER).withStartingSequenceNumber(lastSequenceNumber);
+            } else {
+                req.withShardIteratorType(initialIteratorType);
+            }
+            String iterator = getClient().getShardIterator(req).getShardIterator();
+            LOG.debug("Shard Iterator of shard {} is: {}", shardId, iterator);
+            return iterator;
+        }
+
+        private void backOff() {
+            backOffPolls = Math.min(Math.max(1, backOffPolls * 2), MAX_BACKOFF_POLLS);
+            skipPolls = backOffPolls;
+        }
+    }
+}
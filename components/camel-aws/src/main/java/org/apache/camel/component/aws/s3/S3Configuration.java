@@ -48,6 +48,12 @@ public class S3Configuration implements Cloneable {
     private boolean multiPartUpload;
     @UriParam(label = "producer", defaultValue = "" + 25 * 1024 * 1024)
     private long partSize = 25 * 1024 * 1024;
+    @UriParam(label = "producer", defaultValue = "1")
+    private int multiPartUploadConcurrency = 1;
+    @UriParam(label = "consumer")
+    private long downloadPartSize;
+    @UriParam(label = "consumer,advanced", defaultValue = "4")
+    private int downloadConcurrency = 4;
     @UriParam
     private String policy;
     @UriParam(label = "producer")
@@ -109,6 +115,21 @@ public class S3Configuration implements Cloneable {
         this.multiPartUpload = multiPartUpload;
     }
 
+    public int getMultiPartUploadConcurrency() {
+        return multiPartUploadConcurrency;
+    }
+
+    /**
+     * The number of parts of multi part uploads which are uploaded in parallel,
+     * the default is 1 to upload one part after the other. When the message body
+     * is not a file, it is read into pooled buffers of `partSize`, of which there
+     * are at most as many as this number, so the body is streamed without
+     * knowing its length up front.
+     */
+    public void setMultiPartUploadConcurrency(int multiPartUploadConcurrency) {
+        this.multiPartUploadConcurrency = multiPartUploadConcurrency;
+    }
+
     public String getAccessKey() {
         return accessKey;
     }
@@ -433,6 +454,34 @@ public class S3Configuration implements Cloneable {
         this.forceGlobalBucketAccessEnabled = forceGlobalBucketAccessEnabled;
     }
 
+    public long getDownloadPartSize() {
+        return downloadPartSize;
+    }
+
+    /**
+     * If set, objects larger than this size are downloaded by the consumer with
+     * parallel ranged GET requests of this size into a temporary file, which
+     * is deleted when the exchange is done. Notice all the objects of a poll are
+     * downloaded before the first one is routed, so up to maxMessagesPerPoll
+     * objects may take disk space at the same time. The default is 0 to download
+     * each object with a single request.
+     */
+    public void setDownloadPartSize(long downloadPartSize) {
+        this.downloadPartSize = downloadPartSize;
+    }
+
+    public int getDownloadConcurrency() {
+        return downloadConcurrency;
+    }
+
+    /**
+     * The number of ranges downloaded in parallel when `downloadPartSize` is
+     * in use.
+     */
+    public void setDownloadConcurrency(int downloadConcurrency) {
+        this.downloadConcurrency = downloadConcurrency;
+    }
+
     boolean hasProxyConfiguration() {
         return ObjectHelper.isNotEmpty(getProxyHost()) && ObjectHelper.isNotEmpty(getProxyPort());
     }
@@ -16,17 +16,29 @@
  */
 package org.apache.camel.component.aws.s3;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
@@ -36,7 +48,9 @@ import org.apache.camel.NoFactoryAvailableException;
 import org.apache.camel.Processor;
 import org.apache.camel.impl.ScheduledBatchPollingConsumer;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.CastUtils;
+import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.URISupport;
@@ -52,6 +66,7 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
     private static final Logger LOG = LoggerFactory.getLogger(S3Consumer.class);
     private String marker;
     private transient String s3ConsumerToString;
+    private ExecutorService downloadExecutor;
 
     public S3Consumer(S3Endpoint endpoint, Processor processor) throws NoFactoryAvailableException {
         super(endpoint, processor);
@@ -70,7 +85,12 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         if (fileName != null) {
             LOG.trace("Getting object in bucket [{}] with file name [{}]...", bucketName, fileName);
 
-            S3Object s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, fileName));
+            S3Object s3Object;
+            if (isRangedDownload(-1)) {
+                s3Object = getObjectInRanges(bucketName, fileName);
+            } else {
+                s3Object = getAmazonS3Client().getObject(new GetObjectRequest(bucketName, fileName));
+            }
             exchanges = createExchanges(s3Object);
         } else {
             LOG.trace("Queueing objects in bucket [{}]...", bucketName);
@@ -106,12 +126,25 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
     
     protected Queue<Exchange> createExchanges(S3Object s3Object) {
         Queue<Exchange> answer = new LinkedList<Exchange>();
-        Exchange exchange = getEndpoint().createExchange(s3Object);
+        Exchange exchange = createExchange(s3Object);
         answer.add(exchange);
         return answer;
     }
+
+    private Exchange createExchange(final S3Object s3Object) {
+        Exchange exchange = getEndpoint().createExchange(s3Object);
+        if (s3Object instanceof DownloadedS3Object) {
+            exchange.addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    ((DownloadedS3Object) s3Object).delete();
+                }
+            });
+        }
+        return exchange;
+    }
     
-    protected Queue<Exchange> createExchanges(List<S3ObjectSummary> s3ObjectSummaries) {
+    protected Queue<Exchange> createExchanges(List<S3ObjectSummary> s3ObjectSummaries) throws Exception {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Received {} messages in this poll", s3ObjectSummaries.size());
         }
@@ -120,10 +153,15 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         Queue<Exchange> answer = new LinkedList<Exchange>();
         try {
             for (S3ObjectSummary s3ObjectSummary : s3ObjectSummaries) {
-                S3Object s3Object = getAmazonS3Client().getObject(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey());
+                S3Object s3Object;
+                if (isRangedDownload(s3ObjectSummary.getSize())) {
+                    s3Object = getObjectInRanges(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey());
+                } else {
+                    s3Object = getAmazonS3Client().getObject(s3ObjectSummary.getBucketName(), s3ObjectSummary.getKey());
+                }
                 s3Objects.add(s3Object);
 
-                Exchange exchange = getEndpoint().createExchange(s3Object);
+                Exchange exchange = createExchange(s3Object);
                 answer.add(exchange);
             }
         } catch (Throwable e) {
@@ -131,12 +169,76 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
             // ensure all previous gathered s3 objects are closed
             // if there was an exception creating the exchanges in this batch
             s3Objects.forEach(IOHelper::close);
+            for (S3Object s3Object : s3Objects) {
+                if (s3Object instanceof DownloadedS3Object) {
+                    ((DownloadedS3Object) s3Object).delete();
+                }
+            }
             throw e;
         }
 
         return answer;
     }
     
+    /**
+     * Whether to download an object of the given size, or -1 if not known, with parallel ranged requests.
+     */
+    private boolean isRangedDownload(long size) {
+        long partSize = getConfiguration().getDownloadPartSize();
+        return downloadExecutor != null && getConfiguration().isIncludeBody() && partSize > 0 && (size < 0 || size > partSize);
+    }
+
+    /**
+     * Downloads the object with parallel ranged requests into a temporary file, if it is larger than the download
+     * part size, and otherwise with a single request.
+     */
+    protected S3Object getObjectInRanges(String bucketName, String key) throws Exception {
+        ObjectMetadata objectMetadata = getAmazonS3Client().getObjectMetadata(bucketName, key);
+        final long length = objectMetadata.getContentLength();
+        if (!isRangedDownload(length)) {
+            return getAmazonS3Client().getObject(new GetObjectRequest(bucketName, key));
+        }
+
+        long partSize = getConfiguration().getDownloadPartSize();
+        LOG.trace("Downloading object with key [{}] of {} bytes from bucket [{}] in ranges of {} bytes...", new Object[]{key, length, bucketName, partSize});
+
+        File file = File.createTempFile("camel-aws-s3-", ".tmp");
+        List<Future<Void>> ranges = new ArrayList<Future<Void>>();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+            FileChannel channel = raf.getChannel();
+            for (long start = 0; start < length; start += partSize) {
+                // the etag ensures all the ranges are of the same version of the object
+                GetObjectRequest request = new GetObjectRequest(bucketName, key)
+                    .withRange(start, Math.min(start + partSize, length) - 1)
+                    .withMatchingETagConstraint(objectMetadata.getETag());
+                ranges.add(downloadExecutor.submit(new RangeDownload(request, channel, start)));
+            }
+            for (Future<Void> range : ranges) {
+                try {
+                    range.get();
+                } catch (ExecutionException e) {
+                    throw ObjectHelper.wrapRuntimeCamelException(e.getCause());
+                }
+            }
+        } catch (Exception e) {
+            for (Future<Void> range : ranges) {
+                range.cancel(true);
+            }
+            FileUtil.deleteFile(file);
+            throw e;
+        }
+
+        LOG.trace("Downloaded object with key [{}] from bucket [{}] into {}", new Object[]{key, bucketName, file});
+
+        DownloadedS3Object s3Object = new DownloadedS3Object(file);
+        s3Object.setBucketName(bucketName);
+        s3Object.setKey(key);
+        s3Object.setObjectMetadata(objectMetadata);
+        s3Object.setObjectContent(new FileInputStream(file));
+        return s3Object;
+    }
+
     public int processBatch(Queue<Object> exchanges) throws Exception {
         int total = exchanges.size();
 
@@ -235,4 +337,81 @@ public class S3Consumer extends ScheduledBatchPollingConsumer {
         }
         return s3ConsumerToString;
     }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (getConfiguration().getDownloadPartSize() > 0 && downloadExecutor == null) {
+            downloadExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "S3RangedDownload",
+                    Math.max(1, getConfiguration().getDownloadConcurrency()));
+        }
+
+        super.doStart();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (downloadExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(downloadExecutor);
+            downloadExecutor = null;
+        }
+
+        super.doShutdown();
+    }
+
+    /**
+     * Downloads a range of an object into its position of the file.
+     */
+    private final class RangeDownload implements Callable<Void> {
+
+        private final GetObjectRequest request;
+        private final FileChannel channel;
+        private final long start;
+
+        RangeDownload(GetObjectRequest request, FileChannel channel, long start) {
+            this.request = request;
+            this.channel = channel;
+            this.start = start;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            S3Object range = getAmazonS3Client().getObject(request);
+            if (range == null) {
+                // the etag constraint was not met
+                throw new IllegalStateException("Object with key " + request.getKey() + " in bucket " + request.getBucketName() + " changed while downloading");
+            }
+            try (InputStream is = range.getObjectContent()) {
+                byte[] buffer = new byte[64 * 1024];
+                long position = start;
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                    while (bytes.hasRemaining()) {
+                        position += channel.write(bytes, position);
+                    }
+                }
+            } finally {
+                IOHelper.close(range);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * An object which has been downloaded into a temporary file, which is deleted when the exchange is done.
+     */
+    private static final class DownloadedS3Object extends S3Object {
+
+        private static final long serialVersionUID = 1L;
+        private final File file;
+
+        DownloadedS3Object(File file) {
+            this.file = file;
+        }
+
+        void delete() {
+            IOHelper.close(this);
+            FileUtil.deleteFile(file);
+        }
+    }
 }
\ No newline at end of file
@@ -27,6 +27,15 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.cloudfront.model.InvalidArgumentException;
@@ -76,11 +85,39 @@ public class S3Producer extends DefaultProducer {
     private static final Logger LOG = LoggerFactory.getLogger(S3Producer.class);
 
     private transient String s3ProducerToString;
+    private ExecutorService partExecutor;
+    private Semaphore partBufferPermits;
+    private final Queue<byte[]> partBuffers = new ConcurrentLinkedQueue<byte[]>();
 
     public S3Producer(final Endpoint endpoint) {
         super(endpoint);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getConfiguration().isMultiPartUpload()) {
+            int concurrency = Math.max(1, getConfiguration().getMultiPartUploadConcurrency());
+            if (concurrency > 1 && partExecutor == null) {
+                partExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "S3MultiPartUpload", concurrency);
+            }
+            // bounds the memory used for streaming bodies of unknown length
+            partBufferPermits = new Semaphore(concurrency);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (partExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(partExecutor);
+            partExecutor = null;
+        }
+        partBuffers.clear();
+
+        super.doStop();
+    }
+
     @Override
     public void process(final Exchange exchange) throws Exception {
         S3Operations operation = determineOperation(exchange);
@@ -115,6 +152,7 @@ public class S3Producer extends DefaultProducer {
 
     public void processMultiPart(final Exchange exchange) throws Exception {
         File filePayload = null;
+        InputStream is = null;
         Object obj = exchange.getIn().getMandatoryBody();
         // Need to check if the message body is WrappedFile
         if (obj instanceof WrappedFile) {
@@ -123,11 +161,15 @@ public class S3Producer extends DefaultProducer {
         if (obj instanceof File) {
             filePayload = (File)obj;
         } else {
-            throw new InvalidArgumentException("aws-s3: MultiPart upload requires a File input.");
+            // the length of the stream is not known, so it is uploaded part by part as it is read
+            is = exchange.getIn().getMandatoryBody(InputStream.class);
+            if (getConfiguration().getPartSize() > Integer.MAX_VALUE) {
+                throw new InvalidArgumentException("aws-s3: MultiPart upload of a stream requires a partSize of at most " + Integer.MAX_VALUE + " bytes.");
+            }
         }
 
         ObjectMetadata objectMetadata = determineMetadata(exchange);
-        if (objectMetadata.getContentLength() == 0) {
+        if (filePayload != null && objectMetadata.getContentLength() == 0) {
             objectMetadata.setContentLength(filePayload.length());
         }
 
@@ -167,31 +209,75 @@ public class S3Producer extends DefaultProducer {
 
         final InitiateMultipartUploadResult initResponse = getEndpoint().getS3Client().initiateMultipartUpload(initRequest);
         final long contentLength = objectMetadata.getContentLength();
-        final List<PartETag> partETags = new ArrayList<PartETag>();
+        final List<Future<PartETag>> parts = new ArrayList<Future<PartETag>>();
+        final AtomicBoolean aborted = new AtomicBoolean();
         long partSize = getConfiguration().getPartSize();
         CompleteMultipartUploadResult uploadResult = null;
 
         long filePosition = 0;
 
         try {
-            for (int part = 1; filePosition < contentLength; part++) {
-                partSize = Math.min(partSize, contentLength - filePosition);
+            if (filePayload != null) {
+                for (int part = 1; filePosition < contentLength; part++) {
+                    partSize = Math.min(partSize, contentLength - filePosition);
+
+                    UploadPartRequest uploadRequest = new UploadPartRequest().withBucketName(getConfiguration().getBucketName()).withKey(keyName)
+                        .withUploadId(initResponse.getUploadId()).withPartNumber(part).withFileOffset(filePosition).withFile(filePayload).withPartSize(partSize);
 
-                UploadPartRequest uploadRequest = new UploadPartRequest().withBucketName(getConfiguration().getBucketName()).withKey(keyName)
-                    .withUploadId(initResponse.getUploadId()).withPartNumber(part).withFileOffset(filePosition).withFile(filePayload).withPartSize(partSize);
+                    parts.add(uploadPart(uploadRequest, null, aborted));
 
-                LOG.trace("Uploading part [{}] for {}", part, keyName);
-                partETags.add(getEndpoint().getS3Client().uploadPart(uploadRequest).getPartETag());
+                    filePosition += partSize;
+                }
+            } else {
+                for (int part = 1;; part++) {
+                    byte[] buffer = acquirePartBuffer();
+                    int length;
+                    try {
+                        length = readPart(is, buffer);
+                    } catch (IOException e) {
+                        releasePartBuffer(buffer);
+                        throw e;
+                    }
+                    if (length == 0 && part > 1) {
+                        // the previous part was the last one
+                        releasePartBuffer(buffer);
+                        break;
+                    }
+
+                    UploadPartRequest uploadRequest = new UploadPartRequest().withBucketName(getConfiguration().getBucketName()).withKey(keyName)
+                        .withUploadId(initResponse.getUploadId()).withPartNumber(part).withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length).withLastPart(length < buffer.length);
+
+                    parts.add(uploadPart(uploadRequest, buffer, aborted));
+
+                    if (length < buffer.length) {
+                        break;
+                    }
+                }
+            }
 
-                filePosition += partSize;
+            final List<PartETag> partETags = new ArrayList<PartETag>(parts.size());
+            for (Future<PartETag> part : parts) {
+                partETags.add(getPartETag(part));
             }
             CompleteMultipartUploadRequest compRequest = new CompleteMultipartUploadRequest(getConfiguration().getBucketName(), keyName, initResponse.getUploadId(), partETags);
 
             uploadResult = getEndpoint().getS3Client().completeMultipartUpload(compRequest);
 
         } catch (Exception e) {
+            // skip the parts which are not being uploaded yet, and wait for the others before aborting the upload
+            aborted.set(true);
+            for (Future<PartETag> part : parts) {
+                try {
+                    part.get();
+                } catch (Exception ignore) {
+                    // ignore
+                }
+            }
             getEndpoint().getS3Client().abortMultipartUpload(new AbortMultipartUploadRequest(getConfiguration().getBucketName(), keyName, initResponse.getUploadId()));
             throw e;
+        } finally {
+            IOHelper.close(is);
         }
 
         Message message = getMessageForResponse(exchange);
@@ -205,6 +291,76 @@ public class S3Producer extends DefaultProducer {
         }
     }
 
+    private Future<PartETag> uploadPart(final UploadPartRequest uploadRequest, final byte[] buffer, final AtomicBoolean aborted) {
+        Callable<PartETag> task = new Callable<PartETag>() {
+            @Override
+            public PartETag call() throws Exception {
+                try {
+                    if (aborted.get()) {
+                        throw new IllegalStateException("Multi part upload of " + uploadRequest.getKey() + " aborted");
+                    }
+                    LOG.trace("Uploading part [{}] for {}", uploadRequest.getPartNumber(), uploadRequest.getKey());
+                    return getEndpoint().getS3Client().uploadPart(uploadRequest).getPartETag();
+                } finally {
+                    if (buffer != null) {
+                        releasePartBuffer(buffer);
+                    }
+                }
+            }
+        };
+
+        if (partExecutor == null) {
+            // upload one part after the other in the current thread
+            CompletableFuture<PartETag> answer = new CompletableFuture<PartETag>();
+            try {
+                answer.complete(task.call());
+            } catch (Exception e) {
+                answer.completeExceptionally(e);
+            }
+            return answer;
+        }
+        return partExecutor.submit(task);
+    }
+
+    private static PartETag getPartETag(Future<PartETag> part) throws Exception {
+        try {
+            return part.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private byte[] acquirePartBuffer() throws InterruptedException {
+        // waits while all the buffers are in use by parts being uploaded
+        partBufferPermits.acquire();
+        byte[] buffer = partBuffers.poll();
+        if (buffer == null || buffer.length != getConfiguration().getPartSize()) {
+            buffer = new byte[(int) getConfiguration().getPartSize()];
+        }
+        return buffer;
+    }
+
+    private void releasePartBuffer(byte[] buffer) {
+        partBuffers.offer(buffer);
+        partBufferPermits.release();
+    }
+
+    private static int readPart(InputStream is, byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int read = is.read(buffer, length, buffer.length - length);
+            if (read == -1) {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+
     public void processSingleOp(final Exchange exchange) throws Exception {
 
         ObjectMetadata objectMetadata = determineMetadata(exchange);
@@ -0,0 +1,212 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.sqs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.BatchAccumulator;
+import org.apache.camel.util.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A producer which sends the messages of exchanges sent concurrently or in quick succession to the queue using
+ * SendMessageBatch requests, instead of one SendMessage request per exchange.
+ * <p/>
+ * A message is sent right away when no batch is being sent, so a single caller is not delayed. Otherwise it is held
+ * until the batch being sent is done, until <tt>batchSize</tt> messages are pending, or adding another message would
+ * exceed the maximum payload of a batch request, or at most about <tt>batchTimeout</tt> millis.
+ * The result of each entry is mapped back to its exchange, so a message rejected by SQS only fails its own exchange.
+ */
+public class SqsBatchProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqsBatchProducer.class);
+    private final SqsProducer producer;
+    private final BatchAccumulator<PendingExchange> accumulator;
+
+    public SqsBatchProducer(SqsEndpoint endpoint, int batchSize, long batchTimeout) throws Exception {
+        super(endpoint);
+        if (batchSize > SqsConstants.MAX_BATCH_ENTRIES) {
+            throw new IllegalArgumentException("The batch size must be at most " + SqsConstants.MAX_BATCH_ENTRIES + ", was " + batchSize);
+        }
+        if (batchTimeout <= 0) {
+            throw new IllegalArgumentException("The batch timeout must be positive, was " + batchTimeout);
+        }
+        this.producer = new SqsProducer(endpoint);
+        this.accumulator = new BatchAccumulator<PendingExchange>(endpoint.getCamelContext(), this, "SqsBatchProducer", batchSize, batchTimeout) {
+            @Override
+            protected boolean canAdd(List<PendingExchange> batch, PendingExchange element) {
+                int size = element.size;
+                for (PendingExchange pendingExchange : batch) {
+                    size += pendingExchange.size;
+                }
+                return size <= SqsConstants.MAX_BATCH_BYTES;
+            }
+
+            @Override
+            protected void processBatch(List<PendingExchange> batch, AsyncCallback callback) {
+                send(batch);
+                callback.done(true);
+            }
+        };
+    }
+
+    @Override
+    public SqsEndpoint getEndpoint() {
+        return (SqsEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startServices(producer, accumulator);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // sends any pending messages so they are not left waiting
+        ServiceHelper.stopServices(accumulator, producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange pendingExchange;
+        try {
+            SendMessageRequest request = producer.createRequest(exchange);
+            pendingExchange = new PendingExchange(exchange, callback, request, messageSize(request));
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        accumulator.add(pendingExchange);
+        return false;
+    }
+
+    /**
+     * Sends the given messages using a single batch request.
+     */
+    private void send(List<PendingExchange> pending) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<SendMessageBatchRequestEntry>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            SendMessageRequest request = pending.get(i).request;
+            // the id of an entry is its position in the batch, which is used to map the results back
+            entries.add(new SendMessageBatchRequestEntry(Integer.toString(i), request.getMessageBody())
+                .withMessageAttributes(request.getMessageAttributes())
+                .withDelaySeconds(request.getDelaySeconds())
+                .withMessageGroupId(request.getMessageGroupId())
+                .withMessageDeduplicationId(request.getMessageDeduplicationId()));
+        }
+        SendMessageBatchRequest request = new SendMessageBatchRequest(getEndpoint().getQueueUrl(), entries);
+
+        LOG.trace("Sending batch request with {} entries...", entries.size());
+
+        SendMessageBatchResult result;
+        try {
+            result = getEndpoint().getClient().sendMessageBatch(request);
+        } catch (Exception e) {
+            for (PendingExchange pendingExchange : pending) {
+                pendingExchange.exchange.setException(e);
+                pendingExchange.callback.done(false);
+            }
+            return;
+        }
+
+        LOG.trace("Received batch result with {} successful and {} failed entries", result.getSuccessful().size(), result.getFailed().size());
+
+        boolean[] done = new boolean[pending.size()];
+        for (SendMessageBatchResultEntry entry : result.getSuccessful()) {
+            int index = Integer.parseInt(entry.getId());
+            PendingExchange pendingExchange = pending.get(index);
+            try {
+                producer.transferResult(pendingExchange.exchange, entry.getMessageId(), entry.getMD5OfMessageBody());
+            } catch (Exception e) {
+                pendingExchange.exchange.setException(e);
+            }
+            done[index] = true;
+            pendingExchange.callback.done(false);
+        }
+        for (BatchResultErrorEntry entry : result.getFailed()) {
+            int index = Integer.parseInt(entry.getId());
+            PendingExchange pendingExchange = pending.get(index);
+            AmazonServiceException cause = new AmazonServiceException(entry.getMessage());
+            cause.setErrorCode(entry.getCode());
+            cause.setErrorType(Boolean.TRUE.equals(entry.getSenderFault()) ? AmazonServiceException.ErrorType.Client : AmazonServiceException.ErrorType.Service);
+            pendingExchange.exchange.setException(cause);
+            done[index] = true;
+            pendingExchange.callback.done(false);
+        }
+        for (int i = 0; i < done.length; i++) {
+            if (!done[i]) {
+                // should not happen, but never leave an exchange waiting
+                PendingExchange pendingExchange = pending.get(i);
+                pendingExchange.exchange.setException(new IllegalStateException("No result returned for batch entry " + i));
+                pendingExchange.callback.done(false);
+            }
+        }
+    }
+
+    /**
+     * The size of a message as counted by SQS towards the payload limit, which is the size of the body
+     * and of the name, type and value of each message attribute.
+     */
+    static int messageSize(SendMessageRequest request) {
+        int size = utf8Length(request.getMessageBody());
+        for (Map.Entry<String, MessageAttributeValue> entry : request.getMessageAttributes().entrySet()) {
+            MessageAttributeValue value = entry.getValue();
+            size += utf8Length(entry.getKey()) + utf8Length(value.getDataType()) + utf8Length(value.getStringValue());
+            if (value.getBinaryValue() != null) {
+                size += value.getBinaryValue().remaining();
+            }
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final SendMessageRequest request;
+        private final int size;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, SendMessageRequest request, int size) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.request = request;
+            this.size = size;
+        }
+    }
+}
@@ -63,6 +63,10 @@ public class SqsConfiguration implements Cloneable {
     private boolean extendMessageVisibility;
     @UriParam(label = "consumer", defaultValue = "1")
     private int concurrentConsumers = 1;
+    @UriParam(label = "consumer")
+    private boolean batchAcknowledge;
+    @UriParam(label = "consumer", defaultValue = "1000")
+    private long batchAcknowledgeTimeout = 1000;
 
     // producer properties
     @UriParam(label = "producer")
@@ -71,6 +75,10 @@ public class SqsConfiguration implements Cloneable {
     private MessageGroupIdStrategy messageGroupIdStrategy;
     @UriParam(label = "producer", defaultValue = "useExchangeId", enums = "useExchangeId,useContentBasedDeduplication")
     private MessageDeduplicationIdStrategy messageDeduplicationIdStrategy = new ExchangeIdMessageDeduplicationIdStrategy();
+    @UriParam(label = "producer")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long batchTimeout = 10;
 
     // queue properties
     @UriParam(label = "queue")
@@ -407,7 +415,60 @@ public class SqsConfiguration implements Cloneable {
             throw new IllegalArgumentException("Unrecognised MessageDeduplicationIdStrategy: " + strategy);
         }
     }
-    
+
+    public boolean isBatchAcknowledge() {
+        return batchAcknowledge;
+    }
+
+    /**
+     * Whether to delete the messages of completed exchanges with DeleteMessageBatch requests of up to 10 messages,
+     * instead of one DeleteMessage request per message. The messages are deleted when 10 are pending, when no more
+     * exchanges are being processed, or at the latest after batchAcknowledgeTimeout millis. If extendMessageVisibility
+     * is enabled, then the visibility of the messages of a poll is also extended with ChangeMessageVisibilityBatch requests.
+     */
+    public void setBatchAcknowledge(boolean batchAcknowledge) {
+        this.batchAcknowledge = batchAcknowledge;
+    }
+
+    public long getBatchAcknowledgeTimeout() {
+        return batchAcknowledgeTimeout;
+    }
+
+    /**
+     * The maximum time in millis the messages of completed exchanges are held before they are deleted when using
+     * batchAcknowledge. This should be well below the visibility timeout of the queue, as the visibility of these
+     * messages is no longer extended.
+     */
+    public void setBatchAcknowledgeTimeout(long batchAcknowledgeTimeout) {
+        this.batchAcknowledgeTimeout = batchAcknowledgeTimeout;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * To send the messages of exchanges sent concurrently or in quick succession with SendMessageBatch requests
+     * of up to this number of messages, instead of one SendMessage request per exchange. Must be at most 10,
+     * as SQS does not accept larger batches. A batch is also sent before its payload would exceed 256 KB.
+     * Is default 0 to send each message by itself.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time in millis a message is held back while another batch is being sent, when batchSize is in use.
+     * A message is sent right away when no batch is being sent. Must be greater than zero.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     // *************************************************
     //
     // *************************************************
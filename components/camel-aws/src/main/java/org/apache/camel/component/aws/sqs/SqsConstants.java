@@ -29,4 +29,14 @@ public interface SqsConstants {
     String RECEIPT_HANDLE = "CamelAwsSqsReceiptHandle";
     String DELAY_HEADER = "CamelAwsSqsDelaySeconds";
     String MESSAGE_GROUP_ID_PROPERTY = "CamelAwsMessageGroupId";
+
+    /**
+     * The maximum number of entries of a batch request.
+     */
+    int MAX_BATCH_ENTRIES = 10;
+
+    /**
+     * The maximum total payload (message bodies and attributes) of a batch request.
+     */
+    int MAX_BATCH_BYTES = 256 * 1024;
 }
\ No newline at end of file
@@ -16,18 +16,29 @@
  */
 package org.apache.camel.component.aws.sqs;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
 import com.amazonaws.services.sqs.model.ChangeMessageVisibilityRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
 import com.amazonaws.services.sqs.model.DeleteMessageRequest;
 import com.amazonaws.services.sqs.model.Message;
 import com.amazonaws.services.sqs.model.MessageNotInflightException;
@@ -57,9 +68,12 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
     
     private static final Logger LOG = LoggerFactory.getLogger(SqsConsumer.class);
     private ScheduledExecutorService scheduledExecutor;
+    private ScheduledExecutorService deleteExecutor;
     private transient String sqsConsumerToString;
     private Collection<String> attributeNames;
     private Collection<String> messageAttributeNames;
+    private final AtomicInteger inFlightExchanges = new AtomicInteger();
+    private final List<Exchange> pendingDeletes = new ArrayList<Exchange>();
 
     public SqsConsumer(SqsEndpoint endpoint, Processor processor) throws NoFactoryAvailableException {
         super(endpoint, processor);
@@ -79,6 +93,11 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
         // must reset for each poll
         shutdownRunningTask = null;
         pendingExchanges = 0;
+
+        if (getConfiguration().isBatchAcknowledge()) {
+            // delete the messages of exchanges completed since the last poll before receiving more
+            flushDeletes();
+        }
         
         ReceiveMessageRequest request = new ReceiveMessageRequest(getQueueUrl());
         request.setMaxNumberOfMessages(getMaxMessagesPerPoll() > 0 ? getMaxMessagesPerPoll() : null);
@@ -143,8 +162,27 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
     
     public int processBatch(Queue<Object> exchanges) throws Exception {
         int total = exchanges.size();
+        final boolean batchAcknowledge = getConfiguration().isBatchAcknowledge();
+
+        // when acknowledging in batches, a single task extends the visibility of all the messages of this poll
+        BatchTimeoutExtender batchExtender = null;
+        Integer batchVisibilityTimeout = getConfiguration().getVisibilityTimeout();
+        if (batchAcknowledge && this.scheduledExecutor != null && total > 0
+                && batchVisibilityTimeout != null && (batchVisibilityTimeout.intValue() / 2) > 0) {
+            int delay = batchVisibilityTimeout.intValue() / 2;
+            int period = batchVisibilityTimeout.intValue();
+            int repeatSeconds = Double.valueOf(batchVisibilityTimeout.doubleValue() * 1.5).intValue();
+            LOG.debug("Scheduled BatchTimeoutExtender task to start after {} delay, and run with {}/{} period/repeat (seconds), to extend {} messages",
+                    new Object[]{delay, period, repeatSeconds, total});
+            batchExtender = new BatchTimeoutExtender(repeatSeconds);
+            batchExtender.setFuture(this.scheduledExecutor.scheduleAtFixedRate(batchExtender, delay, period, TimeUnit.SECONDS));
+        }
 
-        for (int index = 0; index < total && isBatchAllowed(); index++) {
+        // count all the exchanges of this poll as in flight up front, so their messages are deleted together
+        inFlightExchanges.addAndGet(total);
+
+        int index = 0;
+        for (; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             final Exchange exchange = ObjectHelper.cast(Exchange.class, exchanges.poll());
             // add current index and total as properties
@@ -155,9 +193,25 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
             // update pending number of exchanges
             pendingExchanges = total - index - 1;
 
+            if (batchExtender != null) {
+                final BatchTimeoutExtender extender = batchExtender;
+                extender.add(exchange);
+                exchange.addOnCompletion(new Synchronization() {
+                    @Override
+                    public void onComplete(Exchange exchange) {
+                        extender.remove(exchange);
+                    }
+
+                    @Override
+                    public void onFailure(Exchange exchange) {
+                        extender.remove(exchange);
+                    }
+                });
+            }
+
             // schedule task to extend visibility if enabled
             Integer visibilityTimeout = getConfiguration().getVisibilityTimeout();
-            if (this.scheduledExecutor != null && visibilityTimeout != null && (visibilityTimeout.intValue() / 2) > 0) {
+            if (!batchAcknowledge && this.scheduledExecutor != null && visibilityTimeout != null && (visibilityTimeout.intValue() / 2) > 0) {
                 int delay = visibilityTimeout.intValue() / 2;
                 int period = visibilityTimeout.intValue();
                 int repeatSeconds = Double.valueOf(visibilityTimeout.doubleValue() * 1.5).intValue();
@@ -190,10 +244,12 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
             exchange.addOnCompletion(new Synchronization() {
                 public void onComplete(Exchange exchange) {
                     processCommit(exchange);
+                    exchangeDone();
                 }
 
                 public void onFailure(Exchange exchange) {
                     processRollback(exchange);
+                    exchangeDone();
                 }
 
                 @Override
@@ -211,6 +267,11 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
             });
         }
 
+        // the exchanges which were not processed are no longer in flight
+        for (; index < total; index++) {
+            exchangeDone();
+        }
+
         return total;
     }
     
@@ -222,7 +283,10 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
     protected void processCommit(Exchange exchange) {
         try {
 
-            if (shouldDelete(exchange)) {
+            if (shouldDelete(exchange) && getConfiguration().isBatchAcknowledge()) {
+                // deleted together with the messages of other exchanges
+                deleteLater(exchange);
+            } else if (shouldDelete(exchange)) {
                 String receiptHandle = exchange.getIn().getHeader(SqsConstants.RECEIPT_HANDLE, String.class);
                 DeleteMessageRequest deleteRequest = new DeleteMessageRequest(getQueueUrl(), receiptHandle);
 
@@ -237,6 +301,76 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
         }
     }
 
+    private void exchangeDone() {
+        if (inFlightExchanges.decrementAndGet() == 0 && getConfiguration().isBatchAcknowledge()) {
+            // no more exchanges to wait for, so delete the messages right away
+            flushDeletes();
+        }
+    }
+
+    private void deleteLater(Exchange exchange) {
+        List<Exchange> batch = null;
+        synchronized (pendingDeletes) {
+            pendingDeletes.add(exchange);
+            if (pendingDeletes.size() >= SqsConstants.MAX_BATCH_ENTRIES) {
+                batch = new ArrayList<Exchange>(pendingDeletes);
+                pendingDeletes.clear();
+            }
+        }
+        if (batch != null) {
+            deleteMessages(batch);
+        }
+    }
+
+    /**
+     * Deletes the messages of all the completed exchanges which have not been deleted yet.
+     */
+    protected void flushDeletes() {
+        List<Exchange> batch;
+        synchronized (pendingDeletes) {
+            if (pendingDeletes.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<Exchange>(pendingDeletes);
+            pendingDeletes.clear();
+        }
+        for (int i = 0; i < batch.size(); i += SqsConstants.MAX_BATCH_ENTRIES) {
+            deleteMessages(batch.subList(i, Math.min(i + SqsConstants.MAX_BATCH_ENTRIES, batch.size())));
+        }
+    }
+
+    /**
+     * Strategy to delete the messages of the given exchanges, at most 10, with a single batch request.
+     *
+     * @param exchanges the exchanges
+     */
+    protected void deleteMessages(List<Exchange> exchanges) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<DeleteMessageBatchRequestEntry>(exchanges.size());
+        for (int i = 0; i < exchanges.size(); i++) {
+            // the id of an entry is its position in the batch, which is used to map the results back
+            String receiptHandle = exchanges.get(i).getIn().getHeader(SqsConstants.RECEIPT_HANDLE, String.class);
+            entries.add(new DeleteMessageBatchRequestEntry(Integer.toString(i), receiptHandle));
+        }
+
+        LOG.trace("Deleting {} messages...", entries.size());
+
+        try {
+            DeleteMessageBatchResult result = getClient().deleteMessageBatch(new DeleteMessageBatchRequest(getQueueUrl(), entries));
+            for (BatchResultErrorEntry entry : result.getFailed()) {
+                Exchange exchange = exchanges.get(Integer.parseInt(entry.getId()));
+                getExceptionHandler().handleException("Error occurred during deleting message. This exception is ignored.", exchange,
+                        new AmazonClientException("Failed to delete message with receipt handle " + exchange.getIn().getHeader(SqsConstants.RECEIPT_HANDLE)
+                                + " due " + entry.getCode() + ": " + entry.getMessage()));
+            }
+
+            LOG.trace("Deleted {} messages", result.getSuccessful().size());
+        } catch (AmazonClientException e) {
+            for (Exchange exchange : exchanges) {
+                getExceptionHandler().handleException("Error occurred during deleting message. This exception is ignored.", exchange, e);
+            }
+        }
+    }
+
     private boolean shouldDelete(Exchange exchange) {
         boolean shouldDeleteByFilter = exchange.getProperty(Exchange.FILTER_MATCHED) != null
                 && getConfiguration().isDeleteIfFiltered()
@@ -294,9 +428,31 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
             this.scheduledExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "SqsTimeoutExtender");
         }
 
+        if (getConfiguration().isBatchAcknowledge() && deleteExecutor == null) {
+            long timeout = getConfiguration().getBatchAcknowledgeTimeout();
+            if (timeout <= 0) {
+                throw new IllegalArgumentException("The batchAcknowledgeTimeout option must be positive, was " + timeout);
+            }
+            // delete the messages of completed exchanges even while other exchanges of their poll are still processed
+            this.deleteExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "SqsBatchAcknowledge");
+            this.deleteExecutor.scheduleWithFixedDelay(this::flushDeletes, timeout, timeout, TimeUnit.MILLISECONDS);
+        }
+
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (deleteExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(deleteExecutor);
+            deleteExecutor = null;
+        }
+        // do not leave the messages of completed exchanges to be redelivered
+        flushDeletes();
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         if (scheduledExecutor != null) {
@@ -337,4 +493,63 @@ public class SqsConsumer extends ScheduledBatchPollingConsumer {
         }
     }
 
+    private class BatchTimeoutExtender implements Runnable {
+
+        private final Set<Exchange> exchanges = ConcurrentHashMap.newKeySet();
+        private final int repeatSeconds;
+        private volatile ScheduledFuture<?> future;
+
+        BatchTimeoutExtender(int repeatSeconds) {
+            this.repeatSeconds = repeatSeconds;
+        }
+
+        void setFuture(ScheduledFuture<?> future) {
+            this.future = future;
+        }
+
+        void add(Exchange exchange) {
+            exchanges.add(exchange);
+        }
+
+        void remove(Exchange exchange) {
+            exchanges.remove(exchange);
+        }
+
+        @Override
+        public void run() {
+            List<Exchange> list = new ArrayList<Exchange>(exchanges);
+            if (list.isEmpty()) {
+                // all the exchanges are done
+                LOG.trace("Processing done so cancelling BatchTimeoutExtender task");
+                future.cancel(false);
+                return;
+            }
+
+            try {
+                for (int i = 0; i < list.size(); i += SqsConstants.MAX_BATCH_ENTRIES) {
+                    List<Exchange> batch = list.subList(i, Math.min(i + SqsConstants.MAX_BATCH_ENTRIES, list.size()));
+                    List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<ChangeMessageVisibilityBatchRequestEntry>(batch.size());
+                    for (int j = 0; j < batch.size(); j++) {
+                        String receiptHandle = batch.get(j).getIn().getHeader(SqsConstants.RECEIPT_HANDLE, String.class);
+                        entries.add(new ChangeMessageVisibilityBatchRequestEntry(Integer.toString(j), receiptHandle).withVisibilityTimeout(repeatSeconds));
+                    }
+
+                    LOG.trace("Extending visibility window by {} seconds for {} messages", this.repeatSeconds, entries.size());
+                    ChangeMessageVisibilityBatchResult result = getEndpoint().getClient().changeMessageVisibilityBatch(
+                            new ChangeMessageVisibilityBatchRequest(getQueueUrl(), entries));
+                    for (BatchResultErrorEntry entry : result.getFailed()) {
+                        // the message may have been deleted meanwhile, so ignore
+                        LOG.debug("Extending visibility window failed for exchange {} due {}: {}",
+                                new Object[]{batch.get(Integer.parseInt(entry.getId())), entry.getCode(), entry.getMessage()});
+                    }
+                    LOG.debug("Extended visibility window by {} seconds for {} messages", this.repeatSeconds, result.getSuccessful().size());
+                }
+            } catch (Exception e) {
+                LOG.warn("Extending visibility window failed for " + list.size()
+                        + " exchanges. Will not attempt to extend visibility further. This exception will be ignored.", e);
+                future.cancel(false);
+            }
+        }
+    }
+
 }
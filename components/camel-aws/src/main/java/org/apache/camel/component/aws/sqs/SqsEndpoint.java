@@ -95,6 +95,9 @@ public class SqsEndpoint extends ScheduledPollEndpoint implements HeaderFilterSt
     }
 
     public Producer createProducer() throws Exception {
+        if (configuration.getBatchSize() > 0) {
+            return new SqsBatchProducer(this, configuration.getBatchSize(), configuration.getBatchTimeout());
+        }
         return new SqsProducer(this);
     }
 
@@ -52,11 +52,7 @@ public class SqsProducer extends DefaultProducer {
     }
 
     public void process(Exchange exchange) throws Exception {
-        String body = exchange.getIn().getBody(String.class);
-        SendMessageRequest request = new SendMessageRequest(getQueueUrl(), body);
-        request.setMessageAttributes(translateAttributes(exchange.getIn().getHeaders(), exchange));
-        addDelay(request, exchange);
-        configureFifoAttributes(request, exchange);
+        SendMessageRequest request = createRequest(exchange);
 
         LOG.trace("Sending request [{}] from exchange [{}]...", request, exchange);
 
@@ -64,9 +60,22 @@ public class SqsProducer extends DefaultProducer {
 
         LOG.trace("Received result [{}]", result);
 
+        transferResult(exchange, result.getMessageId(), result.getMD5OfMessageBody());
+    }
+
+    SendMessageRequest createRequest(Exchange exchange) {
+        String body = exchange.getIn().getBody(String.class);
+        SendMessageRequest request = new SendMessageRequest(getQueueUrl(), body);
+        request.setMessageAttributes(translateAttributes(exchange.getIn().getHeaders(), exchange));
+        addDelay(request, exchange);
+        configureFifoAttributes(request, exchange);
+        return request;
+    }
+
+    void transferResult(Exchange exchange, String messageId, String md5OfBody) {
         Message message = getMessageForResponse(exchange);
-        message.setHeader(SqsConstants.MESSAGE_ID, result.getMessageId());
-        message.setHeader(SqsConstants.MD5_OF_BODY, result.getMD5OfMessageBody());
+        message.setHeader(SqsConstants.MESSAGE_ID, messageId);
+        message.setHeader(SqsConstants.MD5_OF_BODY, md5OfBody);
     }
 
     private void configureFifoAttributes(SendMessageRequest request, Exchange exchange) {
@@ -0,0 +1,288 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.kinesis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.DescribeStreamResult;
+import com.amazonaws.services.kinesis.model.GetRecordsRequest;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.GetShardIteratorRequest;
+import com.amazonaws.services.kinesis.model.GetShardIteratorResult;
+import com.amazonaws.services.kinesis.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.SequenceNumberRange;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+import com.amazonaws.services.kinesis.model.StreamDescription;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.MemoryStateRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KinesisMultiShardConsumerTest {
+
+    @Mock
+    private AmazonKinesis kinesisClient;
+    @Mock
+    private AsyncProcessor processor;
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KinesisComponent component = new KinesisComponent(context);
+    private final MemoryStateRepository repository = new MemoryStateRepository();
+    private final List<Shard> shards = new ArrayList<>();
+
+    private KinesisMultiShardConsumer undertest;
+
+    @Before
+    public void setup() throws Exception {
+        KinesisConfiguration configuration = new KinesisConfiguration();
+        configuration.setAmazonKinesisClient(kinesisClient);
+        configuration.setIteratorType(ShardIteratorType.LATEST);
+        configuration.setStreamName("streamName");
+        configuration.setConsumeAllShards(true);
+        configuration.setSequenceNumberRepository(repository);
+        KinesisEndpoint endpoint = new KinesisEndpoint(null, configuration, component);
+        endpoint.setCamelContext(context);
+        endpoint.start();
+        undertest = (KinesisMultiShardConsumer) endpoint.createConsumer(processor);
+        undertest.setStartScheduler(false);
+        undertest.start();
+
+        when(kinesisClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenAnswer(invocation -> new DescribeStreamResult()
+                .withStreamDescription(new StreamDescription()
+                    .withShards(new ArrayList<>(shards))
+                    .withHasMoreShards(false)
+                )
+            );
+        when(kinesisClient.getShardIterator(any(GetShardIteratorRequest.class)))
+            .thenAnswer(invocation -> new GetShardIteratorResult()
+                .withShardIterator("iterator-" + invocation.<GetShardIteratorRequest>getArgument(0).getShardId())
+            );
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        undertest.stop();
+    }
+
+    @Test
+    public void itPollsAllOpenShards() throws Exception {
+        shards.add(openShard("shard-1"));
+        shards.add(openShard("shard-2"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> recordsOf(invocation.<GetRecordsRequest>getArgument(0), "1"));
+
+        int processed = undertest.poll();
+
+        assertThat(processed, is(2));
+        final ArgumentCaptor<GetShardIteratorRequest> getShardIteratorReqCap = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient, times(2)).getShardIterator(getShardIteratorReqCap.capture());
+        List<String> shardIds = new ArrayList<>();
+        for (GetShardIteratorRequest req : getShardIteratorReqCap.getAllValues()) {
+            assertThat(req.getShardIteratorType(), is("LATEST"));
+            shardIds.add(req.getShardId());
+        }
+        assertThat(shardIds, hasItems("shard-1", "shard-2"));
+
+        final ArgumentCaptor<Exchange> exchangeCap = ArgumentCaptor.forClass(Exchange.class);
+        verify(processor, times(2)).process(exchangeCap.capture());
+        List<String> headers = new ArrayList<>();
+        for (Exchange exchange : exchangeCap.getAllValues()) {
+            headers.add(exchange.getIn().getHeader(KinesisConstants.SHARD_ID, String.class));
+        }
+        assertThat(headers, hasItems("shard-1", "shard-2"));
+    }
+
+    @Test
+    public void itCheckpointsTheLastSequenceNumberOfEachShard() throws Exception {
+        shards.add(openShard("shard-1"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> recordsOf(invocation.<GetRecordsRequest>getArgument(0), "1", "2"));
+
+        undertest.poll();
+
+        assertThat(repository.getState("streamName/shard-1"), is("2"));
+    }
+
+    @Test
+    public void itResumesFromTheCheckpoint() throws Exception {
+        repository.setState("streamName/shard-1", "41");
+        shards.add(openShard("shard-1"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> recordsOf(invocation.<GetRecordsRequest>getArgument(0)));
+
+        undertest.poll();
+
+        final ArgumentCaptor<GetShardIteratorRequest> getShardIteratorReqCap = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient).getShardIterator(getShardIteratorReqCap.capture());
+        assertThat(getShardIteratorReqCap.getValue().getShardIteratorType(), is("AFTER_SEQUENCE_NUMBER"));
+        assertThat(getShardIteratorReqCap.getValue().getStartingSequenceNumber(), is("41"));
+    }
+
+    @Test
+    public void itConsumesTheChildrenOfASplitShardOnceTheParentIsDrained() throws Exception {
+        shards.add(closedShard("parent"));
+        shards.add(openShard("child-1").withParentShardId("parent"));
+        shards.add(openShard("child-2").withParentShardId("parent"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> {
+                GetRecordsRequest req = invocation.<GetRecordsRequest>getArgument(0);
+                if (req.getShardIterator().equals("iterator-parent")) {
+                    // the parent is closed, so there is no next iterator
+                    return new GetRecordsResult().withRecords(new Record().withSequenceNumber("1"));
+                }
+                return recordsOf(req, "2");
+            });
+
+        assertThat(undertest.poll(), is(1));
+        assertThat(repository.getState("streamName/parent"), is(KinesisMultiShardConsumer.SHARD_END));
+        assertThat(repository.getState("streamName/child-1"), nullValue());
+
+        assertThat(undertest.poll(), is(2));
+        final ArgumentCaptor<GetShardIteratorRequest> getShardIteratorReqCap = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient, times(3)).getShardIterator(getShardIteratorReqCap.capture());
+        assertThat(getShardIteratorReqCap.getAllValues().get(1).getShardIteratorType(), is("TRIM_HORIZON"));
+        assertThat(getShardIteratorReqCap.getAllValues().get(2).getShardIteratorType(), is("TRIM_HORIZON"));
+        assertThat(repository.getState("streamName/child-1"), is("2"));
+        assertThat(repository.getState("streamName/child-2"), is("2"));
+
+        // the drained parent is not read anymore
+        assertThat(undertest.poll(), is(2));
+        verify(kinesisClient, times(5)).getRecords(any(GetRecordsRequest.class));
+    }
+
+    @Test
+    public void itConsumesTheChildrenOfAShardClosedBeforeReadingFromTheLatestRecord() throws Exception {
+        shards.add(closedShard("parent"));
+        shards.add(openShard("child").withParentShardId("parent"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> {
+                GetRecordsRequest req = invocation.<GetRecordsRequest>getArgument(0);
+                if (req.getShardIterator().equals("iterator-parent")) {
+                    // the latest iterator of a closed shard returns no records and no next iterator
+                    return new GetRecordsResult();
+                }
+                return recordsOf(req, "2");
+            });
+
+        assertThat(undertest.poll(), is(0));
+        assertThat(undertest.poll(), is(1));
+
+        final ArgumentCaptor<GetShardIteratorRequest> getShardIteratorReqCap = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient, times(2)).getShardIterator(getShardIteratorReqCap.capture());
+        assertThat(getShardIteratorReqCap.getAllValues().get(1).getShardId(), is("child"));
+        assertThat(getShardIteratorReqCap.getAllValues().get(1).getShardIteratorType(), is("LATEST"));
+    }
+
+    @Test
+    public void itCheckpointsPastAFailedExchange() throws Exception {
+        shards.add(openShard("shard-1"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> recordsOf(invocation.<GetRecordsRequest>getArgument(0), "1", "2"));
+        doThrow(new IllegalStateException("Forced")).doNothing().when(processor).process(any(Exchange.class));
+
+        assertThat(undertest.poll(), is(2));
+        assertThat(repository.getState("streamName/shard-1"), is("2"));
+    }
+
+    @Test
+    public void itSkipsAShardWhichIsDrainedAccordingToItsCheckpoint() throws Exception {
+        repository.setState("streamName/parent", KinesisMultiShardConsumer.SHARD_END);
+        shards.add(closedShard("parent"));
+        shards.add(openShard("child").withParentShardId("parent"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> recordsOf(invocation.<GetRecordsRequest>getArgument(0), "2"));
+
+        assertThat(undertest.poll(), is(1));
+
+        final ArgumentCaptor<GetShardIteratorRequest> getShardIteratorReqCap = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient).getShardIterator(getShardIteratorReqCap.capture());
+        assertThat(getShardIteratorReqCap.getValue().getShardId(), is("child"));
+        assertThat(getShardIteratorReqCap.getValue().getShardIteratorType(), is("TRIM_HORIZON"));
+    }
+
+    @Test
+    public void itBacksOffAThrottledShard() throws Exception {
+        shards.add(openShard("shard-1"));
+        shards.add(openShard("shard-2"));
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class)))
+            .thenAnswer(invocation -> {
+                GetRecordsRequest req = invocation.<GetRecordsRequest>getArgument(0);
+                if (req.getShardIterator().startsWith("iterator-shard-1")) {
+                    throw new ProvisionedThroughputExceededException("Rate exceeded");
+                }
+                return recordsOf(req, "1");
+            });
+
+        assertThat(undertest.poll(), is(1));
+        // shard-1 skips the next poll while shard-2 keeps being read
+        assertThat(undertest.poll(), is(1));
+        assertThat(undertest.poll(), is(1));
+
+        final ArgumentCaptor<GetRecordsRequest> getRecordsReqCap = ArgumentCaptor.forClass(GetRecordsRequest.class);
+        verify(kinesisClient, atLeastOnce()).getRecords(getRecordsReqCap.capture());
+        int shard1Requests = 0;
+        for (GetRecordsRequest req : getRecordsReqCap.getAllValues()) {
+            if (req.getShardIterator().startsWith("iterator-shard-1")) {
+                shard1Requests++;
+            }
+        }
+        assertThat(shard1Requests, is(2));
+        assertThat(getRecordsReqCap.getAllValues().size(), is(5));
+    }
+
+    private static Shard openShard(String shardId) {
+        return new Shard().withShardId(shardId).withSequenceNumberRange(new SequenceNumberRange().withStartingSequenceNumber("0"));
+    }
+
+    private static Shard closedShard(String shardId) {
+        return new Shard().withShardId(shardId).withSequenceNumberRange(new SequenceNumberRange().withStartingSequenceNumber("0").withEndingSequenceNumber("1"));
+    }
+
+    private static GetRecordsResult recordsOf(GetRecordsRequest req, String... sequenceNumbers) {
+        GetRecordsResult result = new GetRecordsResult().withNextShardIterator(req.getShardIterator());
+        for (String sequenceNumber : sequenceNumbers) {
+            result.withRecords(new Record().withSequenceNumber(sequenceNumber).withPartitionKey("partitionKey"));
+        }
+        return result;
+    }
+}
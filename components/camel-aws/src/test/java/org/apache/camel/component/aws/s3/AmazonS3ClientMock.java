@@ -16,15 +16,21 @@
  */
 package org.apache.camel.component.aws.s3;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.amazonaws.AmazonClientException;
@@ -64,6 +70,7 @@ import com.amazonaws.services.s3.model.MultipartUploadListing;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.Owner;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PartListing;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
@@ -77,6 +84,7 @@ import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.model.UploadPartResult;
 import com.amazonaws.services.s3.model.VersionListing;
 
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.junit.Assert;
 
@@ -84,6 +92,10 @@ public class AmazonS3ClientMock extends AmazonS3Client {
     
     List<S3Object> objects = new CopyOnWriteArrayList<S3Object>();
     List<PutObjectRequest> putObjectRequests = new CopyOnWriteArrayList<PutObjectRequest>();
+    List<UploadPartRequest> uploadPartRequests = new CopyOnWriteArrayList<UploadPartRequest>();
+    List<String> uploadPartThreads = new CopyOnWriteArrayList<String>();
+    List<AbortMultipartUploadRequest> abortMultipartUploadRequests = new CopyOnWriteArrayList<AbortMultipartUploadRequest>();
+    private Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<Integer, byte[]>();
     
     private boolean nonExistingBucketCreated;
     
@@ -143,6 +155,7 @@ public class AmazonS3ClientMock extends AmazonS3Client {
             S3ObjectSummary s3ObjectSummary = new S3ObjectSummary();
             s3ObjectSummary.setBucketName(objects.get(index).getBucketName());
             s3ObjectSummary.setKey(objects.get(index).getKey());
+            s3ObjectSummary.setSize(objects.get(index).getObjectMetadata().getContentLength());
             
             objectListing.getObjectSummaries().add(s3ObjectSummary);
         }
@@ -442,17 +455,38 @@ public class AmazonS3ClientMock extends AmazonS3Client {
 
     @Override
     public void abortMultipartUpload(AbortMultipartUploadRequest abortMultipartUploadRequest) throws AmazonClientException, AmazonServiceException {
-        throw new UnsupportedOperationException();
+        abortMultipartUploadRequests.add(abortMultipartUploadRequest);
+        uploadedParts.clear();
     }
 
     @Override
     public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest completeMultipartUploadRequest) throws AmazonClientException, AmazonServiceException {
-        throw new UnsupportedOperationException();
+        // assemble the parts in the order given by the request
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (PartETag partETag : completeMultipartUploadRequest.getPartETags()) {
+            byte[] part = uploadedParts.remove(partETag.getPartNumber());
+            content.write(part, 0, part.length);
+        }
+
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(completeMultipartUploadRequest.getBucketName());
+        s3Object.setKey(completeMultipartUploadRequest.getKey());
+        s3Object.getObjectMetadata().setContentLength(content.size());
+        s3Object.setObjectContent(new ByteArrayInputStream(content.toByteArray()));
+        objects.add(s3Object);
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setETag("3a5c8b1ad448bca04584ecb55b836264");
+        return result;
     }
 
     @Override
     public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest initiateMultipartUploadRequest) throws AmazonClientException, AmazonServiceException {
-        throw new UnsupportedOperationException();
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(initiateMultipartUploadRequest.getBucketName());
+        result.setKey(initiateMultipartUploadRequest.getKey());
+        result.setUploadId("uploadId");
+        return result;
     }
 
     @Override
@@ -467,7 +501,30 @@ public class AmazonS3ClientMock extends AmazonS3Client {
 
     @Override
     public UploadPartResult uploadPart(UploadPartRequest uploadPartRequest) throws AmazonClientException, AmazonServiceException {
-        throw new UnsupportedOperationException();
+        uploadPartRequests.add(uploadPartRequest);
+        uploadPartThreads.add(Thread.currentThread().getName());
+
+        byte[] part = new byte[(int) uploadPartRequest.getPartSize()];
+        try {
+            if (uploadPartRequest.getFile() != null) {
+                try (RandomAccessFile file = new RandomAccessFile(uploadPartRequest.getFile(), "r")) {
+                    file.seek(uploadPartRequest.getFileOffset());
+                    file.readFully(part);
+                }
+            } else {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                IOHelper.copy(uploadPartRequest.getInputStream(), bos);
+                part = bos.toByteArray();
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Cannot read the part.", e);
+        }
+        uploadedParts.put(uploadPartRequest.getPartNumber(), part);
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(uploadPartRequest.getPartNumber());
+        result.setETag("etag-" + uploadPartRequest.getPartNumber());
+        return result;
     }
 
     @Override
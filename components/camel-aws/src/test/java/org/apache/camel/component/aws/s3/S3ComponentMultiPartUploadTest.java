@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+public class S3ComponentMultiPartUploadTest extends CamelTestSupport {
+
+    AmazonS3ClientMock client;
+
+    @Test
+    public void uploadFileInParallelParts() throws Exception {
+        byte[] content = createContent(10000);
+        File file = FileUtil.createTempFile("test", "file", null);
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write(content);
+        }
+
+        try {
+            Exchange exchange = template.request("direct:start", exchange1 -> {
+                exchange1.getIn().setHeader(S3Constants.KEY, "CamelUnitTest");
+                exchange1.getIn().setBody(file);
+            });
+            assertNull(exchange.getException());
+            assertEquals("3a5c8b1ad448bca04584ecb55b836264", exchange.getIn().getHeader(S3Constants.E_TAG));
+        } finally {
+            FileUtil.deleteFile(file);
+        }
+
+        assertEquals(10, client.uploadPartRequests.size());
+        for (String thread : client.uploadPartThreads) {
+            assertTrue("Expected the parts to be uploaded by the part thread pool", thread.contains("S3MultiPartUpload"));
+        }
+        assertUploadedContent(content);
+    }
+
+    @Test
+    public void uploadStreamOfUnknownLength() throws Exception {
+        byte[] content = createContent(5000);
+
+        Exchange exchange = template.request("direct:start", exchange1 -> {
+            exchange1.getIn().setHeader(S3Constants.KEY, "CamelUnitTest");
+            exchange1.getIn().setBody(new ByteArrayInputStream(content));
+        });
+        assertNull(exchange.getException());
+
+        // 4 full parts and the remaining 904 bytes
+        assertEquals(5, client.uploadPartRequests.size());
+        for (UploadPartRequest request : client.uploadPartRequests) {
+            assertEquals(request.getPartNumber() == 5 ? 904 : 1024, request.getPartSize());
+            assertEquals(request.getPartNumber() == 5, request.isLastPart());
+        }
+        assertUploadedContent(content);
+    }
+
+    @Test
+    public void uploadStreamOfExactlyTwoParts() throws Exception {
+        byte[] content = createContent(2048);
+
+        Exchange exchange = template.request("direct:start", exchange1 -> {
+            exchange1.getIn().setHeader(S3Constants.KEY, "CamelUnitTest");
+            exchange1.getIn().setBody(content);
+        });
+        assertNull(exchange.getException());
+
+        assertEquals(2, client.uploadPartRequests.size());
+        assertUploadedContent(content);
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+    private void assertUploadedContent(byte[] expected) throws Exception {
+        assertEquals(1, client.objects.size());
+        assertEquals(0, client.abortMultipartUploadRequests.size());
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (InputStream is = client.objects.get(0).getObjectContent()) {
+            IOHelper.copy(is, actual);
+        }
+        assertArrayEquals(expected, actual.toByteArray());
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+
+        client = new AmazonS3ClientMock();
+        registry.bind("amazonS3Client", client);
+
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&multiPartUpload=true&partSize=1024&multiPartUploadConcurrency=3");
+            }
+        };
+    }
+}
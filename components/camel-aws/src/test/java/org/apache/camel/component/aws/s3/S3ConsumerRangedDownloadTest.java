@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.s3;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class S3ConsumerRangedDownloadTest extends CamelTestSupport {
+
+    private static final byte[] CONTENT = new byte[10000];
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint mock;
+
+    private final List<long[]> ranges = new CopyOnWriteArrayList<long[]>();
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+    }
+
+    @Test
+    public void downloadInRanges() throws Exception {
+        mock.expectedMessageCount(1);
+        assertMockEndpointsSatisfied();
+
+        assertArrayEquals(CONTENT, mock.getExchanges().get(0).getIn().getBody(byte[].class));
+        assertEquals(10, ranges.size());
+        long total = 0;
+        for (long[] range : ranges) {
+            total += range[1] - range[0] + 1;
+        }
+        assertEquals(CONTENT.length, total);
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+
+        AmazonS3ClientMock clientMock = new AmazonS3ClientMock() {
+            @Override
+            public ObjectMetadata getObjectMetadata(String bucketName, String key) throws AmazonClientException, AmazonServiceException {
+                return createMetadata();
+            }
+
+            @Override
+            public S3Object getObject(GetObjectRequest getObjectRequest) throws AmazonClientException, AmazonServiceException {
+                assertEquals("3a5c8b1ad448bca04584ecb55b836264", getObjectRequest.getMatchingETagConstraints().get(0));
+                long[] range = getObjectRequest.getRange();
+                ranges.add(range);
+
+                S3Object s3Object = new S3Object();
+                s3Object.setBucketName(getObjectRequest.getBucketName());
+                s3Object.setKey(getObjectRequest.getKey());
+                s3Object.setObjectContent(new ByteArrayInputStream(CONTENT, (int) range[0], (int) (range[1] - range[0] + 1)));
+                return s3Object;
+            }
+        };
+
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName("mycamelbucket");
+        s3Object.setKey("largeObject");
+        s3Object.setObjectMetadata(createMetadata());
+        clientMock.objects.add(s3Object);
+
+        registry.bind("amazonS3Client", clientMock);
+
+        return registry;
+    }
+
+    private static ObjectMetadata createMetadata() {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(CONTENT.length);
+        objectMetadata.setHeader("ETag", "3a5c8b1ad448bca04584ecb55b836264");
+        return objectMetadata;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("aws-s3://mycamelbucket?amazonS3Client=#amazonS3Client&delay=60000&downloadPartSize=1000&downloadConcurrency=3")
+                    .convertBodyTo(byte[].class)
+                    .to("mock:result");
+            }
+        };
+    }
+}
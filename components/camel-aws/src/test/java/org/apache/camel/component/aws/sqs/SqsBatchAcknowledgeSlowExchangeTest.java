@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.sqs;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.Message;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class SqsBatchAcknowledgeSlowExchangeTest extends CamelTestSupport {
+
+    private static final String RECEIPT_HANDLE = "0NNAq8PwvXsyZkR6yu4nQ07FGxNmOBWi5";
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint mock;
+
+    private AmazonSQSClientMock clientMock;
+    private final AtomicBoolean deletedWhileSlow = new AtomicBoolean();
+
+    @Test
+    public void deleteCompletedMessagesWhileExchangeIsSlow() throws Exception {
+        mock.expectedMessageCount(3);
+        assertMockEndpointsSatisfied();
+
+        assertTrue("Should delete the message of the first exchange while the second is processed", deletedWhileSlow.get());
+
+        // the last message is deleted once all the exchanges of the poll are done
+        for (int i = 0; i < 50 && deletedEntries() < 3; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(3, deletedEntries());
+        assertEquals(0, clientMock.deleteMessageRequests.size());
+    }
+
+    private int deletedEntries() {
+        int entries = 0;
+        for (DeleteMessageBatchRequest request : clientMock.deleteMessageBatchRequests) {
+            entries += request.getEntries().size();
+        }
+        return entries;
+    }
+
+    private boolean isDeleted(String receiptHandle) {
+        for (DeleteMessageBatchRequest request : clientMock.deleteMessageBatchRequests) {
+            for (DeleteMessageBatchRequestEntry entry : request.getEntries()) {
+                if (receiptHandle.equals(entry.getReceiptHandle())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+
+        clientMock = new AmazonSQSClientMock();
+        for (int counter = 0; counter < 3; counter++) {
+            Message message = new Message();
+            message.setBody("Message " + counter);
+            message.setMD5OfBody("6a1559560f67c5e7a7d5d838bf0272ee");
+            message.setMessageId("f6fb6f99-5eb2-4be4-9b15-144774141458");
+            message.setReceiptHandle(RECEIPT_HANDLE + counter);
+
+            clientMock.messages.add(message);
+        }
+
+        registry.bind("amazonSQSClient", clientMock);
+
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("aws-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&delay=5000&maxMessagesPerPoll=3&batchAcknowledge=true&batchAcknowledgeTimeout=100")
+                    .process(exchange -> {
+                        if ("Message 1".equals(exchange.getIn().getBody(String.class))) {
+                            // the first exchange of the poll is done, so its message should be deleted meanwhile
+                            for (int i = 0; i < 50 && !deletedWhileSlow.get(); i++) {
+                                Thread.sleep(100);
+                                deletedWhileSlow.set(isDeleted(RECEIPT_HANDLE + 0));
+                            }
+                        }
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
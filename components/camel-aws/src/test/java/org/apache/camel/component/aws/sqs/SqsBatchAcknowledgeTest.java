@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.sqs;
+
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.Message;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class SqsBatchAcknowledgeTest extends CamelTestSupport {
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint mock;
+
+    private AmazonSQSClientMock clientMock;
+
+    @Test
+    public void deleteInBatches() throws Exception {
+        mock.expectedMessageCount(15);
+        assertMockEndpointsSatisfied();
+
+        // the last messages are deleted once all the exchanges of the poll are done
+        int entries = 0;
+        for (int i = 0; i < 50 && entries < 15; i++) {
+            Thread.sleep(100);
+            entries = 0;
+            for (DeleteMessageBatchRequest request : clientMock.deleteMessageBatchRequests) {
+                assertTrue(request.getEntries().size() <= 10);
+                entries += request.getEntries().size();
+            }
+        }
+
+        assertEquals(15, entries);
+        assertEquals(2, clientMock.deleteMessageBatchRequests.size());
+        assertEquals(0, clientMock.deleteMessageRequests.size());
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+
+        clientMock = new AmazonSQSClientMock();
+        for (int counter = 0; counter < 15; counter++) {
+            Message message = new Message();
+            message.setBody("Message " + counter);
+            message.setMD5OfBody("6a1559560f67c5e7a7d5d838bf0272ee");
+            message.setMessageId("f6fb6f99-5eb2-4be4-9b15-144774141458");
+            message.setReceiptHandle("0NNAq8PwvXsyZkR6yu4nQ07FGxNmOBWi5" + counter);
+
+            clientMock.messages.add(message);
+        }
+
+        registry.bind("amazonSQSClient", clientMock);
+
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("aws-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&delay=5000&maxMessagesPerPoll=15&batchAcknowledge=true")
+                    .to("mock:result");
+            }
+        };
+    }
+}
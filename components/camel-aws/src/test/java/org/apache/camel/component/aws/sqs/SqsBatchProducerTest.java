@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws.sqs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class SqsBatchProducerTest extends CamelTestSupport {
+
+    private AmazonSQSClientMock clientMock;
+
+    @Test
+    public void sendInBatches() throws Exception {
+        List<Future<Exchange>> futures = new ArrayList<Future<Exchange>>();
+        for (int i = 0; i < 25; i++) {
+            final String body = "Message " + i;
+            futures.add(template.asyncSend("direct:start", new Processor() {
+                @Override
+                public void process(Exchange exchange) throws Exception {
+                    exchange.getIn().setBody(body);
+                }
+            }));
+        }
+
+        for (Future<Exchange> future : futures) {
+            Exchange exchange = future.get();
+            assertNull(exchange.getException());
+            assertEquals("f6fb6f99-5eb2-4be4-9b15-144774141458", exchange.getIn().getHeader(SqsConstants.MESSAGE_ID));
+            assertEquals("6a1559560f67c5e7a7d5d838bf0272ee", exchange.getIn().getHeader(SqsConstants.MD5_OF_BODY));
+        }
+
+        assertEquals(25, clientMock.messages.size());
+        int entries = 0;
+        for (SendMessageBatchRequest request : clientMock.sendMessageBatchRequests) {
+            assertEquals("https://queue.amazonaws.com/541925086079/MyQueue", request.getQueueUrl());
+            assertTrue(request.getEntries().size() <= 10);
+            entries += request.getEntries().size();
+        }
+        assertEquals(25, entries);
+        assertTrue("Expected the messages to be sent in batches", clientMock.sendMessageBatchRequests.size() < 25);
+    }
+
+    @Test
+    public void sendLargeMessagesInSeparateBatches() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 100 * 1024; i++) {
+            body.append('x');
+        }
+
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(template.asyncRequestBody("direct:start", body.toString()));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        assertTrue("Expected at least two batches", clientMock.sendMessageBatchRequests.size() >= 2);
+        for (SendMessageBatchRequest request : clientMock.sendMessageBatchRequests) {
+            int size = 0;
+            for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+                size += entry.getMessageBody().length();
+            }
+            assertTrue("The payload of a batch must not exceed 256 KB", size <= SqsConstants.MAX_BATCH_BYTES);
+        }
+    }
+
+    @Test
+    public void rejectBatchSizeAboveMaximum() throws Exception {
+        try {
+            context.getEndpoint("aws-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&batchSize=11").createProducer();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The batch size must be at most 10, was 11", e.getMessage());
+        }
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        clientMock = new AmazonSQSClientMock();
+        registry.bind("amazonSQSClient", clientMock);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("aws-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&batchSize=10&batchTimeout=100");
+            }
+        };
+    }
+}
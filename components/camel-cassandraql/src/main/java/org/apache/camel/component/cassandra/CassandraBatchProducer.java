@@ -0,0 +1,263 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.BatchAccumulator;
+import org.apache.camel.util.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A producer which groups the INSERT, UPDATE and DELETE statements of messages sent concurrently or in quick succession
+ * by table and partition key, and executes each group as one unlogged batch.
+ * <p/>
+ * As all statements of a batch belong to the same partition of the same table, the batch is applied atomically by
+ * a single replica, and is sent directly to it when using a token aware load balancing policy. A statement is executed
+ * right away when no batch is being executed, and is otherwise held until that batch is complete, until
+ * <tt>batchSize</tt> statements are pending, or at most about <tt>batchTimeout</tt> millis, as described by
+ * {@link BatchAccumulator}.
+ * <p/>
+ * Other statements are executed directly using the {@link CassandraProducer}. These are reads, conditional statements,
+ * statements whose partition key is not bound, and statements on tables with counter columns, as counter updates
+ * cannot be part of an unlogged batch.
+ */
+public class CassandraBatchProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CassandraBatchProducer.class);
+    private final CassandraProducer producer;
+    private final BatchAccumulator<PendingExchange> accumulator;
+    private ProtocolVersion protocolVersion;
+    private CodecRegistry codecRegistry;
+    private Metadata metadata;
+
+    public CassandraBatchProducer(CassandraEndpoint endpoint, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.producer = new CassandraProducer(endpoint);
+        this.accumulator = new BatchAccumulator<PendingExchange>(endpoint.getCamelContext(), this, "CassandraBatch", batchSize, batchTimeout) {
+            @Override
+            protected void processBatch(List<PendingExchange> batch, AsyncCallback callback) {
+                execute(batch, callback);
+            }
+        };
+    }
+
+    @Override
+    public CassandraEndpoint getEndpoint() {
+        return (CassandraEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(producer);
+
+        Cluster cluster = getEndpoint().getSessionHolder().getSession().getCluster();
+        Configuration configuration = cluster.getConfiguration();
+        protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+        codecRegistry = configuration.getCodecRegistry();
+        metadata = cluster.getMetadata();
+
+        ServiceHelper.startService(accumulator);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // executes any pending statements so they are not left waiting
+        ServiceHelper.stopServices(accumulator, producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange pendingExchange;
+        try {
+            Statement statement = producer.createStatement(exchange.getIn());
+            ByteBuffer routingKey = isBatchable(statement) ? statement.getRoutingKey(protocolVersion, codecRegistry) : null;
+            if (routingKey == null) {
+                // cannot be grouped so execute it directly
+                return producer.process(exchange, callback);
+            }
+
+            // copy the header of in message to the out message
+            exchange.getOut().copyFrom(exchange.getIn());
+            pendingExchange = new PendingExchange(exchange, callback, (BoundStatement) statement, routingKey);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        accumulator.add(pendingExchange);
+        return false;
+    }
+
+    /**
+     * Whether the statement can be part of an unlogged batch, which are writes which are not conditional,
+     * and do not update counters.
+     */
+    private boolean isBatchable(Statement statement) {
+        if (!(statement instanceof BoundStatement)) {
+            return false;
+        }
+        PreparedStatement preparedStatement = ((BoundStatement) statement).preparedStatement();
+        String cql = preparedStatement.getQueryString().trim().toUpperCase(Locale.ENGLISH);
+        // conditional statements return whether they were applied, which must not be shared between messages
+        if (!(cql.startsWith("INSERT") || cql.startsWith("UPDATE") || cql.startsWith("DELETE")) || cql.contains(" IF ")) {
+            return false;
+        }
+        ColumnDefinitions variables = preparedStatement.getVariables();
+        if (variables.size() == 0) {
+            return false;
+        }
+        TableMetadata table = getTable(variables.getKeyspace(0), variables.getTable(0));
+        if (table == null) {
+            return false;
+        }
+        for (ColumnMetadata column : table.getColumns()) {
+            if (column.getType().getName() == DataType.Name.COUNTER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TableMetadata getTable(String keyspace, String table) {
+        KeyspaceMetadata keyspaceMetadata = metadata.getKeyspace(Metadata.quote(keyspace));
+        return keyspaceMetadata != null ? keyspaceMetadata.getTable(Metadata.quote(table)) : null;
+    }
+
+    /**
+     * Executes the given statements, and calls the callback when all of them are complete.
+     */
+    private void execute(List<PendingExchange> batch, AsyncCallback callback) {
+        // group the statements by table and partition
+        Map<List<Object>, List<PendingExchange>> partitions = new LinkedHashMap<List<Object>, List<PendingExchange>>();
+        for (PendingExchange pendingExchange : batch) {
+            ColumnDefinitions variables = pendingExchange.statement.preparedStatement().getVariables();
+            List<Object> key = Arrays.<Object>asList(variables.getKeyspace(0), variables.getTable(0), pendingExchange.routingKey);
+            List<PendingExchange> list = partitions.get(key);
+            if (list == null) {
+                list = new ArrayList<PendingExchange>();
+                partitions.put(key, list);
+            }
+            list.add(pendingExchange);
+        }
+        LOG.trace("Executing {} statements in {} partitions", batch.size(), partitions.size());
+
+        AtomicInteger remaining = new AtomicInteger(partitions.size());
+        for (List<PendingExchange> list : partitions.values()) {
+            executePartition(list, remaining, callback);
+        }
+    }
+
+    private void executePartition(final List<PendingExchange> partition, final AtomicInteger remaining, final AsyncCallback callback) {
+        Statement statement;
+        if (partition.size() == 1) {
+            statement = partition.get(0).statement;
+        } else {
+            BatchStatement batchStatement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            if (getEndpoint().getConsistencyLevel() != null) {
+                batchStatement.setConsistencyLevel(getEndpoint().getConsistencyLevel());
+            }
+            for (PendingExchange pendingExchange : partition) {
+                batchStatement.add(pendingExchange.statement);
+            }
+            statement = batchStatement;
+        }
+
+        final ResultSetFuture future;
+        try {
+            future = producer.executeAsync(statement);
+        } catch (Exception e) {
+            for (PendingExchange pendingExchange : partition) {
+                pendingExchange.exchange.setException(e);
+                pendingExchange.callback.done(false);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                callback.done(false);
+            }
+            return;
+        }
+
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                ResultSet resultSet = null;
+                Exception cause = null;
+                try {
+                    resultSet = future.getUninterruptibly();
+                } catch (Exception e) {
+                    cause = e;
+                }
+                for (PendingExchange pendingExchange : partition) {
+                    if (cause != null) {
+                        pendingExchange.exchange.setException(cause);
+                    } else {
+                        // writes do not return rows, so every message gets an empty result
+                        getEndpoint().fillMessage(resultSet, pendingExchange.exchange.getOut());
+                    }
+                    pendingExchange.callback.done(false);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    callback.done(false);
+                }
+            }
+        }, producer.getExecutorService());
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final BoundStatement statement;
+        private final ByteBuffer routingKey;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, BoundStatement statement, ByteBuffer routingKey) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.statement = statement;
+            this.routingKey = routingKey;
+        }
+    }
+}
@@ -73,6 +73,12 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     private String loadBalancingPolicy;
     @UriParam(javaType = "java.lang.String")
     private ResultSetConversionStrategy resultSetConversionStrategy = ResultSetConversionStrategies.all();
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private int preparedStatementCacheSize = 100;
+    @UriParam(label = "producer")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long batchTimeout = 10;
 
     public CassandraEndpoint(String endpointUri, Component component) {
         super(endpointUri, component);
@@ -86,6 +92,12 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (batchSize > 0) {
+            if (!prepareStatements) {
+                throw new IllegalArgumentException("The batchSize option can only be used with prepareStatements enabled");
+            }
+            return new CassandraBatchProducer(this, batchSize, batchTimeout);
+        }
         return new CassandraProducer(this);
     }
 
@@ -346,6 +358,45 @@ public class CassandraEndpoint extends ScheduledPollEndpoint {
         this.prepareStatements = prepareStatements;
     }
 
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    /**
+     * The maximum number of PreparedStatements to cache for CQL passed in the message header with key CamelCqlQuery,
+     * so the same CQL is not prepared again for every message. Set to 0 to disable the cache.
+     */
+    public void setPreparedStatementCacheSize(int preparedStatementCacheSize) {
+        this.preparedStatementCacheSize = preparedStatementCacheSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * If set greater than zero, then the INSERT, UPDATE and DELETE statements of messages which are sent concurrently
+     * or in quick succession are grouped by table and partition key, and each group is executed as one unlogged batch,
+     * which is sent directly to a replica of the partition when using a token aware load balancing policy.
+     * Up to this number of statements are grouped at a time. Statements on tables with counter columns are not grouped.
+     * The statements are then executed asynchronously. Requires prepareStatements to be enabled.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time in millis statements are held to be grouped while another batch is being executed when using batchSize,
+     * before they are executed even if there are fewer than batchSize. Must be greater than zero.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     /**
      * To use a specific LoadBalancingPolicy
      */
@@ -17,14 +17,22 @@
 package org.apache.camel.component.cassandra;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.impl.DefaultProducer;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.util.LRUCache;
+import org.apache.camel.util.LRUCacheFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,11 +46,15 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.isEmpty;
  * <dt>Out Message</dt>
  * <dd>List of all Rows<dd>
  * <dl>
+ * When grouping statements using the <tt>batchSize</tt> option, the statements are executed asynchronously,
+ * and the exchange continues routing when the result is available.
  */
-public class CassandraProducer extends DefaultProducer {
+public class CassandraProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(CassandraProducer.class);
     private PreparedStatement preparedStatement;
+    private LRUCache<String, PreparedStatement> preparedStatements;
+    private ExecutorService executorService;
 
     public CassandraProducer(CassandraEndpoint endpoint) {
         super(endpoint);
@@ -54,11 +66,22 @@ public class CassandraProducer extends DefaultProducer {
         if (isPrepareStatements() && getEndpoint().getCql() != null) {
             this.preparedStatement = getEndpoint().prepareStatement();
         }
+        if (isPrepareStatements() && getEndpoint().getPreparedStatementCacheSize() > 0) {
+            this.preparedStatements = LRUCacheFactory.newLRUCache(getEndpoint().getPreparedStatementCacheSize());
+        }
+        if (executorService == null && getEndpoint().getBatchSize() > 0) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "CassandraProducer");
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         this.preparedStatement = null;
+        this.preparedStatements = null;
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
         super.doStop();
     }
 
@@ -89,9 +112,9 @@ public class CassandraProducer extends DefaultProducer {
     }
 
     /**
-     * Execute CQL query using incoming message body has statement parameters.
+     * Create the statement to execute using incoming message body has statement parameters.
      */
-    private ResultSet execute(Message message) {
+    Statement createStatement(Message message) {
         Object messageCql = message.getHeader(CassandraConstants.CQL_QUERY);
         // Convert Empty string to null
         if (messageCql instanceof String && ((String) messageCql).isEmpty()) {
@@ -99,28 +122,24 @@ public class CassandraProducer extends DefaultProducer {
         }
         Object[] cqlParams = getCqlParams(message);
 
-        ResultSet resultSet;
-        Session session = getEndpoint().getSessionHolder().getSession();
         if (isPrepareStatements()) {
-            resultSet = executePreparedStatement(session, messageCql, cqlParams);
+            return createPreparedStatement(messageCql, cqlParams);
         } else {
-            resultSet = executeStatement(session, messageCql, cqlParams);
+            return createRegularStatement(messageCql, cqlParams);
         }
-        return resultSet;
     }
 
     /**
-     * Execute CQL as PreparedStatement
+     * Create CQL as PreparedStatement
      */
-    private ResultSet executePreparedStatement(Session session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
+    private Statement createPreparedStatement(Object messageCql, Object[] cqlParams) {
         PreparedStatement lPreparedStatement;
         if (messageCql == null) {
             // URI CQL
             lPreparedStatement = this.preparedStatement;
         } else if (messageCql instanceof String) {
             // Message CQL
-            lPreparedStatement = getEndpoint().prepareStatement((String) messageCql);
+            lPreparedStatement = getPreparedStatement((String) messageCql);
         } else if (messageCql instanceof RegularStatement) {
             // Message Statement
             lPreparedStatement = getEndpoint().getSession().prepare((RegularStatement) messageCql);
@@ -128,20 +147,34 @@ public class CassandraProducer extends DefaultProducer {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
         if (isEmpty(cqlParams)) {
-            resultSet = session.execute(lPreparedStatement.bind());
+            return lPreparedStatement.bind();
         } else {
-            resultSet = session.execute(lPreparedStatement.bind(cqlParams));
+            return lPreparedStatement.bind(cqlParams);
+        }
+    }
+
+    /**
+     * Gets the PreparedStatement for the CQL from the cache, or prepares it if not cached
+     */
+    private PreparedStatement getPreparedStatement(String cql) {
+        if (preparedStatements == null) {
+            return getEndpoint().prepareStatement(cql);
+        }
+        PreparedStatement answer = preparedStatements.get(cql);
+        if (answer == null) {
+            // concurrent exchanges may prepare the same CQL, which is harmless
+            LOG.debug("Preparing CQL: {}", cql);
+            answer = getEndpoint().prepareStatement(cql);
+            preparedStatements.put(cql, answer);
         }
-        return resultSet;
+        return answer;
     }
 
     /**
-     * Execute CQL as is
+     * Create CQL as is
      */
-    private ResultSet executeStatement(Session session, Object messageCql, Object[] cqlParams) {
-        ResultSet resultSet;
-        String cql = null;
-        RegularStatement statement = null;
+    private Statement createRegularStatement(Object messageCql, Object[] cqlParams) {
+        String cql;
         if (messageCql == null) {
             // URI CQL
             cql = getEndpoint().getCql();
@@ -150,25 +183,82 @@ public class CassandraProducer extends DefaultProducer {
             cql = (String) messageCql;
         } else if (messageCql instanceof RegularStatement) {
             // Message Statement
-            statement = (RegularStatement) messageCql;
+            return (RegularStatement) messageCql;
         } else {
             throw new IllegalArgumentException("Invalid " + CassandraConstants.CQL_QUERY + " header");
         }
-        if (statement != null) {
-            resultSet = session.execute(statement);
-        } else if (isEmpty(cqlParams)) {
-            resultSet = session.execute(cql);
+        if (isEmpty(cqlParams)) {
+            return new SimpleStatement(cql);
         } else {
-            resultSet = session.execute(cql, cqlParams);
+            return new SimpleStatement(cql, cqlParams);
+        }
+    }
+
+    /**
+     * Executes the statement asynchronously
+     */
+    ResultSetFuture executeAsync(Statement statement) {
+        Session session = getEndpoint().getSessionHolder().getSession();
+        return session.executeAsync(statement);
+    }
+
+    /**
+     * The thread pool to complete exchanges on, as blocking in the I/O threads of the driver
+     * (such as when fetching more pages of a result) is not allowed. This is only created when using batchSize.
+     */
+    Executor getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (executorService == null) {
+            try {
+                process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
         }
-        return resultSet;
+
+        final ResultSetFuture future;
+        try {
+            // copy the header of in message to the out message
+            exchange.getOut().copyFrom(exchange.getIn());
+
+            future = executeAsync(createStatement(exchange.getIn()));
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    getEndpoint().fillMessage(future.getUninterruptibly(), exchange.getOut());
+                } catch (Exception e) {
+                    exchange.setException(e);
+                } finally {
+                    callback.done(false);
+                }
+            }
+        }, executorService);
+        return false;
     }
 
+    /**
+     * Executes the statement synchronously
+     */
+    @Override
     public void process(Exchange exchange) throws Exception {
         // copy the header of in message to the out message
         exchange.getOut().copyFrom(exchange.getIn());
 
-        ResultSet resultSet = execute(exchange.getIn());
+        Session session = getEndpoint().getSessionHolder().getSession();
+        ResultSet resultSet = session.execute(createStatement(exchange.getIn()));
         getEndpoint().fillMessage(resultSet, exchange.getOut());
     }
 
@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.cassandra;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import org.apache.camel.builder.RouteBuilder;
+import org.cassandraunit.CassandraCQLUnit;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CassandraComponentProducerBatchTest extends BaseCassandraTest {
+
+    private static final String CQL = "insert into camel_user(login, first_name, last_name) values (?, ?, ?)";
+    private static final String BY_NAME_CQL = "insert into camel_user_by_name(last_name, login, first_name) values (?, ?, ?)";
+    private static final String COUNTER_CQL = "update camel_counter set hits = hits + 1 where login = ?";
+    private static final String SELECT_CQL = "select login, first_name, last_name from camel_user where login = ?";
+
+    @Rule
+    public CassandraCQLUnit cassandra = CassandraUnitUtils.cassandraCQLUnit("BatchDataSet.cql");
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:batch")
+                        .to("cql://localhost/camel_ks?cql=" + CQL + "&batchSize=50");
+            }
+        };
+    }
+
+    @Test
+    public void testBatchedWrites() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        // the same partitions are written several times so the statements are grouped
+        send(500, 100, null);
+
+        Cluster cluster = CassandraUnitUtils.cassandraCluster();
+        Session session = cluster.connect(CassandraUnitUtils.KEYSPACE);
+        for (int i = 0; i < 100; i++) {
+            ResultSet resultSet = session.execute(SELECT_CQL, "user" + i);
+            Row row = resultSet.one();
+            assertNotNull(row);
+            assertEquals("Last", row.getString("last_name"));
+        }
+        session.close();
+        cluster.close();
+    }
+
+    @Test
+    public void testWritesToTablesWithTheSamePartitionKey() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        // both tables are written with the same partition key values, which must not end up in the same batch
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        List<Future<Object>> responses = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final String key = "key" + (i % 10);
+            responses.add(executor.submit(() -> template.requestBody("direct:batch", Arrays.asList(key, "First", "Last"))));
+            responses.add(executor.submit(() -> template.requestBodyAndHeader("direct:batch", Arrays.asList(key, "login", "First"),
+                                                                              CassandraConstants.CQL_QUERY, BY_NAME_CQL)));
+        }
+        for (Future<Object> future : responses) {
+            future.get();
+        }
+        executor.shutdownNow();
+
+        Cluster cluster = CassandraUnitUtils.cassandraCluster();
+        Session session = cluster.connect(CassandraUnitUtils.KEYSPACE);
+        assertEquals(10, session.execute("select count(*) from camel_user_by_name").one().getLong(0));
+        assertEquals(11, session.execute("select count(*) from camel_user").one().getLong(0));
+        session.close();
+        cluster.close();
+    }
+
+    @Test
+    public void testCounterUpdatesAreNotBatched() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        // counter updates cannot be part of an unlogged batch
+        send(100, 1, COUNTER_CQL);
+
+        Cluster cluster = CassandraUnitUtils.cassandraCluster();
+        Session session = cluster.connect(CassandraUnitUtils.KEYSPACE);
+        assertEquals(100, session.execute("select hits from camel_counter where login = ?", "user0").one().getLong("hits"));
+        session.close();
+        cluster.close();
+    }
+
+    @Test
+    public void testSelectIsNotBatched() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        Object response = template.requestBodyAndHeader("direct:batch", "c_ibsen", CassandraConstants.CQL_QUERY, SELECT_CQL);
+
+        assertIsInstanceOf(List.class, response);
+        List<?> rows = (List<?>) response;
+        assertEquals(1, rows.size());
+        assertEquals("Claus", ((Row) rows.get(0)).getString("first_name"));
+    }
+
+    private void send(int count, int partitions, final String cql) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        List<Future<Object>> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Object body = cql != null ? "user" + (i % partitions) : Arrays.asList("user" + (i % partitions), "First" + i, "Last");
+            responses.add(executor.submit(() -> template.requestBodyAndHeader("direct:batch", body, CassandraConstants.CQL_QUERY, cql)));
+        }
+        for (Future<Object> future : responses) {
+            future.get();
+        }
+        executor.shutdownNow();
+    }
+}
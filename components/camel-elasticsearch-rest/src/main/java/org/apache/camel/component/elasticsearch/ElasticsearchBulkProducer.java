@@ -0,0 +1,299 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.component.elasticsearch.converter.ElasticsearchActionRequestConverter;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.util.ServiceHelper;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.ActionRequest;
+import org.elasticsearch.action.ActionRequestValidationException;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.support.ActiveShardCount;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An Elasticsearch producer which aggregates the Index, Update and Delete operations of exchanges sent concurrently
+ * or in quick succession into bulk requests.
+ * <p/>
+ * Actions are held until <tt>bulkActions</tt> actions or <tt>bulkSizeInBytes</tt> bytes are pending, or at most about
+ * <tt>bulkFlushInterval</tt> millis. At most <tt>bulkConcurrentRequests</tt> bulk requests are in flight, and the
+ * exchanges which fill up the next bulk request are blocked until one has completed. Each exchange continues routing
+ * with the result of its own action, or fails with the failure of its own action. Other operations are executed
+ * directly using the {@link ElasticsearchProducer}.
+ * <p/>
+ * The wait for active shards applies to a whole bulk request, so the pending actions are sent first when an exchange
+ * sets another value with the {@link ElasticsearchConstants#PARAM_WAIT_FOR_ACTIVE_SHARDS} header.
+ */
+public class ElasticsearchBulkProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchBulkProducer.class);
+
+    private final ElasticsearchConfiguration configuration;
+    private final ElasticsearchProducer producer;
+    private final Semaphore inFlight;
+    private final Object lock = new Object();
+    private BulkRequest bulkRequest;
+    private List<PendingExchange> pending;
+    private RestHighLevelClient client;
+    private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService executorService;
+
+    public ElasticsearchBulkProducer(ElasticsearchEndpoint endpoint, ElasticsearchConfiguration configuration) {
+        super(endpoint);
+        this.configuration = configuration;
+        this.producer = new ElasticsearchProducer(endpoint, configuration);
+        this.inFlight = new Semaphore(configuration.getBulkConcurrentRequests());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(producer);
+        if (producer.getClient() != null) {
+            client = new ElasticsearchProducer.HighLevelClient(producer.getClient());
+        }
+        bulkRequest = new BulkRequest();
+        pending = new ArrayList<>();
+
+        if (executorService == null) {
+            // the exchanges are completed on a separate thread, as the I/O threads of the client must not be blocked
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "ElasticsearchBulk");
+        }
+        if (scheduledExecutorService == null) {
+            scheduledExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "ElasticsearchBulkFlush");
+        }
+        long interval = configuration.getBulkFlushInterval();
+        scheduledExecutorService.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduledExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(scheduledExecutorService);
+            scheduledExecutorService = null;
+        }
+        // send any pending actions and wait for the bulk requests in flight to complete
+        flush();
+        inFlight.acquireUninterruptibly(configuration.getBulkConcurrentRequests());
+        inFlight.release(configuration.getBulkConcurrentRequests());
+
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        ServiceHelper.stopService(producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        BulkRequest previous = null;
+        List<PendingExchange> previousExchanges = null;
+        BulkRequest full = null;
+        List<PendingExchange> fullExchanges = null;
+        try {
+            ElasticsearchOperation operation = producer.resolveOperation(exchange);
+            if (operation != ElasticsearchOperation.Index && operation != ElasticsearchOperation.Update && operation != ElasticsearchOperation.Delete) {
+                // cannot be part of a bulk request so execute it directly
+                producer.process(exchange);
+                callback.done(true);
+                return true;
+            }
+
+            DocWriteRequest<?> request = createRequest(operation, exchange);
+            // an invalid action would fail the whole bulk request, so it fails only its own exchange here
+            ActionRequestValidationException invalid = ((ActionRequest) request).validate();
+            if (invalid != null) {
+                throw invalid;
+            }
+            Integer waitForActiveShards = exchange.getIn().getHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS, Integer.class);
+            ActiveShardCount activeShardCount = ActiveShardCount.from(waitForActiveShards != null ? waitForActiveShards : configuration.getWaitForActiveShards());
+            synchronized (lock) {
+                if (!pending.isEmpty() && !activeShardCount.equals(bulkRequest.waitForActiveShards())) {
+                    // the pending actions wait for another number of active shards so they are sent on their own
+                    previous = bulkRequest;
+                    previousExchanges = pending;
+                    bulkRequest = new BulkRequest();
+                    pending = new ArrayList<>();
+                }
+                if (pending.isEmpty()) {
+                    bulkRequest.waitForActiveShards(activeShardCount);
+                }
+                bulkRequest.add(request);
+                pending.add(new PendingExchange(exchange, callback, operation));
+                if (bulkRequest.numberOfActions() >= configuration.getBulkActions()
+                    || bulkRequest.estimatedSizeInBytes() >= configuration.getBulkSizeInBytes()) {
+                    full = bulkRequest;
+                    fullExchanges = pending;
+                    bulkRequest = new BulkRequest();
+                    pending = new ArrayList<>();
+                }
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (previous != null) {
+            send(previous, previousExchanges);
+        }
+        if (full != null) {
+            // the bulk request is full so send it from the current thread, which blocks if too many are in flight
+            send(full, fullExchanges);
+        }
+        return false;
+    }
+
+    /**
+     * Creates the request of the action, using the index, type and wait for active shards headers,
+     * or the configuration if the headers are not set.
+     */
+    private DocWriteRequest<?> createRequest(ElasticsearchOperation operation, Exchange exchange) {
+        Message message = exchange.getIn();
+        boolean configIndexName = false;
+        if (message.getHeader(ElasticsearchConstants.PARAM_INDEX_NAME) == null) {
+            message.setHeader(ElasticsearchConstants.PARAM_INDEX_NAME, configuration.getIndexName());
+            configIndexName = true;
+        }
+        boolean configIndexType = false;
+        if (message.getHeader(ElasticsearchConstants.PARAM_INDEX_TYPE) == null) {
+            message.setHeader(ElasticsearchConstants.PARAM_INDEX_TYPE, configuration.getIndexType());
+            configIndexType = true;
+        }
+        boolean configWaitForActiveShards = false;
+        if (message.getHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS) == null) {
+            message.setHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS, configuration.getWaitForActiveShards());
+            configWaitForActiveShards = true;
+        }
+
+        try {
+            if (operation == ElasticsearchOperation.Index) {
+                return ElasticsearchActionRequestConverter.toIndexRequest(message.getBody(), exchange);
+            } else if (operation == ElasticsearchOperation.Update) {
+                return ElasticsearchActionRequestConverter.toUpdateRequest(message.getBody(), exchange);
+            } else {
+                return ElasticsearchActionRequestConverter.toDeleteRequest(message.getBody(), exchange);
+            }
+        } finally {
+            // remove the headers set from the configuration, like the ElasticsearchProducer
+            if (configIndexName) {
+                message.removeHeader(ElasticsearchConstants.PARAM_INDEX_NAME);
+            }
+            if (configIndexType) {
+                message.removeHeader(ElasticsearchConstants.PARAM_INDEX_TYPE);
+            }
+            if (configWaitForActiveShards) {
+                message.removeHeader(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS);
+            }
+        }
+    }
+
+    /**
+     * Sends the pending actions, if any.
+     */
+    protected void flush() {
+        BulkRequest request;
+        List<PendingExchange> exchanges;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            request = bulkRequest;
+            exchanges = pending;
+            bulkRequest = new BulkRequest();
+            pending = new ArrayList<>();
+        }
+        send(request, exchanges);
+    }
+
+    private void send(BulkRequest request, final List<PendingExchange> exchanges) {
+        // apply backpressure by waiting while too many bulk requests are in flight
+        inFlight.acquireUninterruptibly();
+        LOG.trace("Sending bulk request with {} actions", request.numberOfActions());
+
+        final ExecutorService executor = executorService;
+        try {
+            client.bulkAsync(request, new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(BulkResponse response) {
+                    // release when the exchanges are handed over, so stopping waits for them to be completed
+                    executor.execute(() -> complete(exchanges, response.getItems(), null));
+                    inFlight.release();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    executor.execute(() -> complete(exchanges, null, e));
+                    inFlight.release();
+                }
+            });
+        } catch (Exception e) {
+            inFlight.release();
+            complete(exchanges, null, e);
+        }
+    }
+
+    private void complete(List<PendingExchange> exchanges, BulkItemResponse[] items, Exception cause) {
+        for (int i = 0; i < exchanges.size(); i++) {
+            PendingExchange pendingExchange = exchanges.get(i);
+            Exchange exchange = pendingExchange.exchange;
+            if (cause != null) {
+                exchange.setException(cause);
+            } else {
+                // the items of the response are in the order of the actions of the request
+                BulkItemResponse item = items[i];
+                if (item.isFailed()) {
+                    exchange.setException(item.getFailure().getCause());
+                } else if (pendingExchange.operation == ElasticsearchOperation.Delete) {
+                    exchange.getIn().setBody(item.getResponse().getResult());
+                } else {
+                    exchange.getIn().setBody(item.getId());
+                }
+            }
+            pendingExchange.callback.done(false);
+        }
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final ElasticsearchOperation operation;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, ElasticsearchOperation operation) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.operation = operation;
+        }
+    }
+}
@@ -52,6 +52,15 @@ public class ElasticsearchConfiguration {
     @UriParam(defaultValue = "false")
     private boolean enableSSL;
 
+    @UriParam
+    private int bulkActions;
+    @UriParam(defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_SIZE_IN_BYTES)
+    private long bulkSizeInBytes = ElasticsearchConstants.DEFAULT_BULK_SIZE_IN_BYTES;
+    @UriParam(defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_FLUSH_INTERVAL)
+    private long bulkFlushInterval = ElasticsearchConstants.DEFAULT_BULK_FLUSH_INTERVAL;
+    @UriParam(defaultValue = "" + ElasticsearchConstants.DEFAULT_BULK_CONCURRENT_REQUESTS)
+    private int bulkConcurrentRequests = ElasticsearchConstants.DEFAULT_BULK_CONCURRENT_REQUESTS;
+
     private String user;
     private String password;
     //Sniffer parameter.
@@ -243,4 +252,54 @@ public class ElasticsearchConfiguration {
     public void setSniffAfterFailureDelay(int sniffAfterFailureDelay) {
         this.sniffAfterFailureDelay = sniffAfterFailureDelay;
     }
-}
\ No newline at end of file
+
+    /**
+     * If set greater than zero, then the Index, Update and Delete operations of exchanges which are sent concurrently
+     * or in quick succession are aggregated into bulk requests of up to this number of actions, instead of one HTTP
+     * request per exchange. Each exchange continues routing when its bulk request has completed, with the result
+     * of its own action; if its action failed then only that exchange fails.
+     */
+    public int getBulkActions() {
+        return bulkActions;
+    }
+
+    public void setBulkActions(int bulkActions) {
+        this.bulkActions = bulkActions;
+    }
+
+    /**
+     * The maximum estimated size in bytes of a bulk request when using bulkActions,
+     * before it is sent even if it has fewer actions.
+     */
+    public long getBulkSizeInBytes() {
+        return bulkSizeInBytes;
+    }
+
+    public void setBulkSizeInBytes(long bulkSizeInBytes) {
+        this.bulkSizeInBytes = bulkSizeInBytes;
+    }
+
+    /**
+     * The maximum time in ms actions are held when using bulkActions, before the bulk request is sent
+     * even if it is not full.
+     */
+    public long getBulkFlushInterval() {
+        return bulkFlushInterval;
+    }
+
+    public void setBulkFlushInterval(long bulkFlushInterval) {
+        this.bulkFlushInterval = bulkFlushInterval;
+    }
+
+    /**
+     * The maximum number of bulk requests in flight when using bulkActions. When reached, the exchanges
+     * which fill up the next bulk request are blocked until a bulk request has completed.
+     */
+    public int getBulkConcurrentRequests() {
+        return bulkConcurrentRequests;
+    }
+
+    public void setBulkConcurrentRequests(int bulkConcurrentRequests) {
+        this.bulkConcurrentRequests = bulkConcurrentRequests;
+    }
+}
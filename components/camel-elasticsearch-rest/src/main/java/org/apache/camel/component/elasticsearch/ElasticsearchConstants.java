@@ -31,5 +31,8 @@ public interface ElasticsearchConstants {
     int    DEFAULT_CONNECTION_TIMEOUT = 30000; // Meaning how many seconds before it timeout when establish connection
     int    DEFAULT_SNIFFER_INTERVAL = 60000 * 5; // Meaning how often it should search for elasticsearch nodes
     int    DEFAULT_AFTER_FAILURE_DELAY = 60000; // Meaning when should the sniff execution scheduled after a failure
+    long   DEFAULT_BULK_SIZE_IN_BYTES = 5 * 1024 * 1024; // Meaning the maximum size of an automatic bulk request
+    long   DEFAULT_BULK_FLUSH_INTERVAL = 50; // Meaning how long actions are held before an automatic bulk request is sent
+    int    DEFAULT_BULK_CONCURRENT_REQUESTS = 1; // Meaning how many automatic bulk requests can be in flight
 
 }
@@ -43,6 +43,12 @@ public class ElasticsearchEndpoint extends DefaultEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (configuration.getBulkActions() > 0) {
+            if (configuration.getDisconnect()) {
+                throw new IllegalArgumentException("The bulkActions option cannot be used together with disconnect");
+            }
+            return new ElasticsearchBulkProducer(this, configuration);
+        }
         return new ElasticsearchProducer(this, configuration);
     }
 
@@ -72,7 +72,7 @@ public class ElasticsearchProducer extends DefaultProducer {
         this.client = endpoint.getClient();
     }
 
-    private ElasticsearchOperation resolveOperation(Exchange exchange) {
+    ElasticsearchOperation resolveOperation(Exchange exchange) {
         // 1. Operation can be driven by either (in order of preference):
         // a. If the body is an ActionRequest the operation is set by the type
         // of request.
@@ -298,8 +298,8 @@ public class ElasticsearchProducer extends DefaultProducer {
         return client;
     }
     
-    private final class HighLevelClient extends RestHighLevelClient {
-        private HighLevelClient(RestClient restClient) {
+    static final class HighLevelClient extends RestHighLevelClient {
+        HighLevelClient(RestClient restClient) {
             super(restClient, (client) -> { }, Collections.emptyList());
         }
     }
@@ -0,0 +1,143 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultExchange;
+import org.apache.camel.util.ServiceHelper;
+import org.elasticsearch.action.DocWriteResponse;
+import org.elasticsearch.action.get.GetResponse;
+import org.junit.Test;
+
+public class ElasticsearchAutoBulkTest extends ElasticsearchBaseTest {
+
+    @Test
+    public void testIndexFromConcurrentExchanges() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final Map<String, String> map = new HashMap<>();
+            map.put("content", "hello " + i);
+            responses.add(executor.submit(() -> template.requestBody("direct:index", map, String.class)));
+        }
+
+        for (Future<String> future : responses) {
+            String indexId = future.get();
+            assertNotNull("indexId should be set", indexId);
+            GetResponse response = template.requestBody("direct:get", indexId, GetResponse.class);
+            assertTrue("document should exist", response.isExists());
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testIndexThenDelete() throws Exception {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(ElasticsearchConstants.PARAM_INDEX_ID, "bulk-delete");
+        template.requestBodyAndHeaders("direct:index", createIndexedData(), headers, String.class);
+
+        headers.put(ElasticsearchConstants.PARAM_OPERATION, ElasticsearchOperation.Delete);
+        Object result = template.requestBodyAndHeaders("direct:index", "bulk-delete", headers);
+        assertEquals(DocWriteResponse.Result.DELETED, result);
+    }
+
+    @Test
+    public void testFailedActionFailsOnlyItsExchange() throws Exception {
+        ElasticsearchBulkProducer producer = createBulkProducer();
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(ElasticsearchConstants.PARAM_OPERATION, ElasticsearchOperation.Update);
+        headers.put(ElasticsearchConstants.PARAM_INDEX_ID, "does-not-exist");
+        // the bulk request is only sent when it has both actions
+        CompletableFuture<Exchange> failed = send(producer, headers);
+        CompletableFuture<Exchange> indexed = send(producer, new HashMap<>());
+
+        // expected as the document to update does not exist
+        assertNotNull("update should fail", failed.get(10, TimeUnit.SECONDS).getException());
+        Exchange exchange = indexed.get(10, TimeUnit.SECONDS);
+        assertNull("index should not fail", exchange.getException());
+        assertNotNull("indexId should be set", exchange.getIn().getBody(String.class));
+
+        ServiceHelper.stopService(producer);
+    }
+
+    @Test
+    public void testWaitForActiveShardsHeaderStartsNewBulkRequest() throws Exception {
+        ElasticsearchBulkProducer producer = createBulkProducer();
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(ElasticsearchConstants.PARAM_WAIT_FOR_ACTIVE_SHARDS, 0);
+        CompletableFuture<Exchange> first = send(producer, headers);
+        CompletableFuture<Exchange> second = send(producer, new HashMap<>());
+
+        // the first action waits for another number of active shards, so it is sent when the second action is added
+        assertNotNull("indexId should be set", first.get(10, TimeUnit.SECONDS).getIn().getBody(String.class));
+        assertFalse("second action should be pending", second.isDone());
+
+        CompletableFuture<Exchange> third = send(producer, new HashMap<>());
+        assertNotNull("indexId should be set", second.get(10, TimeUnit.SECONDS).getIn().getBody(String.class));
+        assertNotNull("indexId should be set", third.get(10, TimeUnit.SECONDS).getIn().getBody(String.class));
+
+        ServiceHelper.stopService(producer);
+    }
+
+    /**
+     * Creates a producer which only sends a bulk request when it has two actions.
+     */
+    private ElasticsearchBulkProducer createBulkProducer() throws Exception {
+        ElasticsearchBulkProducer producer = (ElasticsearchBulkProducer) context.getEndpoint(
+            "elasticsearch-rest://elasticsearch?operation=Index&indexName=twitter&indexType=tweet&bulkActions=2&bulkFlushInterval=60000&hostAddresses=localhost:"
+                + ES_BASE_HTTP_PORT).createProducer();
+        ServiceHelper.startService(producer);
+        return producer;
+    }
+
+    private CompletableFuture<Exchange> send(ElasticsearchBulkProducer producer, Map<String, Object> headers) {
+        Exchange exchange = new DefaultExchange(context, ExchangePattern.InOut);
+        exchange.getIn().setBody(createIndexedData());
+        exchange.getIn().getHeaders().putAll(headers);
+        CompletableFuture<Exchange> future = new CompletableFuture<>();
+        producer.process(exchange, doneSync -> future.complete(exchange));
+        return future;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:index")
+                    .to("elasticsearch-rest://elasticsearch?operation=Index&indexName=twitter&indexType=tweet&bulkActions=10&bulkFlushInterval=20&hostAddresses=localhost:"
+                        + ES_BASE_HTTP_PORT);
+                from("direct:get")
+                    .to("elasticsearch-rest://elasticsearch?operation=GetById&indexName=twitter&indexType=tweet&hostAddresses=localhost:" + ES_BASE_HTTP_PORT);
+            }
+        };
+    }
+}
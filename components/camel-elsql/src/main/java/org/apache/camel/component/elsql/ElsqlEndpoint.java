@@ -40,6 +40,7 @@ import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.ResourceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -79,6 +80,8 @@ public class ElsqlEndpoint extends DefaultSqlEndpoint {
 
     @Override
     public Consumer createConsumer(final Processor processor) throws Exception {
+        validateConsumerOptions();
+
         final SqlProcessingStrategy proStrategy = new ElsqlSqlProcessingStrategy(elSql);
         final SqlPrepareStatementStrategy preStategy = new ElsqlSqlPrepareStatementStrategy();
 
@@ -95,6 +98,7 @@ public class ElsqlEndpoint extends DefaultSqlEndpoint {
         consumer.setExpectedUpdateCount(getExpectedUpdateCount());
         consumer.setUseIterator(isUseIterator());
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
+        consumer.setStreamRows(isStreamRows());
         configureConsumer(consumer);
         return consumer;
     }
@@ -112,6 +116,10 @@ public class ElsqlEndpoint extends DefaultSqlEndpoint {
 
         ObjectHelper.notNull(resourceUri, "resourceUri", this);
 
+        if (getFetchSize() > 0 && namedJdbcTemplate.getJdbcOperations() instanceof JdbcTemplate) {
+            ((JdbcTemplate) namedJdbcTemplate.getJdbcOperations()).setFetchSize(getFetchSize());
+        }
+
         if (elSqlConfig == null && databaseVendor != null) {
             elSqlConfig = databaseVendor.asElSqlConfig();
         } else if (elSqlConfig == null) {
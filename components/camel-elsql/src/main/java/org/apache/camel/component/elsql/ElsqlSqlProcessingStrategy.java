@@ -18,6 +18,8 @@ package org.apache.camel.component.elsql;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 
 import com.opengamma.elsql.ElSql;
 import com.opengamma.elsql.SpringSqlParams;
@@ -64,6 +66,30 @@ public class ElsqlSqlProcessingStrategy implements SqlNamedProcessingStrategy {
         });
     }
 
+    @Override
+    public int[] commitBatch(DefaultSqlEndpoint endpoint, List<Exchange> exchanges, List<Object> data,
+                             NamedParameterJdbcTemplate namedJdbcTemplate, SqlParameterSource parameterSource, String query) throws Exception {
+
+        final SqlParameterSource[] params = new SqlParameterSource[exchanges.size()];
+        String sql = null;
+        for (int i = 0; i < params.length; i++) {
+            params[i] = new ElsqlSqlMapSource(exchanges.get(i), data.get(i));
+            String rowSql = elSql.getSql(query, new SpringSqlParams(params[i]));
+            if (sql != null && !sql.equals(rowSql)) {
+                // the sql can vary per row such as when using conditional tags, and then it cannot be batched
+                return SqlNamedProcessingStrategy.super.commitBatch(endpoint, exchanges, data, namedJdbcTemplate, parameterSource, query);
+            }
+            sql = rowSql;
+        }
+        LOG.debug("commitBatch @{} of {} rows using sql: {}", query, params.length, sql);
+
+        int[] updateCounts = namedJdbcTemplate.batchUpdate(sql, params);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Update counts {}", Arrays.toString(updateCounts));
+        }
+        return updateCounts;
+    }
+
     @Override
     public int commitBatchComplete(DefaultSqlEndpoint endpoint, NamedParameterJdbcTemplate namedJdbcTemplate,
                             SqlParameterSource parameterSource, String query) throws Exception {
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.BatchAccumulator;
+import org.apache.camel.util.ServiceHelper;
+
+/**
+ * A producer which buffers the exchanges sent concurrently or in quick succession, and appends them to the
+ * file in one go, instead of opening, writing and closing the output stream for each exchange.
+ * <p/>
+ * An exchange is written right away when no batch is being written, so a single caller is not delayed. Otherwise it
+ * is held until the batch being written is done, until <tt>batchSize</tt> exchanges are pending, or at most about
+ * <tt>batchTimeout</tt> millis. The exchanges complete once their batch has been written.
+ */
+public class HdfsBatchProducer extends DefaultAsyncProducer {
+
+    private final HdfsProducer producer;
+    private final BatchAccumulator<PendingExchange> accumulator;
+
+    public HdfsBatchProducer(HdfsEndpoint endpoint, HdfsConfiguration config) {
+        super(endpoint);
+        this.producer = new HdfsProducer(endpoint, config);
+        this.accumulator = new BatchAccumulator<PendingExchange>(endpoint.getCamelContext(), this, "HdfsBatchProducer",
+                config.getBatchSize(), config.getBatchTimeout()) {
+            @Override
+            protected void processBatch(List<PendingExchange> batch, AsyncCallback callback) {
+                write(batch);
+                callback.done(true);
+            }
+        };
+    }
+
+    @Override
+    public HdfsEndpoint getEndpoint() {
+        return (HdfsEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startServices(producer, accumulator);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // writes any pending exchanges so they are not left waiting
+        ServiceHelper.stopServices(accumulator, producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        accumulator.add(new PendingExchange(exchange, callback));
+        return false;
+    }
+
+    private void write(List<PendingExchange> pending) {
+        List<Exchange> exchanges = new ArrayList<Exchange>(pending.size());
+        for (PendingExchange pendingExchange : pending) {
+            exchanges.add(pendingExchange.exchange);
+        }
+        try {
+            producer.processBatch(exchanges);
+        } catch (Exception e) {
+            for (Exchange exchange : exchanges) {
+                exchange.setException(e);
+            }
+        }
+        for (PendingExchange pendingExchange : pending) {
+            pendingExchange.callback.done(false);
+        }
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
@@ -80,6 +80,16 @@ public class HdfsConfiguration {
     private boolean connectOnStartup = true;
     @UriParam
     private String owner;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int readConcurrency = 1;
+    @UriParam(label = "consumer,advanced")
+    private long readSplitSize;
+    @UriParam(label = "producer")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "1000")
+    private long batchTimeout = 1000;
+    @UriParam(label = "producer,advanced", defaultValue = "1")
+    private int syncInterval = 1;
 
     public HdfsConfiguration() {
     }
@@ -193,6 +203,15 @@ public class HdfsConfiguration {
     }
 
     public void checkConsumerOptions() {
+        if (getReadConcurrency() < 1) {
+            throw new IllegalArgumentException("readConcurrency must be at least 1");
+        }
+        if (getReadSplitSize() < 0) {
+            throw new IllegalArgumentException("readSplitSize must not be negative");
+        }
+        if (getReadSplitSize() > 0 && getReadConcurrency() == 1) {
+            throw new IllegalArgumentException("readSplitSize works only with a readConcurrency greater than 1");
+        }
     }
 
     public void checkProducerOptions() {
@@ -511,4 +530,66 @@ public class HdfsConfiguration {
     public void setOwner(String owner) {
         this.owner = owner;
     }
+
+    public int getReadConcurrency() {
+        return readConcurrency;
+    }
+
+    /**
+     * The number of files the consumer reads at the same time, using a thread pool of this size.
+     * Is default 1 to read the files one after the other on the polling thread.
+     */
+    public void setReadConcurrency(int readConcurrency) {
+        this.readConcurrency = readConcurrency;
+    }
+
+    public long getReadSplitSize() {
+        return readSplitSize;
+    }
+
+    /**
+     * When reading files concurrently, a normal or sequence file larger than this number of bytes is split into ranges
+     * of this size which are read in parallel. The ranges of a normal file are aligned to the chunk size, and the ranges
+     * of a sequence file start at its sync markers. Notice the messages of a split file are then not in order.
+     * Requires readConcurrency to be greater than 1. Is default 0 to read each file as a whole.
+     */
+    public void setReadSplitSize(long readSplitSize) {
+        this.readSplitSize = readSplitSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The producer buffers up to this number of exchanges and appends them to the file in one go, opening the
+     * output stream once per batch instead of once per exchange. Is default 0 to write each exchange by itself.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time in millis an exchange is held back while another batch is being written, when batchSize is in use.
+     * An exchange is written right away when no batch is being written. Must be greater than zero.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    public int getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * The number of records appended to a sequence file between two sync markers. Is default 1 to write a sync marker
+     * after every record, while 0 only keeps the sync markers the writer adds on its own every few kilobytes.
+     */
+    public void setSyncInterval(int syncInterval) {
+        this.syncInterval = syncInterval;
+    }
 }
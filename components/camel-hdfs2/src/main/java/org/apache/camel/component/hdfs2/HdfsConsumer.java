@@ -17,8 +17,12 @@
 package org.apache.camel.component.hdfs2;
 
 import java.io.IOException;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.security.auth.login.Configuration;
 
@@ -40,8 +44,7 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
     private final HdfsConfiguration config;
     private final StringBuilder hdfsPath;
     private final Processor processor;
-    private final ReadWriteLock rwlock = new ReentrantReadWriteLock();
-    private volatile HdfsInputStream istream;
+    private ExecutorService executorService;
     
     public HdfsConsumer(HdfsEndpoint endpoint, Processor processor, HdfsConfiguration config) {
         super(endpoint, processor);
@@ -60,12 +63,25 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
     protected void doStart() throws Exception {
         super.doStart();
 
+        if (config.getReadConcurrency() > 1 && executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "HdfsConsumerReader", config.getReadConcurrency());
+        }
+
         if (config.isConnectOnStartup()) {
             // setup hdfs if configured to do on startup
             setupHdfs(true);
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+    }
+
     private HdfsInfo setupHdfs(boolean onStartup) throws Exception {
         // if we are starting up then log at info level, and if runtime then log at debug level to not flood the log
         if (onStartup) {
@@ -107,8 +123,6 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
             }
         }
 
-        int numMessages = 0;
-
         HdfsInfo info = setupHdfs(false);
         FileStatus fileStatuses[];
         if (info.getFileSystem().isFile(info.getPath())) {
@@ -118,71 +132,149 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
             fileStatuses = info.getFileSystem().globStatus(pattern, new ExcludePathFilter());
         }
 
-        for (FileStatus status : fileStatuses) {
+        int numMessages = 0;
+        List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+        List<HdfsInputStream> splitFiles = new ArrayList<HdfsInputStream>();
+        try {
+            for (final FileStatus status : fileStatuses) {
 
-            if (normalFileIsDirectoryNoSuccessFile(status, info)) {
-                continue;
-            }
+                if (normalFileIsDirectoryNoSuccessFile(status, info)) {
+                    continue;
+                }
 
-            if (config.getOwner() != null) {
-                // must match owner
-                if (!config.getOwner().equals(status.getOwner())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Skipping file: {} as not matching owner: {}", status.getPath().toString(), config.getOwner());
+                if (config.getOwner() != null) {
+                    // must match owner
+                    if (!config.getOwner().equals(status.getOwner())) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Skipping file: {} as not matching owner: {}", status.getPath().toString(), config.getOwner());
+                        }
+                        continue;
                     }
-                    continue;
                 }
-            }
 
-            try {
-                this.rwlock.writeLock().lock();
-                this.istream = HdfsInputStream.createInputStream(status.getPath().toString(), this.config);
-                if (!this.istream.isOpened()) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Skipping file: {} because it doesn't exist anymore", status.getPath().toString());
+                if (executorService == null) {
+                    numMessages += processFile(status);
+                } else if (isSplit(status)) {
+                    final HdfsInputStream splitFile = HdfsInputStream.createSplitInputStream(status.getPath().toString(), this.config);
+                    if (!splitFile.isOpened()) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Skipping file: {} because it doesn't exist anymore", status.getPath().toString());
+                        }
+                        continue;
                     }
-                    continue;
+                    splitFiles.add(splitFile);
+                    long rangeSize = getRangeSize();
+                    for (long start = 0; start < status.getLen(); start += rangeSize) {
+                        final long rangeStart = start;
+                        final long rangeEnd = Math.min(start + rangeSize, status.getLen());
+                        tasks.add(() -> {
+                            HdfsInputStream range = splitFile.openRange(rangeStart, rangeEnd);
+                            try {
+                                return processStream(range, status);
+                            } finally {
+                                IOHelper.close(range, "input stream", log);
+                            }
+                        });
+                    }
+                } else {
+                    tasks.add(() -> processFile(status));
                 }
-            } finally {
-                this.rwlock.writeLock().unlock();
             }
 
+            if (!tasks.isEmpty()) {
+                numMessages += processConcurrently(tasks);
+            }
+        } finally {
+            // all the ranges have been read, so mark the split files as read
+            for (HdfsInputStream splitFile : splitFiles) {
+                IOHelper.close(splitFile, "input stream", log);
+            }
+        }
+
+        return numMessages;
+    }
+
+    private int processFile(FileStatus status) throws Exception {
+        HdfsInputStream istream = HdfsInputStream.createInputStream(status.getPath().toString(), this.config);
+        if (!istream.isOpened()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Skipping file: {} because it doesn't exist anymore", status.getPath().toString());
+            }
+            return 0;
+        }
+
+        try {
+            return processStream(istream, status);
+        } finally {
+            IOHelper.close(istream, "input stream", log);
+        }
+    }
+
+    private int processStream(HdfsInputStream istream, FileStatus status) throws Exception {
+        int numMessages = 0;
+        Holder<Object> key = new Holder<Object>();
+        Holder<Object> value = new Holder<Object>();
+        while (istream.next(key, value) >= 0) {
+            Exchange exchange = this.getEndpoint().createExchange();
+            Message message = new DefaultMessage(this.getEndpoint().getCamelContext());
+            String fileName = StringUtils.substringAfterLast(status.getPath().toString(), "/");
+            message.setHeader(Exchange.FILE_NAME, fileName);
+            if (key.value != null) {
+                message.setHeader(HdfsHeader.KEY.name(), key.value);
+            }
+            message.setBody(value.value);
+            exchange.setIn(message);
+
+            log.debug("Processing file {}", fileName);
             try {
-                Holder<Object> key = new Holder<Object>();
-                Holder<Object> value = new Holder<Object>();
-                while (this.istream.next(key, value) >= 0) {
-                    Exchange exchange = this.getEndpoint().createExchange();
-                    Message message = new DefaultMessage(this.getEndpoint().getCamelContext());
-                    String fileName = StringUtils.substringAfterLast(status.getPath().toString(), "/");
-                    message.setHeader(Exchange.FILE_NAME, fileName);
-                    if (key.value != null) {
-                        message.setHeader(HdfsHeader.KEY.name(), key.value);
-                    }
-                    message.setBody(value.value);
-                    exchange.setIn(message);
-
-                    log.debug("Processing file {}", fileName);
-                    try {
-                        processor.process(exchange);
-                    } catch (Exception e) {
-                        exchange.setException(e);
-                    }
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
 
-                    // in case of unhandled exceptions then let the exception handler handle them
-                    if (exchange.getException() != null) {
-                        getExceptionHandler().handleException(exchange.getException());
-                    }
+            // in case of unhandled exceptions then let the exception handler handle them
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException(exchange.getException());
+            }
 
-                    numMessages++;
+            numMessages++;
+        }
+        return numMessages;
+    }
+
+    /**
+     * Runs the tasks reading files or ranges on the thread pool, and waits for all of them to complete.
+     */
+    private int processConcurrently(List<Callable<Integer>> tasks) throws Exception {
+        int numMessages = 0;
+        Exception failure = null;
+        for (Future<Integer> future : executorService.invokeAll(tasks)) {
+            try {
+                numMessages += future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
                 }
-            } finally {
-                IOHelper.close(istream, "input stream", log);
             }
         }
-
+        if (failure != null) {
+            throw failure;
+        }
         return numMessages;
     }
 
+    private boolean isSplit(FileStatus status) {
+        return config.getReadSplitSize() > 0 && config.getFileType().isSplittable() && status.isFile() && status.getLen() > config.getReadSplitSize();
+    }
+
+    private long getRangeSize() {
+        if (config.getFileType() == HdfsFileType.NORMAL_FILE) {
+            // align the ranges to the chunks, so a file is split into the same chunks as when it is read as a whole
+            return Math.max(1, config.getReadSplitSize() / config.getChunkSize()) * config.getChunkSize();
+        }
+        return config.getReadSplitSize();
+    }
+
     private boolean normalFileIsDirectoryNoSuccessFile(FileStatus status, HdfsInfo info) throws IOException {
         if (config.getFileType().equals(HdfsFileType.NORMAL_FILE) && status.isDirectory()) {
             Path successPath = new Path(status.getPath().toString() + "/_SUCCESS");
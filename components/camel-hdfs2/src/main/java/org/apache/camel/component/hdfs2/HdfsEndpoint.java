@@ -54,6 +54,9 @@ public class HdfsEndpoint extends ScheduledPollEndpoint {
     @Override
     public Producer createProducer() {
         config.checkProducerOptions();
+        if (config.getBatchSize() > 0) {
+            return new HdfsBatchProducer(this, config);
+        }
         return new HdfsProducer(this, config);
     }
 
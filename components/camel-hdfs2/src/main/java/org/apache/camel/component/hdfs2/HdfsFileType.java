@@ -32,6 +32,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.util.IOHelper;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.FileUtil;
@@ -77,7 +78,9 @@ public enum HdfsFileType {
             try {
                 ByteArrayOutputStream bos = new ByteArrayOutputStream(hdfsistr.getChunkSize());
                 byte buf[] = new byte[hdfsistr.getChunkSize()];
-                int bytesRead = ((InputStream) hdfsistr.getIn()).read(buf);
+                // do not read past the end of the range when only a range of the file is read
+                long remaining = hdfsistr.getRangeEnd() - hdfsistr.getRangeStart() - hdfsistr.getNumOfReadBytes();
+                int bytesRead = remaining > 0 ? ((InputStream) hdfsistr.getIn()).read(buf, 0, (int) Math.min(buf.length, remaining)) : -1;
                 if (bytesRead >= 0) {
                     bos.write(buf, 0, bytesRead);
                     key.value = null;
@@ -135,6 +138,23 @@ public enum HdfsFileType {
             }
         }
 
+        @Override
+        public Closeable createInputStream(String hdfsPath, HdfsConfiguration configuration, long start) {
+            try {
+                HdfsInfo hdfsInfo = HdfsInfoFactory.newHdfsInfo(hdfsPath);
+                FSDataInputStream rin = hdfsInfo.getFileSystem().open(hdfsInfo.getPath(), configuration.getBufferSize());
+                rin.seek(start);
+                return rin;
+            } catch (IOException ex) {
+                throw new RuntimeCamelException(ex);
+            }
+        }
+
+        @Override
+        public boolean isSplittable() {
+            return true;
+        }
+
         private File getHfdsFileToTmpFile(String hdfsPath, HdfsConfiguration configuration) {
             try {
                 String fname = hdfsPath.substring(hdfsPath.lastIndexOf('/'));
@@ -175,7 +195,11 @@ public enum HdfsFileType {
                 Writable valueWritable = getWritable(value, typeConverter, valueSize);
                 Writer writer = (SequenceFile.Writer) hdfsostr.getOut();
                 writer.append(keyWritable, valueWritable);
-                writer.sync();
+                // the writer adds sync markers on its own, so an explicit one is only needed every syncInterval records
+                int syncInterval = hdfsostr.getSyncInterval();
+                if (syncInterval > 0 && (hdfsostr.getNumOfWrittenMessages() + 1) % syncInterval == 0) {
+                    writer.sync();
+                }
                 return keySize.value + valueSize.value;
             } catch (Exception ex) {
                 throw new RuntimeCamelException(ex);
@@ -190,7 +214,9 @@ public enum HdfsFileType {
                 Writable keyWritable = (Writable) ReflectionUtils.newInstance(reader.getKeyClass(), new Configuration());
                 Holder<Integer> valueSize = new Holder<Integer>();
                 Writable valueWritable = (Writable) ReflectionUtils.newInstance(reader.getValueClass(), new Configuration());
-                if (reader.next(keyWritable, valueWritable)) {
+                long position = reader.getPosition();
+                // a range ends with the first sync marker at or after its end, the records after that belong to the next range
+                if (reader.next(keyWritable, valueWritable) && !(position >= hdfsistr.getRangeEnd() && reader.syncSeen())) {
                     key.value = getObject(keyWritable, keySize);
                     value.value = getObject(valueWritable, valueSize);
                     return keySize.value + valueSize.value;
@@ -235,6 +261,26 @@ public enum HdfsFileType {
                 throw new RuntimeCamelException(ex);
             }
         }
+
+        @Override
+        public Closeable createInputStream(String hdfsPath, HdfsConfiguration configuration, long start) {
+            try {
+                HdfsInfo hdfsInfo = HdfsInfoFactory.newHdfsInfo(hdfsPath);
+                SequenceFile.Reader rin = new SequenceFile.Reader(hdfsInfo.getConf(), Reader.file(hdfsInfo.getPath()));
+                if (start > 0) {
+                    // the range starts with the first record after a sync marker
+                    rin.sync(start);
+                }
+                return rin;
+            } catch (IOException ex) {
+                throw new RuntimeCamelException(ex);
+            }
+        }
+
+        @Override
+        public boolean isSplittable() {
+            return true;
+        }
     },
 
     MAP_FILE {
@@ -498,6 +544,20 @@ public enum HdfsFileType {
 
     public abstract Closeable createInputStream(String hdfsPath, HdfsConfiguration configuration);
 
+    /**
+     * Opens the file for reading the range starting at the given offset, for the file types which are splittable.
+     */
+    public Closeable createInputStream(String hdfsPath, HdfsConfiguration configuration, long start) {
+        throw new RuntimeCamelException("Files of type " + this + " cannot be read in ranges");
+    }
+
+    /**
+     * Whether a file of this type can be read in ranges by several readers.
+     */
+    public boolean isSplittable() {
+        return false;
+    }
+
     public static long copyBytes(InputStream in, OutputStream out, int buffSize, boolean close) throws IOException {
         long numBytes = 0;
         PrintStream ps = out instanceof PrintStream ? (PrintStream) out : null;
@@ -32,6 +32,10 @@ public class HdfsInputStream implements Closeable {
     private Closeable in;
     private boolean opened;
     private int chunkSize;
+    private HdfsConfiguration configuration;
+    private boolean range;
+    private long rangeStart;
+    private long rangeEnd = Long.MAX_VALUE;
     private final AtomicLong numOfReadBytes = new AtomicLong(0L);
     private final AtomicLong numOfReadMessages = new AtomicLong(0L);
 
@@ -55,12 +59,53 @@ public class HdfsInputStream implements Closeable {
         return ret;
     }
 
+    /**
+     * Takes the file for reading it in ranges, renaming it like {@link #createInputStream(String, HdfsConfiguration)}
+     * but without opening it. The ranges are then read using the streams returned by {@link #openRange(long, long)},
+     * and closing the returned stream marks the file as read.
+     */
+    public static HdfsInputStream createSplitInputStream(String hdfsPath, HdfsConfiguration configuration) throws IOException {
+        HdfsInputStream ret = new HdfsInputStream();
+        ret.fileType = configuration.getFileType();
+        ret.actualPath = hdfsPath;
+        ret.suffixedPath = ret.actualPath + '.' + configuration.getOpenedSuffix();
+        ret.suffixedReadPath = ret.actualPath + '.' + configuration.getReadSuffix();
+        ret.chunkSize = configuration.getChunkSize();
+        ret.configuration = configuration;
+        HdfsInfo info = HdfsInfoFactory.newHdfsInfo(ret.actualPath);
+        ret.opened = info.getFileSystem().rename(new Path(ret.actualPath), new Path(ret.suffixedPath));
+        return ret;
+    }
+
+    /**
+     * Opens a stream reading the given range of a file taken with {@link #createSplitInputStream(String, HdfsConfiguration)}.
+     * Closing the range stream leaves the file in place.
+     * @param start offset of the range
+     * @param end offset after the range
+     */
+    public HdfsInputStream openRange(long start, long end) {
+        HdfsInputStream ret = new HdfsInputStream();
+        ret.fileType = fileType;
+        ret.actualPath = actualPath;
+        ret.suffixedPath = suffixedPath;
+        ret.suffixedReadPath = suffixedReadPath;
+        ret.chunkSize = chunkSize;
+        ret.range = true;
+        ret.rangeStart = start;
+        ret.rangeEnd = end;
+        ret.in = fileType.createInputStream(suffixedPath, configuration, start);
+        ret.opened = true;
+        return ret;
+    }
+
     @Override
     public final void close() throws IOException {
         if (opened) {
             IOUtils.closeStream(in);
-            HdfsInfo info = HdfsInfoFactory.newHdfsInfo(actualPath);
-            info.getFileSystem().rename(new Path(suffixedPath), new Path(suffixedReadPath));
+            if (!range) {
+                HdfsInfo info = HdfsInfoFactory.newHdfsInfo(actualPath);
+                info.getFileSystem().rename(new Path(suffixedPath), new Path(suffixedReadPath));
+            }
             opened = false;
         }
     }
@@ -103,6 +148,14 @@ public class HdfsInputStream implements Closeable {
         return chunkSize;
     }
 
+    public final long getRangeStart() {
+        return rangeStart;
+    }
+
+    public final long getRangeEnd() {
+        return rangeEnd;
+    }
+
     public final Closeable getIn() {
         return in;
     }
@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.Syncable;
 import org.apache.hadoop.io.IOUtils;
 
 public class HdfsOutputStream implements Closeable {
@@ -33,6 +34,7 @@ public class HdfsOutputStream implements Closeable {
     private String actualPath;
     private String suffixedPath;
     private Closeable out;
+    private int syncInterval;
     private volatile boolean opened;
     private final AtomicLong numOfWrittenBytes = new AtomicLong(0L);
     private final AtomicLong numOfWrittenMessages = new AtomicLong(0L);
@@ -46,6 +48,7 @@ public class HdfsOutputStream implements Closeable {
         HdfsOutputStream ret = new HdfsOutputStream();
         ret.fileType = configuration.getFileType();
         ret.actualPath = hdfsPath;
+        ret.syncInterval = configuration.getSyncInterval();
         ret.info = new HdfsInfo(ret.actualPath);
 
         ret.suffixedPath = ret.actualPath + '.' + configuration.getOpenedSuffix();
@@ -95,6 +98,15 @@ public class HdfsOutputStream implements Closeable {
         }
     }
 
+    /**
+     * Flushes the data appended so far out to the file system, so it becomes visible to readers.
+     */
+    public void flush() throws IOException {
+        if (opened && out instanceof Syncable) {
+            ((Syncable) out).hflush();
+        }
+    }
+
     public long getNumOfWrittenBytes() {
         return numOfWrittenBytes.longValue();
     }
@@ -118,4 +130,8 @@ public class HdfsOutputStream implements Closeable {
     public Closeable getOut() {
         return out;
     }
+
+    public int getSyncInterval() {
+        return syncInterval;
+    }
 }
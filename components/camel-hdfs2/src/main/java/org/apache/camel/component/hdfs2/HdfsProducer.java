@@ -178,16 +178,75 @@ public class HdfsProducer extends DefaultProducer {
     }
 
     void doProcess(Exchange exchange) throws Exception {
+        String path = append(exchange, false);
+
+        // if no idle checker then we need to explicit close the stream after usage
+        if (isCloseRequested(exchange)) {
+            closeStream();
+        }
+
+        log.debug("Wrote body to hdfs-file {}", path);
+    }
+
+    /**
+     * Writes the given exchanges one after the other to the output stream, which is only closed once all have
+     * been written unless a {@link HdfsConstants#HDFS_CLOSE} header asks for it. Otherwise the appended data is
+     * flushed out to the file system at the end of the batch. An exchange which cannot be written gets the
+     * exception set, without affecting the other exchanges.
+     */
+    void processBatch(List<Exchange> exchanges) {
+        // need to remember auth as Hadoop will override that, which otherwise means the Auth is broken afterwards
+        Configuration auth = HdfsComponent.getJAASConfiguration();
+        try {
+            doProcessBatch(exchanges);
+        } finally {
+            HdfsComponent.setJAASConfiguration(auth);
+        }
+    }
+
+    private synchronized void doProcessBatch(List<Exchange> exchanges) {
+        boolean close = false;
+        for (Exchange exchange : exchanges) {
+            try {
+                append(exchange, true);
+                close = isCloseRequested(exchange);
+                if (close && exchange.getIn().getHeader(HdfsConstants.HDFS_CLOSE) != null) {
+                    closeStream();
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
+
+        if (ostream == null) {
+            return;
+        }
+        if (close) {
+            closeStream();
+        } else {
+            try {
+                ostream.flush();
+            } catch (IOException e) {
+                log.debug("Error flushing hdfs-file " + ostream.getActualPath() + ". This exception is ignored.", e);
+            }
+        }
+        log.debug("Wrote batch of {} exchanges to hdfs", exchanges.size());
+    }
+
+    private String append(Exchange exchange, boolean batch) throws Exception {
         Object body = exchange.getIn().getBody();
         Object key = exchange.getIn().getHeader(HdfsHeader.KEY.name());
 
         // if an explicit filename is specified, close any existing stream and append the filename to the hdfsPath
         if (exchange.getIn().getHeader(Exchange.FILE_NAME) != null) {
-            if (ostream != null) {
-                IOHelper.close(ostream, "output stream", log);
-            }
             StringBuilder actualPath = getHdfsPathUsingFileNameHeader(exchange);
-            ostream = HdfsOutputStream.createOutputStream(actualPath.toString(), config);
+            // within a batch the exchanges for the same file are appended to the same stream
+            if (!batch || ostream == null || !ostream.getActualPath().equals(actualPath.toString())) {
+                if (ostream != null) {
+                    IOHelper.close(ostream, "output stream", log);
+                }
+                ostream = HdfsOutputStream.createOutputStream(actualPath.toString(), config);
+            }
         } else if (ostream == null) {
             // must have ostream
             ostream = setupHdfs(false);
@@ -212,7 +271,10 @@ public class HdfsProducer extends DefaultProducer {
         ostream.append(key, body, exchange.getContext().getTypeConverter());
 
         idle.set(false);
+        return path;
+    }
 
+    private boolean isCloseRequested(Exchange exchange) {
         // close if we do not have idle checker task to do this for us
         boolean close = scheduler == null;
         // but user may have a header to explict control the close
@@ -220,19 +282,17 @@ public class HdfsProducer extends DefaultProducer {
         if (closeHeader != null) {
             close = closeHeader;
         }
+        return close;
+    }
 
-        // if no idle checker then we need to explicit close the stream after usage
-        if (close) {
-            try {
-                HdfsProducer.this.log.trace("Closing stream");
-                ostream.close();
-                ostream = null;
-            } catch (IOException e) {
-                // ignore
-            }
+    private void closeStream() {
+        try {
+            HdfsProducer.this.log.trace("Closing stream");
+            ostream.close();
+            ostream = null;
+        } catch (IOException e) {
+            // ignore
         }
-
-        log.debug("Wrote body to hdfs-file {}", path);
     }
 
     /**
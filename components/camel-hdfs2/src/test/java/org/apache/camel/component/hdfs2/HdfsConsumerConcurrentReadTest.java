@@ -0,0 +1,217 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.SequenceFile.Writer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HdfsConsumerConcurrentReadTest extends HdfsTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        deleteDirectory("target/test");
+        super.setUp();
+    }
+
+    @Test
+    public void testReadFilesConcurrently() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final File rootdir = new File(".");
+        final File dir = new File("target/test/concurrent-read");
+        dir.mkdirs();
+        Set<String> expectedNames = new HashSet<String>();
+        for (int i = 1; i <= 20; i++) {
+            String name = String.format("file-%04d.txt", i);
+            FileOutputStream fos = new FileOutputStream(new File(dir, name));
+            fos.write(String.format("hello (%04d)\n", i).getBytes());
+            fos.close();
+            expectedNames.add(name);
+        }
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedMessageCount(20);
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs2://" + rootdir.toURI() + "/target/test/concurrent-read?pattern=*.txt&fileSystemType=LOCAL&readConcurrency=4&initialDelay=0").to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+
+        Set<String> names = new HashSet<String>();
+        for (Exchange exchange : resultEndpoint.getExchanges()) {
+            names.add(exchange.getIn().getHeader(Exchange.FILE_NAME, String.class));
+        }
+        assertEquals(expectedNames, names);
+    }
+
+    @Test
+    public void testReadNormalFileInRanges() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        // 10 chunks of 1024 bytes, each filled with its index
+        final Path file = new Path(new File("target/test/test-camel-split-normal-file").getAbsolutePath());
+        Configuration conf = new Configuration();
+        FileSystem fs = FileSystem.get(file.toUri(), conf);
+        FSDataOutputStream out = fs.create(file);
+        for (int i = 0; i < 10; ++i) {
+            byte[] chunk = new byte[1024];
+            Arrays.fill(chunk, (byte) i);
+            out.write(chunk);
+        }
+        out.close();
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedMessageCount(10);
+        resultEndpoint.setAssertPeriod(500);
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                // ranges of 3000 bytes are aligned down to 2 chunks
+                from("hdfs2:localhost/" + file.toUri() + "?fileSystemType=LOCAL&chunkSize=1024&readConcurrency=3&readSplitSize=3000&initialDelay=0")
+                    .to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+
+        Set<Byte> chunks = new HashSet<Byte>();
+        for (Exchange exchange : resultEndpoint.getExchanges()) {
+            byte[] chunk = exchange.getIn().getBody(ByteArrayOutputStream.class).toByteArray();
+            assertEquals(1024, chunk.length);
+            for (byte b : chunk) {
+                assertEquals(chunk[0], b);
+            }
+            chunks.add(chunk[0]);
+        }
+        assertEquals(10, chunks.size());
+
+        // the file is marked as read once all its ranges have been read
+        context.stop();
+        assertTrue(new File(file.toUri().getPath() + ".read").exists());
+    }
+
+    @Test
+    public void testReadSequenceFileInRanges() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final Path file = new Path(new File("target/test/test-camel-split-sequence-file").getAbsolutePath());
+        Configuration conf = new Configuration();
+        Writer writer = SequenceFile.createWriter(conf, SequenceFile.Writer.file(file),
+                SequenceFile.Writer.keyClass(NullWritable.class), SequenceFile.Writer.valueClass(IntWritable.class));
+        for (int i = 0; i < 1000; ++i) {
+            writer.append(NullWritable.get(), new IntWritable(i));
+            writer.sync();
+        }
+        writer.close();
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedMessageCount(1000);
+        resultEndpoint.setAssertPeriod(500);
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs2:localhost/" + file.toUri() + "?fileSystemType=LOCAL&fileType=SEQUENCE_FILE&readConcurrency=4&readSplitSize=4096&initialDelay=0")
+                    .to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+
+        // every record is read exactly once, even at the boundaries of the ranges
+        Set<Integer> values = new HashSet<Integer>();
+        for (Exchange exchange : resultEndpoint.getExchanges()) {
+            values.add(exchange.getIn().getBody(Integer.class));
+        }
+        assertEquals(1000, values.size());
+    }
+
+    @Test
+    public void testReadSplitSizeRequiresReadConcurrency() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        final File rootdir = new File(".");
+        try {
+            context.addRoutes(new RouteBuilder() {
+                public void configure() {
+                    from("hdfs2://" + rootdir.toURI() + "/target/test/concurrent-read?fileSystemType=LOCAL&readSplitSize=4096&initialDelay=0").to("mock:result");
+                }
+            });
+            context.start();
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = ObjectHelper.getException(IllegalArgumentException.class, e);
+            assertNotNull(cause);
+            assertEquals("readSplitSize works only with a readConcurrency greater than 1", cause.getMessage());
+        }
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        super.tearDown();
+        Thread.sleep(100);
+        Configuration conf = new Configuration();
+        Path dir = new Path("target/test");
+        FileSystem fs = FileSystem.get(dir.toUri(), conf);
+        fs.delete(dir, true);
+    }
+}
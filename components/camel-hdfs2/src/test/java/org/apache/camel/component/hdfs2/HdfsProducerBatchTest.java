@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs2;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.IOHelper;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HdfsProducerBatchTest extends HdfsTestSupport {
+
+    private static final Path TEMP_DIR = new Path(new File("target/test/").getAbsolutePath());
+
+    @Before
+    public void setUp() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+        super.setUp();
+    }
+
+    @Test
+    public void testWriteSequenceFileInBatches() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (int i = 0; i < 100; ++i) {
+            futures.add(template.asyncRequestBodyAndHeader("direct:sequence", "PAPPO" + i, HdfsConstants.HDFS_CLOSE, false));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        // closes the file
+        stopCamelContext();
+
+        Configuration conf = new Configuration();
+        Path file = new Path("file:///" + TEMP_DIR.toUri() + "/test-camel-batch");
+        SequenceFile.Reader reader = new SequenceFile.Reader(conf, SequenceFile.Reader.file(file));
+        Writable key = (Writable) ReflectionUtils.newInstance(reader.getKeyClass(), conf);
+        Writable value = (Writable) ReflectionUtils.newInstance(reader.getValueClass(), conf);
+
+        Set<String> values = new HashSet<String>();
+        int count = 0;
+        while (reader.next(key, value)) {
+            values.add(value.toString());
+            count++;
+        }
+        IOHelper.close(reader);
+
+        assertEquals(100, count);
+        assertEquals(100, values.size());
+    }
+
+    @Test
+    public void testBatchAppendsToTheSameFile() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+
+        List<Future<Object>> futures = new ArrayList<Future<Object>>();
+        for (int i = 0; i < 50; ++i) {
+            futures.add(template.asyncRequestBodyAndHeader("direct:normal", "line-" + i + "\n", Exchange.FILE_NAME, "test-camel-batch-normal"));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+
+        stopCamelContext();
+
+        // the stream is kept open by the idle strategy, so the exchanges of all the batches are in the same file
+        File file = new File(TEMP_DIR.toUri().getPath(), "test-camel-batch-dynamic/test-camel-batch-normal");
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(50, lines.size());
+        assertEquals(50, new HashSet<String>(lines).size());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        if (!canTest()) {
+            return;
+        }
+        super.tearDown();
+
+        Thread.sleep(250);
+        Configuration conf = new Configuration();
+        Path dir = new Path("target/test");
+        FileSystem fs = FileSystem.get(dir.toUri(), conf);
+        fs.delete(dir, true);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                from("direct:sequence")
+                    .to("hdfs2:localhost/" + TEMP_DIR.toUri() + "/test-camel-batch?fileSystemType=LOCAL&fileType=SEQUENCE_FILE&valueType=TEXT"
+                        + "&batchSize=10&batchTimeout=100&syncInterval=0");
+
+                from("direct:normal")
+                    .to("hdfs2:localhost/" + TEMP_DIR.toUri() + "/test-camel-batch-dynamic/?fileSystemType=LOCAL&splitStrategy=IDLE:60000&batchSize=10&batchTimeout=100");
+            }
+        };
+    }
+}
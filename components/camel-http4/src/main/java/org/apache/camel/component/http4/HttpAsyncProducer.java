@@ -0,0 +1,332 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.AsyncProcessorHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.CookieStore;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.entity.ContentInputStream;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.nio.util.SharedInputBuffer;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A producer which uses the non-blocking {@link HttpAsyncClient}, so the calling thread is not blocked while
+ * waiting for the remote server.
+ * <p/>
+ * The request body is streamed to the server as the connection is able to accept it. By default the response body
+ * is cached while it is received, which overflows to disk for large responses, just as the blocking producer caches
+ * it. When the stream cache is disabled the response body is instead streamed to the route as it is received, and the
+ * exchange continues on a thread of the producer once the response headers have been received, as reading the body
+ * blocks until it arrives.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+    private static final int BUFFER_SIZE = 8192;
+    private HttpAsyncClient asyncHttpClient;
+    private CookieStore cookieStore;
+    private RequestConfig requestConfig;
+    private ExecutorService executorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorHelper.process(this, exchange);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        final HttpHost target;
+        try {
+            httpRequest = prepareHttpRequest(exchange);
+            target = URIUtils.extractHost(httpRequest.getURI());
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        final StreamingResponseConsumer streamingConsumer = executorService != null ? new StreamingResponseConsumer(exchange, httpRequest, callback) : null;
+        HttpAsyncResponseConsumer<HttpResponse> responseConsumer = streamingConsumer != null ? streamingConsumer : new CachingResponseConsumer(exchange);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getURI().toString());
+        }
+        try {
+            asyncHttpClient.execute(HttpAsyncMethods.create(target, httpRequest), responseConsumer, createLocalContext(),
+                new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse httpResponse) {
+                        if (streamingConsumer != null && streamingConsumer.isStreaming()) {
+                            // the exchange is already continued by the thread reading the body
+                            return;
+                        }
+                        try {
+                            handleHttpResponse(exchange, httpRequest, httpResponse);
+                        } catch (Exception e) {
+                            exchange.setException(e);
+                        } finally {
+                            callback.done(false);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        if (streamingConsumer != null && streamingConsumer.isStreaming()) {
+                            // the thread reading the body fails as its stream is aborted
+                            return;
+                        }
+                        exchange.setException(e);
+                        callback.done(false);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        if (streamingConsumer != null && streamingConsumer.isStreaming()) {
+                            return;
+                        }
+                        exchange.setException(new CamelExchangeException("Http request cancelled", exchange));
+                        callback.done(false);
+                    }
+                });
+        } catch (Exception e) {
+            // such as when the client has been shutdown
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected HttpContext createLocalContext() {
+        // the client is shared, so the cookie store and request configuration of this endpoint are set per request
+        HttpClientContext localContext = HttpClientContext.adapt(super.createLocalContext());
+        if (localContext.getAttribute(HttpClientContext.COOKIE_STORE) == null) {
+            localContext.setCookieStore(cookieStore);
+        }
+        if (localContext.getAttribute(HttpClientContext.REQUEST_CONFIG) == null) {
+            localContext.setRequestConfig(requestConfig);
+        }
+        return localContext;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        asyncHttpClient = getEndpoint().getAsyncHttpClient();
+
+        // need to use noop cookiestore as we do not want to keep cookies in memory when bridging
+        cookieStore = getEndpoint().isBridgeEndpoint() ? new NoopCookieStore() : getEndpoint().getCookieStore();
+
+        RequestConfig config = getEndpoint().getRequestConfig() != null ? getEndpoint().getRequestConfig() : RequestConfig.DEFAULT;
+        HttpHost proxy = getEndpoint().getCamelContextProxy();
+        if (proxy != null && config.getProxy() == null) {
+            config = RequestConfig.copy(config).setProxy(proxy).build();
+        }
+        requestConfig = config;
+
+        if (getEndpoint().isDisableStreamCache() && executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "HttpAsyncProducer");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        super.doStop();
+    }
+
+    /**
+     * Consumes the response by writing the body to a {@link CachedOutputStream} as it is received, so the response
+     * is available as a stream cache when completed without blocking an I/O thread.
+     */
+    private static final class CachingResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+        private final Exchange exchange;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private HttpResponse response;
+        private CachedOutputStream cos;
+
+        CachingResponseConsumer(Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+            // the cached data is deleted when the exchange is done
+            cos = new CachedOutputStream(exchange, true);
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+            while (decoder.read(buffer) > 0) {
+                cos.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) throws Exception {
+            if (cos != null) {
+                HttpEntity entity = response.getEntity();
+                InputStreamEntity cached = new InputStreamEntity((InputStream) cos.newStreamCache(), entity.getContentLength());
+                cached.setContentType(entity.getContentType());
+                cached.setContentEncoding(entity.getContentEncoding());
+                response.setEntity(cached);
+            }
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            // the cached output stream is closed when the exchange is done
+        }
+    }
+
+    /**
+     * Consumes the response by streaming the body to the route as it is received. Once the response headers have
+     * been received the exchange continues on a thread of the producer, which reads the body from a buffer filled
+     * by the I/O thread, and the I/O thread stops reading from the connection while the buffer is full.
+     */
+    private final class StreamingResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+        private final Exchange exchange;
+        private final HttpRequestBase httpRequest;
+        private final AsyncCallback callback;
+        private final AtomicBoolean streaming = new AtomicBoolean();
+        private HttpResponse response;
+        private SharedInputBuffer buffer;
+        private volatile boolean received;
+
+        StreamingResponseConsumer(Exchange exchange, HttpRequestBase httpRequest, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.httpRequest = httpRequest;
+            this.callback = callback;
+        }
+
+        boolean isStreaming() {
+            return streaming.get();
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+            buffer = new SharedInputBuffer(BUFFER_SIZE);
+            BasicHttpEntity streamed = new BasicHttpEntity();
+            streamed.setContent(new ContentInputStream(buffer));
+            streamed.setContentLength(entity.getContentLength());
+            streamed.setContentType(entity.getContentType());
+            streamed.setContentEncoding(entity.getContentEncoding());
+            response.setEntity(streamed);
+
+            streaming.set(true);
+            try {
+                executorService.execute(this::continueExchange);
+            } catch (RejectedExecutionException e) {
+                buffer.shutdown();
+                exchange.setException(e);
+                callback.done(false);
+            }
+        }
+
+        private void continueExchange() {
+            try {
+                handleHttpResponse(exchange, httpRequest, response);
+            } catch (Exception e) {
+                exchange.setException(e);
+            } finally {
+                // close the stream at the end of the exchange, as the blocking producer does
+                exchange.addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        try {
+                            EntityUtils.consume(response.getEntity());
+                        } catch (Throwable e) {
+                            // ignore
+                        }
+                    }
+                });
+                callback.done(false);
+            }
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+            buffer.consumeContent(decoder, ioctrl);
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) throws Exception {
+            received = true;
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            if (buffer != null && !received) {
+                // abort the reading of the body, as the response failed or was cancelled
+                buffer.shutdown();
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ComponentVerifier;
@@ -42,6 +43,7 @@ import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.RestProducerFactory;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.IntrospectionSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.ServiceHelper;
@@ -59,6 +61,16 @@ import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -102,9 +114,15 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
     // It's MILLISECONDS, the default value is always keep alive
     @Metadata(label = "advanced", description = "The time for connection to live, the time unit is millisecond, the default value is always keep alive.")
     protected long connectionTimeToLive = -1;
+    @Metadata(label = "advanced", description = "The number of I/O dispatcher threads used by the non-blocking HttpAsyncClient, which is shared"
+        + " by the endpoints using the useAsyncClient option. The default is the number of available processors.")
+    protected int asyncIoThreadCount;
     @Metadata(label = "security", defaultValue = "false", description = "Enable usage of global SSL context parameters.")
     private boolean useGlobalSslContextParameters;
 
+    // the non-blocking clients, one per SSL configuration, shared by the endpoints using the async client
+    private final Map<SSLContextParameters, CloseableHttpAsyncClient> asyncHttpClients = new HashMap<>();
+
     public HttpComponent() {
         this(HttpEndpoint.class);
     }
@@ -181,6 +199,8 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
     protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
         Map<String, Object> httpClientParameters = new HashMap<String, Object>(parameters);
         final Map<String, Object> httpClientOptions = new HashMap<>();
+        // the request options are also used by the async client, so keep them before they are removed by the client builder
+        final RequestConfig requestConfig = createRequestConfig(IntrospectionSupport.extractProperties(new HashMap<>(parameters), "httpClient."));
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
         
         HttpBinding httpBinding = resolveAndRemoveReferenceParameter(parameters, "httpBinding", HttpBinding.class);
@@ -293,6 +313,8 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             endpoint.setCookieStore(getCookieStore());
         }
         endpoint.setHttpClientOptions(httpClientOptions);
+        endpoint.setSslContextParameters(sslContextParameters);
+        endpoint.setRequestConfig(requestConfig);
         
         return endpoint;
     }
@@ -333,6 +355,12 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return clientBuilder;
     }
 
+    private static RequestConfig createRequestConfig(Map<String, Object> options) throws Exception {
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        IntrospectionSupport.setProperties(requestConfigBuilder, options);
+        return requestConfigBuilder.build();
+    }
+
     protected Registry<ConnectionSocketFactory> createConnectionRegistry(HostnameVerifier x509HostnameVerifier, SSLContextParameters sslContextParams)
         throws GeneralSecurityException, IOException {
         // create the default connection registry to use
@@ -376,6 +404,59 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return answer;
     }
 
+    /**
+     * Gets the non-blocking client to use for the given SSL configuration. The client is shared by all the endpoints of
+     * this component with the same SSL configuration, so their connections to the same host are pooled together.
+     *
+     * @param sslContextParameters the SSL configuration of the endpoint, or <tt>null</tt> to use the default
+     * @return the started client
+     * @throws Exception is thrown if error creating the client
+     */
+    protected synchronized HttpAsyncClient getOrCreateAsyncHttpClient(SSLContextParameters sslContextParameters) throws Exception {
+        CloseableHttpAsyncClient answer = asyncHttpClients.get(sslContextParameters);
+        if (answer == null) {
+            Registry<SchemeIOSessionStrategy> registry = createAsyncConnectionRegistry(x509HostnameVerifier, sslContextParameters);
+            answer = HttpAsyncClients.custom()
+                .setConnectionManager(createAsyncConnectionManager(registry))
+                .build();
+            answer.start();
+            asyncHttpClients.put(sslContextParameters, answer);
+        }
+        return answer;
+    }
+
+    protected Registry<SchemeIOSessionStrategy> createAsyncConnectionRegistry(HostnameVerifier x509HostnameVerifier, SSLContextParameters sslContextParams)
+        throws GeneralSecurityException, IOException {
+        SSLContext sslContext = sslContextParams != null ? sslContextParams.createSSLContext(getCamelContext()) : SSLContexts.createDefault();
+        SSLIOSessionStrategy sslStrategy = new SSLIOSessionStrategy(sslContext, x509HostnameVerifier);
+
+        RegistryBuilder<SchemeIOSessionStrategy> builder = RegistryBuilder.<SchemeIOSessionStrategy>create();
+        builder.register("http", NoopIOSessionStrategy.INSTANCE);
+        builder.register("http4", NoopIOSessionStrategy.INSTANCE);
+        builder.register("https", sslStrategy);
+        builder.register("https4", sslStrategy);
+        return builder.build();
+    }
+
+    protected NHttpClientConnectionManager createAsyncConnectionManager(Registry<SchemeIOSessionStrategy> registry) throws IOException {
+        IOReactorConfig.Builder config = IOReactorConfig.custom().setTcpNoDelay(true).setSoKeepAlive(true);
+        if (getAsyncIoThreadCount() > 0) {
+            config.setIoThreadCount(getAsyncIoThreadCount());
+        }
+        // setup the connection live time
+        PoolingNHttpClientConnectionManager answer = new PoolingNHttpClientConnectionManager(
+            new DefaultConnectingIOReactor(config.build()), null, registry, null, null, getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        if (getMaxTotalConnections() > 0) {
+            answer.setMaxTotal(getMaxTotalConnections());
+        }
+        if (getConnectionsPerRoute() > 0) {
+            answer.setDefaultMaxPerRoute(getConnectionsPerRoute());
+        }
+        LOG.info("Created NHttpClientConnectionManager " + answer);
+
+        return answer;
+    }
+
     @Override
     protected boolean useIntrospectionOnEndpoint() {
         return false;
@@ -521,6 +602,18 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         this.connectionTimeToLive = connectionTimeToLive;
     }
 
+    public int getAsyncIoThreadCount() {
+        return asyncIoThreadCount;
+    }
+
+    /**
+     * The number of I/O dispatcher threads used by the non-blocking HttpAsyncClient, which is shared
+     * by the endpoints using the useAsyncClient option. The default is the number of available processors.
+     */
+    public void setAsyncIoThreadCount(int asyncIoThreadCount) {
+        this.asyncIoThreadCount = asyncIoThreadCount;
+    }
+
     public CookieStore getCookieStore() {
         return cookieStore;
     }
@@ -548,6 +641,14 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             clientConnectionManager.shutdown();
             clientConnectionManager = null;
         }
+        // shutdown the shared async clients
+        synchronized (this) {
+            for (CloseableHttpAsyncClient client : asyncHttpClients.values()) {
+                LOG.info("Shutting down HttpAsyncClient: " + client);
+                IOHelper.close(client);
+            }
+            asyncHttpClients.clear();
+        }
         
         super.doStop();
     }
@@ -33,6 +33,7 @@ import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.jsse.SSLContextParameters;
 import org.apache.http.HttpHost;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
@@ -41,6 +42,7 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.nio.client.HttpAsyncClient;
 import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,6 +85,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @UriParam(label = "producer", description = "Whether the HTTP DELETE should include the message body or not."
         + " By default HTTP DELETE do not include any HTTP message. However in some rare cases users may need to be able to include the message body.")
     private boolean deleteWithBody;
+    @UriParam(label = "producer,advanced", description = "Whether the producer should use the non-blocking Apache HttpAsyncClient,"
+        + " which does not block the calling thread while waiting for the response. The async client is shared by all the endpoints of the component"
+        + " and its connection pool is configured on the component. The httpClientConfigurer, clientBuilder and httpClient options are not used"
+        + " by the async client, however credentials can be provided using a custom httpContext. When disableStreamCache is enabled the response body"
+        + " is streamed to the route, which then continues on a thread of the producer once the response headers have been received.")
+    private boolean useAsyncClient;
 
     @UriParam(label = "advanced", defaultValue = "200", description = "The maximum number of connections.")
     private int maxTotalConnections;
@@ -91,6 +99,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @UriParam(label = "security", description = "To use a custom X509HostnameVerifier such as DefaultHostnameVerifier or NoopHostnameVerifier")
     private HostnameVerifier x509HostnameVerifier;
 
+    private SSLContextParameters sslContextParameters;
+    private RequestConfig requestConfig;
+
     public HttpEndpoint() {
     }
 
@@ -116,6 +127,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (isUseAsyncClient()) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -144,6 +158,17 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.httpClient = httpClient;
     }
 
+    /**
+     * Gets the non-blocking client, which is shared with the other endpoints of the component.
+     * <p/>
+     * The client is looked up on the component every time, as it is closed and created again when the component
+     * is restarted.
+     */
+    public HttpAsyncClient getAsyncHttpClient() throws Exception {
+        ObjectHelper.notNull(getComponent(), "component");
+        return getComponent().getOrCreateAsyncHttpClient(sslContextParameters);
+    }
+
     /**
      * Factory method to create a new {@link HttpClient} instance
      * <p/>
@@ -163,16 +188,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyPort"))) {
-                String host = getCamelContext().getProperty("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getProperty("http.proxyPort"));
-                String scheme = getCamelContext().getProperty("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", new Object[]{host, port, scheme});
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = getCamelContextProxy();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -198,6 +215,26 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    /**
+     * Gets the http proxy configured by the http.proxyHost, http.proxyPort and http.proxyScheme properties of the CamelContext.
+     *
+     * @return the proxy, or <tt>null</tt> if no proxy is configured
+     */
+    HttpHost getCamelContextProxy() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getProperty("http.proxyPort"))) {
+            String host = getCamelContext().getProperty("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getProperty("http.proxyPort"));
+            String scheme = getCamelContext().getProperty("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", new Object[]{host, port, scheme});
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -311,6 +348,44 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.cookieStore = new NoopCookieStore();
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking Apache HttpAsyncClient, which does not block the calling thread
+     * while waiting for the response. The async client is shared by all the endpoints of the component and its
+     * connection pool is configured on the component. The httpClientConfigurer, clientBuilder and httpClient options
+     * are not used by the async client, however credentials can be provided using a custom httpContext.
+     * When disableStreamCache is enabled the response body is streamed to the route, which then continues on a thread
+     * of the producer once the response headers have been received.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public SSLContextParameters getSslContextParameters() {
+        return sslContextParameters;
+    }
+
+    /**
+     * The SSL configuration used when creating the async client.
+     */
+    public void setSslContextParameters(SSLContextParameters sslContextParameters) {
+        this.sslContextParameters = sslContextParameters;
+    }
+
+    public RequestConfig getRequestConfig() {
+        return requestConfig;
+    }
+
+    /**
+     * The request configuration, from the httpClient options, used by the async client.
+     */
+    public void setRequestConfig(RequestConfig requestConfig) {
+        this.requestConfig = requestConfig;
+    }
+
     public boolean isAuthenticationPreemptive() {
         return authenticationPreemptive;
     }
@@ -0,0 +1,232 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Producer;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer localServer;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/echo", new HttpRequestHandler() {
+                    public void handle(HttpRequest request, HttpResponse response, HttpContext context) throws HttpException, IOException {
+                        String body = EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity());
+                        response.setStatusCode(HttpStatus.SC_OK);
+                        response.setEntity(new StringEntity("Bye " + body));
+                    }
+                }).
+                registerHandler("/slow", new HttpRequestHandler() {
+                    public void handle(HttpRequest request, HttpResponse response, HttpContext context) throws HttpException, IOException {
+                        try {
+                            Thread.sleep(500);
+                        } catch (InterruptedException e) {
+                            // ignore
+                        }
+                        response.setStatusCode(HttpStatus.SC_OK);
+                        response.setEntity(new StringEntity("" + counter.incrementAndGet()));
+                    }
+                }).
+                registerHandler("/blocking", new HttpRequestHandler() {
+                    public void handle(HttpRequest request, HttpResponse response, HttpContext context) throws HttpException, IOException {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            // ignore
+                        }
+                        response.setStatusCode(HttpStatus.SC_OK);
+                        response.setEntity(new StringEntity("Released"));
+                    }
+                }).
+                registerHandler("/missing", new HttpRequestHandler() {
+                    public void handle(HttpRequest request, HttpResponse response, HttpContext context) throws HttpException, IOException {
+                        response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                        response.setEntity(new StringEntity("Not here"));
+                    }
+                }).create();
+        localServer.start();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncPost() throws Exception {
+        Exchange exchange = template.request(baseUrl() + "/echo?useAsyncClient=true", e -> e.getIn().setBody("World"));
+
+        assertNull(exchange.getException());
+        assertEquals(200, exchange.getOut().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertEquals("Bye World", exchange.getOut().getBody(String.class));
+    }
+
+    @Test
+    public void testAsyncConcurrentRequests() throws Exception {
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(template.asyncRequestBody(baseUrl() + "/slow?useAsyncClient=true", null, String.class));
+        }
+
+        Set<String> unique = new HashSet<>();
+        for (Future<String> future : responses) {
+            unique.add(future.get());
+        }
+        assertEquals("Should be 10 unique responses", 10, unique.size());
+    }
+
+    @Test
+    public void testAsyncFailure() throws Exception {
+        Exchange exchange = template.request(baseUrl() + "/missing?useAsyncClient=true", e -> e.getIn().setBody("World"));
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, exchange.getException());
+        assertEquals(404, cause.getStatusCode());
+        assertEquals("Not here", cause.getResponseBody());
+    }
+
+    @Test
+    public void testCallingThreadIsNotBlocked() throws Exception {
+        Endpoint endpoint = context.getEndpoint(baseUrl() + "/blocking?useAsyncClient=true");
+        Producer producer = endpoint.createProducer();
+        producer.start();
+        try {
+            Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+            final CountDownLatch done = new CountDownLatch(1);
+            boolean sync = ((AsyncProcessor) producer).process(exchange, new AsyncCallback() {
+                @Override
+                public void done(boolean doneSync) {
+                    done.countDown();
+                }
+            });
+
+            // the server does not respond before it is released, so the producer must have returned without waiting
+            assertFalse("Should complete asynchronously", sync);
+            assertEquals(1, done.getCount());
+
+            release.countDown();
+            assertTrue("Should complete once released", done.await(10, TimeUnit.SECONDS));
+            assertNull(exchange.getException());
+            assertEquals("Released", exchange.getOut().getBody(String.class));
+        } finally {
+            release.countDown();
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncStreaming() throws Exception {
+        final List<Object> bodies = new ArrayList<>();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:stream")
+                    .to(baseUrl() + "/echo?useAsyncClient=true&disableStreamCache=true")
+                    .process(e -> bodies.add(e.getIn().getBody()))
+                    .convertBodyTo(String.class);
+            }
+        });
+
+        // the response stream is only open while the exchange is routed
+        assertEquals("Bye World", template.requestBody("direct:stream", "World", String.class));
+        assertEquals(1, bodies.size());
+        assertIsInstanceOf(InputStream.class, bodies.get(0));
+        assertFalse("Should not be cached", bodies.get(0) instanceof StreamCache);
+    }
+
+    @Test
+    public void testAsyncClientShutdown() throws Exception {
+        Endpoint endpoint = context.getEndpoint(baseUrl() + "/echo?useAsyncClient=true");
+        Producer producer = endpoint.createProducer();
+        producer.start();
+        try {
+            // closes the shared client the producer is using
+            context.getComponent("http4").stop();
+
+            Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+            exchange.getIn().setBody("World");
+            final AtomicBoolean doneSync = new AtomicBoolean();
+            boolean sync = ((AsyncProcessor) producer).process(exchange, new AsyncCallback() {
+                @Override
+                public void done(boolean sync) {
+                    doneSync.set(sync);
+                }
+            });
+
+            assertTrue("Should fail right away", sync);
+            assertTrue(doneSync.get());
+            assertNotNull(exchange.getException());
+        } finally {
+            producer.stop();
+        }
+    }
+
+    private String baseUrl() {
+        return "http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+    }
+}
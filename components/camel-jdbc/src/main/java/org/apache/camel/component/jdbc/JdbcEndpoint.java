@@ -43,6 +43,8 @@ public class JdbcEndpoint extends DefaultEndpoint {
     @UriParam
     private int readSize;
     @UriParam
+    private int fetchSize;
+    @UriParam
     private boolean transacted;
     @UriParam(defaultValue = "true")
     private boolean resetAutoCommit = true;
@@ -107,6 +109,21 @@ public class JdbcEndpoint extends DefaultEndpoint {
         this.readSize = readSize;
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * If set greater than zero, then this is the number of rows the JDBC driver should fetch from the database
+     * in each round-trip when reading the result set, which is set as fetch size on the statement.
+     * <p/>
+     * Use this together with outputType=StreamList to stream large result sets with a bounded memory footprint.
+     * Notice some JDBC drivers only use the fetch size when the connection is not in auto commit mode.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public boolean isTransacted() {
         return transacted;
     }
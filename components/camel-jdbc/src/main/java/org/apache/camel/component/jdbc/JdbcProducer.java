@@ -152,6 +152,10 @@ public class JdbcProducer extends DefaultProducer {
                 ps = conn.prepareStatement(preparedQuery);
             }
 
+            if (getEndpoint().getFetchSize() > 0) {
+                ps.setFetchSize(getEndpoint().getFetchSize());
+            }
+
             int expectedCount = ps.getParameterMetaData().getParameterCount();
 
             if (expectedCount > 0) {
@@ -199,6 +203,10 @@ public class JdbcProducer extends DefaultProducer {
                 IntrospectionSupport.setProperties(stmt, copy);
             }
 
+            if (getEndpoint().getFetchSize() > 0) {
+                stmt.setFetchSize(getEndpoint().getFetchSize());
+            }
+
             LOG.debug("Executing JDBC Statement: {}", sql);
 
             Boolean shouldRetrieveGeneratedKeys = exchange.getIn().getHeader(JdbcConstants.JDBC_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
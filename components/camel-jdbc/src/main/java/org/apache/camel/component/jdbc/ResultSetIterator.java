@@ -23,7 +23,6 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -41,6 +40,7 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
     private final Statement statement;
     private final ResultSet resultSet;
     private final Column[] columns;
+    private final ResultSetRow.Columns rowColumns;
     private final boolean useGetBytes;
     private final AtomicBoolean closed = new AtomicBoolean();
 
@@ -63,6 +63,12 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
             }
         }
 
+        String[] columnNames = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnNames[i] = columns[i].getName();
+        }
+        rowColumns = new ResultSetRow.Columns(columnNames);
+
         loadNext();
     }
 
@@ -78,16 +84,17 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         }
 
         try {
-            Map<String, Object> row = new LinkedHashMap<String, Object>();
-            for (Column column : columns) {
+            Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                Column column = columns[i];
                 if (useGetBytes && column instanceof BlobColumn) {
-                    row.put(column.getName(), ((BlobColumn) column).getBytes(resultSet));
+                    values[i] = ((BlobColumn) column).getBytes(resultSet);
                 } else {
-                    row.put(column.getName(), column.getValue(resultSet));
+                    values[i] = column.getValue(resultSet);
                 }
             }
             loadNext();
-            return row;
+            return new ResultSetRow(rowColumns, values);
         } catch (SQLException e) {
             close();
             throw new RuntimeCamelException("Cannot process result", e);
@@ -0,0 +1,272 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A lightweight row of a {@link java.sql.ResultSet} which holds the column values in an array, and shares the
+ * column names and the name lookup index with all the other rows of the same result set, instead of creating
+ * a {@link LinkedHashMap} per row.
+ * <p/>
+ * The row iterates in column order like a {@link LinkedHashMap}. The values of the columns can be updated,
+ * and when columns are added or removed then the row is copied into a {@link LinkedHashMap} which is used from then on.
+ * Removing entries while iterating the row is not supported. The row is serialized as a {@link LinkedHashMap}.
+ * <p/>
+ * Subclasses can override {@link #createMap(int)} to use another type of map, such as a case insensitive map
+ * together with case insensitive {@link Columns}.
+ */
+public class ResultSetRow extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Columns columns;
+    private final transient Object[] values;
+    private Map<String, Object> map;
+
+    public ResultSetRow(Columns columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return map != null ? map.size() : columns.names.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map != null ? map.containsKey(key) : columns.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        int index = columns.indexOf(key);
+        return index < 0 ? null : values[columns.valueIndex[index]];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (map == null) {
+            int index = columns.indexOf(key);
+            if (index >= 0) {
+                int valueIndex = columns.valueIndex[index];
+                Object old = values[valueIndex];
+                values[valueIndex] = value;
+                return old;
+            }
+            inflate();
+        }
+        return map.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (map == null) {
+            if (columns.indexOf(key) < 0) {
+                return null;
+            }
+            inflate();
+        }
+        return map.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (map == null) {
+            map = createMap(16);
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (map != null) {
+            return map.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return columns.names.length;
+            }
+        };
+    }
+
+    private void inflate() {
+        Map<String, Object> copy = createMap(columns.names.length * 2);
+        for (int i = 0; i < columns.names.length; i++) {
+            copy.put(columns.names[i], values[columns.valueIndex[i]]);
+        }
+        map = copy;
+    }
+
+    /**
+     * Creates the map the row is copied into when columns are added or removed, and which the row is serialized as.
+     *
+     * @param initialCapacity the initial capacity of the map
+     * @return a new {@link LinkedHashMap} by default
+     */
+    protected Map<String, Object> createMap(int initialCapacity) {
+        return new LinkedHashMap<String, Object>(initialCapacity);
+    }
+
+    protected Object writeReplace() {
+        Map<String, Object> copy = createMap(size() * 2);
+        copy.putAll(this);
+        return copy;
+    }
+
+    /**
+     * The column names of a result set, shared by all its rows.
+     */
+    public static final class Columns {
+        private final String[] names;
+        private final int[] valueIndex;
+        private final Map<String, Integer> index;
+        private final boolean caseInsensitive;
+
+        /**
+         * @param columnNames the column names in the order of the result set, the value of the last column wins
+         *                    if a name is used by more than one column
+         */
+        public Columns(String[] columnNames) {
+            this(columnNames, false);
+        }
+
+        /**
+         * @param columnNames     the column names in the order of the result set, the value of the last column wins
+         *                        if a name is used by more than one column
+         * @param caseInsensitive whether the column names are case insensitive, in the same way as Spring's
+         *                        <tt>LinkedCaseInsensitiveMap</tt>
+         */
+        public Columns(String[] columnNames, boolean caseInsensitive) {
+            this.caseInsensitive = caseInsensitive;
+            Map<String, Integer> positions = new HashMap<String, Integer>(columnNames.length * 2);
+            Map<String, Integer> last = new HashMap<String, Integer>(columnNames.length * 2);
+            String[] unique = new String[columnNames.length];
+            for (int i = 0; i < columnNames.length; i++) {
+                String key = convertKey(columnNames[i]);
+                if (!positions.containsKey(key)) {
+                    unique[positions.size()] = columnNames[i];
+                    positions.put(key, positions.size());
+                }
+                last.put(key, i);
+            }
+            this.names = new String[positions.size()];
+            System.arraycopy(unique, 0, names, 0, names.length);
+            this.valueIndex = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                valueIndex[i] = last.get(convertKey(names[i]));
+            }
+            this.index = positions;
+        }
+
+        int indexOf(Object key) {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            Integer answer = index.get(convertKey((String) key));
+            return answer != null ? answer : -1;
+        }
+
+        private String convertKey(String key) {
+            // same as LinkedCaseInsensitiveMap
+            return caseInsensitive ? key.toLowerCase(Locale.getDefault()) : key;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            return next < columns.names.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return new RowEntry(next++);
+        }
+    }
+
+    private final class RowEntry implements Entry<String, Object> {
+        private final int index;
+
+        private RowEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return columns.names[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[columns.valueIndex[index]];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            int valueIndex = columns.valueIndex[index];
+            Object old = values[valueIndex];
+            values[valueIndex] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -52,12 +52,27 @@ public class JdbcProducerOutputTypeStreamListTest extends AbstractJdbcTestSuppor
         assertThat(resultBodyAt(2), instanceOf(Map.class));
     }
 
+    @Test
+    public void shouldStreamResultRowsWithFetchSize() throws Exception {
+        result.expectedMessageCount(3);
+
+        template.sendBody("direct:withFetchSize", QUERY);
+
+        result.assertIsSatisfied();
+        Map<?, ?> row = (Map<?, ?>) resultBodyAt(0);
+        assertEquals("cust1", row.get("ID"));
+        assertEquals("jstrachan", row.get("NAME"));
+        assertEquals(Arrays.asList("ID", "NAME"), new ArrayList<Object>(row.keySet()));
+        assertEquals("willem", ((Map<?, ?>) resultBodyAt(2)).get("NAME"));
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
             public void configure() throws Exception {
                 from("direct:start").to("jdbc:testdb?outputType=StreamList").to("mock:result");
                 from("direct:withSplit").to("jdbc:testdb?outputType=StreamList").split(body()).to("mock:result");
+                from("direct:withFetchSize").to("jdbc:testdb?outputType=StreamList&fetchSize=2").split(body()).streaming().to("mock:result");
             }
         };
     }
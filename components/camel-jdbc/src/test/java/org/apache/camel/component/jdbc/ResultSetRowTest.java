@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultSetRowTest {
+
+    private final ResultSetRow.Columns columns = new ResultSetRow.Columns(new String[]{"ID", "NAME", "ID"});
+
+    @Test
+    public void shouldBehaveLikeLinkedHashMap() {
+        ResultSetRow row = new ResultSetRow(columns, new Object[]{"a", "Claus", "b"});
+
+        Map<String, Object> expected = new LinkedHashMap<String, Object>();
+        expected.put("ID", "a");
+        expected.put("NAME", "Claus");
+        expected.put("ID", "b");
+
+        assertEquals(expected, row);
+        assertEquals(row, expected);
+        assertEquals(expected.hashCode(), row.hashCode());
+        assertEquals(expected.toString(), row.toString());
+        assertEquals(2, row.size());
+        assertEquals(Arrays.asList("ID", "NAME"), new ArrayList<String>(row.keySet()));
+        assertEquals("b", row.get("ID"));
+        assertTrue(row.containsKey("NAME"));
+        assertFalse(row.containsKey("name"));
+        assertNull(row.get("OTHER"));
+    }
+
+    @Test
+    public void shouldUpdateColumns() {
+        ResultSetRow row = new ResultSetRow(columns, new Object[]{"a", "Claus", "b"});
+
+        assertEquals("Claus", row.put("NAME", "Willem"));
+        assertEquals("Willem", row.get("NAME"));
+
+        row.entrySet().iterator().next().setValue("c");
+        assertEquals("c", row.get("ID"));
+    }
+
+    @Test
+    public void shouldAddAndRemoveColumns() {
+        ResultSetRow row = new ResultSetRow(columns, new Object[]{"a", "Claus", "b"});
+
+        assertNull(row.put("CITY", "Oslo"));
+        assertEquals("Claus", row.remove("NAME"));
+        assertNull(row.remove("NAME"));
+
+        assertEquals(Arrays.asList("ID", "CITY"), new ArrayList<String>(row.keySet()));
+        assertEquals("b", row.get("ID"));
+        assertEquals("Oslo", row.get("CITY"));
+    }
+
+    @Test
+    public void shouldSerializeAsLinkedHashMap() throws Exception {
+        ResultSetRow row = new ResultSetRow(columns, new Object[]{"a", "Claus", "b"});
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bos);
+        oos.writeObject(row);
+        oos.close();
+        Object copy = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray())).readObject();
+
+        assertEquals(LinkedHashMap.class, copy.getClass());
+        assertEquals(row, copy);
+    }
+
+    @Test
+    public void shouldLookupCaseInsensitiveColumns() {
+        ResultSetRow.Columns caseInsensitive = new ResultSetRow.Columns(new String[]{"ID", "NAME", "id"}, true);
+        ResultSetRow row = new ResultSetRow(caseInsensitive, new Object[]{"a", "Claus", "b"});
+
+        assertEquals(2, row.size());
+        assertEquals(Arrays.asList("ID", "NAME"), new ArrayList<String>(row.keySet()));
+        assertEquals("b", row.get("id"));
+        assertEquals("Claus", row.get("name"));
+        assertTrue(row.containsKey("Name"));
+    }
+}
@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.support.JmsUtils;
+
+/**
+ * Sends InOnly messages in batches on a dedicated transacted session, so each batch of messages is
+ * committed in one JMS transaction. The exchanges continue routing asynchronously when the transaction
+ * with their message has been committed.
+ */
+class JmsBatchSender extends ServiceSupport implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JmsBatchSender.class);
+
+    private final JmsProducer jmsProducer;
+    private final JmsEndpoint endpoint;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final BlockingQueue<BatchEntry> queue = new LinkedBlockingQueue<>();
+    private ExecutorService executorService;
+
+    // only accessed by the sender thread
+    private Connection connection;
+    private Session session;
+    private MessageProducer producer;
+    private Destination destination;
+
+    JmsBatchSender(JmsProducer jmsProducer, int batchSize, long batchTimeout) {
+        this.jmsProducer = jmsProducer;
+        this.endpoint = jmsProducer.getEndpoint();
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    /**
+     * Adds the message to the next batch to send.
+     */
+    void send(Exchange exchange, AsyncCallback callback, MessageCreator messageCreator, MessageSentCallback messageSentCallback) {
+        if (!isRunAllowed()) {
+            throw new RejectedExecutionException("JmsBatchSender is not started on endpoint: " + endpoint);
+        }
+        queue.add(new BatchEntry(exchange, callback, messageCreator, messageSentCallback));
+    }
+
+    @Override
+    public void run() {
+        List<BatchEntry> batch = new ArrayList<>(batchSize);
+        try {
+            // keep running until all the queued messages has been sent
+            while (isRunAllowed() || !queue.isEmpty()) {
+                BatchEntry entry = queue.poll(1000, TimeUnit.MILLISECONDS);
+                if (entry == null) {
+                    continue;
+                }
+                batch.add(entry);
+                collectBatch(batch);
+                sendBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queue.drainTo(batch);
+            failPending(batch);
+            closeConnection();
+        }
+    }
+
+    private static void failPending(List<BatchEntry> entries) {
+        for (BatchEntry entry : entries) {
+            if (!entry.done) {
+                done(entry, new RejectedExecutionException("JmsBatchSender stopped before the message was sent"));
+            }
+        }
+    }
+
+    private void collectBatch(List<BatchEntry> batch) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + batchTimeout;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long wait = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || wait <= 0) {
+                return;
+            }
+            BatchEntry entry = queue.poll(wait, TimeUnit.MILLISECONDS);
+            if (entry == null) {
+                return;
+            }
+            batch.add(entry);
+        }
+    }
+
+    private void sendBatch(List<BatchEntry> batch) {
+        List<BatchEntry> sent = new ArrayList<>(batch.size());
+        try {
+            getSession();
+            for (BatchEntry entry : batch) {
+                try {
+                    entry.message = entry.messageCreator.createMessage(session);
+                } catch (Exception e) {
+                    // the message could not be created so only this exchange fails
+                    done(entry, e);
+                    continue;
+                }
+                doSend(entry.message);
+                sent.add(entry);
+            }
+            session.commit();
+            LOG.debug("Committed batch of {} messages to: {}", sent.size(), destination);
+        } catch (Exception e) {
+            LOG.warn("Error sending batch of " + batch.size() + " messages to: " + endpoint + " due " + e.getMessage()
+                + ". The batch is rolled back and the connection is closed.", e);
+            if (session != null) {
+                JmsUtils.rollbackIfNecessary(session);
+            }
+            closeConnection();
+            for (BatchEntry entry : batch) {
+                if (!entry.done) {
+                    done(entry, e);
+                }
+            }
+            return;
+        }
+
+        for (BatchEntry entry : sent) {
+            if (entry.messageSentCallback != null) {
+                entry.messageSentCallback.sent(session, entry.message, destination);
+            }
+            jmsProducer.setMessageId(entry.exchange);
+            done(entry, null);
+        }
+    }
+
+    private static void done(BatchEntry entry, Exception cause) {
+        if (cause != null) {
+            entry.exchange.setException(cause);
+        }
+        entry.done = true;
+        entry.callback.done(false);
+    }
+
+    private void doSend(Message message) throws JMSException {
+        JmsConfiguration configuration = endpoint.getConfiguration();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Sending JMS message to: {} with message: {}", destination, message);
+        }
+        if (configuration.isExplicitQosEnabled()) {
+            int deliveryMode = configuration.getDeliveryMode() != null ? configuration.getDeliveryMode()
+                : configuration.isDeliveryPersistent() ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT;
+            long timeToLive = configuration.getTimeToLive() > 0 ? configuration.getTimeToLive() : Message.DEFAULT_TIME_TO_LIVE;
+            producer.send(destination, message, deliveryMode, configuration.getPriority(), timeToLive);
+        } else {
+            producer.send(destination, message);
+        }
+    }
+
+    private Session getSession() throws JMSException {
+        if (session == null) {
+            connection = endpoint.getConfiguration().getTemplateConnectionFactory().createConnection();
+            session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            // an anonymous producer as the destination is given when sending
+            producer = session.createProducer(null);
+            destination = endpoint.getDestination();
+            if (destination == null) {
+                destination = jmsProducer.resolveOrCreateDestination(endpoint.getDestinationName(), session);
+            }
+        }
+        return session;
+    }
+
+    private void closeConnection() {
+        JmsUtils.closeMessageProducer(producer);
+        JmsUtils.closeSession(session);
+        JmsUtils.closeConnection(connection);
+        producer = null;
+        session = null;
+        connection = null;
+        destination = null;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        String name = "JmsBatchSender[" + endpoint.getEndpointConfiguredDestinationName() + "]";
+        executorService = endpoint.getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, name);
+        executorService.submit(this);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            // the sender thread sends the remaining messages before it stops
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+        // fail messages which were added while the sender thread was stopping
+        List<BatchEntry> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        failPending(pending);
+    }
+
+    private static final class BatchEntry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final MessageCreator messageCreator;
+        private final MessageSentCallback messageSentCallback;
+        private Message message;
+        private boolean done;
+
+        BatchEntry(Exchange exchange, AsyncCallback callback, MessageCreator messageCreator, MessageSentCallback messageSentCallback) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.messageCreator = messageCreator;
+            this.messageSentCallback = messageSentCallback;
+        }
+    }
+
+}
@@ -205,6 +205,28 @@ public class JmsConfiguration implements Cloneable {
     @UriParam(label = "producer", defaultValue = "1",
             description = "Specifies the maximum number of concurrent consumers for continue routing when timeout occurred when using request/reply over JMS.")
     private int replyToOnTimeoutMaxConcurrentConsumers = 1;
+    @UriParam(label = "producer,advanced", defaultValue = "1",
+            description = "Specifies the number of reply managers to use when doing request/reply over JMS with temporary reply queues."
+                    + " Each reply manager has its own temporary reply queue, reply message listener and correlation map, and the requests"
+                    + " are spread over the reply managers in a round robin fashion. Using more reply managers reduces the contention"
+                    + " when there are many requests in flight at the same time. This option is not in use when a fixed replyTo queue is configured.")
+    private int replyToShards = 1;
+    @UriParam(label = "producer,advanced",
+            description = "Whether the reply message listener acknowledges the reply messages lazily using DUPS_OK_ACKNOWLEDGE, which"
+                    + " allows the JMS broker to acknowledge the reply messages in batches. A reply message may then be delivered again"
+                    + " if the reply message listener fails, which is logged and ignored as there is no request waiting for it anymore.")
+    private boolean replyToBatchAcknowledge;
+    @UriParam(label = "producer,advanced",
+            description = "Sets the maximum number of InOnly messages the producer sends together in one JMS transaction."
+                    + " The messages are sent on a dedicated transacted session, and each exchange continues routing when the"
+                    + " transaction with its message has been committed. A value of 0 or 1 disables batching."
+                    + " Batching is not in use for exchanges which are transacted, which overrides the destination using headers,"
+                    + " or when preserveMessageQos is enabled.")
+    private int producerBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100",
+            description = "The maximum time in millis the producer waits for more messages before it commits a batch which is not full."
+                    + " This option is only in use when producerBatchSize is enabled.")
+    private long producerBatchTimeout = 100;
     // JmsTemplate only
     @UriParam(label = "producer", defaultValue = "false",
             description = "Set if the deliveryMode, priority or timeToLive qualities of service should be used when sending messages."
@@ -1208,6 +1230,60 @@ public class JmsConfiguration implements Cloneable {
         this.replyToOnTimeoutMaxConcurrentConsumers = replyToOnTimeoutMaxConcurrentConsumers;
     }
 
+    public int getReplyToShards() {
+        return replyToShards;
+    }
+
+    /**
+     * Specifies the number of reply managers to use when doing request/reply over JMS with temporary reply queues.
+     * Each reply manager has its own temporary reply queue, reply message listener and correlation map, and the requests
+     * are spread over the reply managers in a round robin fashion. Using more reply managers reduces the contention
+     * when there are many requests in flight at the same time. This option is not in use when a fixed replyTo queue is configured.
+     */
+    public void setReplyToShards(int replyToShards) {
+        this.replyToShards = replyToShards;
+    }
+
+    public boolean isReplyToBatchAcknowledge() {
+        return replyToBatchAcknowledge;
+    }
+
+    /**
+     * Whether the reply message listener acknowledges the reply messages lazily using DUPS_OK_ACKNOWLEDGE, which
+     * allows the JMS broker to acknowledge the reply messages in batches. A reply message may then be delivered again
+     * if the reply message listener fails, which is logged and ignored as there is no request waiting for it anymore.
+     */
+    public void setReplyToBatchAcknowledge(boolean replyToBatchAcknowledge) {
+        this.replyToBatchAcknowledge = replyToBatchAcknowledge;
+    }
+
+    public int getProducerBatchSize() {
+        return producerBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of InOnly messages the producer sends together in one JMS transaction.
+     * The messages are sent on a dedicated transacted session, and each exchange continues routing when the
+     * transaction with its message has been committed. A value of 0 or 1 disables batching.
+     * Batching is not in use for exchanges which are transacted, which overrides the destination using headers,
+     * or when preserveMessageQos is enabled.
+     */
+    public void setProducerBatchSize(int producerBatchSize) {
+        this.producerBatchSize = producerBatchSize;
+    }
+
+    public long getProducerBatchTimeout() {
+        return producerBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis the producer waits for more messages before it commits a batch which is not full.
+     * This option is only in use when producerBatchSize is enabled.
+     */
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        this.producerBatchTimeout = producerBatchTimeout;
+    }
+
     public boolean isExplicitQosEnabled() {
         return explicitQosEnabled != null ? explicitQosEnabled : false;
     }
@@ -620,6 +620,26 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         return getConfiguration().getReplyToOnTimeoutMaxConcurrentConsumers();
     }
 
+    @ManagedAttribute
+    public int getProducerBatchSize() {
+        return getConfiguration().getProducerBatchSize();
+    }
+
+    @ManagedAttribute
+    public long getProducerBatchTimeout() {
+        return getConfiguration().getProducerBatchTimeout();
+    }
+
+    @ManagedAttribute
+    public int getReplyToShards() {
+        return getConfiguration().getReplyToShards();
+    }
+
+    @ManagedAttribute
+    public boolean isReplyToBatchAcknowledge() {
+        return getConfiguration().isReplyToBatchAcknowledge();
+    }
+
     @ManagedAttribute
     public int getMaxMessagesPerTask() {
         return getConfiguration().getMaxMessagesPerTask();
@@ -940,6 +960,26 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         getConfiguration().setReplyToMaxConcurrentConsumers(maxConcurrentConsumers);
     }
 
+    @ManagedAttribute
+    public void setProducerBatchSize(int producerBatchSize) {
+        getConfiguration().setProducerBatchSize(producerBatchSize);
+    }
+
+    @ManagedAttribute
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        getConfiguration().setProducerBatchTimeout(producerBatchTimeout);
+    }
+
+    @ManagedAttribute
+    public void setReplyToShards(int replyToShards) {
+        getConfiguration().setReplyToShards(replyToShards);
+    }
+
+    @ManagedAttribute
+    public void setReplyToBatchAcknowledge(boolean replyToBatchAcknowledge) {
+        getConfiguration().setReplyToBatchAcknowledge(replyToBatchAcknowledge);
+    }
+
     @ManagedAttribute
     public void setMaxMessagesPerTask(int maxMessagesPerTask) {
         getConfiguration().setMaxMessagesPerTask(maxMessagesPerTask);
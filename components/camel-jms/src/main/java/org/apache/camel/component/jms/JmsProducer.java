@@ -20,6 +20,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Optional.ofNullable;
 
@@ -63,7 +64,9 @@ public class JmsProducer extends DefaultAsyncProducer {
     private JmsOperations inOnlyTemplate;
     private JmsOperations inOutTemplate;
     private UuidGenerator uuidGenerator;
-    private ReplyManager replyManager;
+    private ReplyManager[] replyManagers;
+    private final AtomicInteger replyManagerCounter = new AtomicInteger();
+    private JmsBatchSender batchSender;
 
     public JmsProducer(JmsEndpoint endpoint) {
         super(endpoint);
@@ -101,13 +104,19 @@ public class JmsProducer extends DefaultAsyncProducer {
                     }
 
                     if (endpoint.getReplyTo() != null) {
-                        replyManager = createReplyManager(endpoint.getReplyTo());
+                        ReplyManager replyManager = createReplyManager(endpoint.getReplyTo());
+                        replyManagers = new ReplyManager[]{replyManager};
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Using JmsReplyManager: {} to process replies from: {}", replyManager, endpoint.getReplyTo());
                         }
                     } else {
-                        replyManager = createReplyManager();
-                        LOG.debug("Using JmsReplyManager: {} to process replies from temporary queue", replyManager);
+                        // each reply manager has its own temporary queue and correlation map
+                        int shards = Math.max(1, endpoint.getReplyToShards());
+                        replyManagers = new ReplyManager[shards];
+                        for (int i = 0; i < shards; i++) {
+                            replyManagers[i] = createReplyManager();
+                            LOG.debug("Using JmsReplyManager: {} to process replies from temporary queue", replyManagers[i]);
+                        }
                     }
                 } catch (Exception e) {
                     throw new FailedToCreateProducerException(endpoint, e);
@@ -123,12 +132,16 @@ public class JmsProducer extends DefaultAsyncProducer {
 
     protected void unInitReplyManager() {
         try {
-            if (replyManager != null) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Stopping JmsReplyManager: {} from processing replies from: {}", replyManager,
-                            endpoint.getReplyTo() != null ? endpoint.getReplyTo() : "temporary queue");
+            if (replyManagers != null) {
+                for (ReplyManager replyManager : replyManagers) {
+                    if (replyManager != null) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Stopping JmsReplyManager: {} from processing replies from: {}", replyManager,
+                                    endpoint.getReplyTo() != null ? endpoint.getReplyTo() : "temporary queue");
+                        }
+                        ServiceHelper.stopService(replyManager);
+                    }
                 }
-                ServiceHelper.stopService(replyManager);
             }
         } catch (Exception e) {
             throw ObjectHelper.wrapRuntimeCamelException(e);
@@ -188,6 +201,9 @@ public class JmsProducer extends DefaultAsyncProducer {
 
         initReplyManager();
 
+        // the reply manager to use for this request
+        final ReplyManager replyManager = nextReplyManager();
+
         // the request timeout can be overruled by a header otherwise the endpoint configured value is used
         final long timeout = exchange.getIn().getHeader(JmsConstants.JMS_REQUEST_TIMEOUT, endpoint.getRequestTimeout(), long.class);
 
@@ -296,11 +312,14 @@ public class JmsProducer extends DefaultAsyncProducer {
 
     protected boolean processInOnly(final Exchange exchange, final AsyncCallback callback) {
         final org.apache.camel.Message in = exchange.getIn();
+        // whether the destination is overridden using headers
+        boolean destinationOverride = false;
 
         String destinationName = in.getHeader(JmsConstants.JMS_DESTINATION_NAME, String.class);
         if (destinationName != null) {
             // remove the header so it wont be propagated
             in.removeHeader(JmsConstants.JMS_DESTINATION_NAME);
+            destinationOverride = true;
         }
         if (destinationName == null) {
             destinationName = endpoint.getDestinationName();
@@ -310,6 +329,7 @@ public class JmsProducer extends DefaultAsyncProducer {
         if (destination != null) {
             // remove the header so it wont be propagated
             in.removeHeader(JmsConstants.JMS_DESTINATION);
+            destinationOverride = true;
         }
         if (destination == null) {
             destination = endpoint.getDestination();
@@ -391,6 +411,13 @@ public class JmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        if (batchSender != null && !destinationOverride && !exchange.isTransacted() && !endpoint.isPreserveMessageQos()) {
+            // the message is sent and committed together with other messages, and the exchange
+            // continues routing when the batch has been committed
+            batchSender.send(exchange, callback, messageCreator, messageSentCallback);
+            return false;
+        }
+
         doSend(false, destinationName, destination, messageCreator, messageSentCallback);
 
         // after sending then set the OUT message id to the JMSMessageID so its identical
@@ -554,15 +581,37 @@ public class JmsProducer extends DefaultAsyncProducer {
         if (endpoint.isTestConnectionOnStartup()) {
             testConnectionOnStartup();
         }
+        if (endpoint.getConfiguration().getProducerBatchSize() > 1) {
+            batchSender = new JmsBatchSender(this, endpoint.getConfiguration().getProducerBatchSize(),
+                endpoint.getConfiguration().getProducerBatchTimeout());
+            ServiceHelper.startService(batchSender);
+        }
     }
 
     protected void doStop() throws Exception {
         super.doStop();
 
+        // send the pending batched messages before we stop
+        ServiceHelper.stopService(batchSender);
+        batchSender = null;
+
         // must stop/un-init reply manager if it was in use
         unInitReplyManager();
     }
 
+    /**
+     * Gets the reply manager to use for the next request, which is chosen in a round robin fashion
+     * when using several reply managers.
+     */
+    protected ReplyManager nextReplyManager() {
+        ReplyManager[] managers = replyManagers;
+        if (managers.length == 1) {
+            return managers[0];
+        }
+        int index = (replyManagerCounter.getAndIncrement() & Integer.MAX_VALUE) % managers.length;
+        return managers[index];
+    }
+
     protected ReplyManager createReplyManager() throws Exception {
         // use a temporary queue
         ReplyManager replyManager = new TemporaryQueueReplyManager(getEndpoint().getCamelContext());
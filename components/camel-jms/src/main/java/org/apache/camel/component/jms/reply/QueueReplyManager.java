@@ -188,6 +188,10 @@ public class QueueReplyManager extends ReplyManagerSupport {
 
         // we cannot do request-reply over JMS with transaction
         answer.setSessionTransacted(false);
+        if (endpoint.isReplyToBatchAcknowledge()) {
+            // allow the broker to acknowledge the reply messages in batches
+            answer.setSessionAcknowledgeMode(Session.DUPS_OK_ACKNOWLEDGE);
+        }
 
         // other optional properties
         if (endpoint.getExceptionListener() != null) {
@@ -132,6 +132,10 @@ public class TemporaryQueueReplyManager extends ReplyManagerSupport {
 
         // we cannot do request-reply over JMS with transaction
         answer.setSessionTransacted(false);
+        if (endpoint.isReplyToBatchAcknowledge()) {
+            // allow the broker to acknowledge the reply messages in batches
+            answer.setSessionAcknowledgeMode(Session.DUPS_OK_ACKNOWLEDGE);
+        }
         
         // other optional properties
         answer.setExceptionListener(new TemporaryReplyQueueExceptionListener(destResolver, endpoint.getExceptionListener()));
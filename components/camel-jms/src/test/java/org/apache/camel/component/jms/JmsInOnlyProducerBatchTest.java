@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+/**
+ * Tests sending InOnly messages in batches using transacted sessions.
+ */
+public class JmsInOnlyProducerBatchTest extends CamelTestSupport {
+
+    private final List<Integer> committedBatches = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testProducerBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+        mock.expectsNoDuplicates(body());
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(template.asyncSendBody("direct:start", "Message " + i));
+        }
+        // the exchanges complete when their batch has been committed
+        for (Future<Object> future : futures) {
+            future.get(20, TimeUnit.SECONDS);
+        }
+
+        int total = 0;
+        for (int size : committedBatches) {
+            assertTrue("Should not commit more than the batch size, was " + size, size <= 10);
+            total += size;
+        }
+        assertEquals("Should commit all the messages", 100, total);
+        // the messages are sent faster than the batch timeout so the batches should mostly be full
+        assertTrue("Should commit at least 10 batches, was " + committedBatches.size(), committedBatches.size() >= 10);
+        assertTrue("Should commit the messages in batches, was " + committedBatches.size(), committedBatches.size() <= 20);
+
+        assertMockEndpointsSatisfied(20, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testProducerBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        // a batch which is not full is committed after the batch timeout
+        template.sendBody("direct:start", "Hello World");
+
+        assertEquals("Should commit one batch with the message", Collections.singletonList(1), committedBatches);
+
+        assertMockEndpointsSatisfied(20, TimeUnit.SECONDS);
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+
+        ConnectionFactory connectionFactory = countCommits(CamelJmsTestHelper.createConnectionFactory());
+        camelContext.addComponent("jms", jmsComponentAutoAcknowledge(connectionFactory));
+
+        return camelContext;
+    }
+
+    /**
+     * Wraps the connection factory to record the number of messages sent in each committed transaction.
+     */
+    private ConnectionFactory countCommits(ConnectionFactory connectionFactory) {
+        return proxy(ConnectionFactory.class, connectionFactory, (method, result, args) -> {
+            if (result instanceof Connection) {
+                return proxy(Connection.class, (Connection) result, (connectionMethod, session, sessionArgs) -> {
+                    if (session instanceof Session && ((Session) session).getTransacted()) {
+                        return countCommits((Session) session);
+                    }
+                    return session;
+                });
+            }
+            return result;
+        });
+    }
+
+    private Session countCommits(Session session) {
+        AtomicInteger sent = new AtomicInteger();
+        return proxy(Session.class, session, (method, result, args) -> {
+            if (result instanceof MessageProducer) {
+                return proxy(MessageProducer.class, (MessageProducer) result, (producerMethod, sendResult, producerArgs) -> {
+                    if (producerMethod.getName().equals("send")) {
+                        sent.incrementAndGet();
+                    }
+                    return sendResult;
+                });
+            } else if (method.getName().equals("commit")) {
+                committedBatches.add(sent.getAndSet(0));
+            } else if (method.getName().equals("rollback")) {
+                sent.set(0);
+            }
+            return result;
+        });
+    }
+
+    private interface ResultHandler {
+        Object handle(Method method, Object result, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        Object answer = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (instance, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return handler.handle(method, result, args);
+        });
+        return type.cast(answer);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("jms:queue:batch?producerBatchSize=10&producerBatchTimeout=50");
+
+                from("jms:queue:batch").to("mock:result");
+            }
+        };
+    }
+
+}
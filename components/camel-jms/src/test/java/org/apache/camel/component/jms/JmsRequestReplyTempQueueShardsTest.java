@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+/**
+ * Tests request/reply over JMS using several reply managers with temporary reply queues.
+ */
+public class JmsRequestReplyTempQueueShardsTest extends CamelTestSupport {
+
+    private final Set<String> replyToQueues = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void testShardedReplyManagers() throws Exception {
+        ExecutorService executorService = context.getExecutorServiceManager().newFixedThreadPool(this, "test", 10);
+
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final String body = "Message " + i;
+            replies.add(executorService.submit(() -> template.requestBody("direct:start", body, String.class)));
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertEquals("Reply >>> Message " + i, replies.get(i).get(20, TimeUnit.SECONDS));
+        }
+
+        // the requests are spread over the temporary reply queues of the reply managers
+        assertEquals("Expected a temporary reply queue per reply manager, but found: " + replyToQueues, 4, replyToQueues.size());
+
+        context.getExecutorServiceManager().shutdown(executorService);
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("jms", jmsComponentAutoAcknowledge(connectionFactory));
+
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").inOut("jms:queue:foo?replyToShards=4&replyToBatchAcknowledge=true");
+
+                from("jms:queue:foo?concurrentConsumers=10")
+                    .process(exchange -> replyToQueues.add(exchange.getIn().getHeader("JMSReplyTo", String.class)))
+                    .setBody(simple("Reply >>> ${body}"));
+            }
+        };
+    }
+
+}
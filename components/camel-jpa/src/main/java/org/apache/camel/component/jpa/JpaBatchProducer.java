@@ -0,0 +1,239 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jpa;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.BatchAccumulator;
+import org.apache.camel.util.ServiceHelper;
+import org.apache.camel.util.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.apache.camel.component.jpa.JpaHelper.getTargetEntityManager;
+
+/**
+ * A producer which writes the entities of exchanges sent concurrently or in quick succession in batches,
+ * where each batch is written in one transaction using one {@link EntityManager}.
+ * <p/>
+ * An exchange is written right away when no batch is being written, and is otherwise held until that batch is done,
+ * until <tt>batchSize</tt> entities are pending, or at most about <tt>batchTimeout</tt> millis, as described by
+ * {@link BatchAccumulator}.
+ * The {@link EntityManager} is flushed and cleared every <tt>batchSize</tt> entities, so the persistence context
+ * stays small also when the body of a single exchange is a large collection. If the batch fails then it is rolled
+ * back and all its exchanges fail.
+ * <p/>
+ * Exchanges which are transacted, or which pass in their own {@link EntityManager}, are not batched
+ * but written directly using the {@link JpaProducer}.
+ */
+public class JpaBatchProducer extends DefaultAsyncProducer {
+    private static final Logger LOG = LoggerFactory.getLogger(JpaBatchProducer.class);
+    private final JpaProducer producer;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final Expression expression;
+    private final int batchSize;
+    private final BatchAccumulator<PendingExchange> accumulator;
+
+    public JpaBatchProducer(JpaEndpoint endpoint, Expression expression, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.expression = expression;
+        this.batchSize = batchSize;
+        this.entityManagerFactory = endpoint.getEntityManagerFactory();
+        this.transactionTemplate = endpoint.createTransactionTemplate();
+        this.producer = new JpaProducer(endpoint, expression);
+        this.accumulator = new BatchAccumulator<PendingExchange>(endpoint.getCamelContext(), this, "JpaBatch", batchSize, batchTimeout) {
+            @Override
+            protected int getWeight(PendingExchange pendingExchange) {
+                // an exchange with a collection body may make the batch larger than the batch size
+                return pendingExchange.entities.size();
+            }
+
+            @Override
+            protected void processBatch(List<PendingExchange> batch, AsyncCallback callback) {
+                writeBatch(batch);
+                callback.done(true);
+            }
+        };
+    }
+
+    @Override
+    public JpaEndpoint getEndpoint() {
+        return (JpaEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startServices(producer, accumulator);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // writes any pending exchanges so they are not left waiting
+        ServiceHelper.stopServices(accumulator, producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange pendingExchange;
+        try {
+            if (exchange.isTransacted() || hasEntityManager(exchange)) {
+                // must be written on its own as part of the transaction, or using the given entity manager
+                producer.process(exchange);
+                callback.done(true);
+                return true;
+            }
+
+            Object values = expression.evaluate(exchange, Object.class);
+            if (values == null) {
+                callback.done(true);
+                return true;
+            }
+            pendingExchange = new PendingExchange(exchange, callback, values);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        accumulator.add(pendingExchange);
+        return false;
+    }
+
+    private boolean hasEntityManager(Exchange exchange) {
+        if (getEndpoint().isUsePassedInEntityManager() && exchange.getIn().getHeader(JpaConstants.ENTITY_MANAGER) != null) {
+            return true;
+        }
+        return exchange.getProperty(JpaConstants.ENTITY_MANAGER) != null;
+    }
+
+    private void writeBatch(final List<PendingExchange> batch) {
+        int entities = 0;
+        for (PendingExchange pendingExchange : batch) {
+            entities += pendingExchange.entities.size();
+        }
+        LOG.trace("Writing batch of {} entities from {} exchanges", entities, batch.size());
+
+        StopWatch watch = new StopWatch();
+        final JpaEndpoint endpoint = getEndpoint();
+        final EntityManager entityManager = getTargetEntityManager(null, entityManagerFactory, false, endpoint.isSharedEntityManager(), true);
+        Exception cause = null;
+        try {
+            transactionTemplate.execute(new TransactionCallback<Object>() {
+                public Object doInTransaction(TransactionStatus status) {
+                    if (endpoint.isJoinTransaction()) {
+                        entityManager.joinTransaction();
+                    }
+
+                    int count = 0;
+                    for (PendingExchange pendingExchange : batch) {
+                        for (Object entity : pendingExchange.entities) {
+                            Object managedEntity = endpoint.isRemove() ? remove(entityManager, entity) : save(entityManager, entity);
+                            if (pendingExchange.single) {
+                                pendingExchange.managedEntity = managedEntity;
+                            }
+                            if (++count % batchSize == 0) {
+                                // keep the persistence context small
+                                entityManager.flush();
+                                entityManager.clear();
+                            }
+                        }
+                    }
+
+                    if (endpoint.isFlushOnSend()) {
+                        entityManager.flush();
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            cause = e;
+        } finally {
+            if (!endpoint.isSharedEntityManager()) {
+                entityManager.close();
+            }
+        }
+        endpoint.onBatchComplete(entities, watch.taken());
+
+        // continue routing the exchanges after the transaction is complete
+        for (PendingExchange pendingExchange : batch) {
+            Exchange exchange = pendingExchange.exchange;
+            if (cause != null) {
+                exchange.setException(cause);
+            } else if (pendingExchange.single && !endpoint.isUsePersist()) {
+                exchange.getIn().setBody(pendingExchange.managedEntity);
+            }
+            pendingExchange.callback.done(false);
+        }
+    }
+
+    private Object save(EntityManager entityManager, Object entity) {
+        LOG.debug("save: {}", entity);
+        if (getEndpoint().isUsePersist()) {
+            entityManager.persist(entity);
+            return entity;
+        } else {
+            return entityManager.merge(entity);
+        }
+    }
+
+    private Object remove(EntityManager entityManager, Object entity) {
+        LOG.debug("remove: {}", entity);
+        // merge entity state into context before removing it, if not attached to the persistence context
+        Object managedEntity = entityManager.contains(entity) ? entity : entityManager.merge(entity);
+        entityManager.remove(managedEntity);
+        return managedEntity;
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final Collection<?> entities;
+        private final boolean single;
+        private Object managedEntity;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, Object values) {
+            this.exchange = exchange;
+            this.callback = callback;
+            if (values.getClass().isArray()) {
+                this.entities = Arrays.asList((Object[]) values);
+                this.single = false;
+            } else if (values instanceof Collection) {
+                this.entities = (Collection<?>) values;
+                this.single = false;
+            } else {
+                this.entities = Collections.singletonList(values);
+                this.single = true;
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.camel.component.jpa;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.LockModeType;
@@ -29,6 +30,9 @@ import org.apache.camel.InvalidPayloadRuntimeException;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.impl.ScheduledPollEndpoint;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
@@ -48,12 +52,18 @@ import org.springframework.transaction.support.TransactionTemplate;
 /**
  * The jpa component enables you to store and retrieve Java objects from databases using JPA.
  */
+@ManagedResource(description = "Managed JPA Endpoint")
 @UriEndpoint(firstVersion = "1.0.0", scheme = "jpa", title = "JPA", syntax = "jpa:entityType", consumerClass = JpaConsumer.class, label = "database,sql")
 public class JpaEndpoint extends ScheduledPollEndpoint {
 
     private EntityManagerFactory entityManagerFactory;
     private PlatformTransactionManager transactionManager;
     private Expression producerExpression;
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchEntityCount = new AtomicLong();
+    private final AtomicLong batchTotalTime = new AtomicLong();
+    private final AtomicLong batchMaxTime = new AtomicLong();
+    private volatile long batchLastTime;
 
     @UriPath(description = "Entity class name") @Metadata(required = "true")
     private Class<?> entityType;
@@ -103,6 +113,10 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
     private boolean remove;
     @UriParam(label = "producer")
     private Boolean useExecuteUpdate;
+    @UriParam(label = "producer")
+    private int batchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long batchTimeout = 10;
 
     @UriParam(label = "advanced", prefix = "emf.", multiValue = true)
     private Map<String, Object> entityManagerProperties;
@@ -151,6 +165,12 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
 
     public Producer createProducer() throws Exception {
         validate();
+        if (batchSize > 0) {
+            if (getQuery() != null || getNamedQuery() != null || getNativeQuery() != null) {
+                throw new IllegalArgumentException("The batchSize option cannot be used together with query, namedQuery or nativeQuery");
+            }
+            return new JpaBatchProducer(this, getProducerExpression(), batchSize, batchTimeout);
+        }
         JpaProducer producer = new JpaProducer(this, getProducerExpression());
         producer.setQuery(getQuery());
         producer.setNamedQuery(getNamedQuery());
@@ -331,6 +351,34 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
         this.flushOnSend = flushOnSend;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer writes the entities of exchanges which are sent concurrently or in quick succession
+     * in batches of up to this number of entities, where each batch is written in one transaction. The EntityManager is flushed and cleared
+     * every this number of entities, also within the body of a single exchange, to keep the persistence context small when writing
+     * large collections. Each exchange continues routing when its batch has been committed. If the batch fails then it is rolled back
+     * and all its exchanges fail. Exchanges which are transacted or which pass in their own EntityManager are not batched.
+     * This cannot be used together with query, namedQuery or nativeQuery.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time in millis exchanges are held to be written in a batch while another batch is being written
+     * when using batchSize, before the batch is written even if it is not full. Must be greater than zero.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
     public int getMaxMessagesPerPoll() {
         return maxMessagesPerPoll;
     }
@@ -538,6 +586,67 @@ public class JpaEndpoint extends ScheduledPollEndpoint {
         this.useExecuteUpdate = useExecuteUpdate;
     }
 
+    // Batch statistics
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records a batch which has been written by the producer when using batchSize.
+     *
+     * @param entities the number of entities in the batch
+     * @param time     the time in millis it took to write and commit the batch
+     */
+    void onBatchComplete(int entities, long time) {
+        batchCount.incrementAndGet();
+        batchEntityCount.addAndGet(entities);
+        batchTotalTime.addAndGet(time);
+        batchLastTime = time;
+        long max = batchMaxTime.get();
+        while (time > max && !batchMaxTime.compareAndSet(max, time)) {
+            max = batchMaxTime.get();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of batches written by the producer when using batchSize")
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of entities written in batches by the producer when using batchSize")
+    public long getBatchEntityCount() {
+        return batchEntityCount.get();
+    }
+
+    @ManagedAttribute(description = "Average number of entities per batch")
+    public long getBatchAverageSize() {
+        long count = batchCount.get();
+        return count > 0 ? batchEntityCount.get() / count : 0;
+    }
+
+    @ManagedAttribute(description = "Average time in millis to write and commit a batch")
+    public long getBatchAverageTime() {
+        long count = batchCount.get();
+        return count > 0 ? batchTotalTime.get() / count : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum time in millis to write and commit a batch")
+    public long getBatchMaxTime() {
+        return batchMaxTime.get();
+    }
+
+    @ManagedAttribute(description = "Time in millis to write and commit the last batch")
+    public long getBatchLastTime() {
+        return batchLastTime;
+    }
+
+    @ManagedOperation(description = "Reset the batch statistics")
+    public void resetBatchStatistics() {
+        batchCount.set(0);
+        batchEntityCount.set(0);
+        batchTotalTime.set(0);
+        batchMaxTime.set(0);
+        batchLastTime = 0;
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.jpa.JpaEndpoint;
+import org.apache.camel.examples.SendEmail;
+import org.apache.camel.spring.SpringRouteBuilder;
+import org.junit.Test;
+
+public class JpaProducerBatchTest extends AbstractJpaTest {
+    protected static final String SELECT_ALL_STRING = "select x from " + SendEmail.class.getName() + " x";
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+        getMockEndpoint("mock:result").assertNoDuplicates(body());
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<SendEmail>> responses = new ArrayList<Future<SendEmail>>();
+        for (int i = 0; i < 20; i++) {
+            final int index = i;
+            responses.add(executor.submit(new Callable<SendEmail>() {
+                public SendEmail call() throws Exception {
+                    return template.requestBody("direct:start", new SendEmail("user" + index + "@somewhere.org"), SendEmail.class);
+                }
+            }));
+        }
+
+        assertMockEndpointsSatisfied(30, TimeUnit.SECONDS);
+        for (Future<SendEmail> future : responses) {
+            assertNotNull(future.get().getId());
+        }
+        executor.shutdownNow();
+
+        assertEntityInDB(20);
+
+        JpaEndpoint endpoint = getMandatoryEndpoint("jpa://" + SendEmail.class.getName() + "?usePersist=true&batchSize=5", JpaEndpoint.class);
+        assertEquals(20, endpoint.getBatchEntityCount());
+        assertTrue("Should write fewer batches than exchanges", endpoint.getBatchCount() < 20);
+    }
+
+    @Test
+    public void testCollectionBody() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        List<SendEmail> emails = new ArrayList<SendEmail>();
+        for (int i = 0; i < 12; i++) {
+            emails.add(new SendEmail("user" + i + "@somewhere.org"));
+        }
+        template.sendBody("direct:start", emails);
+
+        assertMockEndpointsSatisfied();
+        assertEntityInDB(12);
+
+        JpaEndpoint endpoint = getMandatoryEndpoint("jpa://" + SendEmail.class.getName() + "?usePersist=true&batchSize=5", JpaEndpoint.class);
+        assertEquals(1, endpoint.getBatchCount());
+        assertEquals(12, endpoint.getBatchEntityCount());
+    }
+
+    @Test
+    public void testQueryNotAllowed() throws Exception {
+        try {
+            context.getEndpoint("jpa://" + SendEmail.class.getName() + "?batchSize=5&query=select x from SendEmail x").createProducer();
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new SpringRouteBuilder() {
+            public void configure() {
+                from("direct:start").to("jpa://" + SendEmail.class.getName() + "?usePersist=true&batchSize=5").to("mock:result");
+            }
+        };
+    }
+
+    @Override
+    protected String routeXml() {
+        return "org/apache/camel/processor/jpa/springJpaRouteTest.xml";
+    }
+
+    @Override
+    protected String selectAllString() {
+        return SELECT_ALL_STRING;
+    }
+}
@@ -125,12 +125,26 @@ public class KafkaConfiguration implements Cloneable {
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
+    @UriParam(label = "consumer")
+    private boolean asyncCommit;
+    @UriParam(label = "consumer", defaultValue = "0")
+    private long commitIntervalMs;
+    @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer,advanced")
+    private int processingThreads;
+    @UriParam(label = "consumer,advanced", defaultValue = "partition", enums = "partition,key")
+    private String processingOrdering = "partition";
 
     //Producer Camel specific configuration properties
     @UriParam(label = "producer")
     private boolean bridgeEndpoint;
     @UriParam(label = "producer", defaultValue = "true")
     private boolean circularTopicDetection = true;
+    @UriParam(label = "producer")
+    private boolean recordHeaders;
+    @UriParam(label = "producer")
+    private boolean convertKey;
 
     //Producer configuration properties
     @UriParam(label = "producer", defaultValue = KafkaConstants.KAFKA_DEFAULT_PARTITIONER)
@@ -558,6 +572,32 @@ public class KafkaConfiguration implements Cloneable {
         this.circularTopicDetection = circularTopicDetection;
     }
 
+    public boolean isRecordHeaders() {
+        return recordHeaders;
+    }
+
+    /**
+     * If the option is true, then KafkaProducer will send the Kafka record headers of the KafkaConstants.HEADERS header
+     * of the inbound message with the record, such as the headers of a message which came from a kafka consumer.
+     * By default no record headers are sent.
+     */
+    public void setRecordHeaders(boolean recordHeaders) {
+        this.recordHeaders = recordHeaders;
+    }
+
+    public boolean isConvertKey() {
+        return convertKey;
+    }
+
+    /**
+     * If the option is true, then KafkaProducer will convert the message key to the type of the key serializer,
+     * such as String or byte[], the same way as the message body is converted to the type of the serializer.
+     * By default the key is sent as-is.
+     */
+    public void setConvertKey(boolean convertKey) {
+        this.convertKey = convertKey;
+    }
+
     public String getPartitioner() {
         return partitioner;
     }
@@ -747,6 +787,90 @@ public class KafkaConfiguration implements Cloneable {
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public boolean isAsyncCommit() {
+        return asyncCommit;
+    }
+
+    /**
+     * Whether the consumer should commit the offsets of the processed records asynchronously (using commitAsync),
+     * so the commit does not delay polling for new records. The offsets are always committed synchronously when
+     * the consumer is stopping and when partitions are revoked due a rebalance.
+     * <p/>
+     * This is only in use when the consumer commits the offsets, such as when autoCommitEnable is <tt>false</tt>.
+     */
+    public void setAsyncCommit(boolean asyncCommit) {
+        this.asyncCommit = asyncCommit;
+    }
+
+    public long getCommitIntervalMs() {
+        return commitIntervalMs;
+    }
+
+    /**
+     * The minimum interval in millis between the consumer commits the offsets of the processed records (or saves
+     * them to the offset repository). The offsets from all the partitions are committed together. The default
+     * value is 0, which means the offsets are committed after the records from each poll has been processed.
+     * <p/>
+     * This is only in use when the consumer commits the offsets, such as when autoCommitEnable is <tt>false</tt>,
+     * or an offset repository is in use.
+     */
+    public void setCommitIntervalMs(long commitIntervalMs) {
+        this.commitIntervalMs = commitIntervalMs;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether the consumer should create one exchange per partition for all the records polled from the partition,
+     * instead of one exchange per record. The message body is a <tt>java.util.List</tt> with the values of the records,
+     * and the headers are from the last record. Use the maxPollRecords option to limit the size of the batches.
+     * <p/>
+     * The exchange property <tt>CamelBatchSize</tt> is the number of records in the exchange, and the exchange
+     * properties <tt>CamelBatchIndex</tt> and <tt>CamelBatchComplete</tt> tell the position of the exchange among
+     * the exchanges from the same poll. The offset of the partition is committed after the exchange has been processed.
+     * If the exchange fails and breakOnFirstError is enabled, then the consumer re-connects and resumes from the first
+     * record of the batch.
+     * <p/>
+     * This option cannot be used together with processingThreads.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * Number of threads used by each consumer to process the polled records in parallel, while the consumer thread
+     * keeps polling. The records are processed in order per partition, or per key (see the processingOrdering option),
+     * and only the offsets of records which has been fully processed (with no gaps) are committed.
+     * <p/>
+     * When in use then the consumer manages the offset commits itself, and therefore Kafka auto commit is turned off.
+     * This option cannot be used together with allowManualCommit.
+     * <p/>
+     * The default value is 0, which means the records are processed by the consumer thread one by one.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    public String getProcessingOrdering() {
+        return processingOrdering;
+    }
+
+    /**
+     * When using processingThreads, this controls the ordering of the processed records. With <tt>partition</tt>
+     * all records from the same partition are processed in order by the same thread. With <tt>key</tt> only
+     * records with the same key are processed in order, which allows records from the same partition to
+     * be processed in parallel.
+     */
+    public void setProcessingOrdering(String processingOrdering) {
+        this.processingOrdering = processingOrdering;
+    }
+
     public String getBrokers() {
         return brokers;
     }
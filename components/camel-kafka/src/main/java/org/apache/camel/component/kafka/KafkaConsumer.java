@@ -20,12 +20,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
@@ -92,6 +96,11 @@ public class KafkaConsumer extends DefaultConsumer {
             props.put(ConsumerConfig.GROUP_ID_CONFIG, randomGroupId);
             log.debug("Kafka consumer groupId is {} (generated)", randomGroupId);
         }
+
+        if (isParallelProcessing()) {
+            // only offsets of records which has been processed must be committed, so we manage the commits
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
         return props;
     }
 
@@ -99,6 +108,12 @@ public class KafkaConsumer extends DefaultConsumer {
     protected void doStart() throws Exception {
         log.info("Starting Kafka consumer on topic: {} with breakOnFirstError: {}",
             endpoint.getConfiguration().getTopic(), endpoint.getConfiguration().isBreakOnFirstError());
+        if (isParallelProcessing() && endpoint.getConfiguration().isAllowManualCommit()) {
+            throw new IllegalArgumentException("The option allowManualCommit cannot be used together with processingThreads");
+        }
+        if (isParallelProcessing() && endpoint.getConfiguration().isBatching()) {
+            throw new IllegalArgumentException("The option batching cannot be used together with processingThreads");
+        }
         super.doStart();
 
         executor = endpoint.createExecutor();
@@ -147,6 +162,17 @@ public class KafkaConsumer extends DefaultConsumer {
         private final String threadId;
         private final Properties kafkaProps;
 
+        // used when processing the records in parallel with the processing threads
+        private final Map<TopicPartition, KafkaOffsetWatermark> watermarks = new HashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Object inFlightLock = new Object();
+        private ExecutorService[] processingThreads;
+        private volatile boolean processingFailed;
+
+        // the offsets of the processed records which are pending to be committed
+        private final Map<TopicPartition, Long> pendingOffsets = new HashMap<>();
+        private long lastCommitTime;
+
         KafkaFetchRecords(String topicName, Pattern topicPattern, String id, Properties kafkaProps) {
             this.topicName = topicName;
             this.topicPattern = topicPattern;
@@ -212,9 +238,17 @@ public class KafkaConsumer extends DefaultConsumer {
             boolean unsubscribing = false;
 
             try {
+                if (isParallelProcessing()) {
+                    startProcessingThreads();
+                }
+
                 if (topicPattern != null) {
                     log.info("Subscribing {} to topic pattern {}", threadId, topicName);
                     consumer.subscribe(topicPattern, this);
+                } else if (isParallelProcessing() || isDeferredCommit()) {
+                    log.info("Subscribing {} to topic {}", threadId, topicName);
+                    // listen for rebalance so we can commit the processed records before partitions are revoked
+                    consumer.subscribe(Arrays.asList(topicName.split(",")), this);
                 } else {
                     log.info("Subscribing {} to topic {}", threadId, topicName);
                     consumer.subscribe(Arrays.asList(topicName.split(",")));
@@ -257,13 +291,28 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
+                lastCommitTime = System.currentTimeMillis();
                 while (isRunAllowed() && !reConnect && !isStoppingOrStopped() && !isSuspendingOrSuspended()) {
 
+                    // commit the offsets of the records processed from the previous poll
+                    commitPendingOffsets(offsetRepository, false);
+
                     // flag to break out processing on the first exception
                     boolean breakOnErrorHit = false;
                     log.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
                     ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
 
+                    if (processingThreads != null) {
+                        // the records are processed by the processing threads, so we can keep polling
+                        reConnect = dispatchRecords(allRecords, offsetRepository);
+                        continue;
+                    }
+                    if (endpoint.getConfiguration().isBatching()) {
+                        // the records from each partition are processed as one exchange
+                        reConnect = processBatches(allRecords, offsetRepository);
+                        continue;
+                    }
+
                     for (TopicPartition partition : allRecords.partitions()) {
 
                         long partitionLastOffset = -1;
@@ -330,6 +379,15 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
+                if (!reConnect && processingThreads != null) {
+                    // wait for the records being processed so we can commit them before unsubscribing
+                    awaitInFlight();
+                    commitWatermarks(offsetRepository);
+                }
+
+                // commit the pending offsets before we stop or re-connect
+                commitPendingOffsets(offsetRepository, true);
+
                 if (!reConnect) {
                     if (isAutoCommitEnabled()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
@@ -362,6 +420,7 @@ public class KafkaConsumer extends DefaultConsumer {
             } catch (Exception e) {
                 getExceptionHandler().handleException("Error consuming " + threadId + " from kafka topic", e);
             } finally {
+                stopProcessingThreads();
                 log.debug("Closing {} ", threadId);
                 IOHelper.close(consumer);
             }
@@ -369,21 +428,274 @@ public class KafkaConsumer extends DefaultConsumer {
             return reConnect;
         }
 
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private boolean processBatches(ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            Set<TopicPartition> partitions = allRecords.partitions();
+            int index = 0;
+            for (TopicPartition partition : partitions) {
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                long firstOffset = records.get(0).offset();
+                long lastOffset = records.get(records.size() - 1).offset();
+                log.trace("Partition = {}, batch of {} records with offsets {} to {}", partition.partition(), records.size(), firstOffset, lastOffset);
+
+                Exchange exchange = endpoint.createKafkaBatchExchange((List) records);
+                exchange.setProperty(Exchange.BATCH_INDEX, index);
+                exchange.setProperty(Exchange.BATCH_SIZE, records.size());
+                exchange.setProperty(Exchange.BATCH_COMPLETE, index == partitions.size() - 1);
+                index++;
+
+                // if not auto commit then we have additional information on the exchange
+                if (!isAutoCommitEnabled()) {
+                    // the offset of the partition is committed after each batch
+                    exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, true);
+                }
+
+                if (endpoint.getConfiguration().isAllowManualCommit()) {
+                    // allow Camel users to access the Kafka consumer API to be able to do for example manual commits
+                    KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory().newInstance(exchange, consumer, topicName, threadId,
+                        offsetRepository, partition, lastOffset);
+                    exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+                }
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    // processing failed due to an unhandled exception, what should we do
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        // we are failing and we should break out
+                        log.warn("Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                            exchange, topicName, firstOffset);
+                        // resume from the start of the batch, which may be the first offset of the partition
+                        resumeFrom(offsetRepository, partition, firstOffset);
+                        return true;
+                    } else {
+                        // will handle/log the exception and then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                }
+
+                // the batch is done so commit once for all its records
+                commitOffset(offsetRepository, partition, lastOffset, false);
+            }
+            return false;
+        }
+
+        private void startProcessingThreads() {
+            int size = endpoint.getConfiguration().getProcessingThreads();
+            processingThreads = new ExecutorService[size];
+            for (int i = 0; i < size; i++) {
+                // use a single thread per lane so the records dispatched to the same lane are processed in order
+                processingThreads[i] = endpoint.getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadExecutor(KafkaConsumer.this, "KafkaConsumerProcessing[" + threadId + "-" + i + "]");
+            }
+            watermarks.clear();
+            inFlight.set(0);
+            processingFailed = false;
+        }
+
+        private void stopProcessingThreads() {
+            if (processingThreads != null) {
+                // any records not yet processed will be skipped, and as they are not committed they are consumed again
+                processingFailed = true;
+                for (ExecutorService thread : processingThreads) {
+                    endpoint.getCamelContext().getExecutorServiceManager().shutdown(thread);
+                }
+                processingThreads = null;
+                watermarks.clear();
+            }
+        }
+
+        private boolean dispatchRecords(ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            for (TopicPartition partition : allRecords.partitions()) {
+                KafkaOffsetWatermark watermark = watermarks.computeIfAbsent(partition, p -> new KafkaOffsetWatermark());
+                for (ConsumerRecord<Object, Object> record : allRecords.records(partition)) {
+                    if (log.isTraceEnabled()) {
+                        log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(),
+                                  record.value());
+                    }
+                    watermark.dispatched(record.offset());
+                    inFlight.incrementAndGet();
+                    processingThreads[processingThreadIndex(record)].execute(() -> processRecord(record, watermark));
+                }
+            }
+
+            if (processingFailed) {
+                // wait for the records being processed and commit the records processed before the failed record,
+                // so we resume from the failed record when re-connecting
+                awaitInFlight();
+                commitWatermarks(offsetRepository);
+                return true;
+            }
+
+            commitWatermarks(offsetRepository);
+
+            // do not fetch more records while there are too many records being processed, but keep
+            // polling so the consumer stays in the consumer group
+            Integer maxPollRecords = endpoint.getConfiguration().getMaxPollRecords();
+            int maxInFlight = maxPollRecords != null ? maxPollRecords : 500;
+            if (inFlight.get() >= maxInFlight) {
+                consumer.pause(consumer.assignment());
+            } else if (!consumer.paused().isEmpty()) {
+                consumer.resume(consumer.paused());
+            }
+            return false;
+        }
+
+        private int processingThreadIndex(ConsumerRecord<Object, Object> record) {
+            int hash;
+            Object key = record.key();
+            if ("key".equals(endpoint.getConfiguration().getProcessingOrdering()) && key != null) {
+                hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+            } else {
+                hash = 31 * record.topic().hashCode() + record.partition();
+            }
+            return Math.floorMod(hash, processingThreads.length);
+        }
+
+        private void processRecord(ConsumerRecord<Object, Object> record, KafkaOffsetWatermark watermark) {
+            try {
+                if (processingFailed) {
+                    // a previous record failed and we break out, so this record is consumed again after re-connecting
+                    return;
+                }
+
+                Exchange exchange = endpoint.createKafkaExchange(record);
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    // processing failed due to an unhandled exception, what should we do
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        // we are failing and we should break out
+                        log.warn("Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                            exchange, topicName, record.offset());
+                        processingFailed = true;
+                        return;
+                    } else {
+                        // will handle/log the exception and then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                }
+                watermark.completed(record.offset());
+            } finally {
+                if (inFlight.decrementAndGet() <= 0) {
+                    synchronized (inFlightLock) {
+                        inFlightLock.notifyAll();
+                    }
+                }
+            }
+        }
+
+        private void awaitInFlight() {
+            synchronized (inFlightLock) {
+                while (inFlight.get() > 0) {
+                    try {
+                        inFlightLock.wait(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void commitWatermarks(StateRepository<String, String> offsetRepository) {
+            for (Map.Entry<TopicPartition, KafkaOffsetWatermark> entry : watermarks.entrySet()) {
+                long offset = entry.getValue().commit();
+                if (offset != -1) {
+                    commitOffset(offsetRepository, entry.getKey(), offset, false);
+                }
+            }
+        }
+
         private void commitOffset(StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset, boolean forceCommit) {
             if (partitionLastOffset != -1) {
-                if (offsetRepository != null) {
-                    log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, partitionLastOffset);
-                    offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(partitionLastOffset));
-                } else if (forceCommit) {
-                    log.debug("Forcing commitSync {} from topic {} with offset: {}", threadId, topicName, partitionLastOffset);
-                    consumer.commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(partitionLastOffset + 1)));
-                } else if (endpoint.getConfiguration().isAutoCommitEnable() != null && !endpoint.getConfiguration().isAutoCommitEnable()) {
-                    log.debug("Auto commitSync {} from topic {} with offset: {}", threadId, topicName, partitionLastOffset);
-                    consumer.commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(partitionLastOffset + 1)));
+                if (forceCommit) {
+                    // we commit now so any pending offset for the partition is outdated
+                    pendingOffsets.remove(partition);
+                    if (offsetRepository != null) {
+                        log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, partitionLastOffset);
+                        offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(partitionLastOffset));
+                    } else {
+                        log.debug("Forcing commitSync {} from topic {} with offset: {}", threadId, topicName, partitionLastOffset);
+                        consumer.commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(partitionLastOffset + 1)));
+                    }
+                } else if (offsetRepository != null || isConsumerCommit()) {
+                    // the offsets from all the partitions are committed together
+                    pendingOffsets.put(partition, partitionLastOffset);
                 }
             }
         }
 
+        /**
+         * Seeks the partition to the given offset, and force commits it, so the re-connected consumer resumes from
+         * the offset. Unlike {@link #commitOffset(StateRepository, TopicPartition, long, boolean)} this also works
+         * for the first offset of the partition.
+         */
+        private void resumeFrom(StateRepository<String, String> offsetRepository, TopicPartition partition, long offset) {
+            // we commit now so any pending offset for the partition is outdated
+            pendingOffsets.remove(partition);
+            consumer.seek(partition, offset);
+            if (offsetRepository != null) {
+                // the state contains the last read offset
+                log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, offset - 1);
+                offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(offset - 1));
+            } else {
+                log.debug("Forcing commitSync {} from topic {} to resume from offset: {}", threadId, topicName, offset);
+                consumer.commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(offset)));
+            }
+        }
+
+        private void commitPendingOffsets(StateRepository<String, String> offsetRepository, boolean sync) {
+            if (pendingOffsets.isEmpty()) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (!sync && now - lastCommitTime < endpoint.getConfiguration().getCommitIntervalMs()) {
+                // keep the offsets until the commit interval has passed
+                return;
+            }
+
+            if (offsetRepository != null) {
+                Map<String, String> states = new LinkedHashMap<>();
+                for (Map.Entry<TopicPartition, Long> entry : pendingOffsets.entrySet()) {
+                    states.put(serializeOffsetKey(entry.getKey()), serializeOffsetValue(entry.getValue()));
+                }
+                log.debug("Saving offset repository state {} from topic {} with offsets: {}", threadId, topicName, states);
+                offsetRepository.setStates(states);
+            } else {
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (Map.Entry<TopicPartition, Long> entry : pendingOffsets.entrySet()) {
+                    offsets.put(entry.getKey(), new OffsetAndMetadata(entry.getValue() + 1));
+                }
+                if (!sync && endpoint.getConfiguration().isAsyncCommit()) {
+                    log.debug("Auto commitAsync {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                    consumer.commitAsync(offsets, (committed, e) -> {
+                        if (e != null) {
+                            // newer offsets are committed by the next commit
+                            log.warn("Error during commitAsync " + threadId + " from topic " + topicName + " with offsets: " + committed
+                                + ". This exception is ignored.", e);
+                        }
+                    });
+                } else {
+                    log.debug("Auto commitSync {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                    consumer.commitSync(offsets);
+                }
+            }
+            pendingOffsets.clear();
+            lastCommitTime = now;
+        }
+
         private void shutdown() {
             // As advised in the KAFKA-1894 ticket, calling this wakeup method breaks the infinite loop
             consumer.wakeup();
@@ -394,7 +706,22 @@ public class KafkaConsumer extends DefaultConsumer {
             log.debug("onPartitionsRevoked: {} from topic {}", threadId, topicName);
 
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
-            if (offsetRepository != null) {
+            if (processingThreads != null) {
+                // wait for the records being processed
+                awaitInFlight();
+                for (TopicPartition partition : partitions) {
+                    KafkaOffsetWatermark watermark = watermarks.remove(partition);
+                    long offset = watermark != null ? watermark.commit() : -1;
+                    if (offset != -1) {
+                        commitOffset(offsetRepository, partition, offset, false);
+                    }
+                }
+            }
+
+            // commit the records processed before the partitions are assigned to another consumer
+            commitPendingOffsets(offsetRepository, true);
+
+            if (processingThreads == null && offsetRepository != null) {
                 for (TopicPartition partition : partitions) {
                     long offset = consumer.position(partition);
                     log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, offset);
@@ -423,7 +750,23 @@ public class KafkaConsumer extends DefaultConsumer {
     }
 
     private boolean isAutoCommitEnabled() {
-        return endpoint.getConfiguration().isAutoCommitEnable() != null && endpoint.getConfiguration().isAutoCommitEnable();
+        // when processing in parallel then we commit the processed records ourselves
+        return !isParallelProcessing()
+            && endpoint.getConfiguration().isAutoCommitEnable() != null && endpoint.getConfiguration().isAutoCommitEnable();
+    }
+
+    private boolean isConsumerCommit() {
+        // whether the consumer commits the offsets (instead of kafka auto commit)
+        return isParallelProcessing()
+            || endpoint.getConfiguration().isAutoCommitEnable() != null && !endpoint.getConfiguration().isAutoCommitEnable();
+    }
+
+    private boolean isDeferredCommit() {
+        return endpoint.getConfiguration().isAsyncCommit() || endpoint.getConfiguration().getCommitIntervalMs() > 0;
+    }
+
+    private boolean isParallelProcessing() {
+        return endpoint.getConfiguration().getProcessingThreads() > 0;
     }
 
     protected String serializeOffsetKey(TopicPartition topicPartition) {
@@ -17,6 +17,8 @@
 package org.apache.camel.component.kafka;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
@@ -182,6 +184,24 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
         return exchange;
     }
 
+    /**
+     * Creates an exchange for a batch of records from the same partition, where the body is the list of the
+     * record values, and the headers are from the last record.
+     */
+    @SuppressWarnings("rawtypes")
+    public Exchange createKafkaBatchExchange(List<ConsumerRecord> records) {
+        ConsumerRecord last = records.get(records.size() - 1);
+        Exchange exchange = createKafkaExchange(last);
+
+        List<Object> body = new ArrayList<>(records.size());
+        for (ConsumerRecord record : records) {
+            body.add(record.value());
+        }
+        exchange.getIn().setBody(body);
+
+        return exchange;
+    }
+
     protected KafkaProducer createProducer(KafkaEndpoint endpoint) {
         return new KafkaProducer(endpoint);
     }
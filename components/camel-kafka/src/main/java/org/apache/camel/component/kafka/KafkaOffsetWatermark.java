@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps track of the records of a partition which are being processed in parallel, so only the offset of
+ * records which has been fully processed with no gaps (the watermark) is committed.
+ * <p/>
+ * The records must be dispatched in offset order by the consumer thread, but can be completed in any order
+ * by the processing threads.
+ */
+final class KafkaOffsetWatermark {
+
+    private final Deque<Long> pending = new ArrayDeque<>();
+    private final Set<Long> completed = new HashSet<>();
+    private long watermark = -1;
+    private long committed = -1;
+
+    /**
+     * The record with the given offset is dispatched for processing
+     */
+    synchronized void dispatched(long offset) {
+        pending.addLast(offset);
+    }
+
+    /**
+     * The record with the given offset has been processed
+     */
+    synchronized void completed(long offset) {
+        completed.add(offset);
+        // advance the watermark as long as the oldest pending records are completed
+        while (!pending.isEmpty() && completed.remove(pending.peekFirst())) {
+            watermark = pending.pollFirst();
+        }
+    }
+
+    /**
+     * The offset of the last record where it and all records before has been processed, or <tt>-1</tt> if none
+     */
+    synchronized long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Number of records dispatched which are not yet part of the watermark
+     */
+    synchronized int getPendingSize() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the watermark to commit if its advanced since the last commit, and marks it as committed
+     *
+     * @return the offset to commit, or <tt>-1</tt> if there is nothing new to commit
+     */
+    synchronized long commit() {
+        if (watermark > committed) {
+            committed = watermark;
+            return watermark;
+        }
+        return -1;
+    }
+}
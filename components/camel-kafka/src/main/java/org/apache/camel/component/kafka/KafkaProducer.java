@@ -37,6 +37,7 @@ import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.utils.Bytes;
 
 public class KafkaProducer extends DefaultAsyncProducer {
@@ -165,9 +166,12 @@ public class KafkaProducer extends DefaultAsyncProducer {
         // endpoint take precedence over header configuration
         Object key = endpoint.getConfiguration().getKey() != null
             ? endpoint.getConfiguration().getKey() : exchange.getIn().getHeader(KafkaConstants.KEY);
-        final Object messageKey = key != null
-            ? tryConvertToSerializedType(exchange, key, endpoint.getConfiguration().getKeySerializerClass()) : null;
-        final boolean hasMessageKey = messageKey != null;
+        final Object messageKey = key != null && endpoint.getConfiguration().isConvertKey()
+            ? tryConvertToSerializedType(exchange, key, endpoint.getConfiguration().getKeySerializerClass()) : key;
+
+        // the record headers from a kafka consumer are sent as-is
+        Object recordHeaders = endpoint.getConfiguration().isRecordHeaders() ? exchange.getIn().getHeader(KafkaConstants.HEADERS) : null;
+        final Headers headers = recordHeaders instanceof Headers ? (Headers) recordHeaders : null;
 
         Object msg = exchange.getIn().getBody();
 
@@ -193,13 +197,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
                     Object next = msgList.next();
                     Object value = tryConvertToSerializedType(exchange, next, endpoint.getConfiguration().getSerializerClass());
 
-                    if (hasPartitionKey && hasMessageKey) {
-                        return new ProducerRecord(msgTopic, partitionKey, key, value);
-                    } else if (hasMessageKey) {
-                        return new ProducerRecord(msgTopic, key, value);
-                    } else {
-                        return new ProducerRecord(msgTopic, value);
-                    }
+                    return createProducerRecord(msgTopic, hasPartitionKey ? partitionKey : null, messageKey, value, headers);
                 }
 
                 @Override
@@ -212,17 +210,17 @@ public class KafkaProducer extends DefaultAsyncProducer {
         // must convert each entry of the iterator into the value according to the serializer
         Object value = tryConvertToSerializedType(exchange, msg, endpoint.getConfiguration().getSerializerClass());
 
-        ProducerRecord record;
-        if (hasPartitionKey && hasMessageKey) {
-            record = new ProducerRecord(topic, partitionKey, key, value);
-        } else if (hasMessageKey) {
-            record = new ProducerRecord(topic, key, value);
-        } else {
-            record = new ProducerRecord(topic, value);
-        }
+        ProducerRecord record = createProducerRecord(topic, hasPartitionKey ? partitionKey : null, messageKey, value, headers);
         return Collections.singletonList(record).iterator();
     }
 
+    @SuppressWarnings("rawtypes")
+    private static ProducerRecord createProducerRecord(String topic, Integer partitionKey, Object messageKey, Object value, Headers headers) {
+        // the partition key is only used together with a message key
+        Integer partition = messageKey != null ? partitionKey : null;
+        return new ProducerRecord(topic, partition, messageKey, value, headers);
+    }
+
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     // Camel calls this method if the endpoint isSynchronous(), as the KafkaEndpoint creates a SynchronousDelegateProducer for it
@@ -283,12 +281,21 @@ public class KafkaProducer extends DefaultAsyncProducer {
         if (KafkaConstants.KAFKA_DEFAULT_SERIALIZER.equals(serializerClass)) {
             answer = exchange.getContext().getTypeConverter().tryConvertTo(String.class, exchange, object);
         } else if ("org.apache.kafka.common.serialization.ByteArraySerializer".equals(serializerClass)) {
-            answer = exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, object);
+            answer = object instanceof ByteBuffer ? backingArray((ByteBuffer) object) : null;
+            if (answer == null) {
+                answer = exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, object);
+            }
         } else if ("org.apache.kafka.common.serialization.ByteBufferSerializer".equals(serializerClass)) {
             answer = exchange.getContext().getTypeConverter().tryConvertTo(ByteBuffer.class, exchange, object);
         } else if ("org.apache.kafka.common.serialization.BytesSerializer".equals(serializerClass)) {
+            if (object instanceof Bytes) {
+                return object;
+            }
             // we need to convert to byte array first
-            byte[] array = exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, object);
+            byte[] array = object instanceof ByteBuffer ? backingArray((ByteBuffer) object) : null;
+            if (array == null) {
+                array = exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, object);
+            }
             if (array != null) {
                 answer = new Bytes(array);
             }
@@ -297,6 +304,18 @@ public class KafkaProducer extends DefaultAsyncProducer {
         return answer != null ? answer : object;
     }
 
+    /**
+     * Returns the array backing the buffer if the content of the buffer is the entire array, so the bytes
+     * can be used without copying them, or <tt>null</tt> otherwise.
+     */
+    static byte[] backingArray(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+            && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        return null;
+    }
+
     private final class KafkaProducerCallBack implements Callback {
 
         private final Exchange exchange;
@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KafkaConsumerBatchingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "testBatching";
+    public static final String RETRY_TOPIC = "testBatchingRetry";
+
+    @EndpointInject(uri = "kafka:" + TOPIC
+            + "?groupId=group1&autoOffsetReset=earliest&autoCommitEnable=false"
+            + "&keyDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            + "&valueDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            + "&batching=true")
+    private Endpoint from;
+
+    @EndpointInject(uri = "kafka:" + RETRY_TOPIC
+            + "?groupId=group1&autoOffsetReset=latest&autoCommitEnable=false&breakOnFirstError=true"
+            + "&keyDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            + "&valueDeserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            + "&batching=true")
+    private Endpoint fromRetry;
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint to;
+
+    @EndpointInject(uri = "mock:retry")
+    private MockEndpoint toRetry;
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Before
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<String, String>(props);
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo").to(to);
+
+                from(fromRetry).routeId("retry").to(toRetry).process(exchange -> {
+                    // fail the first batch once
+                    if (failed.compareAndSet(false, true)) {
+                        throw new IllegalStateException("Forced");
+                    }
+                });
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesAreConsumedAsBatches() throws Exception {
+        to.expectedMinimumMessageCount(1);
+        to.allMessages().body().isInstanceOf(List.class);
+        to.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isNotNull();
+
+        for (int k = 0; k < 5; k++) {
+            ProducerRecord<String, String> data = new ProducerRecord<String, String>(TOPIC, "1", "message-" + k);
+            producer.send(data);
+        }
+        producer.flush();
+
+        // the records may be polled in more than one batch
+        List<Object> received = new ArrayList<>();
+        for (int i = 0; i < 100 && received.size() < 5; i++) {
+            Thread.sleep(100);
+            received.clear();
+            for (Exchange exchange : to.getReceivedExchanges()) {
+                received.addAll(exchange.getIn().getBody(List.class));
+            }
+        }
+
+        to.assertIsSatisfied();
+        for (Exchange exchange : to.getReceivedExchanges()) {
+            assertEquals(exchange.getIn().getBody(List.class).size(), exchange.getProperty(Exchange.BATCH_SIZE));
+            assertEquals(Boolean.TRUE, exchange.getIn().getHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT));
+        }
+        assertEquals(5, received.size());
+        assertEquals("message-0", received.get(0));
+        assertEquals("message-4", received.get(4));
+    }
+
+    @Test
+    public void kafkaBatchIsConsumedAgainFromTheFirstOffsetAfterFailure() throws Exception {
+        toRetry.expectedMinimumMessageCount(2);
+
+        // give the consumer time to be assigned the partition as it starts from the latest offset
+        Thread.sleep(2000);
+        for (int k = 0; k < 3; k++) {
+            ProducerRecord<String, String> data = new ProducerRecord<String, String>(RETRY_TOPIC, "1", "message-" + k);
+            producer.send(data);
+        }
+        producer.flush();
+
+        toRetry.assertIsSatisfied(30000);
+        assertTrue(failed.get());
+        // the failed batch started at the first offset of the partition, and is consumed again
+        List<?> first = toRetry.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        List<?> retried = toRetry.getReceivedExchanges().get(1).getIn().getBody(List.class);
+        assertEquals("message-0", first.get(0));
+        assertEquals("message-0", retried.get(0));
+    }
+}
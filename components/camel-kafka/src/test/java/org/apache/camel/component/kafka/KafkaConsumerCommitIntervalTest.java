@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.impl.MemoryStateRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Test;
+
+public class KafkaConsumerCommitIntervalTest extends BaseEmbeddedKafkaTest {
+    private static final String TOPIC = "commit-interval";
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint result;
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    private final AtomicInteger setStatesCounter = new AtomicInteger();
+
+    private MemoryStateRepository stateRepository;
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+
+        kafkaBroker.createTopic(TOPIC, 2);
+
+        stateRepository = new MemoryStateRepository() {
+            @Override
+            public void setStates(Map<String, String> states) {
+                setStatesCounter.incrementAndGet();
+                super.setStates(states);
+            }
+        };
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        stateRepository = null;
+    }
+
+    /**
+     * Given a long commit interval
+     * When consuming records
+     * Then the offsets are saved to the repository when the consumer stops
+     */
+    @Test
+    public void shouldSaveOffsetsOnStop() throws Exception {
+        result.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            producer.send(new ProducerRecord<>(TOPIC, i % 2, "key", "message-" + i));
+        }
+
+        result.assertIsSatisfied(3000);
+
+        // the commit interval has not passed yet so the offsets are pending
+        assertNull(stateRepository.getState(TOPIC + "/0"));
+        assertNull(stateRepository.getState(TOPIC + "/1"));
+
+        context.stopRoute("foo");
+
+        assertEquals("partition-0", "4", stateRepository.getState(TOPIC + "/0"));
+        assertEquals("partition-1", "4", stateRepository.getState(TOPIC + "/1"));
+        assertTrue(setStatesCounter.get() >= 1);
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("offset", stateRepository);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("kafka:" + TOPIC
+                             + "?groupId=B"
+                             + "&autoOffsetReset=earliest"
+                             + "&consumersCount=1"
+                             + "&commitIntervalMs=60000"               // Save the offsets at most once per minute
+                             + "&offsetRepository=#offset").routeId("foo")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class KafkaOffsetWatermarkTest {
+
+    @Test
+    public void watermarkAdvancesOnlyWithoutGaps() {
+        KafkaOffsetWatermark watermark = new KafkaOffsetWatermark();
+        watermark.dispatched(10);
+        watermark.dispatched(11);
+        watermark.dispatched(12);
+        assertEquals(-1, watermark.getWatermark());
+
+        // completed out of order so there is a gap at 10
+        watermark.completed(12);
+        watermark.completed(11);
+        assertEquals(-1, watermark.getWatermark());
+        assertEquals(3, watermark.getPendingSize());
+
+        watermark.completed(10);
+        assertEquals(12, watermark.getWatermark());
+        assertEquals(0, watermark.getPendingSize());
+    }
+
+    @Test
+    public void commitOnlyWhenAdvanced() {
+        KafkaOffsetWatermark watermark = new KafkaOffsetWatermark();
+        assertEquals(-1, watermark.commit());
+
+        watermark.dispatched(5);
+        watermark.dispatched(6);
+        watermark.completed(5);
+        assertEquals(5, watermark.commit());
+        // nothing new to commit
+        assertEquals(-1, watermark.commit());
+
+        watermark.completed(6);
+        assertEquals(6, watermark.commit());
+    }
+}
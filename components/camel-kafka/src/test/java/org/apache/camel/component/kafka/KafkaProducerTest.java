@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.kafka;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
@@ -35,11 +36,15 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -315,6 +320,92 @@ public class KafkaProducerTest {
         assertRecordMetadataExists();
     }
 
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void processSendsMessageWithRecordHeaders() throws Exception {
+        endpoint.getConfiguration().setTopic("someTopic");
+        endpoint.getConfiguration().setRecordHeaders(true);
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("foo", new byte[] {1, 2, 3});
+        in.setHeader(KafkaConstants.HEADERS, headers);
+
+        producer.process(exchange);
+
+        ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        assertArrayEquals(new byte[] {1, 2, 3}, captor.getValue().headers().lastHeader("foo").value());
+        assertRecordMetadataExists();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void processDoesNotSendRecordHeadersByDefault() throws Exception {
+        endpoint.getConfiguration().setTopic("someTopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("foo", new byte[] {1, 2, 3});
+        in.setHeader(KafkaConstants.HEADERS, headers);
+
+        producer.process(exchange);
+
+        ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        assertNull(captor.getValue().headers().lastHeader("foo"));
+        assertRecordMetadataExists();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void processSendsKeyAsIsByDefault() throws Exception {
+        endpoint.getConfiguration().setTopic("someTopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+        in.setHeader(KafkaConstants.KEY, 123);
+
+        producer.process(exchange);
+
+        ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        assertEquals(123, captor.getValue().key());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void processSendsConvertedKey() throws Exception {
+        endpoint.getConfiguration().setTopic("someTopic");
+        endpoint.getConfiguration().setConvertKey(true);
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+        Mockito.when(converter.tryConvertTo(String.class, exchange, 123)).thenReturn("123");
+        in.setHeader(KafkaConstants.KEY, 123);
+
+        producer.process(exchange);
+
+        ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(producer.getKafkaProducer()).send(captor.capture());
+        assertEquals("123", captor.getValue().key());
+    }
+
+    @Test
+    public void processSendsByteBufferWithoutCopy() throws Exception {
+        byte[] data = new byte[] {1, 2, 3};
+        Object value = producer.tryConvertToSerializedType(exchange, ByteBuffer.wrap(data),
+            "org.apache.kafka.common.serialization.ByteArraySerializer");
+        assertSame(data, value);
+    }
+
+    @Test
+    public void backingArrayOnlyWhenBufferCoversArray() throws Exception {
+        byte[] data = new byte[] {1, 2, 3};
+        assertSame(data, KafkaProducer.backingArray(ByteBuffer.wrap(data)));
+        assertNull(KafkaProducer.backingArray(ByteBuffer.wrap(data, 1, 2)));
+        assertNull(KafkaProducer.backingArray(ByteBuffer.wrap(data).asReadOnlyBuffer()));
+        assertNull(KafkaProducer.backingArray(ByteBuffer.allocateDirect(3)));
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void verifySendMessage(Integer partitionKey, String topic, String messageKey) {
         ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
@@ -0,0 +1,245 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb3;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.BatchAccumulator;
+import org.apache.camel.util.ServiceHelper;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.mongodb3.MongoDbConstants.MONGO_ID;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.OID;
+
+/**
+ * A MongoDb producer which buffers the insert operations of exchanges sent concurrently or in quick succession,
+ * and writes them to MongoDB using unordered bulk writes.
+ * <p/>
+ * An exchange is written right away when no bulk write is in progress, and is otherwise held until that bulk write
+ * is done, until <tt>bulkBatchSize</tt> write requests are pending, or at most about <tt>bulkBatchTimeout</tt> millis,
+ * as described by {@link BatchAccumulator}. As the bulk writes are unordered, the server attempts all write requests,
+ * and only the exchanges whose write requests failed will fail.
+ * <p/>
+ * Every other operation is executed directly using the {@link MongoDbProducer}. This includes the save, update and
+ * remove operations, as their result is the number of documents matched and modified by the operation, which the
+ * result of a bulk write only provides for all its write requests together.
+ */
+public class MongoDbBulkProducer extends DefaultAsyncProducer {
+    private static final Logger LOG = LoggerFactory.getLogger(MongoDbBulkProducer.class);
+    private final MongoDbProducer producer;
+    private final BatchAccumulator<PendingExchange> accumulator;
+
+    public MongoDbBulkProducer(MongoDbEndpoint endpoint, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.producer = new MongoDbProducer(endpoint);
+        this.accumulator = new BatchAccumulator<PendingExchange>(endpoint.getCamelContext(), this, "MongoDbBulk", batchSize, batchTimeout) {
+            @Override
+            protected int getWeight(PendingExchange pendingExchange) {
+                // an exchange inserting a list may make the bulk write larger than the batch size
+                return pendingExchange.requests.size();
+            }
+
+            @Override
+            protected void processBatch(List<PendingExchange> batch, AsyncCallback callback) {
+                write(batch);
+                callback.done(true);
+            }
+        };
+    }
+
+    @Override
+    public MongoDbEndpoint getEndpoint() {
+        return (MongoDbEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startServices(producer, accumulator);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // writes any pending exchanges so they are not left waiting
+        ServiceHelper.stopServices(accumulator, producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange pendingExchange;
+        try {
+            MongoDbOperation operation = producer.resolveOperation(exchange);
+            if (operation != MongoDbOperation.insert) {
+                // cannot be part of a bulk write so execute it directly
+                producer.process(exchange);
+                callback.done(true);
+                return true;
+            }
+
+            List<InsertOneModel<Document>> requests = new ArrayList<>();
+            boolean single = createInsertRequests(exchange, requests);
+            pendingExchange = new PendingExchange(exchange, callback, producer.calculateCollection(exchange), requests, single);
+        } catch (Exception e) {
+            exchange.setException(MongoDbComponent.wrapInCamelMongoDbException(e));
+            callback.done(true);
+            return true;
+        }
+
+        accumulator.add(pendingExchange);
+        return false;
+    }
+
+    /**
+     * Creates the write requests inserting the document, or the list of documents, of the body.
+     *
+     * @return <tt>false</tt> if the body is a list of documents, <tt>true</tt> otherwise
+     */
+    private boolean createInsertRequests(Exchange exchange, List<InsertOneModel<Document>> requests) throws Exception {
+        TypeConverter converter = exchange.getContext().getTypeConverter();
+        Document document = converter.tryConvertTo(Document.class, exchange, exchange.getIn().getBody());
+        if (document != null) {
+            requests.add(new InsertOneModel<>(document));
+            return true;
+        }
+        List<?> list = exchange.getIn().getBody(List.class);
+        if (list == null) {
+            throw new CamelMongoDbException("MongoDB operation = insert, Body is not conversible to type Document nor List<Document>");
+        }
+        for (Object item : list) {
+            requests.add(new InsertOneModel<>(converter.mandatoryConvertTo(Document.class, item)));
+        }
+        return false;
+    }
+
+    /**
+     * Writes the given exchanges.
+     */
+    private void write(List<PendingExchange> batch) {
+        // the exchanges may use different collections (when using dynamicity) which must be separate bulk writes
+        Map<MongoNamespace, List<PendingExchange>> batches = new LinkedHashMap<>();
+        for (PendingExchange pendingExchange : batch) {
+            batches.computeIfAbsent(pendingExchange.collection.getNamespace(), k -> new ArrayList<>()).add(pendingExchange);
+        }
+        for (List<PendingExchange> list : batches.values()) {
+            bulkWrite(list);
+        }
+    }
+
+    private void bulkWrite(List<PendingExchange> batch) {
+        MongoCollection<Document> collection = batch.get(0).collection;
+        List<WriteModel<Document>> requests = new ArrayList<>();
+        for (PendingExchange pendingExchange : batch) {
+            pendingExchange.index = requests.size();
+            requests.addAll(pendingExchange.requests);
+        }
+        LOG.trace("Writing {} requests from {} exchanges to {}", requests.size(), batch.size(), collection.getNamespace());
+
+        List<BulkWriteError> errors = null;
+        Exception cause = null;
+        try {
+            collection.bulkWrite(requests, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                // it is unknown which write requests were written
+                cause = e;
+            } else {
+                errors = e.getWriteErrors();
+            }
+        } catch (Exception e) {
+            cause = e;
+        }
+
+        // map the result of the bulk write back to each exchange
+        for (PendingExchange pendingExchange : batch) {
+            Exchange exchange = pendingExchange.exchange;
+            try {
+                Exception error = cause != null ? cause : pendingExchange.getWriteError(errors);
+                if (error != null) {
+                    exchange.setException(MongoDbComponent.wrapInCamelMongoDbException(error));
+                } else {
+                    producer.transferResult(exchange, MongoDbOperation.insert, pendingExchange.getResult());
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            pendingExchange.callback.done(false);
+        }
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final MongoCollection<Document> collection;
+        private final List<InsertOneModel<Document>> requests;
+        private final boolean single;
+        private int index;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, MongoCollection<Document> collection,
+                                List<InsertOneModel<Document>> requests, boolean single) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.collection = collection;
+            this.requests = requests;
+            this.single = single;
+        }
+
+        private Exception getWriteError(List<BulkWriteError> errors) {
+            if (errors != null) {
+                for (BulkWriteError error : errors) {
+                    if (error.getIndex() >= index && error.getIndex() < index + requests.size()) {
+                        return new CamelMongoDbException("MongoDB operation = insert, Write failed with error code "
+                            + error.getCode() + " and message: " + error.getMessage());
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * The result for this exchange, which is the same as the result of the insert operation when not using bulk writes.
+         */
+        private Object getResult() {
+            List<Document> documents = new ArrayList<>(requests.size());
+            List<Object> ids = new ArrayList<>(requests.size());
+            for (InsertOneModel<Document> request : requests) {
+                Document document = request.getDocument();
+                documents.add(document);
+                ids.add(document.get(MONGO_ID));
+            }
+            exchange.getIn().setHeader(OID, single ? ids.get(0) : ids);
+            return single ? documents.get(0) : documents;
+        }
+    }
+}
@@ -35,7 +35,7 @@ import org.slf4j.LoggerFactory;
 public class MongoDbComponent extends UriEndpointComponent {
 
     public static final Set<MongoDbOperation> WRITE_OPERATIONS = new HashSet<>(Arrays.asList(MongoDbOperation.insert, MongoDbOperation.save, MongoDbOperation.update,
-                                                                                             MongoDbOperation.remove));
+                                                                                             MongoDbOperation.remove, MongoDbOperation.bulkWrite));
     private static final Logger LOG = LoggerFactory.getLogger(MongoDbComponent.class);
 
     public MongoDbComponent() {
@@ -105,6 +105,10 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     private String tailTrackField;
     @UriParam(label = "common")
     private MongoDbOutputType outputType;
+    @UriParam(label = "producer")
+    private int bulkBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long bulkBatchTimeout = 10L;
     
     private MongoDbTailTrackingConfig tailTrackingConfig;
 
@@ -125,6 +129,9 @@ public class MongoDbEndpoint extends DefaultEndpoint {
     public Producer createProducer() throws Exception {
         validateProducerOptions();
         initializeConnection();
+        if (bulkBatchSize > 0) {
+            return new MongoDbBulkProducer(this, bulkBatchSize, bulkBatchTimeout);
+        }
         return new MongoDbProducer(this);
     }
 
@@ -179,6 +186,9 @@ public class MongoDbEndpoint extends DefaultEndpoint {
             || !ObjectHelper.isEmpty(tailTrackField) || cursorRegenerationDelay != 1000L) {
             throw new IllegalArgumentException("consumerType, tailTracking, cursorRegenerationDelay options cannot appear on a producer endpoint");
         }
+        if (bulkBatchSize < 0 || bulkBatchTimeout <= 0) {
+            throw new IllegalArgumentException("bulkBatchSize must not be negative and bulkBatchTimeout must be positive");
+        }
     }
 
     private void validateConsumerOptions() throws IllegalArgumentException {
@@ -631,6 +641,33 @@ public class MongoDbEndpoint extends DefaultEndpoint {
         this.outputType = outputType;
     }
 
+    public int getBulkBatchSize() {
+        return bulkBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the insert operations of exchanges which are sent concurrently
+     * or in quick succession are buffered and written using unordered bulk writes of up to this number of write requests,
+     * instead of one round-trip to MongoDB per exchange. Each exchange continues routing when its bulk write is complete,
+     * and only the exchanges whose write requests failed will fail. The MongoDB driver splits bulk writes which exceed
+     * the maximum message size of the server.
+     */
+    public void setBulkBatchSize(int bulkBatchSize) {
+        this.bulkBatchSize = bulkBatchSize;
+    }
+
+    public long getBulkBatchTimeout() {
+        return bulkBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis write requests are buffered while another bulk write is in progress when using bulkBatchSize,
+     * before they are written even if the bulk write is not full.
+     */
+    public void setBulkBatchTimeout(long bulkBatchTimeout) {
+        this.bulkBatchTimeout = bulkBatchTimeout;
+    }
+
     public MongoDatabase getMongoDatabase() {
         return mongoDatabase;
     }
@@ -33,6 +33,9 @@ public enum MongoDbOperation {
     
     // delete operations
     remove, 
+
+    // bulk operations
+    bulkWrite,
     
     // aggregate
     aggregate,
@@ -24,13 +24,16 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -48,11 +51,13 @@ import org.slf4j.LoggerFactory;
 
 import static com.mongodb.client.model.Filters.eq;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.BATCH_SIZE;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.BULK_ORDERED;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.COLLECTION;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.COLLECTION_INDEX;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.CRITERIA;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.DATABASE;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.FIELDS_PROJECTION;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.INSERT_RECORDS_AFFECTED;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.LIMIT;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.MONGO_ID;
 import static org.apache.camel.component.mongodb3.MongoDbConstants.MULTIUPDATE;
@@ -77,6 +82,7 @@ public class MongoDbProducer extends DefaultProducer {
 
     {
         bind(MongoDbOperation.aggregate, createDoAggregate());
+        bind(MongoDbOperation.bulkWrite, createDoBulkWrite());
         bind(MongoDbOperation.command, createDoCommand());
         bind(MongoDbOperation.count, createDoCount());
         bind(MongoDbOperation.findDistinct, createDoDistinct());
@@ -97,6 +103,20 @@ public class MongoDbProducer extends DefaultProducer {
     }
 
     public void process(Exchange exchange) throws Exception {
+        MongoDbOperation operation = resolveOperation(exchange);
+
+        try {
+            invokeOperation(operation, exchange);
+        } catch (Exception e) {
+            throw MongoDbComponent.wrapInCamelMongoDbException(e);
+        }
+
+    }
+
+    /**
+     * Resolves the operation to execute, which is the operation of the endpoint unless overridden using a header
+     */
+    MongoDbOperation resolveOperation(Exchange exchange) throws CamelMongoDbException {
         MongoDbOperation operation = endpoint.getOperation();
         Object header = exchange.getIn().getHeader(OPERATION_HEADER);
         if (header != null) {
@@ -112,13 +132,7 @@ public class MongoDbProducer extends DefaultProducer {
                 throw new CamelMongoDbException("Operation specified on header is not supported. Value: " + header, e);
             }
         }
-
-        try {
-            invokeOperation(operation, exchange);
-        } catch (Exception e) {
-            throw MongoDbComponent.wrapInCamelMongoDbException(e);
-        }
-
+        return operation;
     }
 
     /**
@@ -184,7 +198,7 @@ public class MongoDbProducer extends DefaultProducer {
         return dynamicCollection;
     }
 
-    private MongoCollection<Document> calculateCollection(Exchange exchange) {
+    MongoCollection<Document> calculateCollection(Exchange exchange) {
         // dynamic calculation is an option. In most cases it won't be used and
         // we should not penalise all users with running this
         // resolution logic on every Exchange if they won't be using this
@@ -248,12 +262,19 @@ public class MongoDbProducer extends DefaultProducer {
     private Processor wrap(Function<Exchange, Object> supplier, MongoDbOperation operation) {
         return exchange -> {
             Object result = supplier.apply(exchange);
-            copyHeaders(exchange);
-            moveBodyToOutIfResultIsReturnedAsHeader(exchange, operation);
-            processAndTransferResult(result, exchange, operation);
+            transferResult(exchange, operation, result);
         };
     }
 
+    /**
+     * Sets the result of the given operation on the OUT message, as the body or as a header
+     */
+    void transferResult(Exchange exchange, MongoDbOperation operation, Object result) {
+        copyHeaders(exchange);
+        moveBodyToOutIfResultIsReturnedAsHeader(exchange, operation);
+        processAndTransferResult(result, exchange, operation);
+    }
+
     private void copyHeaders(Exchange exchange) {
         MessageHelper.copyHeaders(exchange.getIn(), exchange.getOut(), false);
     }
@@ -505,6 +526,34 @@ public class MongoDbProducer extends DefaultProducer {
         };
     }
 
+    private Function<Exchange, Object> createDoBulkWrite() {
+        return exchange -> {
+            try {
+                MongoCollection<Document> dbCol = calculateCollection(exchange);
+                @SuppressWarnings("unchecked")
+                List<WriteModel<Document>> requests = exchange.getIn().getMandatoryBody((Class<List<WriteModel<Document>>>)Class.class.cast(List.class));
+
+                BulkWriteOptions options = new BulkWriteOptions();
+                Boolean ordered = exchange.getIn().getHeader(BULK_ORDERED, Boolean.class);
+                if (ordered != null) {
+                    options.ordered(ordered);
+                }
+
+                BulkWriteResult result = dbCol.bulkWrite(requests, options);
+                if (result.wasAcknowledged()) {
+                    exchange.getOut().setHeader(INSERT_RECORDS_AFFECTED, result.getInsertedCount());
+                    exchange.getOut().setHeader(RECORDS_MATCHED, result.getMatchedCount());
+                    if (result.isModifiedCountAvailable()) {
+                        exchange.getOut().setHeader(RECORDS_AFFECTED, result.getModifiedCount() + result.getDeletedCount());
+                    }
+                }
+                return result;
+            } catch (InvalidPayloadException e) {
+                throw new CamelMongoDbException("Invalid payload for bulkWrite", e);
+            }
+        };
+    }
+
     private Function<Exchange, Object> createDoAggregate() {
         return exchange -> {
             try {
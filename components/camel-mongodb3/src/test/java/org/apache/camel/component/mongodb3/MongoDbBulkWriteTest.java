@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mongodb3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.Test;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.set;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.MONGO_ID;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.OID;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.RECORDS_AFFECTED;
+import static org.apache.camel.component.mongodb3.MongoDbConstants.RECORDS_MATCHED;
+
+public class MongoDbBulkWriteTest extends AbstractMongoDbTest {
+
+    @Test
+    public void testBulkWrite() throws Exception {
+        testCollection.insertOne(new Document(MONGO_ID, "2").append("scientist", "Darwin"));
+        testCollection.insertOne(new Document(MONGO_ID, "3").append("scientist", "Galilei"));
+
+        List<WriteModel<Document>> requests = Arrays.asList(
+            new InsertOneModel<>(new Document(MONGO_ID, "1").append("scientist", "Einstein")),
+            new UpdateOneModel<>(eq(MONGO_ID, "2"), set("scientist", "Curie")),
+            new DeleteManyModel<>(eq(MONGO_ID, "3")));
+        BulkWriteResult result = template.requestBody("direct:bulkWrite", requests, BulkWriteResult.class);
+
+        assertEquals(1, result.getInsertedCount());
+        assertEquals(1, result.getModifiedCount());
+        assertEquals(1, result.getDeletedCount());
+        assertEquals(2, testCollection.count());
+        assertEquals("Curie", testCollection.find(eq(MONGO_ID, "2")).first().get("scientist"));
+    }
+
+    @Test
+    public void testBufferedInsertsFromConcurrentExchanges() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<Object>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final Document document = new Document("scientist", "Einstein").append("index", i);
+            responses.add(executor.submit(() -> template.requestBody("direct:bufferedInsert", document)));
+        }
+        for (Future<Object> future : responses) {
+            Document document = (Document) future.get();
+            assertNotNull("The driver should have generated the id", document.get(MONGO_ID));
+        }
+        executor.shutdownNow();
+
+        assertEquals(50, testCollection.count());
+    }
+
+    @Test
+    public void testBufferedInsertOfList() throws Exception {
+        Document first = new Document("scientist", "Einstein");
+        Document second = new Document("scientist", "Darwin");
+        List<?> oids = template.requestBody("direct:bufferedInsertOids", Arrays.asList(first, second), List.class);
+
+        assertEquals(Arrays.asList(first.get(MONGO_ID), second.get(MONGO_ID)), oids);
+        assertEquals(2, testCollection.count());
+    }
+
+    @Test
+    public void testBufferedInsertFailsOnlyItsOwnExchange() throws Exception {
+        testCollection.insertOne(new Document(MONGO_ID, "duplicate"));
+
+        try {
+            template.requestBody("direct:bufferedInsert", new Document(MONGO_ID, "duplicate"));
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            extractAndAssertCamelMongoDbException(e, "Write failed");
+        }
+
+        template.requestBody("direct:bufferedInsert", new Document(MONGO_ID, "unique"));
+        assertEquals(2, testCollection.count());
+    }
+
+    @Test
+    public void testUpdateAndRemoveAreNotBuffered() throws Exception {
+        pumpDataIntoTestCollection();
+
+        // the result is the number of records matched and modified by the update itself
+        List<Bson> body = Arrays.asList(eq("scientist", "Darwin"), set("scientist", "Wallace"));
+        Exchange update = template.request("direct:bufferedUpdate", exchange -> exchange.getIn().setBody(body));
+        assertTrue(update.getOut().getBody() instanceof UpdateResult);
+        assertEquals(1L, update.getOut().getHeader(RECORDS_MATCHED));
+        assertEquals(1, testCollection.count(eq("scientist", "Wallace")));
+
+        Exchange remove = template.request("direct:bufferedRemove", exchange -> exchange.getIn().setBody(eq("scientist", "Einstein")));
+        assertTrue(remove.getOut().getBody() instanceof DeleteResult);
+        assertEquals(100L, remove.getOut().getHeader(RECORDS_AFFECTED));
+        assertEquals(0, testCollection.count(eq("scientist", "Einstein")));
+        assertEquals(900, testCollection.count());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:bulkWrite").to("mongodb3:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=bulkWrite");
+                from("direct:bufferedInsert")
+                    .to("mongodb3:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=insert&bulkBatchSize=10&bulkBatchTimeout=50");
+                from("direct:bufferedInsertOids")
+                    .to("mongodb3:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=insert&bulkBatchSize=10")
+                    .setBody().header(OID);
+                from("direct:bufferedUpdate")
+                    .to("mongodb3:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=update&bulkBatchSize=10");
+                from("direct:bufferedRemove")
+                    .to("mongodb3:myDb?database={{mongodb.testDb}}&collection={{mongodb.testCollection}}&operation=remove&bulkBatchSize=10");
+            }
+        };
+    }
+}
@@ -272,6 +272,11 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         if (configuration.isDisableStreamCache()) {
             // keep the body as is, and use type converters
             answer.setBody(response.content());
+        } else if (configuration.isZeroCopyResponse()) {
+            // turn the body into stream cached which keeps the netty buffer until the exchange is done
+            NettyChannelBufferStreamCache cache = new NettyChannelBufferStreamCache(response.content());
+            exchange.addOnCompletion(new NettyChannelBufferStreamCacheOnCompletion(cache));
+            answer.setBody(cache);
         } else {
             // stores as byte array as the netty ByteBuf will be freed when the producer is done, and then we can no longer access the message body
             response.retain();
@@ -364,6 +369,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
 
         if (body instanceof ByteBuf) {
             buffer = (ByteBuf) body;
+        } else if (body instanceof NettyChannelBufferStreamCache) {
+            // send the cached netty buffer as-is, which is released when written
+            buffer = ((NettyChannelBufferStreamCache) body).retainedBuffer();
         } else {
             // try to convert to buffer first
             buffer = message.getBody(ByteBuf.class);
@@ -480,6 +488,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             ByteBuf buffer;
             if (body instanceof ByteBuf) {
                 buffer = (ByteBuf) body;
+            } else if (body instanceof NettyChannelBufferStreamCache) {
+                // send the cached netty buffer as-is (such as when proxying), which is released when written
+                buffer = ((NettyChannelBufferStreamCache) body).retainedBuffer();
             } else {
                 // try to convert to buffer first
                 buffer = message.getBody(ByteBuf.class);
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.util.IOHelper;
@@ -33,11 +34,12 @@ import org.apache.camel.util.IOHelper;
 public final class NettyChannelBufferStreamCache extends InputStream implements StreamCache {
 
     private final ByteBuf buffer;
+    private final int start;
 
     public NettyChannelBufferStreamCache(ByteBuf buffer) {
         // retain the buffer so we keep it in use until we release it when we are done
         this.buffer = buffer.retain();
-        this.buffer.markReaderIndex();
+        this.start = buffer.readerIndex();
     }
 
     @Override
@@ -47,7 +49,15 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
 
     @Override
     public int read() throws IOException {
-        return buffer.readByte();
+        if (!buffer.isReadable()) {
+            return -1;
+        }
+        return buffer.readByte() & 0xff;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return buffer.readableBytes();
     }
 
     @Override
@@ -58,22 +68,19 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
         // are we at end, then return -1
-        if (buffer.readerIndex() == buffer.capacity()) {
+        if (!buffer.isReadable()) {
             return -1;
         }
 
-        // ensure we don't read more than what we have in the buffer
-        int before = buffer.readerIndex();
-        int max = buffer.capacity() - before;
-        len = Math.min(max, len);
-
+        // ensure we don't read more than what we have in the buffer, which can have a larger capacity
+        len = Math.min(buffer.readableBytes(), len);
         buffer.readBytes(b, off, len);
-        return buffer.readerIndex() - before;
+        return len;
     }
 
     @Override
     public void reset() {
-        buffer.resetReaderIndex();
+        buffer.readerIndex(start);
     }
 
     @Override
@@ -81,7 +88,7 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
         // must remember current index so we can reset back to it after the copy
         int idx = buffer.readerIndex();
         try {
-            buffer.resetReaderIndex();
+            buffer.readerIndex(start);
             IOHelper.copy(this, os);
         } finally {
             buffer.readerIndex(idx);
@@ -90,7 +97,8 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
 
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
-        return new NettyChannelBufferStreamCache(buffer.copy());
+        // use an unpooled heap copy, as the copy is not released when the copied exchange is done
+        return new NettyChannelBufferStreamCache(Unpooled.copiedBuffer(buffer.slice(start, buffer.writerIndex() - start)));
     }
 
     @Override
@@ -100,7 +108,17 @@ public final class NettyChannelBufferStreamCache extends InputStream implements
 
     @Override
     public long length() {
-        return buffer.readableBytes();
+        return buffer.writerIndex() - start;
+    }
+
+    /**
+     * Gets the cached data as a buffer, which shares the memory of the cached buffer so nothing is copied, such as
+     * when sending the data on to another endpoint.
+     * <p/>
+     * The returned buffer is retained, and must be released by the caller, which Netty does when the buffer is written.
+     */
+    public ByteBuf retainedBuffer() {
+        return buffer.retainedSlice(start, buffer.writerIndex() - start);
     }
 
     /**
@@ -67,6 +67,8 @@ public class NettyHttpConfiguration extends NettyConfiguration {
     private String okStatusCodeRange = "200-299";
     @UriParam(label = "producer,advanced")
     private boolean useRelativePath;
+    @UriParam(label = "producer,advanced")
+    private boolean zeroCopyResponse;
     
     public NettyHttpConfiguration() {
         // we need sync=true as http is request/reply by nature
@@ -327,4 +329,18 @@ public class NettyHttpConfiguration extends NettyConfiguration {
     public boolean isUseRelativePath() {
         return this.useRelativePath;        
     }
+
+    public boolean isZeroCopyResponse() {
+        return zeroCopyResponse;
+    }
+
+    /**
+     * Whether the producer should keep the response body as the reference counted Netty buffer, which is exposed as a
+     * stream cache, instead of copying it into a byte array. The buffer is released when the exchange is done.
+     * When the exchange is sent on to another netty-http endpoint, such as when proxying, the buffer is then sent
+     * as-is without being copied.
+     */
+    public void setZeroCopyResponse(boolean zeroCopyResponse) {
+        this.zeroCopyResponse = zeroCopyResponse;
+    }
 }
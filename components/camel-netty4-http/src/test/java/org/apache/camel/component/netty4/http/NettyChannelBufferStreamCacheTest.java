@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.io.ByteArrayOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.CharsetUtil;
+import org.apache.camel.StreamCache;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class NettyChannelBufferStreamCacheTest {
+
+    @Test
+    public void testReadOnlyWrittenBytes() throws Exception {
+        // a pooled buffer has a larger capacity than the written bytes
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer(1024);
+        buffer.writeBytes("Hello World".getBytes());
+
+        NettyChannelBufferStreamCache cache = new NettyChannelBufferStreamCache(buffer);
+        buffer.release();
+        assertEquals(11, cache.length());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(cache, bos);
+        assertEquals("Hello World", bos.toString());
+        assertEquals(-1, cache.read());
+
+        // can be read again
+        cache.reset();
+        bos.reset();
+        cache.writeTo(bos);
+        assertEquals("Hello World", bos.toString());
+
+        cache.release();
+        assertEquals(0, buffer.refCnt());
+    }
+
+    @Test
+    public void testRetainedBuffer() throws Exception {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer(1024);
+        buffer.writeBytes("Hello World".getBytes());
+
+        NettyChannelBufferStreamCache cache = new NettyChannelBufferStreamCache(buffer);
+        buffer.release();
+        // reading the cache does not affect the retained buffer
+        assertEquals('H', cache.read());
+
+        ByteBuf retained = cache.retainedBuffer();
+        assertEquals("Hello World", retained.toString(CharsetUtil.UTF_8));
+
+        // the memory is shared until both the cache and the retained buffer are released
+        cache.release();
+        assertEquals(1, buffer.refCnt());
+        retained.release();
+        assertEquals(0, buffer.refCnt());
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer(1024);
+        buffer.writeBytes("Hello World".getBytes());
+
+        NettyChannelBufferStreamCache cache = new NettyChannelBufferStreamCache(buffer);
+        buffer.release();
+        cache.read();
+
+        StreamCache copy = cache.copy(null);
+        cache.release();
+        assertEquals(0, buffer.refCnt());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals("Hello World", bos.toString());
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.util.Arrays;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class NettyHttpZeroCopyProxyTest extends BaseNettyTest {
+
+    private int port1;
+    private int port2;
+
+    @Test
+    public void testProxy() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:response");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(NettyChannelBufferStreamCache.class);
+
+        String reply = template.requestBody("netty4-http:http://localhost:" + port1 + "/foo", "World", String.class);
+        assertEquals("Bye World", reply);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testProxyLargeBody() throws Exception {
+        char[] chars = new char[256 * 1024];
+        Arrays.fill(chars, 'x');
+        String body = new String(chars);
+
+        String reply = template.requestBody("netty4-http:http://localhost:" + port1 + "/foo", body, String.class);
+        assertEquals("Bye " + body, reply);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                port1 = getPort();
+                port2 = getNextPort();
+
+                // the request and response buffers are passed through the proxy without being copied
+                from("netty4-http:http://0.0.0.0:" + port1 + "/foo")
+                        .to("netty4-http:http://localhost:" + port2 + "/bar?bridgeEndpoint=true&zeroCopyResponse=true")
+                        .to("mock:response");
+
+                from("netty4-http:http://0.0.0.0:" + port2 + "/bar")
+                        .transform().simple("Bye ${body}");
+            }
+        };
+    }
+
+}
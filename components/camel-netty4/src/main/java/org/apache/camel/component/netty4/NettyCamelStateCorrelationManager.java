@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * To manage and correlate state of {@link NettyCamelState} by request and response messages
+ * which the {@link NettyProducer} sends and receives over its {@link Channel}s.
+ * <p/>
+ * The default implementation keeps a single state per channel, which requires the producer to use
+ * a channel exclusively for each request/reply. A custom correlation manager can correlate replies
+ * by a correlation id in the message instead, which allows many concurrent requests to be multiplexed
+ * over a single channel.
+ *
+ * @see TimeoutCorrelationManagerSupport
+ */
+public interface NettyCamelStateCorrelationManager {
+
+    /**
+     * Puts the state.
+     * <p/>
+     * The state is stored before the request message is written to the channel.
+     *
+     * @param channel the channel
+     * @param state   the Camel state to be stored
+     */
+    void putState(Channel channel, NettyCamelState state);
+
+    /**
+     * Removes the state when the channel is inactive.
+     * <p/>
+     * Implementations that multiplex several requests over the same channel must fail any exchanges which
+     * are still waiting for a reply on the channel, as no reply will be received.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     */
+    void removeState(ChannelHandlerContext ctx, Channel channel);
+
+    /**
+     * Gets the state when a response message has been received.
+     * <p/>
+     * If the implementation stores the state temporary in for example a {@link java.util.Map} instance
+     * then this method should remove the state from the map as its no longer needed. In other words use
+     * the <tt>remove</tt> method from the map.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     * @param msg     the response message
+     * @return the Camel state, or <tt>null</tt> if the response cannot be correlated
+     */
+    NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Object msg);
+
+    /**
+     * Gets the state when some internal error occurred, or the channel is being closed.
+     *
+     * @param ctx     netty channel handler context
+     * @param channel the channel
+     * @param cause   the error, or <tt>null</tt> if the channel is being closed
+     * @return the Camel state, or <tt>null</tt> if the error cannot be correlated to a single exchange
+     */
+    NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Throwable cause);
+
+}
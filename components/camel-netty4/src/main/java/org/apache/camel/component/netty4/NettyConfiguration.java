@@ -101,6 +101,12 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
     @UriParam(label = "producer,advanced")
+    private boolean useFixedChannelPool;
+    @UriParam(label = "producer,advanced")
+    private long producerPoolAcquireTimeout;
+    @UriParam(label = "producer,advanced")
+    private NettyCamelStateCorrelationManager correlationManager;
+    @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
     private boolean clientMode;
@@ -593,6 +599,51 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public boolean isUseFixedChannelPool() {
+        return useFixedChannelPool;
+    }
+
+    /**
+     * Only used for TCP. Whether to pool the producer channels using Netty's FixedChannelPool instead of commons-pool.
+     * Channels are acquired from the pool without blocking, and are checked to be active when acquired and released.
+     * The producerPoolMaxActive option is used as the maximum number of channels, and when all channels are in use
+     * then requests wait for a channel to be released instead of failing.
+     */
+    public void setUseFixedChannelPool(boolean useFixedChannelPool) {
+        this.useFixedChannelPool = useFixedChannelPool;
+    }
+
+    public long getProducerPoolAcquireTimeout() {
+        return producerPoolAcquireTimeout;
+    }
+
+    /**
+     * Only used when useFixedChannelPool is enabled. The maximum time in millis to wait for a channel to be
+     * available from the pool, after which the exchange fails. By default there is no timeout.
+     */
+    public void setProducerPoolAcquireTimeout(long producerPoolAcquireTimeout) {
+        this.producerPoolAcquireTimeout = producerPoolAcquireTimeout;
+    }
+
+    public NettyCamelStateCorrelationManager getCorrelationManager() {
+        return correlationManager;
+    }
+
+    /**
+     * To use a custom correlation manager to manage how request and reply messages are mapped when using request/reply with the netty producer.
+     * This should only be used if you have a way to map requests together with replies such as if there is correlation ids in both the request
+     * and reply messages. This can be used if you want to multiplex concurrent messages on the same channel (aka connection) in netty. When doing
+     * this you must have a way to correlate the request and reply messages so you can store the right reply on the inflight Camel Exchange before
+     * its continued routed.
+     * <p/>
+     * When a correlation manager is configured then the producer uses a single shared channel, and the requestTimeout option is not in use.
+     * We recommend extending the {@link TimeoutCorrelationManagerSupport} when you build custom correlation managers.
+     * This provides support for timeout and other complexities you otherwise would need to implement as well.
+     */
+    public void setCorrelationManager(NettyCamelStateCorrelationManager correlationManager) {
+        this.correlationManager = correlationManager;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
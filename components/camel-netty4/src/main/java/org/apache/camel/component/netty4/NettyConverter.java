@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
@@ -35,6 +36,7 @@ import io.netty.buffer.ByteBufInputStream;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.util.IOHelper;
 
 /**
  * A set of converter methods for working with Netty types
@@ -50,28 +52,23 @@ public final class NettyConverter {
 
     @Converter
     public static byte[] toByteArray(ByteBuf buffer, Exchange exchange) {
-        if (buffer.hasArray()) {
+        int length = buffer.readableBytes();
+        // the backing array can only be used as-is if it holds exactly the readable bytes,
+        // which is not the case for sliced or pooled buffers
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.readerIndex() == 0 && buffer.array().length == length) {
             return buffer.array();
         }
-        byte[] bytes = new byte[buffer.readableBytes()];
-        int readerIndex = buffer.readerIndex();
-        buffer.retain();
-        try {
-            buffer.getBytes(readerIndex, bytes);
-        } finally {
-            buffer.release();
-        }
+        byte[] bytes = new byte[length];
+        buffer.getBytes(buffer.readerIndex(), bytes);
         return bytes;
     }
 
     @Converter
     public static String toString(ByteBuf buffer, Exchange exchange) throws UnsupportedEncodingException {
-        byte[] bytes = toByteArray(buffer, exchange);
-        // use type converter as it can handle encoding set on the Exchange
-        if (exchange != null) {
-            return exchange.getContext().getTypeConverter().convertTo(String.class, exchange, bytes);
-        }
-        return new String(bytes, "UTF-8");
+        // decode the readable bytes directly instead of copying them into a byte array first
+        // and use the charset set on the Exchange if any
+        String charsetName = exchange != null ? IOHelper.getCharsetName(exchange) : "UTF-8";
+        return buffer.toString(buffer.readerIndex(), buffer.readableBytes(), Charset.forName(charsetName));
     }
 
     @Converter
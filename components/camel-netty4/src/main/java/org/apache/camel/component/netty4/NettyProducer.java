@@ -18,8 +18,6 @@ package org.apache.camel.component.netty4;
 
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -35,13 +33,19 @@ import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.FixedChannelPool;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultAsyncProducer;
@@ -49,6 +53,7 @@ import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.CamelLogger;
 import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ServiceHelper;
 import org.apache.commons.pool.ObjectPool;
 import org.apache.commons.pool.PoolableObjectFactory;
 import org.apache.commons.pool.impl.GenericObjectPool;
@@ -64,7 +69,8 @@ public class NettyProducer extends DefaultAsyncProducer {
     private CamelLogger noReplyLogger;
     private EventLoopGroup workerGroup;
     private ObjectPool<ChannelFuture> pool;
-    private Map<Channel, NettyCamelState> nettyCamelStatesMap = new ConcurrentHashMap<Channel, NettyCamelState>();
+    private FixedChannelPool channelPool;
+    private NettyCamelStateCorrelationManager correlationManager;
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint);
@@ -101,8 +107,35 @@ public class NettyProducer extends DefaultAsyncProducer {
                 .withWorkerCount(configuration.getWorkerCount())
                 .withName("NettyClientTCPWorker").build();
         }
-               
-        if (configuration.isProducerPoolEnabled()) {
+
+        if (configuration.getCorrelationManager() != null) {
+            correlationManager = configuration.getCorrelationManager();
+        } else {
+            correlationManager = new DefaultNettyCamelStateCorrelationManager();
+        }
+        if (correlationManager instanceof CamelContextAware) {
+            ((CamelContextAware) correlationManager).setCamelContext(context);
+        }
+        ServiceHelper.startService(correlationManager);
+
+        if (configuration.getCorrelationManager() != null) {
+            // the correlation manager correlates the replies so all requests can share the same channel
+            pool = new SharedSingletonObjectPool<ChannelFuture>(new NettyProducerPoolableObjectFactory());
+            LOG.debug("Created NettyProducer shared singleton pool using correlation manager {} -> {}", correlationManager, pool);
+        } else if (configuration.isProducerPoolEnabled() && configuration.isUseFixedChannelPool() && isTcp()) {
+            // setup netty channel pool which checks the channels are active when acquired and released
+            int maxConnections = configuration.getProducerPoolMaxActive() > 0 ? configuration.getProducerPoolMaxActive() : Integer.MAX_VALUE;
+            long acquireTimeout = configuration.getProducerPoolAcquireTimeout();
+            Bootstrap bootstrap = createClientBootstrap().remoteAddress(new InetSocketAddress(configuration.getHost(), configuration.getPort()));
+            if (acquireTimeout > 0) {
+                channelPool = new FixedChannelPool(bootstrap, new NettyProducerChannelPoolHandler(), ChannelHealthChecker.ACTIVE,
+                        FixedChannelPool.AcquireTimeoutAction.FAIL, acquireTimeout, maxConnections, Integer.MAX_VALUE, true);
+            } else {
+                channelPool = new FixedChannelPool(bootstrap, new NettyProducerChannelPoolHandler(), ChannelHealthChecker.ACTIVE,
+                        null, -1, maxConnections, Integer.MAX_VALUE, true);
+            }
+            LOG.debug("Created NettyProducer fixed channel pool[maxConnections={}, acquireTimeout={}] -> {}", new Object[]{maxConnections, acquireTimeout, channelPool});
+        } else if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPool.Config config = new GenericObjectPool.Config();
             config.maxActive = configuration.getProducerPoolMaxActive();
@@ -146,9 +179,14 @@ public class NettyProducer extends DefaultAsyncProducer {
         
         if (!configuration.isLazyChannelCreation()) {
             // ensure the connection can be established when we start up
-            ChannelFuture channelFuture = pool.borrowObject();
-            channelFuture.get();
-            pool.returnObject(channelFuture);
+            if (channelPool != null) {
+                Channel channel = channelPool.acquire().sync().getNow();
+                channelPool.release(channel);
+            } else {
+                ChannelFuture channelFuture = pool.borrowObject();
+                channelFuture.get();
+                pool.returnObject(channelFuture);
+            }
         }
     }
 
@@ -160,6 +198,12 @@ public class NettyProducer extends DefaultAsyncProducer {
         ChannelGroupFuture future = allChannels.close();
         future.awaitUninterruptibly();
 
+        if (channelPool != null) {
+            LOG.debug("Stopping producer with fixed channel pool {}", channelPool);
+            channelPool.close();
+            channelPool = null;
+        }
+
         // and then shutdown the thread pools
         if (workerGroup != null) {
             workerGroup.shutdownGracefully();
@@ -174,6 +218,8 @@ public class NettyProducer extends DefaultAsyncProducer {
             pool = null;
         }
 
+        ServiceHelper.stopService(correlationManager);
+
         super.doStop();
     }
 
@@ -209,7 +255,7 @@ public class NettyProducer extends DefaultAsyncProducer {
             exchange.setProperty(Exchange.CHARSET_NAME, IOHelper.normalizeCharset(getConfiguration().getCharsetName()));
         }
 
-        if (LOG.isTraceEnabled()) {
+        if (pool != null && LOG.isTraceEnabled()) {
             LOG.trace("Pool[active={}, idle={}]", pool.getNumActive(), pool.getNumIdle());
         }
 
@@ -220,6 +266,11 @@ public class NettyProducer extends DefaultAsyncProducer {
             if (getConfiguration().isReuseChannel()) {
                 channel = exchange.getProperty(NettyConstants.NETTY_CHANNEL, Channel.class);
             }
+            if (channel == null && channelPool != null) {
+                // acquire a channel from the netty channel pool, which is done asynchronously
+                channelPool.acquire().addListener(new ChannelAcquiredListener(exchange, callback, body));
+                return false;
+            }
             if (channel == null) {
                 channelFuture = pool.borrowObject();
                 if (channelFuture != null) {
@@ -278,7 +329,8 @@ public class NettyProducer extends DefaultAsyncProducer {
             });
         }
 
-        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
+        // the read timeout cannot be used when requests are multiplexed on the same channel (the correlation manager handles timeouts)
+        if (configuration.getCorrelationManager() == null && exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
             long timeoutInMs = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
             ChannelHandler oldHandler = channel.pipeline().get("timeout");
             ReadTimeoutHandler newHandler = new ReadTimeoutHandler(timeoutInMs, TimeUnit.MILLISECONDS);
@@ -301,7 +353,7 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
 
         // setup state as attachment on the channel, so we can access the state later when needed
-        putState(channel, new NettyCamelState(producerCallback, exchange));
+        correlationManager.putState(channel, new NettyCamelState(producerCallback, exchange));
         // here we need to setup the remote address information here
         InetSocketAddress remoteAddress = null;
         if (!isTcp()) {
@@ -372,26 +424,42 @@ public class NettyProducer extends DefaultAsyncProducer {
         return body;
     }
 
+    /**
+     * To get the {@link NettyCamelStateCorrelationManager} which correlates the {@link NettyCamelState}
+     * with the request and reply messages sent and received on the channels.
+     */
+    public NettyCamelStateCorrelationManager getCorrelationManager() {
+        return correlationManager;
+    }
+
     /**
      * To get the {@link NettyCamelState} from the given channel.
+     *
+     * @deprecated use {@link #getCorrelationManager()}
      */
+    @Deprecated
     public NettyCamelState getState(Channel channel) {
-        return nettyCamelStatesMap.get(channel);
+        return getCorrelationManager().getState(null, channel, (Object) null);
     }
 
     /**
-     * To remove the {@link NettyCamelState} stored on the channel,
-     * when no longer needed
+     * To remove the {@link NettyCamelState} stored on the channel, when no longer needed
+     *
+     * @deprecated use {@link #getCorrelationManager()}
      */
+    @Deprecated
     public void removeState(Channel channel) {
-        nettyCamelStatesMap.remove(channel);
+        getCorrelationManager().removeState(null, channel);
     }
 
     /**
      * Put the {@link NettyCamelState} into the map use the given channel as the key
+     *
+     * @deprecated use {@link #getCorrelationManager()}
      */
+    @Deprecated
     public void putState(Channel channel, NettyCamelState state) {
-        nettyCamelStatesMap.put(channel, state);
+        getCorrelationManager().putState(channel, state);
     }
 
     protected EventLoopGroup getWorkerGroup() {
@@ -408,17 +476,7 @@ public class NettyProducer extends DefaultAsyncProducer {
 
         if (isTcp()) {
             // its okay to create a new bootstrap for each new channel
-            Bootstrap clientBootstrap = new Bootstrap();
-            if (configuration.isNativeTransport()) {
-                clientBootstrap.channel(EpollSocketChannel.class);
-            } else {
-                clientBootstrap.channel(NioSocketChannel.class);
-            }
-            clientBootstrap.group(getWorkerGroup());
-            clientBootstrap.option(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
-            clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
-            clientBootstrap.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
-            clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
+            Bootstrap clientBootstrap = createClientBootstrap();
 
             //TODO need to check it later
             // set any additional netty options
@@ -484,6 +542,24 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
     }
 
+    /**
+     * Creates the {@link Bootstrap} for a new TCP client channel.
+     */
+    protected Bootstrap createClientBootstrap() {
+        Bootstrap clientBootstrap = new Bootstrap();
+        if (configuration.isNativeTransport()) {
+            clientBootstrap.channel(EpollSocketChannel.class);
+        } else {
+            clientBootstrap.channel(NioSocketChannel.class);
+        }
+        clientBootstrap.group(getWorkerGroup());
+        clientBootstrap.option(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
+        clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
+        clientBootstrap.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
+        clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
+        return clientBootstrap;
+    }
+
     protected void notifyChannelOpen(ChannelFuture channelFuture) throws Exception {
         // blocking for channel to be done
         if (LOG.isTraceEnabled()) {
@@ -503,6 +579,12 @@ public class NettyProducer extends DefaultAsyncProducer {
 
     protected void releaseChannel(ChannelFuture channelFuture) {
         Channel channel = channelFuture.channel();
+        if (channelPool != null) {
+            // the pool checks whether the channel is still active and closes it if not
+            LOG.trace("Releasing channel to pool {}", channel);
+            channelPool.release(channel);
+            return;
+        }
         try {
             // Only put the connected channel back to the pool
             if (channel.isActive()) {
@@ -619,6 +701,55 @@ public class NettyProducer extends DefaultAsyncProducer {
         }
     }
 
+    /**
+     * Handler which initializes the channels created by the {@link FixedChannelPool}.
+     */
+    private final class NettyProducerChannelPoolHandler extends AbstractChannelPoolHandler {
+
+        @Override
+        public void channelCreated(Channel channel) throws Exception {
+            LOG.trace("Created channel: {}", channel);
+            channel.pipeline().addLast(pipelineFactory);
+        }
+    }
+
+    /**
+     * Listener waiting for a channel to be acquired from the {@link FixedChannelPool} while processing exchange
+     */
+    private class ChannelAcquiredListener implements FutureListener<Channel> {
+        private final Exchange exchange;
+        private final BodyReleaseCallback callback;
+        private final Object body;
+
+        ChannelAcquiredListener(Exchange exchange, BodyReleaseCallback callback, Object body) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.body = body;
+        }
+
+        @Override
+        public void operationComplete(Future<Channel> future) {
+            if (!future.isSuccess()) {
+                exchange.setException(new CamelExchangeException("Cannot acquire channel from pool", exchange, future.cause()));
+                callback.done(false);
+                return;
+            }
+
+            Channel channel = future.getNow();
+            LOG.trace("Acquired channel from pool {}", channel);
+            try {
+                processWithConnectedChannel(exchange, callback, channel.newSucceededFuture(), body);
+            } catch (Throwable e) {
+                // put the channel back, unless its released when the exchange is done as its reused
+                if (!configuration.isReuseChannel()) {
+                    channelPool.release(channel);
+                }
+                exchange.setException(e);
+                callback.done(false);
+            }
+        }
+    }
+
     /**
      * Listener waiting for connection finished while processing exchange
      */
@@ -0,0 +1,220 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A base class for using {@link NettyCamelStateCorrelationManager} that supports timeout.
+ * <p/>
+ * The state is correlated by a correlation id which the implementation must extract from the request
+ * and response messages. This allows the {@link NettyProducer} to have many concurrent requests in-flight
+ * over a single shared channel, where replies may be received in any order.
+ * <p/>
+ * As the channel is shared, the <tt>requestTimeout</tt> option on the endpoint is not used; instead each
+ * in-flight request times out after the configured {@link #setTimeout(long) timeout}, which can be
+ * overridden per message using the {@link NettyConstants#NETTY_REQUEST_TIMEOUT} header.
+ */
+public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport implements CamelContextAware, NettyCamelStateCorrelationManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeoutCorrelationManagerSupport.class);
+
+    private final Map<String, StateEntry> map = new ConcurrentHashMap<String, StateEntry>();
+    private CamelContext camelContext;
+    private ScheduledExecutorService scheduledExecutorService;
+    private long timeout = 30000;
+    private long timeoutChecker = 1000;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets timeout value in millis seconds. The default value is 30000 (30 seconds).
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getTimeoutChecker() {
+        return timeoutChecker;
+    }
+
+    /**
+     * Time in millis how frequent to check for timeouts. Set this to a lower value if you want
+     * to react faster upon timeouts. The default value is 1000.
+     */
+    public void setTimeoutChecker(long timeoutChecker) {
+        this.timeoutChecker = timeoutChecker;
+    }
+
+    /**
+     * Gets the number of requests which are in-flight waiting for a reply.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the correlation id of the request message.
+     *
+     * @param exchange the exchange which is being sent
+     * @return the correlation id, must not be <tt>null</tt>
+     */
+    public abstract String getRequestCorrelationId(Exchange exchange);
+
+    /**
+     * Returns the correlation id of the response message.
+     *
+     * @param msg the response message received from Netty
+     * @return the correlation id, or <tt>null</tt> if the response has no correlation id
+     */
+    public abstract String getResponseCorrelationId(Object msg);
+
+    @Override
+    public void putState(Channel channel, NettyCamelState state) {
+        Exchange exchange = state.getExchange();
+        String correlationId = getRequestCorrelationId(exchange);
+        ObjectHelper.notNull(correlationId, "correlationId");
+
+        long requestTimeout = timeout;
+        Long header = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
+        if (header != null) {
+            requestTimeout = header;
+        }
+
+        LOG.trace("Putting state for correlationId: {} with timeout: {} millis", correlationId, requestTimeout);
+        StateEntry old = map.put(correlationId, new StateEntry(channel, state, requestTimeout));
+        if (old != null) {
+            LOG.warn("Request with duplicate correlationId: {} replaced an in-flight request which will not receive a reply", correlationId);
+        }
+    }
+
+    @Override
+    public void removeState(ChannelHandlerContext ctx, Channel channel) {
+        // the channel is closed so fail all the requests which are waiting for a reply on the channel
+        for (Map.Entry<String, StateEntry> entry : map.entrySet()) {
+            StateEntry value = entry.getValue();
+            if (value.channel == channel && map.remove(entry.getKey(), value)) {
+                Exchange exchange = value.state.getExchange();
+                LOG.debug("Channel closed but no message received for correlationId: {}", entry.getKey());
+                exchange.setException(new CamelExchangeException("No response received from remote server", exchange));
+                value.state.getCallback().done(false);
+            }
+        }
+    }
+
+    @Override
+    public NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Object msg) {
+        String correlationId = getResponseCorrelationId(msg);
+        if (correlationId == null) {
+            LOG.warn("Cannot correlate response message as it has no correlationId: {}", msg);
+            return null;
+        }
+        StateEntry entry = map.remove(correlationId);
+        if (entry == null) {
+            // the request may have timed out
+            LOG.debug("Cannot correlate response message with correlationId: {} as there is no request waiting for the reply", correlationId);
+            return null;
+        }
+        return entry.state;
+    }
+
+    @Override
+    public NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Throwable cause) {
+        // an error cannot be correlated to a single exchange as the channel is shared, so the channel
+        // is closed instead which fails all the requests which are waiting for a reply on the channel
+        return null;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+
+        if (scheduledExecutorService == null) {
+            scheduledExecutorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "NettyTimeoutCorrelationManager");
+        }
+        scheduledExecutorService.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                checkTimeouts();
+            }
+        }, timeoutChecker, timeoutChecker, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduledExecutorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(scheduledExecutorService);
+            scheduledExecutorService = null;
+        }
+        map.clear();
+    }
+
+    private void checkTimeouts() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, StateEntry> entry : map.entrySet()) {
+            StateEntry value = entry.getValue();
+            if (value.deadline <= now && map.remove(entry.getKey(), value)) {
+                Exchange exchange = value.state.getExchange();
+                LOG.debug("Timeout of correlationId: {}", entry.getKey());
+                exchange.setException(new ExchangeTimedOutException(exchange, value.timeout));
+                value.state.getCallback().done(false);
+            }
+        }
+    }
+
+    private static final class StateEntry {
+        private final Channel channel;
+        private final NettyCamelState state;
+        private final long timeout;
+        private final long deadline;
+
+        private StateEntry(Channel channel, NettyCamelState state, long timeout) {
+            this.channel = channel;
+            this.state = state;
+            this.timeout = timeout;
+            this.deadline = System.currentTimeMillis() + timeout;
+        }
+    }
+
+}
@@ -75,8 +75,13 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             LOG.debug("Closing channel as an exception was thrown from Netty", cause);
         }
 
-        Exchange exchange = getExchange(ctx);
-        AsyncCallback callback = getAsyncCallback(ctx);
+        NettyCamelState state = getState(ctx, cause);
+        Exchange exchange = state != null ? state.getExchange() : null;
+        AsyncCallback callback = state != null ? state.getCallback() : null;
+
+        // close channel in case an exception was thrown
+        // (if requests are multiplexed on the channel then closing it fails all the exchanges waiting for a reply)
+        NettyHelper.close(ctx.channel());
 
         // the state may not be set
         if (exchange != null && callback != null) {
@@ -88,9 +93,6 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
                 exchange.setException(cause);
             }
 
-            // close channel in case an exception was thrown
-            NettyHelper.close(ctx.channel());
-
             // signal callback
             callback.done(false);
         }
@@ -102,18 +104,19 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             LOG.trace("Channel closed: {}", ctx.channel());
         }
 
-        Exchange exchange = getExchange(ctx);
-        AsyncCallback callback = getAsyncCallback(ctx);
+        NettyCamelState state = getState(ctx, (Throwable) null);
+        Exchange exchange = state != null ? state.getExchange() : null;
+        AsyncCallback callback = state != null ? state.getCallback() : null;
 
         // remove state
-        producer.removeState(ctx.channel());
+        producer.getCorrelationManager().removeState(ctx, ctx.channel());
 
         // to keep track of open sockets
         producer.getAllChannels().remove(ctx.channel());
 
         // this channel is maybe closing graceful and the exchange is already done
         // and if so we should not trigger an exception
-        boolean doneUoW = exchange.getUnitOfWork() == null;
+        boolean doneUoW = exchange == null || exchange.getUnitOfWork() == null;
 
         NettyConfiguration configuration = producer.getConfiguration();
         if (configuration.isSync() && !doneUoW && !messageReceived && !exceptionHandled) {
@@ -151,12 +154,13 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             ctx.pipeline().remove(handler);
         }
 
-        Exchange exchange = getExchange(ctx);
+        NettyCamelState state = getState(ctx, msg);
+        Exchange exchange = state != null ? state.getExchange() : null;
         if (exchange == null) {
             // we just ignore the received message as the channel is closed
             return;
         }
-        AsyncCallback callback = getAsyncCallback(ctx);
+        AsyncCallback callback = state.getCallback();
 
         Message message;
         try {
@@ -246,14 +250,12 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
         }
     }
 
-    private Exchange getExchange(ChannelHandlerContext ctx) {
-        NettyCamelState state = producer.getState(ctx.channel());
-        return state != null ? state.getExchange() : null;
+    private NettyCamelState getState(ChannelHandlerContext ctx, Object msg) {
+        return producer.getCorrelationManager().getState(ctx, ctx.channel(), msg);
     }
 
-    private AsyncCallback getAsyncCallback(ChannelHandlerContext ctx) {
-        NettyCamelState state = producer.getState(ctx.channel());
-        return state != null ? state.getCallback() : null;
+    private NettyCamelState getState(ChannelHandlerContext ctx, Throwable cause) {
+        return producer.getCorrelationManager().getState(ctx, ctx.channel(), cause);
     }
 
 }
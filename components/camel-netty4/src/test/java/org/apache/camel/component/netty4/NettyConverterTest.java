@@ -18,6 +18,7 @@ package org.apache.camel.component.netty4;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.test.junit4.CamelTestSupport;
 import org.junit.After;
@@ -62,4 +63,17 @@ public class NettyConverterTest extends CamelTestSupport {
         assertEquals(PAYLOAD, result);
     }
 
+    @Test
+    public void testConversionOfReadableBytesOnly() {
+        // a heap buffer whose backing array holds more than the readable bytes
+        ByteBuf slice = Unpooled.wrappedBuffer(("xx" + PAYLOAD + "yy").getBytes()).slice(2, PAYLOAD.length());
+
+        byte[] bytes = context.getTypeConverter().convertTo(byte[].class, new DefaultExchange(context), slice);
+        assertEquals(PAYLOAD, new String(bytes));
+        assertEquals(PAYLOAD, context.getTypeConverter().convertTo(String.class, new DefaultExchange(context), slice));
+
+        // the conversion should not consume the buffer
+        assertEquals(PAYLOAD.length(), slice.readableBytes());
+    }
+
 }
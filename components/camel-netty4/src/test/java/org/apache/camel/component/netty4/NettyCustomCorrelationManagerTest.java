@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.junit.Test;
+
+public class NettyCustomCorrelationManagerTest extends BaseNettyTest {
+
+    private final MyCorrelationManager myManager = new MyCorrelationManager();
+    private final Set<String> remoteAddresses = new CopyOnWriteArraySet<String>();
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry jndi = super.createRegistry();
+        jndi.bind("myManager", myManager);
+        return jndi;
+    }
+
+    @Test
+    public void testCustomCorrelationManager() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<String>> replies = new ArrayList<Future<String>>();
+            for (int i = 0; i < 50; i++) {
+                final int index = i;
+                replies.add(executor.submit(new Callable<String>() {
+                    public String call() throws Exception {
+                        return template.requestBody("direct:start", index + ":Hello", String.class);
+                    }
+                }));
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i + ":Bye", replies.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // all the requests are multiplexed over the same channel
+        assertEquals(1, remoteAddresses.size());
+        assertEquals(0, myManager.size());
+    }
+
+    @Test
+    public void testCustomCorrelationManagerTimeout() throws Exception {
+        try {
+            template.requestBodyAndHeader("direct:start", "slow:Hello", NettyConstants.NETTY_REQUEST_TIMEOUT, 200, String.class);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ExchangeTimedOutException.class, e.getCause());
+        }
+        assertEquals(0, myManager.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("netty4:tcp://localhost:{{port}}?textline=true&sync=true&correlationManager=#myManager");
+
+                from("netty4:tcp://localhost:{{port}}?textline=true&sync=true")
+                    .process(new Processor() {
+                        @Override
+                        public void process(Exchange exchange) throws Exception {
+                            remoteAddresses.add(exchange.getIn().getHeader(NettyConstants.NETTY_REMOTE_ADDRESS, String.class));
+                            if (exchange.getIn().getBody(String.class).startsWith("slow:")) {
+                                Thread.sleep(1000);
+                            }
+                        }
+                    })
+                    .transform(body().regexReplaceAll("Hello", "Bye"));
+            }
+        };
+    }
+
+    private static final class MyCorrelationManager extends TimeoutCorrelationManagerSupport {
+
+        MyCorrelationManager() {
+            setTimeoutChecker(100);
+        }
+
+        @Override
+        public String getRequestCorrelationId(Exchange exchange) {
+            return id(exchange.getIn().getBody(String.class));
+        }
+
+        @Override
+        public String getResponseCorrelationId(Object msg) {
+            return id((String) msg);
+        }
+
+        private static String id(String body) {
+            int pos = body.indexOf(':');
+            return pos > 0 ? body.substring(0, pos) : null;
+        }
+    }
+}
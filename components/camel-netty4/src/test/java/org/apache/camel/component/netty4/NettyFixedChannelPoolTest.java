@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class NettyFixedChannelPoolTest extends BaseNettyTest {
+
+    private final Set<String> remoteAddresses = new CopyOnWriteArraySet<String>();
+
+    @Test
+    public void testFixedChannelPool() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            String reply = template.requestBody("direct:start", "Hello " + i, String.class);
+            assertEquals("Bye " + i, reply);
+        }
+
+        // the channel is put back in the pool and reused
+        assertEquals(1, remoteAddresses.size());
+    }
+
+    @Test
+    public void testFixedChannelPoolConcurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<String>> replies = new ArrayList<Future<String>>();
+            for (int i = 0; i < 50; i++) {
+                final int index = i;
+                replies.add(executor.submit(new Callable<String>() {
+                    public String call() throws Exception {
+                        return template.requestBody("direct:start", "Hello " + index, String.class);
+                    }
+                }));
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals("Bye " + i, replies.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // requests wait for a channel instead of opening more than the max connections
+        assertTrue("Should use at most 3 channels, was " + remoteAddresses.size(), remoteAddresses.size() <= 3);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("netty4:tcp://localhost:{{port}}?textline=true&sync=true&useFixedChannelPool=true&producerPoolMaxActive=3");
+
+                from("netty4:tcp://localhost:{{port}}?textline=true&sync=true")
+                    .process(new Processor() {
+                        @Override
+                        public void process(Exchange exchange) throws Exception {
+                            remoteAddresses.add(exchange.getIn().getHeader(NettyConstants.NETTY_REMOTE_ADDRESS, String.class));
+                        }
+                    })
+                    .transform(body().regexReplaceAll("Hello", "Bye"));
+            }
+        };
+    }
+}
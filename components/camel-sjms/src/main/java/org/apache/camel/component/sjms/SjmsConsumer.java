@@ -31,6 +31,7 @@ import org.apache.camel.component.sjms.consumer.AbstractMessageHandler;
 import org.apache.camel.component.sjms.consumer.InOnlyMessageHandler;
 import org.apache.camel.component.sjms.consumer.InOutMessageHandler;
 import org.apache.camel.component.sjms.jms.ConnectionResource;
+import org.apache.camel.component.sjms.jms.ResourcePool;
 import org.apache.camel.component.sjms.taskmanager.TimedTaskManager;
 import org.apache.camel.component.sjms.tx.BatchTransactionCommitStrategy;
 import org.apache.camel.component.sjms.tx.DefaultTransactionCommitStrategy;
@@ -108,9 +109,9 @@ public class SjmsConsumer extends DefaultConsumer {
 
         this.executor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "SjmsConsumer");
         if (consumers == null) {
-            consumers = new GenericObjectPool<MessageConsumerResources>(new MessageConsumerResourcesFactory());
-            consumers.setMaxActive(getConsumerCount());
-            consumers.setMaxIdle(getConsumerCount());
+            ResourcePool<MessageConsumerResources> pool = new ResourcePool<MessageConsumerResources>(new MessageConsumerResourcesFactory(), getConsumerCount(), 0);
+            consumers = pool;
+            getEndpoint().addConsumerPool(pool);
             if (getEndpoint().isAsyncStartListener()) {
                 asyncStart = getEndpoint().getComponent().getAsyncStartStopExecutorService().submit(new Runnable() {
                     @Override
@@ -134,7 +135,7 @@ public class SjmsConsumer extends DefaultConsumer {
     }
 
     private void fillConsumersPool() throws Exception {
-        while (consumers.getNumIdle() < consumers.getMaxIdle()) {
+        for (int i = consumers.getNumIdle(); i < consumers.getMaxActive(); i++) {
             consumers.addObject();
         }
     }
@@ -151,6 +152,7 @@ public class SjmsConsumer extends DefaultConsumer {
                     @Override
                     public void run() {
                         try {
+                            getEndpoint().removeConsumerPool(consumers);
                             consumers.close();
                             consumers = null;
                         } catch (Throwable e) {
@@ -164,6 +166,7 @@ public class SjmsConsumer extends DefaultConsumer {
                     }
                 });
             } else {
+                getEndpoint().removeConsumerPool(consumers);
                 consumers.close();
                 consumers = null;
             }
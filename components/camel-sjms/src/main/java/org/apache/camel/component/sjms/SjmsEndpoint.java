@@ -16,6 +16,10 @@
  */
 package org.apache.camel.component.sjms;
 
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.ToLongFunction;
+
 import javax.jms.ConnectionFactory;
 import javax.jms.ExceptionListener;
 import javax.jms.Message;
@@ -30,6 +34,8 @@ import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.sjms.jms.ConnectionFactoryResource;
 import org.apache.camel.component.sjms.jms.ConnectionResource;
 import org.apache.camel.component.sjms.jms.DefaultDestinationCreationStrategy;
@@ -41,6 +47,7 @@ import org.apache.camel.component.sjms.jms.JmsBinding;
 import org.apache.camel.component.sjms.jms.JmsKeyFormatStrategy;
 import org.apache.camel.component.sjms.jms.JmsObjectFactory;
 import org.apache.camel.component.sjms.jms.MessageCreatedStrategy;
+import org.apache.camel.component.sjms.jms.ResourcePool;
 import org.apache.camel.component.sjms.jms.SessionAcknowledgementType;
 import org.apache.camel.component.sjms.producer.InOnlyProducer;
 import org.apache.camel.component.sjms.producer.InOutProducer;
@@ -54,6 +61,7 @@ import org.apache.camel.spi.UriPath;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.util.EndpointHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +70,7 @@ import org.slf4j.LoggerFactory;
  *
  * This component uses plain JMS API where as the jms component uses Spring JMS.
  */
+@ManagedResource(description = "Managed Simple JMS Endpoint")
 @UriEndpoint(firstVersion = "2.11.0", scheme = "sjms", title = "Simple JMS", syntax = "sjms:destinationType:destinationName", consumerClass = SjmsConsumer.class, label = "messaging")
 public class SjmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, MultipleConsumersSupport, HeaderFilterStrategyAware {
     protected final Logger logger = LoggerFactory.getLogger(getClass());
@@ -70,6 +79,9 @@ public class SjmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Mult
 
     private JmsBinding binding;
 
+    private final Set<ResourcePool<?>> producerPools = new CopyOnWriteArraySet<>();
+    private final Set<ResourcePool<?>> consumerPools = new CopyOnWriteArraySet<>();
+
     @UriPath(enums = "queue,topic", defaultValue = "queue", description = "The kind of destination to use")
     private String destinationType;
     @UriPath(description = "DestinationName is a JMS queue or topic name. By default, the destinationName is interpreted as a queue name.") @Metadata(required = "true")
@@ -428,6 +440,130 @@ public class SjmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Mult
         this.producerCount = producerCount;
     }
 
+    /**
+     * Registers a pool of producers, to include it in the producer pool statistics of this endpoint.
+     */
+    public void addProducerPool(ResourcePool<?> pool) {
+        if (pool != null) {
+            producerPools.add(pool);
+        }
+    }
+
+    public void removeProducerPool(GenericObjectPool<?> pool) {
+        if (pool != null) {
+            producerPools.remove(pool);
+        }
+    }
+
+    /**
+     * Registers a pool of consumers, which are the listeners of the consumers or the reply consumers of the
+     * InOut producers, to include it in the consumer pool statistics of this endpoint.
+     */
+    public void addConsumerPool(ResourcePool<?> pool) {
+        if (pool != null) {
+            consumerPools.add(pool);
+        }
+    }
+
+    public void removeConsumerPool(GenericObjectPool<?> pool) {
+        if (pool != null) {
+            consumerPools.remove(pool);
+        }
+    }
+
+    @ManagedAttribute(description = "Number of producers currently borrowed from the producer pools")
+    public int getProducerPoolActive() {
+        return (int) sum(producerPools, ResourcePool::getNumActive);
+    }
+
+    @ManagedAttribute(description = "Maximum number of producers in the producer pools")
+    public int getProducerPoolMaxActive() {
+        return (int) sum(producerPools, ResourcePool::getMaxActive);
+    }
+
+    @ManagedAttribute(description = "Ratio of borrowed producers to the maximum number of producers")
+    public double getProducerPoolUtilization() {
+        int max = getProducerPoolMaxActive();
+        return max > 0 ? (double) getProducerPoolActive() / max : 0d;
+    }
+
+    @ManagedAttribute(description = "Total number of times a producer was borrowed from the producer pools")
+    public long getProducerPoolBorrowedCount() {
+        return sum(producerPools, ResourcePool::getBorrowedCount);
+    }
+
+    @ManagedAttribute(description = "Number of times borrowing a producer had to wait for one to be returned")
+    public long getProducerPoolWaitCount() {
+        return sum(producerPools, ResourcePool::getWaitCount);
+    }
+
+    @ManagedAttribute(description = "Total time in millis spent waiting for a producer to be returned")
+    public long getProducerPoolTotalWaitTime() {
+        return sum(producerPools, ResourcePool::getTotalWaitTime);
+    }
+
+    @ManagedAttribute(description = "Longest time in millis spent waiting for a producer to be returned")
+    public long getProducerPoolMaxWaitTime() {
+        return max(producerPools, ResourcePool::getMaxWaitTime);
+    }
+
+    @ManagedAttribute(description = "Number of consumers in the consumer pools")
+    public int getConsumerPoolSize() {
+        return (int) sum(consumerPools, pool -> pool.getNumActive() + pool.getNumIdle());
+    }
+
+    @ManagedAttribute(description = "Number of consumers currently borrowed from the consumer pools")
+    public int getConsumerPoolActive() {
+        return (int) sum(consumerPools, ResourcePool::getNumActive);
+    }
+
+    @ManagedAttribute(description = "Maximum number of consumers in the consumer pools")
+    public int getConsumerPoolMaxActive() {
+        return (int) sum(consumerPools, ResourcePool::getMaxActive);
+    }
+
+    @ManagedAttribute(description = "Ratio of borrowed consumers to the maximum number of consumers")
+    public double getConsumerPoolUtilization() {
+        int max = getConsumerPoolMaxActive();
+        return max > 0 ? (double) getConsumerPoolActive() / max : 0d;
+    }
+
+    @ManagedAttribute(description = "Total number of times a consumer was borrowed from the consumer pools")
+    public long getConsumerPoolBorrowedCount() {
+        return sum(consumerPools, ResourcePool::getBorrowedCount);
+    }
+
+    @ManagedAttribute(description = "Number of times borrowing a consumer had to wait for one to be returned")
+    public long getConsumerPoolWaitCount() {
+        return sum(consumerPools, ResourcePool::getWaitCount);
+    }
+
+    @ManagedAttribute(description = "Total time in millis spent waiting for a consumer to be returned")
+    public long getConsumerPoolTotalWaitTime() {
+        return sum(consumerPools, ResourcePool::getTotalWaitTime);
+    }
+
+    @ManagedAttribute(description = "Longest time in millis spent waiting for a consumer to be returned")
+    public long getConsumerPoolMaxWaitTime() {
+        return max(consumerPools, ResourcePool::getMaxWaitTime);
+    }
+
+    private static long sum(Set<ResourcePool<?>> pools, ToLongFunction<ResourcePool<?>> statistic) {
+        long answer = 0;
+        for (ResourcePool<?> pool : pools) {
+            answer += statistic.applyAsLong(pool);
+        }
+        return answer;
+    }
+
+    private static long max(Set<ResourcePool<?>> pools, ToLongFunction<ResourcePool<?>> statistic) {
+        long answer = 0;
+        for (ResourcePool<?> pool : pools) {
+            answer = Math.max(answer, statistic.applyAsLong(pool));
+        }
+        return answer;
+    }
+
     public int getConsumerCount() {
         return consumerCount;
     }
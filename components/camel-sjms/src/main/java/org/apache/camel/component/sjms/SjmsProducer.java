@@ -27,6 +27,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.sjms.jms.ConnectionResource;
+import org.apache.camel.component.sjms.jms.ResourcePool;
 import org.apache.camel.component.sjms.tx.SessionTransactionSynchronization;
 import org.apache.camel.impl.DefaultAsyncProducer;
 import org.apache.camel.util.ObjectHelper;
@@ -86,10 +87,9 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
 
         this.executor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "SjmsProducer");
         if (getProducers() == null) {
-            setProducers(new GenericObjectPool<MessageProducerResources>(new MessageProducerResourcesFactory()));
-            getProducers().setMaxActive(getProducerCount());
-            getProducers().setMaxIdle(getProducerCount());
-            getProducers().setLifo(false);
+            ResourcePool<MessageProducerResources> pool = new ResourcePool<MessageProducerResources>(new MessageProducerResourcesFactory(), getProducerCount(), 0);
+            setProducers(pool);
+            getEndpoint().addProducerPool(pool);
             if (getEndpoint().isPrefillPool()) {
                 if (getEndpoint().isAsyncStartListener()) {
                     asyncStart = getEndpoint().getComponent().getAsyncStartStopExecutorService().submit(new Runnable() {
@@ -115,7 +115,7 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
     }
 
     private void fillProducersPool() throws Exception {
-        while (producers.getNumIdle() < producers.getMaxIdle()) {
+        for (int i = producers.getNumIdle(); i < producers.getMaxActive(); i++) {
             producers.addObject();
         }
     }
@@ -132,6 +132,7 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
                     @Override
                     public void run() {
                         try {
+                            getEndpoint().removeProducerPool(getProducers());
                             getProducers().close();
                             setProducers(null);
                         } catch (Throwable e) {
@@ -145,6 +146,7 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
                     }
                 });
             } else {
+                getEndpoint().removeProducerPool(getProducers());
                 getProducers().close();
                 setProducers(null);
             }
@@ -0,0 +1,443 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.jms;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.pool.PoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+
+/**
+ * A bounded pool of resources such as JMS sessions with their message producers or consumers.
+ * <p/>
+ * Borrowing and returning a resource does not take a lock. A thread first tries to borrow the resource
+ * it returned the last time, and otherwise takes an idle resource from a lock-free queue, or creates
+ * a new resource if the pool is not full. Only when the pool is exhausted the thread waits for a resource
+ * to be returned.
+ * <p/>
+ * The pool keeps statistics about how long threads waited for a resource and how many of the resources
+ * are in use.
+ * <p/>
+ * The pool extends {@link GenericObjectPool} so it can be used where a commons-pool pool is expected, however only
+ * the maximum number of resources and the maximum wait time can be configured. The pool does not evict, validate or
+ * keep a minimum of idle resources, and the setters of the other {@link GenericObjectPool} settings throw an
+ * {@link UnsupportedOperationException} rather than being silently ignored.
+ */
+public class ResourcePool<T> extends GenericObjectPool<T> {
+
+    private static final int IDLE = 0;
+    private static final int IN_USE = 1;
+    private static final int DESTROYED = 2;
+
+    private final PoolableObjectFactory<T> factory;
+    private volatile int maxActive;
+    private volatile long maxWait;
+    private final Map<T, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<T>> idle = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Entry<T>> lastReturned = new ThreadLocal<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Object waitLock = new Object();
+    private volatile boolean closed;
+
+    private final LongAdder borrowedCount = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Creates the pool.
+     *
+     * @param factory   the factory to create and destroy the resources
+     * @param maxActive the maximum number of resources
+     * @param maxWait   the maximum time in millis to wait for a resource when the pool is exhausted, or <tt>0</tt> to wait until
+     *                  a resource is returned
+     */
+    public ResourcePool(PoolableObjectFactory<T> factory, int maxActive, long maxWait) {
+        super(factory);
+        if (maxActive <= 0) {
+            throw new IllegalArgumentException("maxActive must be a positive number, was: " + maxActive);
+        }
+        this.factory = factory;
+        this.maxActive = maxActive;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Borrows a resource from the pool, which must be returned using {@link #returnObject(Object)} or
+     * {@link #invalidateObject(Object)}.
+     */
+    @Override
+    public T borrowObject() throws Exception {
+        Entry<T> entry = tryBorrow();
+        if (entry == null) {
+            entry = awaitBorrow();
+        }
+        active.incrementAndGet();
+        borrowedCount.increment();
+        return entry.object;
+    }
+
+    /**
+     * Returns a borrowed resource to the pool. A resource which is not borrowed from this pool, such as when
+     * it is returned twice, is ignored.
+     */
+    @Override
+    public void returnObject(T object) throws Exception {
+        boolean discard = closed;
+        Entry<T> entry = entries.get(object);
+        if (entry == null || !entry.state.compareAndSet(IN_USE, discard ? DESTROYED : IDLE)) {
+            return;
+        }
+        active.decrementAndGet();
+        if (discard) {
+            destroy(entry);
+            return;
+        }
+        // the thread is likely to borrow a resource again
+        lastReturned.set(entry);
+        if (entry.queued.compareAndSet(false, true)) {
+            idle.offer(entry);
+        }
+        signal();
+    }
+
+    /**
+     * Removes a borrowed resource, which cannot be used anymore, from the pool and destroys it. A resource which
+     * is not borrowed from this pool is ignored.
+     */
+    @Override
+    public void invalidateObject(T object) throws Exception {
+        Entry<T> entry = entries.get(object);
+        if (entry != null && entry.state.compareAndSet(IN_USE, DESTROYED)) {
+            active.decrementAndGet();
+            destroy(entry);
+            signal();
+        }
+    }
+
+    /**
+     * Creates a new resource and adds it to the pool as idle, if the pool is not full.
+     */
+    @Override
+    public void addObject() throws Exception {
+        if (reserve()) {
+            Entry<T> entry = create(IDLE);
+            entry.queued.set(true);
+            idle.offer(entry);
+            signal();
+        }
+    }
+
+    /**
+     * Closes the pool and destroys the idle resources. The borrowed resources are destroyed when they are returned.
+     */
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        clear();
+        synchronized (waitLock) {
+            waitLock.notifyAll();
+        }
+        super.close();
+    }
+
+    /**
+     * Destroys the idle resources.
+     */
+    @Override
+    public void clear() {
+        for (Entry<T> entry : entries.values()) {
+            if (entry.state.compareAndSet(IDLE, DESTROYED)) {
+                try {
+                    destroy(entry);
+                } catch (Exception e) {
+                    // ignore, as commons-pool does
+                }
+            }
+        }
+        idle.clear();
+    }
+
+    private Entry<T> tryBorrow() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool is closed");
+        }
+        // fast path, the resource this thread used the last time
+        Entry<T> entry = lastReturned.get();
+        if (entry != null && entry.state.compareAndSet(IDLE, IN_USE)) {
+            return entry;
+        }
+        while ((entry = idle.poll()) != null) {
+            entry.queued.set(false);
+            if (entry.state.compareAndSet(IDLE, IN_USE)) {
+                return entry;
+            }
+        }
+        if (reserve()) {
+            return create(IN_USE);
+        }
+        return null;
+    }
+
+    private Entry<T> awaitBorrow() throws Exception {
+        long start = System.nanoTime();
+        long deadline = maxWait > 0 ? start + TimeUnit.MILLISECONDS.toNanos(maxWait) : Long.MAX_VALUE;
+        waiters.incrementAndGet();
+        try {
+            while (true) {
+                Entry<T> entry = tryBorrow();
+                if (entry != null) {
+                    return entry;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new NoSuchElementException("Timeout waiting for idle object after " + maxWait + " millis");
+                }
+                synchronized (waitLock) {
+                    // wake up regularly as a resource can be returned just before we wait
+                    TimeUnit.NANOSECONDS.timedWait(waitLock, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)));
+                }
+            }
+        } finally {
+            waiters.decrementAndGet();
+            long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            waitCount.increment();
+            totalWaitTime.add(waited);
+            maxWaitTime.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    private void signal() {
+        if (waiters.get() > 0) {
+            synchronized (waitLock) {
+                waitLock.notify();
+            }
+        }
+    }
+
+    private boolean reserve() {
+        int current;
+        do {
+            current = size.get();
+            if (current >= maxActive) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Entry<T> create(int state) throws Exception {
+        try {
+            Entry<T> entry = new Entry<>(factory.makeObject(), state);
+            entries.put(entry.object, entry);
+            return entry;
+        } catch (Exception e) {
+            size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void destroy(Entry<T> entry) throws Exception {
+        entry.state.set(DESTROYED);
+        if (entries.remove(entry.object) != null) {
+            size.decrementAndGet();
+            factory.destroyObject(entry.object);
+        }
+    }
+
+    /**
+     * The maximum number of resources in the pool
+     */
+    @Override
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    /**
+     * Sets the maximum number of resources in the pool. When lowered, the resources in excess are not destroyed,
+     * but no new resources are created until the pool is below the new maximum.
+     */
+    @Override
+    public void setMaxActive(int maxActive) {
+        if (maxActive <= 0) {
+            throw new IllegalArgumentException("maxActive must be a positive number, was: " + maxActive);
+        }
+        this.maxActive = maxActive;
+        signal();
+    }
+
+    /**
+     * The maximum time in millis to wait for a resource when the pool is exhausted, or <tt>0</tt> to wait until
+     * a resource is returned
+     */
+    @Override
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public void setMaxIdle(int maxIdle) {
+        throw unsupported("maxIdle");
+    }
+
+    @Override
+    public void setMinIdle(int minIdle) {
+        throw unsupported("minIdle");
+    }
+
+    @Override
+    public void setWhenExhaustedAction(byte whenExhaustedAction) {
+        throw unsupported("whenExhaustedAction");
+    }
+
+    @Override
+    public void setTestOnBorrow(boolean testOnBorrow) {
+        throw unsupported("testOnBorrow");
+    }
+
+    @Override
+    public void setTestOnReturn(boolean testOnReturn) {
+        throw unsupported("testOnReturn");
+    }
+
+    @Override
+    public void setTestWhileIdle(boolean testWhileIdle) {
+        throw unsupported("testWhileIdle");
+    }
+
+    @Override
+    public void setTimeBetweenEvictionRunsMillis(long timeBetweenEvictionRunsMillis) {
+        throw unsupported("timeBetweenEvictionRunsMillis");
+    }
+
+    @Override
+    public void setNumTestsPerEvictionRun(int numTestsPerEvictionRun) {
+        throw unsupported("numTestsPerEvictionRun");
+    }
+
+    @Override
+    public void setMinEvictableIdleTimeMillis(long minEvictableIdleTimeMillis) {
+        throw unsupported("minEvictableIdleTimeMillis");
+    }
+
+    @Override
+    public void setSoftMinEvictableIdleTimeMillis(long softMinEvictableIdleTimeMillis) {
+        throw unsupported("softMinEvictableIdleTimeMillis");
+    }
+
+    @Override
+    public void setLifo(boolean lifo) {
+        throw unsupported("lifo");
+    }
+
+    @Override
+    public void setConfig(GenericObjectPool.Config conf) {
+        throw unsupported("config");
+    }
+
+    @Override
+    @Deprecated
+    public void setFactory(PoolableObjectFactory<T> factory) {
+        throw unsupported("factory");
+    }
+
+    private static UnsupportedOperationException unsupported(String setting) {
+        return new UnsupportedOperationException("ResourcePool does not support the " + setting + " setting, only maxActive and maxWait");
+    }
+
+    /**
+     * The number of resources which are borrowed
+     */
+    @Override
+    public int getNumActive() {
+        return active.get();
+    }
+
+    /**
+     * The number of resources which are idle
+     */
+    @Override
+    public int getNumIdle() {
+        return Math.max(0, size.get() - active.get());
+    }
+
+    /**
+     * The number of times a resource has been borrowed
+     */
+    public long getBorrowedCount() {
+        return borrowedCount.sum();
+    }
+
+    /**
+     * The number of times a thread had to wait for a resource because the pool was exhausted
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * The total time in millis threads have waited for a resource
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime.sum();
+    }
+
+    /**
+     * The longest time in millis a thread has waited for a resource
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        borrowedCount.reset();
+        waitCount.reset();
+        totalWaitTime.reset();
+        maxWaitTime.set(0);
+    }
+
+    private static final class Entry<T> {
+        private final T object;
+        private final AtomicInteger state;
+        private final AtomicBoolean queued = new AtomicBoolean();
+
+        Entry(T object, int state) {
+            this.object = object;
+            this.state = new AtomicInteger(state);
+        }
+    }
+
+}
@@ -40,6 +40,7 @@ import org.apache.camel.component.sjms.SjmsProducer;
 import org.apache.camel.component.sjms.jms.ConnectionResource;
 import org.apache.camel.component.sjms.jms.JmsConstants;
 import org.apache.camel.component.sjms.jms.JmsMessageHelper;
+import org.apache.camel.component.sjms.jms.ResourcePool;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.commons.pool.BasePoolableObjectFactory;
@@ -154,10 +155,10 @@ public class InOutProducer extends SjmsProducer {
             uuidGenerator = getEndpoint().getCamelContext().getUuidGenerator();
         }
         if (consumers == null) {
-            consumers = new GenericObjectPool<MessageConsumerResources>(new MessageConsumerResourcesFactory());
-            consumers.setMaxActive(getConsumerCount());
-            consumers.setMaxIdle(getConsumerCount());
-            while (consumers.getNumIdle() < consumers.getMaxIdle()) {
+            ResourcePool<MessageConsumerResources> pool = new ResourcePool<MessageConsumerResources>(new MessageConsumerResourcesFactory(), getConsumerCount(), 0);
+            consumers = pool;
+            getEndpoint().addConsumerPool(pool);
+            for (int i = 0; i < consumers.getMaxActive(); i++) {
                 consumers.addObject();
             }
         }
@@ -168,6 +169,7 @@ public class InOutProducer extends SjmsProducer {
     protected void doStop() throws Exception {
         super.doStop();
         if (consumers != null) {
+            getEndpoint().removeConsumerPool(consumers);
             consumers.close();
             consumers = null;
         }
@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.consumer;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.sjms.SjmsEndpoint;
+import org.apache.camel.component.sjms.support.JmsTestSupport;
+import org.junit.Test;
+
+public class ConsumerPoolStatisticsTest extends JmsTestSupport {
+
+    private static final String SJMS_QUEUE_NAME = "sjms:queue:consumer.pool.statistics?consumerCount=3";
+    private static final String SJMS_REPLY_QUEUE_NAME = "sjms:queue:consumer.pool.statistics.reply?consumerCount=2&exchangePattern=InOut";
+
+    @Test
+    public void testConsumerPoolsAreIncludedInEndpointStatistics() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody(SJMS_QUEUE_NAME, "Hello World");
+        assertMockEndpointsSatisfied();
+
+        SjmsEndpoint endpoint = context.getEndpoint(SJMS_QUEUE_NAME, SjmsEndpoint.class);
+        assertEquals(3, endpoint.getConsumerPoolMaxActive());
+        assertEquals(3, endpoint.getConsumerPoolSize());
+        assertEquals(0, endpoint.getConsumerPoolActive());
+        assertEquals(0d, endpoint.getConsumerPoolUtilization(), 0d);
+        assertEquals(0, endpoint.getConsumerPoolWaitCount());
+    }
+
+    @Test
+    public void testReplyConsumerPoolsAreIncludedInEndpointStatistics() throws Exception {
+        assertEquals("Bye World", template.requestBody(SJMS_REPLY_QUEUE_NAME, "Hello World"));
+
+        SjmsEndpoint endpoint = context.getEndpoint(SJMS_REPLY_QUEUE_NAME, SjmsEndpoint.class);
+        // the consumers of the route and the reply consumers of the producer
+        assertEquals(4, endpoint.getConsumerPoolMaxActive());
+        assertEquals(1, endpoint.getConsumerPoolBorrowedCount());
+        assertEquals(0, endpoint.getConsumerPoolActive());
+
+        context.stopRoute("reply");
+        assertEquals(2, endpoint.getConsumerPoolMaxActive());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(SJMS_QUEUE_NAME).to("mock:result");
+
+                from(SJMS_REPLY_QUEUE_NAME).routeId("reply").transform(constant("Bye World"));
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.jms;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ResourcePoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger destroyed = new AtomicInteger();
+
+    @Test
+    public void testBorrowReturnsSameResourceToSameThread() throws Exception {
+        ResourcePool<Integer> pool = createPool(2, 0);
+        pool.addObject();
+        pool.addObject();
+
+        Integer first = pool.borrowObject();
+        pool.returnObject(first);
+        Integer second = pool.borrowObject();
+        assertSame(first, second);
+        pool.returnObject(second);
+
+        assertEquals(2, created.get());
+        assertEquals(0, pool.getNumActive());
+        assertEquals(2, pool.getNumIdle());
+        assertEquals(2, pool.getBorrowedCount());
+    }
+
+    @Test
+    public void testMaxActiveIsEnforced() throws Exception {
+        ResourcePool<Integer> pool = createPool(1, 50);
+
+        Integer object = pool.borrowObject();
+        assertEquals(1, pool.getNumActive());
+        try {
+            pool.borrowObject();
+            fail("Should have thrown an exception");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+        assertEquals(1, created.get());
+        assertEquals(1, pool.getWaitCount());
+        assertTrue(pool.getTotalWaitTime() >= 40);
+
+        pool.returnObject(object);
+        assertSame(object, pool.borrowObject());
+    }
+
+    @Test
+    public void testWaitingBorrowerGetsReturnedResource() throws Exception {
+        final ResourcePool<Integer> pool = createPool(1, 0);
+        final Integer object = pool.borrowObject();
+
+        Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                pool.returnObject(object);
+            } catch (Exception e) {
+                // ignore
+            }
+        });
+        thread.start();
+
+        assertSame(object, pool.borrowObject());
+        thread.join();
+        assertEquals(1, pool.getWaitCount());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testInvalidateAndClose() throws Exception {
+        ResourcePool<Integer> pool = createPool(2, 0);
+        Integer first = pool.borrowObject();
+        Integer second = pool.borrowObject();
+
+        pool.invalidateObject(first);
+        assertEquals(1, destroyed.get());
+        assertEquals(1, pool.getNumActive());
+
+        pool.returnObject(second);
+        pool.close();
+        assertEquals(2, destroyed.get());
+        assertEquals(0, pool.getNumIdle());
+    }
+
+    @Test
+    public void testReturnOfNotBorrowedResourceIsIgnored() throws Exception {
+        ResourcePool<Integer> pool = createPool(2, 0);
+        Integer object = pool.borrowObject();
+
+        pool.returnObject(object);
+        pool.returnObject(object);
+        pool.returnObject(42);
+        pool.invalidateObject(object);
+        assertEquals(0, pool.getNumActive());
+        assertEquals(1, pool.getNumIdle());
+        assertEquals(0, destroyed.get());
+
+        // the resource is still borrowed once
+        assertSame(object, pool.borrowObject());
+        assertEquals(1, pool.getNumActive());
+    }
+
+    @Test
+    public void testMaxActiveCanBeChanged() throws Exception {
+        ResourcePool<Integer> pool = createPool(1, 50);
+        pool.setMaxActive(2);
+        pool.borrowObject();
+        pool.borrowObject();
+
+        assertEquals(2, pool.getNumActive());
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void testUnsupportedSettingsAreRejected() throws Exception {
+        ResourcePool<Integer> pool = createPool(1, 0);
+        try {
+            pool.setMinIdle(1);
+            fail("Should have thrown an exception");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            pool.setTestOnBorrow(true);
+            fail("Should have thrown an exception");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            pool.setTimeBetweenEvictionRunsMillis(1000);
+            fail("Should have thrown an exception");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            pool.setConfig(new GenericObjectPool.Config());
+            fail("Should have thrown an exception");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertEquals(1, pool.getMaxActive());
+    }
+
+    private ResourcePool<Integer> createPool(int maxActive, long maxWait) {
+        return new ResourcePool<>(new BasePoolableObjectFactory<Integer>() {
+            @Override
+            public Integer makeObject() throws Exception {
+                return created.incrementAndGet();
+            }
+
+            @Override
+            public void destroyObject(Integer obj) throws Exception {
+                destroyed.incrementAndGet();
+            }
+        }, maxActive, maxWait);
+    }
+}
@@ -29,7 +29,6 @@ import org.apache.camel.Component;
 import org.apache.camel.impl.DefaultPollingEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
-import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
@@ -68,9 +67,23 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     @UriParam(label = "consumer",
             description = "After processing the entire batch, this query can be executed to bulk update rows etc. The query cannot have parameters.")
     private String onConsumeBatchComplete;
+    @UriParam(label = "consumer",
+            description = "If set greater than zero, then the onConsume and onConsumeFailed queries are not executed after each row, but are collected"
+                    + " and executed as JDBC batches of up to this number of rows, at these checkpoints and when the rows of the poll have been processed."
+                    + " This reduces the round-trips to the database when consuming many rows. Notice if the consumer is stopped or fails in between, then"
+                    + " the queries of the rows processed since the last checkpoint are not executed.")
+    private int onConsumeBatchSize;
     @UriParam(label = "consumer", defaultValue = "true",
             description = "Sets how resultset should be delivered to route. Indicates delivery as either a list or individual object. defaults to true.")
     private boolean useIterator = true;
+    @UriParam(label = "consumer",
+            description = "Whether the consumer should route each row as soon as it has been read from the ResultSet, instead of reading all the rows"
+                    + " of the poll into memory first. Use this together with the fetchSize option to consume large result sets with a bounded memory footprint."
+                    + " As the number of rows is not known upfront, the CamelBatchSize exchange property is only set on the last exchange of the poll."
+                    + " The result set and its database connection are kept open while the rows are routed, so the routes should not take long to process a row."
+                    + " If routeEmptyResultSet is enabled, then an exchange with an empty list is routed when no rows was read."
+                    + " This cannot be used together with outputType=SelectOne or useIterator=false.")
+    private boolean streamRows;
     @UriParam(label = "consumer",
             description = "Sets whether empty resultset should be allowed to be sent to the next hop. Defaults to false. So the empty resultset will be filtered out.")
     private boolean routeEmptyResultSet;
@@ -115,6 +128,10 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private String placeholder = "#";
     @UriParam(label = "advanced", defaultValue = "true", description = "Sets whether to use placeholder and replace all placeholder characters with ? sign in the SQL queries.")
     private boolean usePlaceholder = true;
+    @UriParam(description = "If set greater than zero, then this is the number of rows the JDBC driver should fetch from the database in each round-trip"
+            + " when reading the result set. Use this together with outputType=StreamList or the streamRows consumer option to process large result sets"
+            + " with a bounded memory footprint. Notice some JDBC drivers only use the fetch size when the connection is not in auto commit mode.")
+    private int fetchSize;
     @UriParam(label = "advanced", prefix = "template.", multiValue = true,
             description = "Configures the Spring JdbcTemplate with the key/values from the Map")
     private Map<String, Object> templateOptions;
@@ -131,6 +148,15 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         return true;
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (fetchSize > 0 && jdbcTemplate != null) {
+            jdbcTemplate.setFetchSize(fetchSize);
+        }
+    }
+
     public JdbcTemplate getJdbcTemplate() {
         return jdbcTemplate;
     }
@@ -411,6 +437,58 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the onConsume and onConsumeFailed queries are not executed after each row, but are collected
+     * and executed as JDBC batches of up to this number of rows, at these checkpoints and when the rows of the poll have been processed.
+     * This reduces the round-trips to the database when consuming many rows. Notice if the consumer is stopped or fails in between, then
+     * the queries of the rows processed since the last checkpoint are not executed.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
+    public boolean isStreamRows() {
+        return streamRows;
+    }
+
+    /**
+     * Whether the consumer should route each row as soon as it has been read from the ResultSet, instead of reading all the rows
+     * of the poll into memory first. Use this together with the fetchSize option to consume large result sets with a bounded memory footprint.
+     * As the number of rows is not known upfront, the CamelBatchSize exchange property is only set on the last exchange of the poll.
+     * The result set and its database connection are kept open while the rows are routed, so the routes should not take long to process a row.
+     * If routeEmptyResultSet is enabled, then an exchange with an empty list is routed when no rows was read.
+     * This cannot be used together with outputType=SelectOne or useIterator=false.
+     */
+    public void setStreamRows(boolean streamRows) {
+        this.streamRows = streamRows;
+    }
+
+    /**
+     * Validates the consumer options which cannot be used together.
+     */
+    protected void validateConsumerOptions() {
+        if (isStreamRows() && (getOutputType() == SqlOutputType.SelectOne || !isUseIterator())) {
+            throw new IllegalArgumentException("The streamRows option cannot be used together with outputType=SelectOne or useIterator=false");
+        }
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * If set greater than zero, then this is the number of rows the JDBC driver should fetch from the database in each round-trip
+     * when reading the result set. Use this together with outputType=StreamList or the streamRows consumer option to process large result sets
+     * with a bounded memory footprint. Notice some JDBC drivers only use the fetch size when the connection is not in auto commit mode.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public String getPlaceholder() {
         return placeholder;
     }
@@ -456,7 +534,7 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
             List<?> data = mapper.extractData(rs);
             return data;
         } else {
-            ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+            ResultSetRowMapper rowMapper = new ResultSetRowMapper();
             RowMapperResultSetExtractor<Map<String, Object>> mapper = new RowMapperResultSetExtractor<Map<String, Object>>(rowMapper);
             List<Map<String, Object>> data = mapper.extractData(rs);
             return data;
@@ -467,7 +545,7 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     public Object queryForObject(ResultSet rs) throws SQLException {
         Object result = null;
         if (outputClass == null) {
-            RowMapper rowMapper = new ColumnMapRowMapper();
+            RowMapper rowMapper = new ResultSetRowMapper();
             RowMapperResultSetExtractor<Map<String, Object>> mapper = new RowMapperResultSetExtractor<Map<String, Object>>(rowMapper);
             List<Map<String, Object>> data = mapper.extractData(rs);
             if (data.size() > 1) {
@@ -497,15 +575,20 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         return result;
     }
 
-    @SuppressWarnings("unchecked")
     public ResultSetIterator queryForStreamList(Connection connection, Statement statement, ResultSet rs) throws SQLException {
+        return new ResultSetIterator(connection, statement, rs, createRowMapper());
+    }
+
+    /**
+     * Creates the {@link RowMapper} to use for mapping the rows of a single result set one by one,
+     * which maps to the outputClass if configured.
+     */
+    public RowMapper<?> createRowMapper() {
         if (outputClass == null) {
-            RowMapper rowMapper = new ColumnMapRowMapper();
-            return new ResultSetIterator(connection, statement, rs, rowMapper);
+            return new ResultSetRowMapper();
         } else {
             Class<?> outputClzz = getCamelContext().getClassResolver().resolveClass(outputClass);
-            RowMapper rowMapper = new BeanPropertyRowMapper(outputClzz);
-            return new ResultSetIterator(connection, statement, rs, rowMapper);
+            return new BeanPropertyRowMapper<>(outputClzz);
         }
     }
 
@@ -18,7 +18,9 @@ package org.apache.camel.component.sql;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
@@ -65,6 +67,48 @@ public class DefaultSqlProcessingStrategy implements SqlProcessingStrategy {
         });
     }
 
+    @Override
+    public int[] commitBatch(final DefaultSqlEndpoint endpoint, final List<Exchange> exchanges, final List<Object> data,
+                             final JdbcTemplate jdbcTemplate, final String query) throws Exception {
+        final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(query, endpoint.isAllowNamedParameters(), exchanges.get(0));
+        for (int i = 1; i < exchanges.size(); i++) {
+            // the prepared query can vary per exchange such as when using IN queries, and then it cannot be batched
+            if (!preparedQuery.equals(sqlPrepareStatementStrategy.prepareQuery(query, endpoint.isAllowNamedParameters(), exchanges.get(i)))) {
+                return SqlProcessingStrategy.super.commitBatch(endpoint, exchanges, data, jdbcTemplate, query);
+            }
+        }
+
+        return jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<int[]>() {
+            public int[] doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                int expected = ps.getParameterMetaData().getParameterCount();
+
+                int[] answer = new int[exchanges.size()];
+                int[] index = new int[exchanges.size()];
+                int batched = 0;
+                for (int i = 0; i < exchanges.size(); i++) {
+                    Iterator<?> iterator = sqlPrepareStatementStrategy.createPopulateIterator(query, preparedQuery, expected, exchanges.get(i), data.get(i));
+                    if (iterator != null) {
+                        sqlPrepareStatementStrategy.populateStatement(ps, iterator, expected);
+                        ps.addBatch();
+                        index[batched++] = i;
+                    }
+                }
+
+                if (batched > 0) {
+                    LOG.trace("Execute batch of {} queries {}", batched, query);
+                    int[] updateCounts = ps.executeBatch();
+                    for (int i = 0; i < batched; i++) {
+                        answer[index[i]] = updateCounts[i];
+                    }
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Update counts {}", Arrays.toString(updateCounts));
+                    }
+                }
+                return answer;
+            };
+        });
+    }
+
     @Override
     public int commitBatchComplete(final DefaultSqlEndpoint endpoint, final JdbcTemplate jdbcTemplate, final String query) throws Exception {
         final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(query, endpoint.isAllowNamedParameters(), null);
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.apache.camel.component.jdbc.ResultSetRow;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * A {@link RowMapper} which maps each row to a lightweight {@link Map} like {@link ColumnMapRowMapper} does,
+ * where the column names are looked up only once per result set and shared by all the rows.
+ * <p/>
+ * The rows are {@link ResultSetRow}s with case insensitive column names, which behave and serialize like the
+ * {@link LinkedCaseInsensitiveMap} created by {@link ColumnMapRowMapper}.
+ * <p/>
+ * A new instance must be used per result set.
+ */
+public class ResultSetRowMapper implements RowMapper<Map<String, Object>> {
+
+    private ResultSetRow.Columns columns;
+    private int columnCount;
+
+    @Override
+    public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (columns == null) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            columnCount = metaData.getColumnCount();
+            String[] names = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                names[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+            }
+            columns = new ResultSetRow.Columns(names, true);
+        }
+
+        Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            values[i] = JdbcUtils.getResultSetValue(rs, i + 1);
+        }
+        return new CaseInsensitiveResultSetRow(columns, values);
+    }
+
+    private static final class CaseInsensitiveResultSetRow extends ResultSetRow {
+
+        private static final long serialVersionUID = 1L;
+
+        private CaseInsensitiveResultSetRow(Columns columns, Object[] values) {
+            super(columns, values);
+        }
+
+        @Override
+        protected Map<String, Object> createMap(int initialCapacity) {
+            return new LinkedCaseInsensitiveMap<Object>(initialCapacity);
+        }
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -34,6 +36,7 @@ import org.apache.camel.util.ObjectHelper;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -56,6 +59,10 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean routeEmptyResultSet;
     private int expectedUpdateCount = -1;
     private boolean breakBatchOnConsumeFail;
+    private int onConsumeBatchSize;
+    private boolean streamRows;
+    private PendingConsume pendingConsume;
+    private PendingConsume pendingConsumeFailed;
 
     private static final class DataHolder {
         private Exchange exchange;
@@ -65,6 +72,19 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         }
     }
 
+    /**
+     * The rows pending to have their onConsume or onConsumeFailed query executed when using onConsumeBatchSize.
+     */
+    private static final class PendingConsume {
+        private final String sql;
+        private final List<Exchange> exchanges = new ArrayList<Exchange>();
+        private final List<Object> data = new ArrayList<Object>();
+
+        private PendingConsume(String sql) {
+            this.sql = sql;
+        }
+    }
+
     public SqlConsumer(DefaultSqlEndpoint endpoint, Processor processor, JdbcTemplate jdbcTemplate, String query, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
             SqlProcessingStrategy sqlProcessingStrategy) {
         super(endpoint, processor);
@@ -105,6 +125,9 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         // must reset for each poll
         shutdownRunningTask = null;
         pendingExchanges = 0;
+        // discard any deferred on consume queries from a previous poll which did not complete
+        pendingConsume = null;
+        pendingConsumeFailed = null;
 
         final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery, getEndpoint().isAllowNamedParameters(), null);
 
@@ -116,6 +139,16 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
 
                 log.debug("Executing query: {}", preparedQuery);
                 ResultSet rs = ps.executeQuery();
+                if (streamRows) {
+                    try {
+                        return processStream(rs);
+                    } catch (Exception e) {
+                        throw ObjectHelper.wrapRuntimeCamelException(e);
+                    } finally {
+                        closeResultSet(rs);
+                    }
+                }
+
                 SqlOutputType outputType = getEndpoint().getOutputType();
                 boolean closeEager = true;
                 try {
@@ -228,48 +261,169 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             // update pending number of exchanges
             pendingExchanges = total - index - 1;
 
-            // process the current exchange
-            try {
-                getProcessor().process(exchange);
-            } catch (Exception e) {
-                exchange.setException(e);
+            processRow(exchange, data);
+        }
+
+        processBatchComplete();
+        return total;
+    }
+
+    /**
+     * Processes the rows one by one while reading them from the result set.
+     * <p/>
+     * Notice each row is routed while the result set is still open, so the cursor and its database connection are
+     * held until the last row has been processed, and the result set must not be accessed from other threads.
+     */
+    protected int processStream(ResultSet rs) throws Exception {
+        RowMapper<?> rowMapper = getEndpoint().createRowMapper();
+
+        int index = 0;
+        boolean hasNext = rs.next();
+        while (hasNext && isBatchAllowed()) {
+            Object data = rowMapper.mapRow(rs, index);
+            hasNext = rs.next();
+
+            Exchange exchange = createExchange(data);
+            exchange.setProperty(Exchange.BATCH_INDEX, index);
+            exchange.setProperty(Exchange.BATCH_COMPLETE, !hasNext);
+            if (!hasNext) {
+                // the size of the batch is first known at the last row
+                exchange.setProperty(Exchange.BATCH_SIZE, index + 1);
             }
 
-            if (getEndpoint().isTransacted() && exchange.isFailed()) {
-                // break out as we are transacted and should rollback
-                Exception cause = exchange.getException();
-                if (cause != null) {
-                    throw cause;
-                } else {
-                    throw new RollbackExchangeException("Rollback transaction due error processing exchange", exchange);
+            // we do not know how many rows are left, but there is at least one more if not complete
+            pendingExchanges = hasNext ? 1 : 0;
+
+            processRow(exchange, data);
+            index++;
+        }
+
+        if (index == 0 && routeEmptyResultSet && isBatchAllowed()) {
+            // no rows was read, so route an empty list as if the rows were not streamed
+            Exchange exchange = createExchange(new ArrayList<>());
+            exchange.setProperty(Exchange.BATCH_INDEX, 0);
+            exchange.setProperty(Exchange.BATCH_SIZE, 1);
+            exchange.setProperty(Exchange.BATCH_COMPLETE, true);
+            pendingExchanges = 0;
+
+            // there is no row to run the on consume query with
+            processRow(exchange, null);
+            index++;
+        }
+
+        if (index > 0) {
+            processBatchComplete();
+        }
+        return index;
+    }
+
+    private void processRow(Exchange exchange, Object data) throws Exception {
+        // process the current exchange
+        try {
+            getProcessor().process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        if (getEndpoint().isTransacted() && exchange.isFailed()) {
+            // break out as we are transacted and should rollback
+            Exception cause = exchange.getException();
+            if (cause != null) {
+                throw cause;
+            } else {
+                throw new RollbackExchangeException("Rollback transaction due error processing exchange", exchange);
+            }
+        }
+
+        // pick the on consume to use
+        String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+        // we can only run on consume if there was data
+        if (data == null || sql == null) {
+            return;
+        }
+
+        if (onConsumeBatchSize > 0) {
+            // defer the query to the next checkpoint
+            PendingConsume pending;
+            if (exchange.isFailed()) {
+                if (pendingConsumeFailed == null) {
+                    pendingConsumeFailed = new PendingConsume(sql);
+                }
+                pending = pendingConsumeFailed;
+            } else {
+                if (pendingConsume == null) {
+                    pendingConsume = new PendingConsume(sql);
                 }
+                pending = pendingConsume;
             }
+            pending.exchanges.add(exchange);
+            pending.data.add(data);
+            if (pending.exchanges.size() >= onConsumeBatchSize) {
+                commitPending(pending);
+            }
+            return;
+        }
 
-            // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
-            try {
-                // we can only run on consume if there was data
-                if (data != null && sql != null) {
-                    int updateCount;
-                    if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
-                        SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
-                        updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate, parameterSource, sql);
-                    } else {
-                        updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
-                    }
-                    if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
-                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount + " executing query: " + sql;
+        try {
+            int updateCount;
+            if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate, parameterSource, sql);
+            } else {
+                updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+            }
+            if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+                String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount + " executing query: " + sql;
+                throw new SQLException(msg);
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+            }
+        }
+    }
+
+    private void commitPending(PendingConsume pending) throws Exception {
+        if (pending == null || pending.exchanges.isEmpty()) {
+            return;
+        }
+
+        try {
+            log.debug("Executing onConsume/onConsumeFailed query {} for {} rows", pending.sql, pending.exchanges.size());
+            int[] updateCounts;
+            if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                updateCounts = namedProcessingStrategy.commitBatch(getEndpoint(), pending.exchanges, pending.data, namedJdbcTemplate, parameterSource, pending.sql);
+            } else {
+                updateCounts = sqlProcessingStrategy.commitBatch(getEndpoint(), pending.exchanges, pending.data, jdbcTemplate, pending.sql);
+            }
+            if (expectedUpdateCount > -1) {
+                for (int updateCount : updateCounts) {
+                    // some JDBC drivers do not return the update count of each query in a batch
+                    if (updateCount != expectedUpdateCount && updateCount != Statement.SUCCESS_NO_INFO) {
+                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount + " executing query: " + pending.sql;
                         throw new SQLException(msg);
                     }
                 }
-            } catch (Exception e) {
-                if (breakBatchOnConsumeFail) {
-                    throw e;
-                } else {
-                    handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
-                }
             }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsume/onConsumeFailed query " + pending.sql, e);
+            }
+        } finally {
+            pending.exchanges.clear();
+            pending.data.clear();
         }
+    }
+
+    private void processBatchComplete() throws Exception {
+        // execute the remaining deferred on consume queries before the batch is complete
+        commitPending(pendingConsume);
+        commitPending(pendingConsumeFailed);
 
         try {
             if (onConsumeBatchComplete != null) {
@@ -289,8 +443,6 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                 handleException("Error executing onConsumeBatchComplete query " + onConsumeBatchComplete, e);
             }
         }
-
-        return total;
     }
 
     public String getOnConsume() {
@@ -370,6 +522,28 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         this.breakBatchOnConsumeFail = breakBatchOnConsumeFail;
     }
 
+    public int getOnConsumeBatchSize() {
+        return onConsumeBatchSize;
+    }
+
+    /**
+     * Sets the number of rows to execute the onConsume and onConsumeFailed queries for in a JDBC batch.
+     */
+    public void setOnConsumeBatchSize(int onConsumeBatchSize) {
+        this.onConsumeBatchSize = onConsumeBatchSize;
+    }
+
+    public boolean isStreamRows() {
+        return streamRows;
+    }
+
+    /**
+     * Sets whether to route each row as soon as it has been read from the result set.
+     */
+    public void setStreamRows(boolean streamRows) {
+        this.streamRows = streamRows;
+    }
+
     @Override
     public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
         super.setMaxMessagesPerPoll(maxMessagesPerPoll);
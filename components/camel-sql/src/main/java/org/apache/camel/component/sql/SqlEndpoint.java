@@ -22,6 +22,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,6 +36,10 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriPath(description = "Sets the SQL query to perform. You can externalize the query by using file: or classpath: as prefix and specify the location of the file.")
     @Metadata(required = "true")
     private String query;
+    @UriParam(label = "producer")
+    private int microBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10")
+    private long microBatchTimeout = 10;
 
     public SqlEndpoint() {
     }
@@ -45,6 +50,8 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     }
 
     public Consumer createConsumer(Processor processor) throws Exception {
+        validateConsumerOptions();
+
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
         SqlProcessingStrategy proStrategy = getProcessingStrategy() != null ? getProcessingStrategy() : new DefaultSqlProcessingStrategy(prepareStrategy);
         SqlConsumer consumer = new SqlConsumer(this, processor, getJdbcTemplate(), query, prepareStrategy, proStrategy);
@@ -56,12 +63,23 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setExpectedUpdateCount(getExpectedUpdateCount());
         consumer.setUseIterator(isUseIterator());
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
+        consumer.setOnConsumeBatchSize(getOnConsumeBatchSize());
+        consumer.setStreamRows(isStreamRows());
         configureConsumer(consumer);
         return consumer;
     }
 
     public Producer createProducer() throws Exception {
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
+        if (microBatchSize > 0) {
+            if (isBatch() || isUseMessageBodyForSql()) {
+                throw new IllegalArgumentException("The microBatchSize option cannot be used together with batch or useMessageBodyForSql");
+            }
+            SqlMicroBatchProducer answer = new SqlMicroBatchProducer(this, query, getJdbcTemplate(), prepareStrategy,
+                    isAlwaysPopulateStatement(), microBatchSize, microBatchTimeout);
+            answer.setParametersCount(getParametersCount());
+            return answer;
+        }
         SqlProducer result = new SqlProducer(this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
@@ -85,4 +103,31 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         this.query = query;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer coalesces exchanges which are sent concurrently or in quick succession
+     * into JDBC batches of up to this number of exchanges, which are executed and committed in one round-trip to the database.
+     * Each exchange is continued with its own update count. This is only for statements which do not return a result set,
+     * such as INSERT, UPDATE and DELETE, and cannot be used together with batch or useMessageBodyForSql.
+     * Exchanges which are transacted or which retrieve generated keys are not batched.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis exchanges are held to be coalesced into a batch while another batch is being executed
+     * when using microBatchSize, before the batch is executed even if it is not full. Must be greater than zero.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
 }
@@ -0,0 +1,243 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.support.BatchAccumulator;
+import org.apache.camel.util.ServiceHelper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
+
+/**
+ * A producer which coalesces exchanges sent concurrently or in quick succession to the same SQL statement
+ * into a single JDBC batch, which is executed and committed in one round-trip to the database.
+ * <p/>
+ * An exchange is executed right away when no batch is being executed, and is otherwise held until that batch is done,
+ * until <tt>microBatchSize</tt> exchanges are pending, or at most about <tt>microBatchTimeout</tt> millis, as described
+ * by {@link BatchAccumulator}. Each exchange then continues routing with its own update count in the
+ * {@link SqlConstants#SQL_UPDATE_COUNT} header. If the batch fails then it is rolled back and all its exchanges fail.
+ * <p/>
+ * This is only for statements which do not return a result set, such as INSERT, UPDATE and DELETE.
+ * Exchanges which are transacted, or which retrieve generated keys, are not batched but executed directly
+ * using the {@link SqlProducer}.
+ */
+public class SqlMicroBatchProducer extends DefaultAsyncProducer {
+    private final SqlProducer producer;
+    private final String query;
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final boolean alwaysPopulateStatement;
+    private final BatchAccumulator<PendingExchange> accumulator;
+    private String resolvedQuery;
+    private int parametersCount;
+
+    public SqlMicroBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                                 boolean alwaysPopulateStatement, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.query = query;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.alwaysPopulateStatement = alwaysPopulateStatement;
+        this.producer = new SqlProducer(endpoint, query, jdbcTemplate, sqlPrepareStatementStrategy, false, alwaysPopulateStatement, false);
+        this.accumulator = new BatchAccumulator<PendingExchange>(endpoint.getCamelContext(), this, "SqlMicroBatch", batchSize, batchTimeout) {
+            @Override
+            protected void processBatch(List<PendingExchange> batch, AsyncCallback callback) {
+                executeBatches(batch);
+                callback.done(true);
+            }
+        };
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+        resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+
+        producer.setParametersCount(parametersCount);
+        ServiceHelper.startServices(producer, accumulator);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // executes any pending exchanges so they are not left waiting
+        ServiceHelper.stopServices(accumulator, producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        PendingExchange pendingExchange;
+        try {
+            Boolean shouldRetrieveGeneratedKeys = exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+            if (exchange.isTransacted() || shouldRetrieveGeneratedKeys) {
+                // must be executed on its own as part of the transaction, or to get hold of the generated keys
+                producer.process(exchange);
+                callback.done(true);
+                return true;
+            }
+
+            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+            String sql = queryHeader != null ? queryHeader : resolvedQuery;
+            String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+            pendingExchange = new PendingExchange(exchange, callback, sql, preparedQuery);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        accumulator.add(pendingExchange);
+        return false;
+    }
+
+    /**
+     * Executes the given exchanges.
+     */
+    private void executeBatches(List<PendingExchange> batch) {
+        log.trace("Executing micro batch of {} exchanges", batch.size());
+
+        // the exchanges may use different queries (set using the header) which must be separate batches
+        Map<String, List<PendingExchange>> batches = new LinkedHashMap<String, List<PendingExchange>>();
+        for (PendingExchange exchange : batch) {
+            List<PendingExchange> list = batches.get(exchange.preparedQuery);
+            if (list == null) {
+                list = new ArrayList<PendingExchange>();
+                batches.put(exchange.preparedQuery, list);
+            }
+            list.add(exchange);
+        }
+        for (Map.Entry<String, List<PendingExchange>> entry : batches.entrySet()) {
+            executeBatch(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void executeBatch(final String preparedQuery, final List<PendingExchange> batch) {
+        final List<PendingExchange> added = new ArrayList<PendingExchange>(batch.size());
+        final List<PendingExchange> failed = new ArrayList<PendingExchange>();
+        int[] updateCounts;
+        try {
+            updateCounts = jdbcTemplate.execute(new ConnectionCallback<int[]>() {
+                @Override
+                public int[] doInConnection(Connection con) throws SQLException {
+                    PreparedStatement ps = con.prepareStatement(preparedQuery);
+                    boolean autoCommit = con.getAutoCommit();
+                    try {
+                        int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+                        for (PendingExchange pendingExchange : batch) {
+                            Exchange exchange = pendingExchange.exchange;
+                            try {
+                                // only populate if really needed
+                                if (alwaysPopulateStatement || expected > 0) {
+                                    Object value = exchange.getIn().getBody();
+                                    Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(pendingExchange.sql, preparedQuery, expected, exchange, value);
+                                    sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                                }
+                                ps.addBatch();
+                                added.add(pendingExchange);
+                            } catch (Exception e) {
+                                // only this exchange fails, the others can still be executed
+                                ps.clearParameters();
+                                exchange.setException(e);
+                                failed.add(pendingExchange);
+                            }
+                        }
+                        if (added.isEmpty()) {
+                            return new int[0];
+                        }
+
+                        // execute and commit the batch as a whole
+                        if (autoCommit) {
+                            con.setAutoCommit(false);
+                        }
+                        try {
+                            int[] answer = ps.executeBatch();
+                            if (autoCommit) {
+                                con.commit();
+                            }
+                            return answer;
+                        } catch (SQLException e) {
+                            if (autoCommit) {
+                                con.rollback();
+                            }
+                            throw e;
+                        }
+                    } finally {
+                        if (autoCommit && !con.getAutoCommit()) {
+                            con.setAutoCommit(true);
+                        }
+                        closeStatement(ps);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            for (PendingExchange pendingExchange : added) {
+                pendingExchange.exchange.setException(e);
+            }
+            updateCounts = null;
+        }
+
+        // continue routing the exchanges after the connection has been released
+        for (int i = 0; i < added.size(); i++) {
+            PendingExchange pendingExchange = added.get(i);
+            if (updateCounts != null && i < updateCounts.length) {
+                pendingExchange.exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+            }
+            pendingExchange.callback.done(false);
+        }
+        for (PendingExchange pendingExchange : failed) {
+            pendingExchange.callback.done(false);
+        }
+    }
+
+    public void setParametersCount(int parametersCount) {
+        this.parametersCount = parametersCount;
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final String sql;
+        private final String preparedQuery;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, String sql, String preparedQuery) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+}
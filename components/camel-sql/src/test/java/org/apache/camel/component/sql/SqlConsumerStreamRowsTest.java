@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlConsumerStreamRowsTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testStreamRows() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        assertEquals(1, exchanges.get(0).getIn().getBody(Map.class).get("ID"));
+        assertEquals("Camel", exchanges.get(0).getIn().getBody(Map.class).get("project"));
+        assertEquals("AMQ", exchanges.get(1).getIn().getBody(Map.class).get("PROJECT"));
+        assertEquals("Linux", exchanges.get(2).getIn().getBody(Map.class).get("PROJECT"));
+
+        assertEquals(0, exchanges.get(0).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(Boolean.FALSE, exchanges.get(0).getProperty(Exchange.BATCH_COMPLETE));
+        assertNull(exchanges.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(2, exchanges.get(2).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(Boolean.TRUE, exchanges.get(2).getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(3, exchanges.get(2).getProperty(Exchange.BATCH_SIZE));
+
+        // some servers may be a bit slow for this
+        for (int i = 0; i < 5; i++) {
+            // give it a little time to delete
+            Thread.sleep(200);
+            int rows = jdbcTemplate.queryForObject("select count(*) from projects", Integer.class);
+            if (rows == 0) {
+                break;
+            }
+        }
+        assertEquals("Should have deleted all 3 rows", new Integer(0), jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testStreamRowsRouteEmptyResultSet() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:empty");
+        mock.expectedMinimumMessageCount(1);
+
+        assertMockEndpointsSatisfied();
+
+        Exchange exchange = mock.getReceivedExchanges().get(0);
+        assertTrue(exchange.getIn().getBody(List.class).isEmpty());
+        assertEquals(0, exchange.getProperty(Exchange.BATCH_INDEX));
+        assertEquals(1, exchange.getProperty(Exchange.BATCH_SIZE));
+        assertEquals(Boolean.TRUE, exchange.getProperty(Exchange.BATCH_COMPLETE));
+    }
+
+    @Test
+    public void testStreamRowsInvalidOptions() throws Exception {
+        assertInvalidConsumer("sql:select * from projects?streamRows=true&useIterator=false");
+        assertInvalidConsumer("sql:select * from projects?streamRows=true&outputType=SelectOne");
+    }
+
+    private void assertInvalidConsumer(String uri) throws Exception {
+        try {
+            context.getEndpoint(uri).createConsumer(exchange -> { });
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The streamRows option cannot be used together with"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:select * from projects order by id?consumer.initialDelay=0&consumer.delay=50&streamRows=true&fetchSize=2"
+                        + "&consumer.onConsume=delete from projects where id = :#id&onConsumeBatchSize=2")
+                    .to("mock:result");
+
+                from("sql:select * from projects where id < 0?consumer.initialDelay=0&consumer.delay=50&streamRows=true&routeEmptyResultSet=true")
+                    .to("mock:empty");
+            }
+        };
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    private final AtomicInteger executedBatches = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testMicroBatchConcurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Exchange>> replies = new ArrayList<Future<Exchange>>();
+            for (int i = 0; i < 50; i++) {
+                final int id = 100 + i;
+                replies.add(executor.submit(new Callable<Exchange>() {
+                    public Exchange call() throws Exception {
+                        return template.request("direct:insert", exchange -> exchange.getIn().setBody(project(id, "Camel" + id)));
+                    }
+                }));
+            }
+            for (Future<Exchange> reply : replies) {
+                Exchange out = reply.get();
+                assertNull(out.getException());
+                assertEquals(1, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Integer.valueOf(53), jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+        // the exchanges sent while a batch was being executed are coalesced
+        assertTrue("Should have executed fewer batches than exchanges, was " + executedBatches.get(), executedBatches.get() < 50);
+    }
+
+    @Test
+    public void testMicroBatchSequential() throws Exception {
+        // a single caller is not delayed by the timeout, as no other batch is being executed
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            final int id = 4 + i;
+            Exchange out = template.request("direct:insertLongTimeout", exchange -> exchange.getIn().setBody(project(id, "Karaf" + id)));
+            assertNull(out.getException());
+            assertEquals(1, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        assertTrue("Should not wait for the timeout", System.currentTimeMillis() - start < 10000);
+
+        assertEquals(5, executedBatches.get());
+        assertEquals("Karaf4", jdbcTemplate.queryForObject("select project from projects where id = 4", String.class));
+    }
+
+    @Test
+    public void testMicroBatchFailure() throws Exception {
+        // inserting a duplicate key fails the batch
+        try {
+            template.sendBody("direct:insert", project(1, "Duplicate"));
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            // expected
+        }
+
+        assertEquals(Integer.valueOf(3), jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    /**
+     * Wraps the data source, its connections and statements to count the executed JDBC batches, and to slow
+     * them down so exchanges sent concurrently are coalesced.
+     */
+    private <T> T counting(final Class<T> type, final T target) {
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("executeBatch".equals(method.getName())) {
+                    executedBatches.incrementAndGet();
+                    Thread.sleep(20);
+                }
+                Object answer;
+                try {
+                    answer = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (answer instanceof Connection) {
+                    return counting(Connection.class, (Connection) answer);
+                } else if ("prepareStatement".equals(method.getName())) {
+                    return counting(PreparedStatement.class, (PreparedStatement) answer);
+                }
+                return answer;
+            }
+        }));
+    }
+
+    private static Map<String, Object> project(int id, String name) {
+        Map<String, Object> project = new HashMap<String, Object>();
+        project.put("id", id);
+        project.put("project", name);
+        project.put("license", "ASF");
+        return project;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(counting(DataSource.class, db));
+
+                from("direct:insert")
+                    .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)?microBatchSize=10&microBatchTimeout=50");
+
+                from("direct:insertLongTimeout")
+                    .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)?microBatchSize=10&microBatchTimeout=60000");
+            }
+        };
+    }
+}
@@ -21,6 +21,7 @@ import com.amazonaws.services.kinesis.AmazonKinesis;
 import com.amazonaws.services.kinesis.model.ShardIteratorType;
 import org.apache.camel.component.aws.kinesis.KinesisComponent;
 import org.apache.camel.component.aws.kinesis.KinesisShardClosedStrategyEnum;
+import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -110,6 +111,9 @@ public class KinesisComponentConfiguration
         private String shardId;
         private String sequenceNumber;
         private KinesisShardClosedStrategyEnum shardClosed = KinesisShardClosedStrategyEnum.ignore;
+        private Boolean consumeAllShards = false;
+        private StateRepository sequenceNumberRepository;
+        private Long shardDiscoveryInterval = 10000L;
         private String accessKey;
         private String secretKey;
         private String region;
@@ -172,6 +176,31 @@ public class KinesisComponentConfiguration
             this.shardClosed = shardClosed;
         }
 
+        public Boolean getConsumeAllShards() {
+            return consumeAllShards;
+        }
+
+        public void setConsumeAllShards(Boolean consumeAllShards) {
+            this.consumeAllShards = consumeAllShards;
+        }
+
+        public StateRepository getSequenceNumberRepository() {
+            return sequenceNumberRepository;
+        }
+
+        public void setSequenceNumberRepository(
+                StateRepository sequenceNumberRepository) {
+            this.sequenceNumberRepository = sequenceNumberRepository;
+        }
+
+        public Long getShardDiscoveryInterval() {
+            return shardDiscoveryInterval;
+        }
+
+        public void setShardDiscoveryInterval(Long shardDiscoveryInterval) {
+            this.shardDiscoveryInterval = shardDiscoveryInterval;
+        }
+
         public String getAccessKey() {
             return accessKey;
         }
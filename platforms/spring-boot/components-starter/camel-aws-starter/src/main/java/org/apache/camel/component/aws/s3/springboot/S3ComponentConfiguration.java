@@ -114,6 +114,14 @@ public class S3ComponentConfiguration
          * part size is decided by the option of `partSize`
          */
         private Boolean multiPartUpload = false;
+        /**
+         * The number of parts of multi part uploads which are uploaded in
+         * parallel, the default is 1 to upload one part after the other. When
+         * the message body is not a file, it is read into pooled buffers of
+         * `partSize`, of which there are at most as many as this number, so
+         * the body is streamed without knowing its length up front.
+         */
+        private Integer multiPartUploadConcurrency = 1;
         /**
          * Amazon AWS Access Key
          */
@@ -250,6 +258,18 @@ public class S3ComponentConfiguration
          * Define if Force Global Bucket Access enabled is true or false
          */
         private Boolean forceGlobalBucketAccessEnabled = false;
+        /**
+         * If set, objects larger than this size are downloaded by the consumer
+         * with parallel ranged GET requests of this size into a temporary
+         * file, which is deleted when the exchange is done. The default is 0
+         * to download each object with a single request.
+         */
+        private Long downloadPartSize;
+        /**
+         * The number of ranges downloaded in parallel when `downloadPartSize`
+         * is in use.
+         */
+        private Integer downloadConcurrency = 4;
 
         public Long getPartSize() {
             return partSize;
@@ -267,6 +287,15 @@ public class S3ComponentConfiguration
             this.multiPartUpload = multiPartUpload;
         }
 
+        public Integer getMultiPartUploadConcurrency() {
+            return multiPartUploadConcurrency;
+        }
+
+        public void setMultiPartUploadConcurrency(
+                Integer multiPartUploadConcurrency) {
+            this.multiPartUploadConcurrency = multiPartUploadConcurrency;
+        }
+
         public String getAccessKey() {
             return accessKey;
         }
@@ -484,5 +513,21 @@ public class S3ComponentConfiguration
                 Boolean forceGlobalBucketAccessEnabled) {
             this.forceGlobalBucketAccessEnabled = forceGlobalBucketAccessEnabled;
         }
+
+        public Long getDownloadPartSize() {
+            return downloadPartSize;
+        }
+
+        public void setDownloadPartSize(Long downloadPartSize) {
+            this.downloadPartSize = downloadPartSize;
+        }
+
+        public Integer getDownloadConcurrency() {
+            return downloadConcurrency;
+        }
+
+        public void setDownloadConcurrency(Integer downloadConcurrency) {
+            this.downloadConcurrency = downloadConcurrency;
+        }
     }
 }
\ No newline at end of file
@@ -210,6 +210,39 @@ public class SqsComponentConfiguration
         private Integer concurrentConsumers = 1;
         private String proxyHost;
         private Integer proxyPort;
+        /**
+         * Whether to delete the messages of completed exchanges with
+         * DeleteMessageBatch requests of up to 10 messages, instead of one
+         * DeleteMessage request per message. The messages are deleted when 10
+         * are pending, when no more exchanges are being processed, or at the
+         * latest after batchAcknowledgeTimeout millis. If
+         * extendMessageVisibility is enabled, then the visibility of the
+         * messages of a poll is also extended with
+         * ChangeMessageVisibilityBatch requests.
+         */
+        private Boolean batchAcknowledge = false;
+        /**
+         * The maximum time in millis the messages of completed exchanges are
+         * held before they are deleted when using batchAcknowledge. This
+         * should be well below the visibility timeout of the queue, as the
+         * visibility of these messages is no longer extended.
+         */
+        private Long batchAcknowledgeTimeout = 1000L;
+        /**
+         * To send the messages of exchanges sent concurrently or in quick
+         * succession with SendMessageBatch requests of up to this number of
+         * messages, instead of one SendMessage request per exchange. Must be
+         * at most 10, as SQS does not accept larger batches. A batch is also
+         * sent before its payload would exceed 256 KB. Is default 0 to send
+         * each message by itself.
+         */
+        private Integer batchSize;
+        /**
+         * The maximum time in millis a message is held back while another
+         * batch is being sent, when batchSize is in use. A message is sent
+         * right away when no batch is being sent. Must be greater than zero.
+         */
+        private Long batchTimeout = 10L;
 
         public String getAmazonAWSHost() {
             return amazonAWSHost;
@@ -403,5 +436,37 @@ public class SqsComponentConfiguration
         public void setProxyPort(Integer proxyPort) {
             this.proxyPort = proxyPort;
         }
+
+        public Boolean getBatchAcknowledge() {
+            return batchAcknowledge;
+        }
+
+        public void setBatchAcknowledge(Boolean batchAcknowledge) {
+            this.batchAcknowledge = batchAcknowledge;
+        }
+
+        public Long getBatchAcknowledgeTimeout() {
+            return batchAcknowledgeTimeout;
+        }
+
+        public void setBatchAcknowledgeTimeout(Long batchAcknowledgeTimeout) {
+            this.batchAcknowledgeTimeout = batchAcknowledgeTimeout;
+        }
+
+        public Integer getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Long getBatchTimeout() {
+            return batchTimeout;
+        }
+
+        public void setBatchTimeout(Long batchTimeout) {
+            this.batchTimeout = batchTimeout;
+        }
     }
 }
\ No newline at end of file
@@ -90,6 +90,13 @@ public class HttpComponentConfiguration
      * value is always keep alive.
      */
     private Long connectionTimeToLive;
+    /**
+     * The number of I/O dispatcher threads used by the non-blocking
+     * HttpAsyncClient, which is shared by the endpoints using the
+     * useAsyncClient option. The default is the number of available
+     * processors.
+     */
+    private Integer asyncIoThreadCount;
     /**
      * To use a custom org.apache.http.client.CookieStore. By default the
      * org.apache.http.impl.client.BasicCookieStore is used which is an
@@ -207,6 +214,14 @@ public class HttpComponentConfiguration
         this.connectionTimeToLive = connectionTimeToLive;
     }
 
+    public Integer getAsyncIoThreadCount() {
+        return asyncIoThreadCount;
+    }
+
+    public void setAsyncIoThreadCount(Integer asyncIoThreadCount) {
+        this.asyncIoThreadCount = asyncIoThreadCount;
+    }
+
     public CookieStore getCookieStore() {
         return cookieStore;
     }
@@ -192,6 +192,20 @@ public class KafkaComponentConfiguration
          * the option bridgeEndpoint is set to true.
          */
         private Boolean circularTopicDetection = true;
+        /**
+         * If the option is true, then KafkaProducer will send the Kafka record
+         * headers of the KafkaConstants.HEADERS header of the inbound message
+         * with the record, such as the headers of a message which came from a
+         * kafka consumer. By default no record headers are sent.
+         */
+        private Boolean recordHeaders = false;
+        /**
+         * If the option is true, then KafkaProducer will convert the message
+         * key to the type of the key serializer, such as String or byte[], the
+         * same way as the message body is converted to the type of the
+         * serializer. By default the key is sent as-is.
+         */
+        private Boolean convertKey = false;
         /**
          * The partitioner class for partitioning messages amongst sub-topics.
          * The default partitioner is based on the hash of the key.
@@ -784,6 +798,22 @@ public class KafkaComponentConfiguration
             this.circularTopicDetection = circularTopicDetection;
         }
 
+        public Boolean getRecordHeaders() {
+            return recordHeaders;
+        }
+
+        public void setRecordHeaders(Boolean recordHeaders) {
+            this.recordHeaders = recordHeaders;
+        }
+
+        public Boolean getConvertKey() {
+            return convertKey;
+        }
+
+        public void setConvertKey(Boolean convertKey) {
+            this.convertKey = convertKey;
+        }
+
         public String getPartitioner() {
             return partitioner;
         }
@@ -278,6 +278,15 @@ public class NettyHttpComponentConfiguration
          * Sets whether to use a relative path in HTTP requests.
          */
         private Boolean useRelativePath = false;
+        /**
+         * Whether the producer should keep the response body as the reference
+         * counted Netty buffer, which is exposed as a stream cache, instead of
+         * copying it into a byte array. The buffer is released when the
+         * exchange is done. When the exchange is sent on to another netty-http
+         * endpoint, such as when proxying, the buffer is then sent as-is
+         * without being copied.
+         */
+        private Boolean zeroCopyResponse = false;
 
         public String getProtocol() {
             return protocol;
@@ -422,6 +431,14 @@ public class NettyHttpComponentConfiguration
         public void setUseRelativePath(Boolean useRelativePath) {
             this.useRelativePath = useRelativePath;
         }
+
+        public Boolean getZeroCopyResponse() {
+            return zeroCopyResponse;
+        }
+
+        public void setZeroCopyResponse(Boolean zeroCopyResponse) {
+            this.zeroCopyResponse = zeroCopyResponse;
+        }
     }
 
     public static class NettyHttpSecurityConfigurationNestedConfiguration {
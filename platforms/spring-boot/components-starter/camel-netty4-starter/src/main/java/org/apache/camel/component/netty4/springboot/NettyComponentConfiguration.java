@@ -27,6 +27,7 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.component.netty4.ClientInitializerFactory;
+import org.apache.camel.component.netty4.NettyCamelStateCorrelationManager;
 import org.apache.camel.component.netty4.NettyComponent;
 import org.apache.camel.component.netty4.NettyServerBootstrapFactory;
 import org.apache.camel.component.netty4.ServerInitializerFactory;
@@ -277,6 +278,41 @@ public class NettyComponentConfiguration
          * request/reply.
          */
         private Boolean producerPoolEnabled = true;
+        /**
+         * Only used for TCP. Whether to pool the producer channels using
+         * Netty's FixedChannelPool instead of commons-pool. Channels are
+         * acquired from the pool without blocking, and are checked to be
+         * active when acquired and released. The producerPoolMaxActive option
+         * is used as the maximum number of channels, and when all channels are
+         * in use then requests wait for a channel to be released instead of
+         * failing.
+         */
+        private Boolean useFixedChannelPool = false;
+        /**
+         * Only used when useFixedChannelPool is enabled. The maximum time in
+         * millis to wait for a channel to be available from the pool, after
+         * which the exchange fails. By default there is no timeout.
+         */
+        private Long producerPoolAcquireTimeout;
+        /**
+         * To use a custom correlation manager to manage how request and reply
+         * messages are mapped when using request/reply with the netty
+         * producer. This should only be used if you have a way to map requests
+         * together with replies such as if there is correlation ids in both
+         * the request and reply messages. This can be used if you want to
+         * multiplex concurrent messages on the same channel (aka connection)
+         * in netty. When doing this you must have a way to correlate the
+         * request and reply messages so you can store the right reply on the
+         * inflight Camel Exchange before its continued routed.
+         * <p/>
+         * When a correlation manager is configured then the producer uses a
+         * single shared channel, and the requestTimeout option is not in use.
+         * We recommend extending the {@link TimeoutCorrelationManagerSupport}
+         * when you build custom correlation managers. This provides support
+         * for timeout and other complexities you otherwise would need to
+         * implement as well.
+         */
+        private NettyCamelStateCorrelationManager correlationManager;
         /**
          * This option supports connection less udp sending which is a real fire
          * and forget. A connected udp send receive the PortUnreachableException
@@ -741,6 +777,31 @@ public class NettyComponentConfiguration
             this.producerPoolEnabled = producerPoolEnabled;
         }
 
+        public Boolean getUseFixedChannelPool() {
+            return useFixedChannelPool;
+        }
+
+        public void setUseFixedChannelPool(Boolean useFixedChannelPool) {
+            this.useFixedChannelPool = useFixedChannelPool;
+        }
+
+        public Long getProducerPoolAcquireTimeout() {
+            return producerPoolAcquireTimeout;
+        }
+
+        public void setProducerPoolAcquireTimeout(Long producerPoolAcquireTimeout) {
+            this.producerPoolAcquireTimeout = producerPoolAcquireTimeout;
+        }
+
+        public NettyCamelStateCorrelationManager getCorrelationManager() {
+            return correlationManager;
+        }
+
+        public void setCorrelationManager(
+                NettyCamelStateCorrelationManager correlationManager) {
+            this.correlationManager = correlationManager;
+        }
+
         public Boolean getUdpConnectionlessSending() {
             return udpConnectionlessSending;
         }
@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Session;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.cassandraunit.utils.EmbeddedCassandraServerHelper;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests concurrent single row inserts using the cql producer into an embedded Cassandra,
+ * with each statement executed on its own or grouped per partition into unlogged batches.
+ */
+public class CassandraBatchTest {
+
+    private static final String CQL = "insert into readings(sensor, time, value) values (?, ?, ?)";
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            // grouping needs concurrent exchanges to the same partitions
+            .threads(16)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        CamelContext camel;
+        ProducerTemplate template;
+        AtomicInteger counter = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            try {
+                EmbeddedCassandraServerHelper.startEmbeddedCassandra();
+                Cluster cluster = EmbeddedCassandraServerHelper.getCluster();
+                Session session = cluster.connect();
+                session.execute("create keyspace if not exists camel_jmh with replication = {'class': 'SimpleStrategy', 'replication_factor': 1}");
+                session.execute("create table if not exists camel_jmh.readings (sensor text, time int, value int, primary key (sensor, time))");
+                session.close();
+
+                String uri = "cql://" + EmbeddedCassandraServerHelper.getHost() + ":" + EmbeddedCassandraServerHelper.getNativeTransportPort()
+                    + "/camel_jmh?cql=" + CQL;
+                camel = new DefaultCamelContext();
+                camel.addRoutes(new RouteBuilder() {
+                    @Override
+                    public void configure() throws Exception {
+                        from("direct:single")
+                            .to(uri);
+                        from("direct:batch")
+                            .to(uri + "&batchSize=100");
+                    }
+                });
+                camel.start();
+                template = camel.createProducerTemplate();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                template.stop();
+                camel.stop();
+                EmbeddedCassandraServerHelper.cleanEmbeddedCassandra();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        List<Object> nextReading() {
+            int time = counter.incrementAndGet();
+            // a few sensors so concurrent readings share partitions
+            return Arrays.<Object>asList("sensor" + (time % 10), time, time % 100);
+        }
+    }
+
+    @Benchmark
+    public void insertSingle(BenchmarkState state) throws Exception {
+        state.template.sendBody("direct:single", state.nextReading());
+    }
+
+    @Benchmark
+    public void insertBatch(BenchmarkState state) throws Exception {
+        state.template.sendBody("direct:batch", state.nextReading());
+    }
+
+}
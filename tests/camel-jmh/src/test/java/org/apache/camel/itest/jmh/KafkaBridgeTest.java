@@ -0,0 +1,167 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.KafkaProducer;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests bridging binary records from a Kafka consumer to a Kafka producer, using a mock Kafka producer
+ * so no Kafka broker is needed.
+ */
+public class KafkaBridgeTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.All)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        KafkaEndpoint source;
+        BridgeProducer producer;
+        MockProducer<byte[], byte[]> mockProducer;
+        ConsumerRecord<byte[], byte[]> record;
+        ConsumerRecord<byte[], ByteBuffer> bufferRecord;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            try {
+                camel.start();
+
+                source = camel.getEndpoint("kafka:source?brokers=localhost:9092"
+                    + "&keyDeserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+                    + "&valueDeserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer", KafkaEndpoint.class);
+                KafkaEndpoint target = camel.getEndpoint("kafka:target?brokers=localhost:9092"
+                    + "&keySerializerClass=org.apache.kafka.common.serialization.ByteArraySerializer"
+                    + "&serializerClass=org.apache.kafka.common.serialization.ByteArraySerializer"
+                    + "&recordHeaders=true&convertKey=true", KafkaEndpoint.class);
+
+                mockProducer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+                producer = new BridgeProducer(target);
+
+                byte[] key = "key".getBytes();
+                byte[] value = new byte[1024];
+                RecordHeaders headers = new RecordHeaders();
+                headers.add("foo", "bar".getBytes());
+                record = new ConsumerRecord<>("source", 0, 0L, 0L, TimestampType.CREATE_TIME, 0L, key.length, value.length,
+                    key, value, headers);
+                bufferRecord = new ConsumerRecord<>("source", 0, 0L, 0L, TimestampType.CREATE_TIME, 0L, key.length, value.length,
+                    key, ByteBuffer.wrap(value), headers);
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                mockProducer.close();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    /**
+     * Exposes the records the Camel producer creates for an exchange.
+     */
+    static final class BridgeProducer extends KafkaProducer {
+
+        BridgeProducer(KafkaEndpoint endpoint) {
+            super(endpoint);
+        }
+
+        @SuppressWarnings("rawtypes")
+        Iterator<ProducerRecord> records(Exchange exchange) throws Exception {
+            return createRecorder(exchange);
+        }
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void bridgeBytes(BenchmarkState state, Blackhole bh) throws Exception {
+        bridge(state, state.source.createKafkaExchange(state.record), bh);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void bridgeByteBuffer(BenchmarkState state, Blackhole bh) throws Exception {
+        bridge(state, state.source.createKafkaExchange(state.bufferRecord), bh);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void bridge(BenchmarkState state, Exchange exchange, Blackhole bh) throws Exception {
+        Iterator<ProducerRecord> records = state.producer.records(exchange);
+        while (records.hasNext()) {
+            bh.consume(state.mockProducer.send(records.next()));
+        }
+        // the mock producer keeps the sent records
+        state.mockProducer.clear();
+    }
+
+}
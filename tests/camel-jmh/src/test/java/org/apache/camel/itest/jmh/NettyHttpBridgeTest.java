@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.component.netty4.http.DefaultNettyHttpBinding;
+import org.apache.camel.component.netty4.http.NettyHttpConfiguration;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.apache.camel.spi.Synchronization;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests bridging a netty-http response body on to another netty-http request, with the body copied into a
+ * byte array or kept as the pooled Netty buffer (zeroCopyResponse).
+ */
+public class NettyHttpBridgeTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.All)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        DefaultNettyHttpBinding binding;
+        NettyHttpConfiguration copyConfiguration;
+        NettyHttpConfiguration zeroCopyConfiguration;
+        ByteBuf payload;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            try {
+                camel.start();
+
+                binding = new DefaultNettyHttpBinding();
+                copyConfiguration = new NettyHttpConfiguration();
+                zeroCopyConfiguration = new NettyHttpConfiguration();
+                zeroCopyConfiguration.setZeroCopyResponse(true);
+
+                payload = PooledByteBufAllocator.DEFAULT.directBuffer(64 * 1024);
+                payload.writeZero(64 * 1024);
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                payload.release();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void bridgeCopy(BenchmarkState state, Blackhole bh) throws Exception {
+        bridge(state, state.copyConfiguration, bh);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void bridgeZeroCopy(BenchmarkState state, Blackhole bh) throws Exception {
+        bridge(state, state.zeroCopyConfiguration, bh);
+    }
+
+    private static void bridge(BenchmarkState state, NettyHttpConfiguration configuration, Blackhole bh) throws Exception {
+        Exchange exchange = new DefaultExchange(state.camel);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, state.payload.retainedDuplicate());
+
+        Message message = state.binding.toCamelMessage(response, exchange, configuration);
+        HttpRequest request = state.binding.toNettyRequest(message, "http://localhost:8080/bar", configuration);
+        bh.consume(request);
+
+        // the request is released when written by Netty, and the response by the client handler
+        ReferenceCountUtil.release(request);
+        response.release();
+        // and the exchange is done
+        List<Synchronization> completions = exchange.handoverCompletions();
+        if (completions != null) {
+            for (Synchronization completion : completions) {
+                completion.onComplete(exchange);
+            }
+        }
+    }
+
+}
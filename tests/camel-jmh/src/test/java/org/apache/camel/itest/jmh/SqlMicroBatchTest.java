@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.sql.SqlComponent;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Tests concurrent single row inserts using the sql producer into an embedded Derby database,
+ * with each exchange executed on its own or coalesced into micro batches.
+ */
+public class SqlMicroBatchTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            // micro batching needs concurrent exchanges to coalesce
+            .threads(16)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        CamelContext camel;
+        ProducerTemplate template;
+        EmbeddedDatabase db;
+        AtomicInteger counter = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            db = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.DERBY).build();
+            new JdbcTemplate(db).execute("create table projects (id integer, project varchar(20), license varchar(5))");
+
+            camel = new DefaultCamelContext();
+            try {
+                camel.getComponent("sql", SqlComponent.class).setDataSource(db);
+                camel.addRoutes(new RouteBuilder() {
+                    @Override
+                    public void configure() throws Exception {
+                        from("direct:single")
+                            .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)");
+                        from("direct:batch")
+                            .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)?microBatchSize=16&microBatchTimeout=5");
+                    }
+                });
+                camel.start();
+                template = camel.createProducerTemplate();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                template.stop();
+                camel.stop();
+                db.shutdown();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        Map<String, Object> nextProject() {
+            int id = counter.incrementAndGet();
+            Map<String, Object> project = new HashMap<String, Object>();
+            project.put("id", id);
+            project.put("project", "Camel" + id);
+            project.put("license", "ASF");
+            return project;
+        }
+    }
+
+    @Benchmark
+    public void insertSingle(BenchmarkState state) throws Exception {
+        state.template.sendBody("direct:single", state.nextProject());
+    }
+
+    @Benchmark
+    public void insertMicroBatch(BenchmarkState state) throws Exception {
+        state.template.sendBody("direct:batch", state.nextProject());
+    }
+
+}